@@ -0,0 +1,167 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.auth;
+
+import alpine.Config;
+import alpine.model.ApiKey;
+import alpine.model.UserPrincipal;
+import com.google.common.annotations.VisibleForTesting;
+import org.dependencytrack.common.ConfigKey;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * An application-wide, in-memory cache of {@link PrincipalContext}s, used to avoid resolving
+ * the team memberships and effective permissions of a {@link Principal} for every ACL check.
+ * <p>
+ * Entries expire after {@link ConfigKey#PRINCIPAL_CONTEXT_CACHE_TTL_DURATION}. Modifications of teams,
+ * team memberships, and permissions made via the REST API invalidate affected entries immediately.
+ * Because the cache is local to each application instance, modifications made elsewhere
+ * (e.g. by another instance, or by LDAP team synchronization) become visible once entries expire.
+ *
+ * @since 5.6.0
+ */
+public final class PrincipalContextCache {
+
+    /**
+     * Resolved authorization context of a {@link Principal}.
+     *
+     * @param teamIds                       IDs of the teams the {@link Principal} is a member of
+     * @param hasAccessManagementPermission Whether the {@link Principal} has the {@link Permissions#ACCESS_MANAGEMENT} permission
+     */
+    public record PrincipalContext(Set<Long> teamIds, boolean hasAccessManagementPermission) {
+
+        public PrincipalContext {
+            teamIds = Set.copyOf(teamIds);
+        }
+
+    }
+
+    /**
+     * Loads the {@link PrincipalContext} of a {@link Principal} on cache miss.
+     *
+     * @param <E> Type of the exception the loader may throw
+     */
+    @FunctionalInterface
+    public interface Loader<E extends Exception> {
+
+        PrincipalContext load() throws E;
+
+    }
+
+    private record CacheKey(Class<?> principalType, long principalId) {
+    }
+
+    private record CacheEntry(PrincipalContext context, long expiresAtNanos) {
+    }
+
+    private static final class InstanceHolder {
+        private static final PrincipalContextCache INSTANCE = new PrincipalContextCache(
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.PRINCIPAL_CONTEXT_CACHE_TTL_DURATION)),
+                System::nanoTime);
+    }
+
+    private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+    private final LongSupplier nanoTimeSupplier;
+
+    @VisibleForTesting
+    PrincipalContextCache(final Duration ttl, final LongSupplier nanoTimeSupplier) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    public static PrincipalContextCache getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Get the {@link PrincipalContext} of a given {@link Principal}, loading it on cache miss.
+     * <p>
+     * {@link Principal}s other than {@link ApiKey}s and {@link UserPrincipal}s are never cached.
+     *
+     * @param principal The {@link Principal} to get the context for
+     * @param loader    The {@link Loader} to use on cache miss
+     * @return The {@link PrincipalContext}
+     * @throws E When the {@link Loader} failed
+     */
+    public <E extends Exception> PrincipalContext get(final Principal principal, final Loader<E> loader) throws E {
+        final CacheKey key = cacheKey(principal);
+        if (key == null || ttlNanos <= 0) {
+            return loader.load();
+        }
+
+        final CacheEntry entry = entries.get(key);
+        if (entry != null && entry.expiresAtNanos() - nanoTimeSupplier.getAsLong() > 0) {
+            return entry.context();
+        }
+
+        // NB: If the cache is invalidated while the context is being loaded,
+        // the loaded context may already be outdated and must not be cached.
+        final long generationBeforeLoad = generation.get();
+        final PrincipalContext context = loader.load();
+        if (generation.get() == generationBeforeLoad) {
+            entries.put(key, new CacheEntry(context, nanoTimeSupplier.getAsLong() + ttlNanos));
+        }
+
+        return context;
+    }
+
+    /**
+     * Invalidate the cached {@link PrincipalContext} of a given {@link Principal}.
+     * <p>
+     * Should be called after modifying the team memberships or permissions of a single {@link Principal}.
+     *
+     * @param principal The {@link Principal} to invalidate the context for
+     */
+    public void invalidate(final Principal principal) {
+        final CacheKey key = cacheKey(principal);
+        if (key != null) {
+            generation.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Invalidate all cached {@link PrincipalContext}s.
+     * <p>
+     * Should be called after modifications that may affect multiple {@link Principal}s,
+     * e.g. when modifying the permissions of a team.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private static CacheKey cacheKey(final Principal principal) {
+        return switch (principal) {
+            case ApiKey apiKey -> new CacheKey(ApiKey.class, apiKey.getId());
+            case UserPrincipal user -> new CacheKey(user.getClass(), user.getId());
+            case null, default -> null;
+        };
+    }
+
+}
@@ -23,6 +23,14 @@ import alpine.Config;
 public enum ConfigKey implements Config.Key {
 
     ALPINE_WORKER_POOL_DRAIN_TIMEOUT_DURATION("alpine.worker.pool.drain.timeout.duration", "PT30S"),
+    EVENT_LANE_INTERACTIVE_CONCURRENCY("event.lane.interactive.concurrency", 8),
+    EVENT_LANE_INTERACTIVE_QUEUE_CAPACITY("event.lane.interactive.queue.capacity", 10000),
+    EVENT_LANE_BULK_CONCURRENCY("event.lane.bulk.concurrency", 2),
+    EVENT_LANE_BULK_QUEUE_CAPACITY("event.lane.bulk.queue.capacity", 100),
+    EVENT_LANE_MAINTENANCE_CONCURRENCY("event.lane.maintenance.concurrency", 1),
+    EVENT_LANE_MAINTENANCE_QUEUE_CAPACITY("event.lane.maintenance.queue.capacity", 25),
+
+    PRINCIPAL_CONTEXT_CACHE_TTL_DURATION("principal.context.cache.ttl.duration", "PT10S"),
 
     KAFKA_AUTO_OFFSET_RESET("kafka.auto.offset.reset", "earliest"),
     KAFKA_BOOTSTRAP_SERVERS("kafka.bootstrap.servers", null),
@@ -30,6 +38,7 @@ public enum ConfigKey implements Config.Key {
     KAFKA_KEY_STORE_PATH("kafka.keystore.path", ""),
     KAFKA_MTLS_ENABLED("kafka.mtls.enabled", false),
     KAFKA_PRODUCER_DRAIN_TIMEOUT_DURATION("kafka.producer.drain.timeout.duration", "PT30S"),
+    KAFKA_PROCESSOR_ADAPTIVE_INTERVAL_DURATION("kafka.processor.adaptive.interval.duration", "PT10S"),
     KAFKA_TLS_ENABLED("kafka.tls.enabled", false),
     KAFKA_TLS_PROTOCOL("kafka.security.protocol", ""),
     DT_KAFKA_TOPIC_PREFIX("dt.kafka.topic.prefix", ""),
@@ -37,10 +46,16 @@ public enum ConfigKey implements Config.Key {
     KAFKA_TRUST_STORE_PATH("kafka.truststore.path", ""),
 
     TASK_SCHEDULER_INITIAL_DELAY("task.scheduler.initial.delay", "180000"),
-    TASK_SCHEDULER_POLLING_INTERVAL("task.scheduler.polling.interval", "60000"),
+    TASK_PORTFOLIO_METRICS_UPDATE_WORKER_THREADS("task.portfolio.metrics.update.worker.threads", 0),
+    TASK_PORTFOLIO_METRICS_UPDATE_CHECKPOINT_MAX_AGE("task.portfolio.metrics.update.checkpoint.max.age", "PT2H"),
+    TASK_VULNERABILITY_ANALYSIS_DISPATCH_THREADS("task.vulnerability.analysis.dispatch.threads", 4),
+    TASK_VULNERABILITY_ANALYSIS_DISPATCH_QUEUE_CAPACITY("task.vulnerability.analysis.dispatch.queue.capacity", 8),
+    TASK_PROJECT_DELETION_BATCH_SIZE("task.project.deletion.batch.size", 500),
+    BOM_UPLOAD_PROCESSING_KAFKA_ENABLED("bom.upload.processing.kafka.enabled", false),
     TMP_DELAY_BOM_PROCESSED_NOTIFICATION("tmp.delay.bom.processed.notification", "false"),
     INTEGRITY_INITIALIZER_ENABLED("integrity.initializer.enabled", "false"),
     INTEGRITY_CHECK_ENABLED("integrity.check.enabled", "false"),
+    VULNERABILITY_AFFECTED_PROJECTS_CACHE_TTL_DURATION("vulnerability.affected.projects.cache.ttl.duration", "PT5S"),
     VULNERABILITY_POLICY_ANALYSIS_ENABLED("vulnerability.policy.analysis.enabled", false),
     VULNERABILITY_POLICY_BUNDLE_URL("vulnerability.policy.bundle.url", null),
     VULNERABILITY_POLICY_BUNDLE_SOURCE_TYPE("vulnerability.policy.bundle.source.type", "NGINX"),
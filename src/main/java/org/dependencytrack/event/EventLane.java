@@ -0,0 +1,65 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import alpine.Config;
+import org.dependencytrack.common.ConfigKey;
+
+/**
+ * Execution lanes for {@link alpine.event.framework.Event}s.
+ * <p>
+ * Each lane is backed by its own bounded pool, such that long-running bulk work
+ * can't occupy the workers needed to process events that users are waiting for.
+ *
+ * @since 5.6.0
+ */
+public enum EventLane {
+
+    /**
+     * Events triggered by users, or on their behalf, e.g. BOM uploads.
+     */
+    INTERACTIVE(ConfigKey.EVENT_LANE_INTERACTIVE_CONCURRENCY, ConfigKey.EVENT_LANE_INTERACTIVE_QUEUE_CAPACITY),
+
+    /**
+     * Events affecting the entire portfolio, or large amounts of data, e.g. mirroring.
+     */
+    BULK(ConfigKey.EVENT_LANE_BULK_CONCURRENCY, ConfigKey.EVENT_LANE_BULK_QUEUE_CAPACITY),
+
+    /**
+     * Events performing maintenance of the database.
+     */
+    MAINTENANCE(ConfigKey.EVENT_LANE_MAINTENANCE_CONCURRENCY, ConfigKey.EVENT_LANE_MAINTENANCE_QUEUE_CAPACITY);
+
+    private final ConfigKey concurrencyConfigKey;
+    private final ConfigKey queueCapacityConfigKey;
+
+    EventLane(final ConfigKey concurrencyConfigKey, final ConfigKey queueCapacityConfigKey) {
+        this.concurrencyConfigKey = concurrencyConfigKey;
+        this.queueCapacityConfigKey = queueCapacityConfigKey;
+    }
+
+    int getConcurrency() {
+        return Config.getInstance().getPropertyAsInt(concurrencyConfigKey);
+    }
+
+    int getQueueCapacity() {
+        return Config.getInstance().getPropertyAsInt(queueCapacityConfigKey);
+    }
+
+}
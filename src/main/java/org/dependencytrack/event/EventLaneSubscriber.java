@@ -0,0 +1,41 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+
+/**
+ * A {@link Subscriber} that hands {@link Event}s off to their {@link EventLane}.
+ * <p>
+ * The {@link alpine.event.framework.EventService} worker does not wait for the lane to execute
+ * the {@link Event}, such that a saturated lane can not occupy the workers shared by all lanes.
+ * Chained events, and tracking via {@link EventLanes#isEventBeingProcessed}, are handled by the lane.
+ *
+ * @see EventLanes
+ * @since 5.6.0
+ */
+public class EventLaneSubscriber implements Subscriber {
+
+    @Override
+    public void inform(final Event event) {
+        EventLanes.getInstance().submit(event);
+    }
+
+}
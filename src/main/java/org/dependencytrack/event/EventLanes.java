@@ -0,0 +1,369 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.event.framework.AbstractChainableEvent;
+import alpine.event.framework.ChainLink;
+import alpine.event.framework.ChainableEvent;
+import alpine.event.framework.Event;
+import alpine.event.framework.IEventService;
+import alpine.event.framework.SingletonCapableEvent;
+import alpine.event.framework.Subscriber;
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.reflect.FieldUtils.readField;
+
+/**
+ * Executes {@link Event}s on bounded, per-{@link EventLane} pools.
+ * <p>
+ * Events are routed to lanes by their type. The {@link alpine.event.framework.EventService}
+ * delivers routed events to {@link EventLaneSubscriber}, which hands them off to their lane
+ * without waiting for their execution. Events that exceed the queue capacity of their lane are rejected.
+ * <p>
+ * Because the {@link alpine.event.framework.EventService} considers an {@link Event} complete
+ * as soon as it has been handed off, lanes take over the tracking of {@link ChainableEvent}s,
+ * and the dispatch of their chained events once they completed execution.
+ *
+ * @since 5.6.0
+ */
+public final class EventLanes {
+
+    private static final Logger LOGGER = Logger.getLogger(EventLanes.class);
+    private static final EventLanes INSTANCE = new EventLanes();
+
+    private record Route(EventLane lane, Class<? extends Subscriber> subscriberClass) {
+    }
+
+    private record Chain(List<ChainLink> onSuccess, List<ChainLink> onFailure) {
+
+        private static final Chain EMPTY = new Chain(List.of(), List.of());
+
+    }
+
+    private final Map<Class<? extends Event>, Route> routes = new ConcurrentHashMap<>();
+    private final Map<EventLane, LaneExecutor> laneExecutors = new EnumMap<>(EventLane.class);
+    private final Map<UUID, Set<UUID>> eventIdentifiersByChainIdentifier = new ConcurrentHashMap<>();
+
+    private EventLanes() {
+        for (final EventLane lane : EventLane.values()) {
+            laneExecutors.put(lane, new LaneExecutor(lane, lane.getConcurrency(), lane.getQueueCapacity()));
+        }
+    }
+
+    @VisibleForTesting
+    EventLanes(final int concurrency, final int queueCapacity) {
+        for (final EventLane lane : EventLane.values()) {
+            laneExecutors.put(lane, new LaneExecutor(lane, concurrency, queueCapacity));
+        }
+    }
+
+    public static EventLanes getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Route events of a given type to a {@link Subscriber}, executed on the given {@link EventLane}.
+     *
+     * @param eventClass      Type of the events to route
+     * @param subscriberClass The {@link Subscriber} to inform about the events
+     * @param lane            The {@link EventLane} to execute the {@link Subscriber} on
+     */
+    public void route(final Class<? extends Event> eventClass, final Class<? extends Subscriber> subscriberClass, final EventLane lane) {
+        requireNonNull(eventClass, "eventClass must not be null");
+        requireNonNull(subscriberClass, "subscriberClass must not be null");
+        requireNonNull(lane, "lane must not be null");
+
+        final var route = new Route(lane, subscriberClass);
+        final Route previousRoute = routes.putIfAbsent(eventClass, route);
+        if (previousRoute != null && !previousRoute.equals(route)) {
+            throw new IllegalStateException("%s is already routed to %s".formatted(
+                    eventClass.getSimpleName(), previousRoute.subscriberClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * Submit an {@link Event} for execution on its {@link EventLane}, without waiting for its execution.
+     * <p>
+     * Chained events of the {@link Event} are taken over by the lane, and dispatched once
+     * the {@link Event} completed execution. When the lane is at capacity, the {@link Event}
+     * is rejected, and its {@link ChainableEvent#onFailure()} events are dispatched instead.
+     *
+     * @param event The {@link Event} to submit
+     * @return {@code true} when the {@link Event} was submitted, otherwise {@code false}
+     * @throws IllegalStateException When no route is defined for the {@link Event}
+     */
+    public boolean submit(final Event event) {
+        final Route route = routes.get(event.getClass());
+        if (route == null) {
+            throw new IllegalStateException("No route defined for %s".formatted(event.getClass().getSimpleName()));
+        }
+
+        final Chain chain = takeChain(event);
+        if (event instanceof final ChainableEvent chainableEvent && !track(chainableEvent)) {
+            LOGGER.info("An event of type %s is already being processed; Skipping".formatted(event.getClass().getSimpleName()));
+            return false;
+        }
+
+        return laneExecutors.get(route.lane()).submit(event, route.subscriberClass(), chain);
+    }
+
+    /**
+     * Determine whether any {@link ChainableEvent} with the given chain identifier is being processed,
+     * either by a lane or by the {@link alpine.event.framework.EventService}.
+     *
+     * @param chainIdentifier The chain identifier to check
+     * @return {@code true} when a matching {@link ChainableEvent} is being processed, otherwise {@code false}
+     */
+    public boolean isEventBeingProcessed(final UUID chainIdentifier) {
+        return eventIdentifiersByChainIdentifier.containsKey(chainIdentifier)
+               || Event.isEventBeingProcessed(chainIdentifier);
+    }
+
+    /**
+     * Shut down all lanes, waiting up to {@code drainTimeout} for already submitted events to complete.
+     */
+    public void shutdown(final Duration drainTimeout) {
+        laneExecutors.values().forEach(LaneExecutor::shutdown);
+
+        final long deadlineNanos = System.nanoTime() + drainTimeout.toNanos();
+        for (final LaneExecutor laneExecutor : laneExecutors.values()) {
+            try {
+                if (!laneExecutor.executor.awaitTermination(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    LOGGER.warn("Lane %s did not drain within %s".formatted(laneExecutor.lane, drainTimeout));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Take over the chained events of an {@link Event}.
+     * <p>
+     * The {@link alpine.event.framework.EventService} dispatches chained events as soon as
+     * {@link EventLaneSubscriber} returns. {@link AbstractChainableEvent} does not provide
+     * a way of removing them, so we use reflection to still get access.
+     */
+    @SuppressWarnings("unchecked")
+    private static Chain takeChain(final Event event) {
+        if (!(event instanceof final AbstractChainableEvent chainableEvent)) {
+            return Chain.EMPTY;
+        }
+
+        try {
+            final var onSuccessChains = (List<ChainLink>) readField(chainableEvent, "onSuccessChains", true);
+            final var onFailureChains = (List<ChainLink>) readField(chainableEvent, "onFailureChains", true);
+            final var chain = new Chain(new ArrayList<>(onSuccessChains), new ArrayList<>(onFailureChains));
+            onSuccessChains.clear();
+            onFailureChains.clear();
+            return chain;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to access chained events of %s".formatted(
+                    event.getClass().getSimpleName()), e);
+        }
+    }
+
+    private boolean track(final ChainableEvent event) {
+        final var tracked = new boolean[1];
+        eventIdentifiersByChainIdentifier.compute(event.getChainIdentifier(), (chainIdentifier, eventIdentifiers) -> {
+            if (eventIdentifiers != null
+                && event instanceof final SingletonCapableEvent singletonEvent
+                && singletonEvent.isSingleton()) {
+                return eventIdentifiers;
+            }
+
+            final Set<UUID> trackedEventIdentifiers = eventIdentifiers != null
+                    ? eventIdentifiers
+                    : ConcurrentHashMap.newKeySet();
+            trackedEventIdentifiers.add(event.getEventIdentifier());
+            tracked[0] = true;
+            return trackedEventIdentifiers;
+        });
+
+        return tracked[0];
+    }
+
+    private void untrack(final Event event) {
+        if (!(event instanceof final ChainableEvent chainableEvent)) {
+            return;
+        }
+
+        eventIdentifiersByChainIdentifier.computeIfPresent(chainableEvent.getChainIdentifier(), (chainIdentifier, eventIdentifiers) -> {
+            eventIdentifiers.remove(chainableEvent.getEventIdentifier());
+            return eventIdentifiers.isEmpty() ? null : eventIdentifiers;
+        });
+    }
+
+    private static void dispatchAll(final List<ChainLink> chainLinks, final boolean success) {
+        for (final ChainLink chainLink : chainLinks) {
+            final Event event = success ? chainLink.getSuccessEvent() : chainLink.getFailureEvent();
+            final Class<? extends IEventService> eventServiceClass = success
+                    ? chainLink.getSuccessEventService()
+                    : chainLink.getFailureEventService();
+            if (event == null) {
+                continue;
+            }
+
+            if (eventServiceClass == null) {
+                Event.dispatch(event);
+                continue;
+            }
+
+            try {
+                final var eventService = (IEventService) eventServiceClass.getMethod("getInstance").invoke(null);
+                eventService.publish(event);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.error("Failed to dispatch chained %s via %s".formatted(
+                        event.getClass().getSimpleName(), eventServiceClass.getSimpleName()), e);
+            }
+        }
+    }
+
+    private final class LaneExecutor {
+
+        private final EventLane lane;
+        private final ThreadPoolExecutor executor;
+        private final Map<Class<? extends Event>, EventTypeMeters> metersByEventType = new ConcurrentHashMap<>();
+
+        private LaneExecutor(final EventLane lane, final int concurrency, final int queueCapacity) {
+            this.lane = lane;
+            this.executor = new ThreadPoolExecutor(
+                    concurrency, concurrency,
+                    0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    Thread.ofPlatform().name("EventLane-" + lane.name().toLowerCase() + "-", 0).factory(),
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+
+        private boolean submit(final Event event, final Class<? extends Subscriber> subscriberClass, final Chain chain) {
+            final EventTypeMeters meters = metersByEventType.computeIfAbsent(
+                    event.getClass(), eventClass -> new EventTypeMeters(lane, eventClass));
+
+            final long enqueuedAtNanos = System.nanoTime();
+            meters.queueDepth.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    meters.queueDepth.decrementAndGet();
+                    meters.waitTimer.record(System.nanoTime() - enqueuedAtNanos, TimeUnit.NANOSECONDS);
+                    run(event, subscriberClass, chain, meters);
+                });
+                return true;
+            } catch (RejectedExecutionException e) {
+                meters.queueDepth.decrementAndGet();
+                meters.rejectedCounter.increment();
+                LOGGER.warn("Rejected %s because lane %s is %s".formatted(event.getClass().getSimpleName(),
+                        lane, executor.isShutdown() ? "shut down" : "at capacity"));
+                untrack(event);
+                dispatchAll(chain.onFailure(), false);
+                return false;
+            }
+        }
+
+        private void run(final Event event, final Class<? extends Subscriber> subscriberClass, final Chain chain, final EventTypeMeters meters) {
+            boolean succeeded = false;
+            try {
+                meters.runTimer.record(() -> inform(event, subscriberClass));
+                succeeded = true;
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to execute %s on lane %s".formatted(event.getClass().getSimpleName(), lane), e);
+            } finally {
+                // Dispatch chained events before untracking, such that the chain
+                // does not appear to be completed in between.
+                try {
+                    dispatchAll(succeeded ? chain.onSuccess() : chain.onFailure(), succeeded);
+                } finally {
+                    untrack(event);
+                }
+            }
+        }
+
+        private static void inform(final Event event, final Class<? extends Subscriber> subscriberClass) {
+            final Subscriber subscriber;
+            try {
+                subscriber = subscriberClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to instantiate %s".formatted(subscriberClass.getSimpleName()), e);
+            }
+
+            subscriber.inform(event);
+        }
+
+        private void shutdown() {
+            executor.shutdown();
+        }
+
+    }
+
+    private static final class EventTypeMeters {
+
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final Timer waitTimer;
+        private final Timer runTimer;
+        private final Counter rejectedCounter;
+
+        private EventTypeMeters(final EventLane lane, final Class<? extends Event> eventClass) {
+            final String laneName = lane.name().toLowerCase();
+            final String eventType = eventClass.getSimpleName();
+
+            Gauge.builder("event_lane_queue_depth", queueDepth, AtomicInteger::get)
+                    .description("Number of events waiting for execution")
+                    .tag("lane", laneName)
+                    .tag("event", eventType)
+                    .register(Metrics.getRegistry());
+            this.waitTimer = Timer.builder("event_lane_wait_time")
+                    .description("Time events spent waiting for execution")
+                    .tag("lane", laneName)
+                    .tag("event", eventType)
+                    .register(Metrics.getRegistry());
+            this.runTimer = Timer.builder("event_lane_run_time")
+                    .description("Time spent executing events")
+                    .tag("lane", laneName)
+                    .tag("event", eventType)
+                    .register(Metrics.getRegistry());
+            this.rejectedCounter = Counter.builder("event_lane_rejected")
+                    .description("Number of events that were rejected because their lane was at capacity")
+                    .tag("lane", laneName)
+                    .tag("event", eventType)
+                    .register(Metrics.getRegistry());
+        }
+
+    }
+
+}
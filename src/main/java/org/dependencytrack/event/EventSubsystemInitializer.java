@@ -22,7 +22,8 @@ import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.LdapSyncEvent;
 import alpine.event.framework.EventService;
-import alpine.event.framework.SingleThreadedEventService;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import org.dependencytrack.common.ConfigKey;
@@ -48,6 +49,7 @@ import org.dependencytrack.tasks.LdapSyncTaskWrapper;
 import org.dependencytrack.tasks.NistMirrorTask;
 import org.dependencytrack.tasks.OsvMirrorTask;
 import org.dependencytrack.tasks.PolicyEvaluationTask;
+import org.dependencytrack.tasks.ProjectDeletionTask;
 import org.dependencytrack.tasks.RepositoryMetaAnalysisTask;
 import org.dependencytrack.tasks.TaskScheduler;
 import org.dependencytrack.tasks.VexUploadProcessingTask;
@@ -79,8 +81,8 @@ public class EventSubsystemInitializer implements ServletContextListener {
     // Starts the EventService
     private static final EventService EVENT_SERVICE = EventService.getInstance();
 
-    // Starts the SingleThreadedEventService
-    private static final SingleThreadedEventService EVENT_SERVICE_ST = SingleThreadedEventService.getInstance();
+    // Executes events on bounded lanes, see EventLane
+    private static final EventLanes EVENT_LANES = EventLanes.getInstance();
 
     private static final Duration DRAIN_TIMEOUT_DURATION =
             Duration.parse(Config.getInstance().getProperty(ConfigKey.ALPINE_WORKER_POOL_DRAIN_TIMEOUT_DURATION));
@@ -92,41 +94,42 @@ public class EventSubsystemInitializer implements ServletContextListener {
     public void contextInitialized(final ServletContextEvent event) {
         LOGGER.info("Initializing asynchronous event subsystem");
 
-        EVENT_SERVICE.subscribe(BomUploadEvent.class, BomUploadProcessingTask.class);
-        EVENT_SERVICE.subscribe(VexUploadEvent.class, VexUploadProcessingTask.class);
-        EVENT_SERVICE.subscribe(LdapSyncEvent.class, LdapSyncTaskWrapper.class);
-        EVENT_SERVICE.subscribe(GitHubAdvisoryMirrorEvent.class, GitHubAdvisoryMirrorTask.class);
-        EVENT_SERVICE.subscribe(OsvMirrorEvent.class, OsvMirrorTask.class);
-        EVENT_SERVICE.subscribe(ProjectVulnerabilityAnalysisEvent.class, VulnerabilityAnalysisTask.class);
-        EVENT_SERVICE.subscribe(PortfolioVulnerabilityAnalysisEvent.class, VulnerabilityAnalysisTask.class);
-        EVENT_SERVICE.subscribe(ProjectRepositoryMetaAnalysisEvent.class, RepositoryMetaAnalysisTask.class);
-        EVENT_SERVICE.subscribe(PortfolioRepositoryMetaAnalysisEvent.class, RepositoryMetaAnalysisTask.class);
-        EVENT_SERVICE.subscribe(ProjectMetricsUpdateEvent.class, ProjectMetricsUpdateTask.class);
-        EVENT_SERVICE.subscribe(PortfolioMetricsUpdateEvent.class, PortfolioMetricsUpdateTask.class);
-        EVENT_SERVICE.subscribe(VulnerabilityMetricsUpdateEvent.class, VulnerabilityMetricsUpdateTask.class);
-        EVENT_SERVICE.subscribe(CloneProjectEvent.class, CloneProjectTask.class);
-        EVENT_SERVICE.subscribe(FortifySscUploadEventAbstract.class, FortifySscUploadTask.class);
-        EVENT_SERVICE.subscribe(DefectDojoUploadEventAbstract.class, DefectDojoUploadTask.class);
-        EVENT_SERVICE.subscribe(KennaSecurityUploadEventAbstract.class, KennaSecurityUploadTask.class);
-        EVENT_SERVICE.subscribe(InternalComponentIdentificationEvent.class, InternalComponentIdentificationTask.class);
-        EVENT_SERVICE.subscribe(CallbackEvent.class, CallbackTask.class);
-        EVENT_SERVICE.subscribe(NistMirrorEvent.class, NistMirrorTask.class);
-        EVENT_SERVICE.subscribe(VulnerabilityPolicyFetchEvent.class, VulnerabilityPolicyFetchTask.class);
-        EVENT_SERVICE.subscribe(EpssMirrorEvent.class, EpssMirrorTask.class);
-        EVENT_SERVICE.subscribe(ComponentPolicyEvaluationEvent.class, PolicyEvaluationTask.class);
-        EVENT_SERVICE.subscribe(ProjectPolicyEvaluationEvent.class, PolicyEvaluationTask.class);
-        EVENT_SERVICE.subscribe(IntegrityMetaInitializerEvent.class, IntegrityMetaInitializerTask.class);
-        EVENT_SERVICE.subscribe(IntegrityAnalysisEvent.class, IntegrityAnalysisTask.class);
+        subscribe(BomUploadEvent.class, BomUploadProcessingTask.class, EventLane.INTERACTIVE);
+        subscribe(VexUploadEvent.class, VexUploadProcessingTask.class, EventLane.INTERACTIVE);
+        subscribe(LdapSyncEvent.class, LdapSyncTaskWrapper.class, EventLane.BULK);
+        subscribe(GitHubAdvisoryMirrorEvent.class, GitHubAdvisoryMirrorTask.class, EventLane.BULK);
+        subscribe(OsvMirrorEvent.class, OsvMirrorTask.class, EventLane.BULK);
+        subscribe(ProjectVulnerabilityAnalysisEvent.class, VulnerabilityAnalysisTask.class, EventLane.INTERACTIVE);
+        subscribe(PortfolioVulnerabilityAnalysisEvent.class, VulnerabilityAnalysisTask.class, EventLane.BULK);
+        subscribe(ProjectRepositoryMetaAnalysisEvent.class, RepositoryMetaAnalysisTask.class, EventLane.INTERACTIVE);
+        subscribe(PortfolioRepositoryMetaAnalysisEvent.class, RepositoryMetaAnalysisTask.class, EventLane.BULK);
+        subscribe(ProjectMetricsUpdateEvent.class, ProjectMetricsUpdateTask.class, EventLane.INTERACTIVE);
+        subscribe(PortfolioMetricsUpdateEvent.class, PortfolioMetricsUpdateTask.class, EventLane.BULK);
+        subscribe(VulnerabilityMetricsUpdateEvent.class, VulnerabilityMetricsUpdateTask.class, EventLane.BULK);
+        subscribe(CloneProjectEvent.class, CloneProjectTask.class, EventLane.INTERACTIVE);
+        subscribe(ProjectDeletionEvent.class, ProjectDeletionTask.class, EventLane.BULK);
+        subscribe(FortifySscUploadEventAbstract.class, FortifySscUploadTask.class, EventLane.BULK);
+        subscribe(DefectDojoUploadEventAbstract.class, DefectDojoUploadTask.class, EventLane.BULK);
+        subscribe(KennaSecurityUploadEventAbstract.class, KennaSecurityUploadTask.class, EventLane.BULK);
+        subscribe(InternalComponentIdentificationEvent.class, InternalComponentIdentificationTask.class, EventLane.BULK);
+        subscribe(CallbackEvent.class, CallbackTask.class, EventLane.INTERACTIVE);
+        subscribe(NistMirrorEvent.class, NistMirrorTask.class, EventLane.BULK);
+        subscribe(VulnerabilityPolicyFetchEvent.class, VulnerabilityPolicyFetchTask.class, EventLane.BULK);
+        subscribe(EpssMirrorEvent.class, EpssMirrorTask.class, EventLane.BULK);
+        subscribe(ComponentPolicyEvaluationEvent.class, PolicyEvaluationTask.class, EventLane.INTERACTIVE);
+        subscribe(ProjectPolicyEvaluationEvent.class, PolicyEvaluationTask.class, EventLane.INTERACTIVE);
+        subscribe(IntegrityMetaInitializerEvent.class, IntegrityMetaInitializerTask.class, EventLane.BULK);
+        subscribe(IntegrityAnalysisEvent.class, IntegrityAnalysisTask.class, EventLane.INTERACTIVE);
 
-        // Execute maintenance tasks on the single-threaded event service.
-        // This way, they are not blocked by, and don't block, actual processing tasks on the main event service.
-        EVENT_SERVICE_ST.subscribe(ComponentMetadataMaintenanceEvent.class, ComponentMetadataMaintenanceTask.class);
-        EVENT_SERVICE_ST.subscribe(MetricsMaintenanceEvent.class, MetricsMaintenanceTask.class);
-        EVENT_SERVICE_ST.subscribe(TagMaintenanceEvent.class, TagMaintenanceTask.class);
-        EVENT_SERVICE_ST.subscribe(VulnerabilityDatabaseMaintenanceEvent.class, VulnerabilityDatabaseMaintenanceTask.class);
-        EVENT_SERVICE_ST.subscribe(VulnerabilityScanMaintenanceEvent.class, VulnerabilityScanMaintenanceTask.class);
-        EVENT_SERVICE_ST.subscribe(WorkflowMaintenanceEvent.class, WorkflowMaintenanceTask.class);
-        EVENT_SERVICE_ST.subscribe(ProjectMaintenanceEvent.class, ProjectMaintenanceTask.class);
+        // Execute maintenance tasks on their own lane.
+        // This way, they are not blocked by, and don't block, actual processing tasks.
+        subscribe(ComponentMetadataMaintenanceEvent.class, ComponentMetadataMaintenanceTask.class, EventLane.MAINTENANCE);
+        subscribe(MetricsMaintenanceEvent.class, MetricsMaintenanceTask.class, EventLane.MAINTENANCE);
+        subscribe(TagMaintenanceEvent.class, TagMaintenanceTask.class, EventLane.MAINTENANCE);
+        subscribe(VulnerabilityDatabaseMaintenanceEvent.class, VulnerabilityDatabaseMaintenanceTask.class, EventLane.MAINTENANCE);
+        subscribe(VulnerabilityScanMaintenanceEvent.class, VulnerabilityScanMaintenanceTask.class, EventLane.MAINTENANCE);
+        subscribe(WorkflowMaintenanceEvent.class, WorkflowMaintenanceTask.class, EventLane.MAINTENANCE);
+        subscribe(ProjectMaintenanceEvent.class, ProjectMaintenanceTask.class, EventLane.MAINTENANCE);
 
         TaskScheduler.getInstance();
     }
@@ -139,37 +142,19 @@ public class EventSubsystemInitializer implements ServletContextListener {
         LOGGER.info("Shutting down asynchronous event subsystem");
         TaskScheduler.getInstance().shutdown();
 
-        EVENT_SERVICE.unsubscribe(BomUploadProcessingTask.class);
-        EVENT_SERVICE.unsubscribe(VexUploadProcessingTask.class);
-        EVENT_SERVICE.unsubscribe(LdapSyncTaskWrapper.class);
-        EVENT_SERVICE.unsubscribe(GitHubAdvisoryMirrorTask.class);
-        EVENT_SERVICE.unsubscribe(OsvMirrorTask.class);
-        EVENT_SERVICE.unsubscribe(VulnerabilityAnalysisTask.class);
-        EVENT_SERVICE.unsubscribe(RepositoryMetaAnalysisTask.class);
-        EVENT_SERVICE.unsubscribe(ProjectMetricsUpdateTask.class);
-        EVENT_SERVICE.unsubscribe(PortfolioMetricsUpdateTask.class);
-        EVENT_SERVICE.unsubscribe(VulnerabilityMetricsUpdateTask.class);
-        EVENT_SERVICE.unsubscribe(CloneProjectTask.class);
-        EVENT_SERVICE.unsubscribe(FortifySscUploadTask.class);
-        EVENT_SERVICE.unsubscribe(DefectDojoUploadTask.class);
-        EVENT_SERVICE.unsubscribe(KennaSecurityUploadTask.class);
-        EVENT_SERVICE.unsubscribe(InternalComponentIdentificationTask.class);
-        EVENT_SERVICE.unsubscribe(CallbackTask.class);
-        EVENT_SERVICE.unsubscribe(NistMirrorTask.class);
-        EVENT_SERVICE.unsubscribe(EpssMirrorTask.class);
-        EVENT_SERVICE.unsubscribe(PolicyEvaluationTask.class);
-        EVENT_SERVICE.unsubscribe(IntegrityMetaInitializerTask.class);
-        EVENT_SERVICE.unsubscribe(IntegrityAnalysisTask.class);
-        EVENT_SERVICE.unsubscribe(VulnerabilityPolicyFetchTask.class);
+        EVENT_SERVICE.unsubscribe(EventLaneSubscriber.class);
         EVENT_SERVICE.shutdown(DRAIN_TIMEOUT_DURATION);
+        EVENT_LANES.shutdown(DRAIN_TIMEOUT_DURATION);
+    }
 
-        EVENT_SERVICE_ST.unsubscribe(ComponentMetadataMaintenanceTask.class);
-        EVENT_SERVICE_ST.unsubscribe(MetricsMaintenanceTask.class);
-        EVENT_SERVICE_ST.unsubscribe(TagMaintenanceTask.class);
-        EVENT_SERVICE_ST.unsubscribe(VulnerabilityDatabaseMaintenanceTask.class);
-        EVENT_SERVICE_ST.unsubscribe(VulnerabilityScanMaintenanceTask.class);
-        EVENT_SERVICE_ST.unsubscribe(WorkflowMaintenanceTask.class);
-        EVENT_SERVICE_ST.unsubscribe(ProjectMaintenanceTask.class);
-        EVENT_SERVICE_ST.shutdown(DRAIN_TIMEOUT_DURATION);
+    /**
+     * Subscribe to events of a given type, and execute the subscriber on the given {@link EventLane}.
+     */
+    private static void subscribe(final Class<? extends Event> eventClass,
+                                  final Class<? extends Subscriber> subscriberClass,
+                                  final EventLane lane) {
+        EVENT_LANES.route(eventClass, subscriberClass, lane);
+        EVENT_SERVICE.subscribe(eventClass, EventLaneSubscriber.class);
     }
+
 }
@@ -19,6 +19,7 @@
 package org.dependencytrack.event;
 
 import alpine.event.framework.AbstractChainableEvent;
+import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
 
 import java.io.File;
 import java.util.UUID;
@@ -33,13 +34,11 @@ public class VexUploadEvent extends AbstractChainableEvent {
 
     private final UUID projectUuid;
     private File file;
-    private byte[] vex;
+    private FileMetadata fileMetadata;
 
-    public VexUploadEvent(final UUID projectUuid, final byte[] vex) {
+    public VexUploadEvent(final UUID projectUuid, final FileMetadata fileMetadata) {
         this.projectUuid = projectUuid;
-        if (vex != null) {
-            this.vex = vex.clone();
-        }
+        this.fileMetadata = fileMetadata;
     }
 
     public VexUploadEvent(final UUID projectUuid, final File file) {
@@ -51,8 +50,8 @@ public class VexUploadEvent extends AbstractChainableEvent {
         return projectUuid;
     }
 
-    public byte[] getVex() {
-        return vex == null ? null : vex.clone();
+    public FileMetadata getFileMetadata() {
+        return fileMetadata;
     }
 
     public File getFile() {
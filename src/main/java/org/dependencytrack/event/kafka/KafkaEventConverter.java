@@ -21,6 +21,7 @@ package org.dependencytrack.event.kafka;
 import alpine.event.framework.Event;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
+import org.dependencytrack.event.BomUploadEvent;
 import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.EpssMirrorEvent;
@@ -30,6 +31,7 @@ import org.dependencytrack.event.OsvMirrorEvent;
 import org.dependencytrack.event.kafka.KafkaTopics.Topic;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.parser.dependencytrack.NotificationModelConverter;
+import org.dependencytrack.proto.bomupload.v1.ProcessBomCommand;
 import org.dependencytrack.proto.notification.v1.BomConsumedOrProcessedSubject;
 import org.dependencytrack.proto.notification.v1.BomProcessingFailedSubject;
 import org.dependencytrack.proto.notification.v1.BomValidationFailedSubject;
@@ -68,6 +70,7 @@ public final class KafkaEventConverter {
 
     static KafkaEvent<?, ?> convert(final Event event) {
         return switch (event) {
+            case BomUploadEvent e -> convert(e);
             case ComponentRepositoryMetaAnalysisEvent e -> convert(e);
             case ComponentVulnerabilityAnalysisEvent e -> convert(e);
             case GitHubAdvisoryMirrorEvent e -> convert(e);
@@ -105,6 +108,17 @@ public final class KafkaEventConverter {
         return kafkaEvents;
     }
 
+    static KafkaEvent<String, ProcessBomCommand> convert(final BomUploadEvent event) {
+        final var command = ProcessBomCommand.newBuilder()
+                .setProjectUuid(event.getProject().getUuid().toString())
+                .setToken(event.getChainIdentifier().toString())
+                .setFileMetadata(event.getFileMetadata())
+                .build();
+
+        // Keying by project ensures that BOMs of the same project are processed in order.
+        return new KafkaEvent<>(KafkaTopics.BOM_UPLOAD_COMMAND, command.getProjectUuid(), command, null);
+    }
+
     static KafkaEvent<ScanKey, ScanCommand> convert(final ComponentVulnerabilityAnalysisEvent event) {
         final var componentBuilder = Component.newBuilder()
                 .setUuid(event.uuid().toString());
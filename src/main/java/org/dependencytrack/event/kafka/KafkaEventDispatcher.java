@@ -65,6 +65,19 @@ public class KafkaEventDispatcher {
         return dispatchAll(List.of(kafkaEvent)).getFirst();
     }
 
+    public List<CompletableFuture<RecordMetadata>> dispatchAllEvents(final Collection<? extends Event> events) {
+        if (events == null || events.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final var kafkaEvents = new ArrayList<KafkaEvent<?, ?>>(events.size());
+        for (final Event event : events) {
+            kafkaEvents.add(KafkaEventConverter.convert(event));
+        }
+
+        return dispatchAll(kafkaEvents);
+    }
+
     public CompletableFuture<RecordMetadata> dispatchNotification(final Notification notification) {
         if (notification == null) {
             return completedFuture(null);
@@ -74,6 +87,15 @@ public class KafkaEventDispatcher {
         return dispatchAll(List.of(kafkaEvent)).getFirst();
     }
 
+    public CompletableFuture<RecordMetadata> dispatchNotificationProto(final org.dependencytrack.proto.notification.v1.Notification notification) {
+        if (notification == null) {
+            return completedFuture(null);
+        }
+
+        final KafkaEvent<?, ?> kafkaEvent = KafkaEventConverter.convert(notification);
+        return dispatchAll(List.of(kafkaEvent)).getFirst();
+    }
+
     public List<CompletableFuture<RecordMetadata>> dispatchAllNotificationProtos(final Collection<org.dependencytrack.proto.notification.v1.Notification> notifications) {
         final List<KafkaEvent<?, ?>> kafkaEvents = KafkaEventConverter.convertAllNotificationProtos(notifications);
         return dispatchAll(kafkaEvents);
@@ -24,6 +24,7 @@ import org.apache.kafka.common.serialization.Serdes;
 import org.cyclonedx.proto.v1_6.Bom;
 import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.kafka.serialization.KafkaProtobufSerde;
+import org.dependencytrack.proto.bomupload.v1.ProcessBomCommand;
 import org.dependencytrack.proto.mirror.v1.EpssItem;
 import org.dependencytrack.proto.notification.v1.Notification;
 import org.dependencytrack.proto.repometaanalysis.v1.AnalysisCommand;
@@ -58,6 +59,7 @@ public final class KafkaTopics {
 
     public static final Topic<String, Notification> NOTIFICATION_PROJECT_VULN_ANALYSIS_COMPLETE;
     public static final Topic<String, EpssItem> NEW_EPSS;
+    public static final Topic<String, ProcessBomCommand> BOM_UPLOAD_COMMAND;
     private static final Serde<Notification> NOTIFICATION_SERDE = new KafkaProtobufSerde<>(Notification.parser());
 
     static {
@@ -84,6 +86,7 @@ public final class KafkaTopics {
         NOTIFICATION_PROJECT_VULN_ANALYSIS_COMPLETE = new Topic<>("dtrack.notification.project-vuln-analysis-complete", Serdes.String(), NOTIFICATION_SERDE);
         NEW_EPSS = new Topic<>("dtrack.epss", Serdes.String(), new KafkaProtobufSerde<>(EpssItem.parser()));
         NOTIFICATION_USER = new Topic<>("dtrack.notification.user", Serdes.String(), NOTIFICATION_SERDE);
+        BOM_UPLOAD_COMMAND = new Topic<>("dtrack.bom-upload.command", Serdes.String(), new KafkaProtobufSerde<>(ProcessBomCommand.parser()));
     }
 
     public record Topic<K, V>(String name, Serde<K> keySerde, Serde<V> valueSerde) {
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor;
+
+import alpine.common.logging.Logger;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.dependencytrack.event.BomUploadEvent;
+import org.dependencytrack.event.kafka.processor.api.Processor;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.plugin.PluginManager;
+import org.dependencytrack.proto.bomupload.v1.ProcessBomCommand;
+import org.dependencytrack.storage.FileStorage;
+import org.dependencytrack.tasks.BomUploadProcessingTask;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * A {@link Processor} that processes uploaded BOMs.
+ * <p>
+ * Commands are keyed by project UUID, such that BOMs of the same project are never
+ * processed concurrently. The database lock used by {@link BomUploadProcessingTask}
+ * for in-process execution is thus not required.
+ *
+ * @since 5.6.0
+ */
+public class BomUploadProcessor implements Processor<String, ProcessBomCommand> {
+
+    static final String PROCESSOR_NAME = "bom.upload";
+
+    private static final Logger LOGGER = Logger.getLogger(BomUploadProcessor.class);
+
+    @Override
+    public void process(final ConsumerRecord<String, ProcessBomCommand> record) {
+        final ProcessBomCommand command = record.value();
+
+        final Project project;
+        try (final var qm = new QueryManager()) {
+            final Project persistentProject = qm.getObjectByUuid(Project.class, command.getProjectUuid());
+            project = persistentProject != null
+                    ? qm.detach(Project.class, persistentProject.getId())
+                    : null;
+        }
+
+        if (project == null) {
+            LOGGER.warn("Project %s does not exist anymore; Discarding BOM upload %s"
+                    .formatted(command.getProjectUuid(), command.getToken()));
+            deleteBomFile(command);
+            return;
+        }
+
+        final var event = new BomUploadEvent(project, command.getFileMetadata());
+        event.setChainIdentifier(UUID.fromString(command.getToken()));
+
+        new BomUploadProcessingTask(/* projectLockEnabled */ false).inform(event);
+    }
+
+    private static void deleteBomFile(final ProcessBomCommand command) {
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            fileStorage.delete(command.getFileMetadata());
+        } catch (IOException e) {
+            LOGGER.error("Failed to delete BOM file %s from storage"
+                    .formatted(command.getFileMetadata().getLocation()), e);
+        }
+    }
+
+}
@@ -18,7 +18,9 @@
  */
 package org.dependencytrack.event.kafka.processor;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.event.kafka.processor.api.ProcessorManager;
 
@@ -45,6 +47,10 @@ public class ProcessorInitializer implements ServletContextListener {
                 KafkaTopics.VULN_ANALYSIS_RESULT, new VulnerabilityScanResultProcessor());
         PROCESSOR_MANAGER.registerBatchProcessor(ProcessedVulnerabilityScanResultProcessor.PROCESSOR_NAME,
                 KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED, new ProcessedVulnerabilityScanResultProcessor());
+        if (Config.getInstance().getPropertyAsBoolean(ConfigKey.BOM_UPLOAD_PROCESSING_KAFKA_ENABLED)) {
+            PROCESSOR_MANAGER.registerProcessor(BomUploadProcessor.PROCESSOR_NAME,
+                    KafkaTopics.BOM_UPLOAD_COMMAND, new BomUploadProcessor());
+        }
 
         PROCESSOR_MANAGER.startAll();
     }
@@ -55,4 +61,8 @@ public class ProcessorInitializer implements ServletContextListener {
         PROCESSOR_MANAGER.close();
     }
 
+    public static ProcessorManager getProcessorManager() {
+        return PROCESSOR_MANAGER;
+    }
+
 }
@@ -23,6 +23,7 @@ import alpine.common.logging.Logger;
 import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
 import com.google.protobuf.Any;
+import com.google.protobuf.Message;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -81,8 +82,10 @@ import javax.jdo.Transaction;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -130,6 +133,8 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
     private static final Logger LOGGER = Logger.getLogger(VulnerabilityScanResultProcessor.class);
 
     private final ThreadLocal<List<KafkaEvent<?, ?>>> eventsToDispatch = ThreadLocal.withInitial(ArrayList::new);
+    private final ThreadLocal<org.dependencytrack.proto.notification.v1.Notification.Builder> notificationBuilder =
+            ThreadLocal.withInitial(org.dependencytrack.proto.notification.v1.Notification::newBuilder);
     private final KafkaEventDispatcher eventDispatcher = new KafkaEventDispatcher();
     private final VulnerabilityPolicyEvaluator vulnPolicyEvaluator;
 
@@ -179,16 +184,19 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                 return;
             }
 
+            // Collect new vulnerabilities across all scanners, such that notification
+            // subjects can be loaded in bulk, rather than once per scanner.
+            final var newVulns = new ArrayList<Vulnerability>();
             for (final ScannerResult scannerResult : scanResult.getScannerResultsList()) {
-                processScannerResult(qm, component, scanKey, scannerResult, analysisLevel, isNewComponent);
+                newVulns.addAll(processScannerResult(qm, component, scanKey, scannerResult));
             }
+
+            maybeQueueNotifications(component, isNewComponent, analysisLevel, newVulns);
         }
     }
 
-    private void processScannerResult(final QueryManager qm, final Component component,
-                                      final ScanKey scanKey, final ScannerResult scannerResult,
-                                      final VulnerabilityAnalysisLevel analysisLevel,
-                                      final boolean isNewComponent) {
+    private List<Vulnerability> processScannerResult(final QueryManager qm, final Component component,
+                                                     final ScanKey scanKey, final ScannerResult scannerResult) {
         if (scannerResult.getStatus() == SCAN_STATUS_FAILED) {
             final var message = "Scan of component %s with %s failed (scanKey: %s): %s"
                     .formatted(component.uuid(), scannerResult.getScanner(), prettyPrint(scanKey), scannerResult.getFailureReason());
@@ -199,11 +207,11 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                     .title(NotificationConstants.Title.ANALYZER_ERROR)
                     .content(message));
             LOGGER.warn(message);
-            return;
+            return Collections.emptyList();
         } else if (scannerResult.getStatus() != ScanStatus.SCAN_STATUS_SUCCESSFUL) {
             LOGGER.warn("Unable to process results from %s with status %s; Dropping record (scanKey: %s)"
                     .formatted(scannerResult.getScanner(), scannerResult.getStatus(), prettyPrint(scanKey)));
-            return;
+            return Collections.emptyList();
         }
 
         final Set<Vulnerability> syncedVulns = syncVulnerabilities(qm, component, scanKey, scannerResult);
@@ -232,7 +240,7 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
         LOGGER.debug("Identified %d new vulnerabilities for %s with %s (scanKey: %s)"
                 .formatted(newVulnUuids.size(), scanKey.getComponentUuid(), scannerResult.getScanner(), prettyPrint(scanKey)));
 
-        maybeQueueNotifications(qm, component, isNewComponent, analysisLevel, newVulnUuids);
+        return newVulnUuids;
     }
 
     /**
@@ -448,7 +456,11 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
             final var dao = handle.attach(Dao.class);
 
             // Bulk-create new findings and corresponding scanner attributions.
-            final List<Long> newFindingVulnIds = dao.createFindings(component, vulns);
+            // Findings are created in a consistent order, such that concurrent transactions
+            // update the VULNERABILITY_PROJECT rows of a project in the same order.
+            final List<Long> newFindingVulnIds = dao.createFindings(component, vulns.stream()
+                    .sorted(Comparator.comparingLong(Vulnerability::getId))
+                    .toList());
             final List<FindingAttribution> findingAttributions = newFindingVulnIds.stream()
                     .map(vulnId -> new FindingAttribution(vulnId, component.id(), component.projectId(),
                             convert(scanner).name(), UUID.randomUUID()))
@@ -734,13 +746,12 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
      * Send {@link Group#GROUP_NEW_VULNERABLE_DEPENDENCY} and {@link Group#GROUP_NEW_VULNERABILITY} notifications
      * for a given {@link Component}, <em>if it was found to have at least one non-suppressed vulnerability</em>.
      *
-     * @param qm             The {@link QueryManager} to use
      * @param component      The {@link Component} to send notifications for
      * @param isNewComponent Whether {@code component} is new
      * @param analysisLevel  The {@link VulnerabilityAnalysisLevel}
-     * @param newVulns       Newly identified {@link Vulnerability}s
+     * @param newVulns       Newly identified {@link Vulnerability}s, across all scanners
      */
-    private void maybeQueueNotifications(final QueryManager qm, final Component component, final boolean isNewComponent,
+    private void maybeQueueNotifications(final Component component, final boolean isNewComponent,
                                          final VulnerabilityAnalysisLevel analysisLevel, final List<Vulnerability> newVulns) {
         if (newVulns.isEmpty()) {
             return;
@@ -752,34 +763,46 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
 
             if (isNewComponent) {
                 dao.getForNewVulnerableDependency(component.uuid())
-                        .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
-                                .setScope(SCOPE_PORTFOLIO)
-                                .setGroup(GROUP_NEW_VULNERABLE_DEPENDENCY)
-                                .setLevel(LEVEL_INFORMATIONAL)
-                                .setTimestamp(notificationTimestamp)
-                                .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABLE_DEPENDENCY, subject.getProject()))
-                                .setContent(generateNotificationContent(subject.getComponent(), subject.getVulnerabilitiesList()))
-                                .setSubject(Any.pack(subject))
-                                .build())
+                        .map(subject -> buildNotification(GROUP_NEW_VULNERABLE_DEPENDENCY, notificationTimestamp,
+                                generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABLE_DEPENDENCY, subject.getProject()),
+                                generateNotificationContent(subject.getComponent(), subject.getVulnerabilitiesList()),
+                                subject))
                         .map(KafkaEventConverter::convert)
                         .ifPresent(eventsToDispatch.get()::add);
             }
 
-            dao.getForNewVulnerabilities(component.uuid(), newVulns.stream().map(Vulnerability::getUuid).toList(), analysisLevel).stream()
-                    .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
-                            .setScope(SCOPE_PORTFOLIO)
-                            .setGroup(GROUP_NEW_VULNERABILITY)
-                            .setLevel(LEVEL_INFORMATIONAL)
-                            .setTimestamp(notificationTimestamp)
-                            .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABILITY, subject.getProject()))
-                            .setContent(generateNotificationContent(subject.getVulnerability()))
-                            .setSubject(Any.pack(subject))
-                            .build())
+            final Set<UUID> newVulnUuids = newVulns.stream()
+                    .map(Vulnerability::getUuid)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            dao.getForNewVulnerabilities(Map.of(component.uuid(), newVulnUuids), analysisLevel).stream()
+                    .map(subject -> buildNotification(GROUP_NEW_VULNERABILITY, notificationTimestamp,
+                            generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABILITY, subject.getProject()),
+                            generateNotificationContent(subject.getVulnerability()),
+                            subject))
                     .map(KafkaEventConverter::convert)
                     .forEach(eventsToDispatch.get()::add);
         });
     }
 
+    /**
+     * Build a {@code SCOPE_PORTFOLIO} notification using the builder of the current thread.
+     * <p>
+     * Reusing the builder avoids allocating a new one for every notification,
+     * which adds up when a single scan result yields many new findings.
+     */
+    private org.dependencytrack.proto.notification.v1.Notification buildNotification(
+            final Group group, final Timestamp timestamp, final String title, final String content, final Message subject) {
+        return notificationBuilder.get().clear()
+                .setScope(SCOPE_PORTFOLIO)
+                .setGroup(group)
+                .setLevel(LEVEL_INFORMATIONAL)
+                .setTimestamp(timestamp)
+                .setTitle(title)
+                .setContent(content)
+                .setSubject(Any.pack(subject))
+                .build();
+    }
+
     private boolean canUpdateVulnerability(final Vulnerability vuln, final Scanner scanner) {
         var canUpdate = true;
 
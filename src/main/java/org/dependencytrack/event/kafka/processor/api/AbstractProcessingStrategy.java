@@ -46,10 +46,22 @@ abstract class AbstractProcessingStrategy<K, V> implements ProcessingStrategy {
 
     private final Serde<K> keySerde;
     private final Serde<V> valueSerde;
+    final RetryTopicRouter retryTopicRouter;
 
     AbstractProcessingStrategy(final Serde<K> keySerde, final Serde<V> valueSerde) {
+        this(keySerde, valueSerde, null);
+    }
+
+    /**
+     * @param keySerde         The {@link Serde} to deserialize record keys with
+     * @param valueSerde       The {@link Serde} to deserialize record values with
+     * @param retryTopicRouter The {@link RetryTopicRouter} to move failed records aside with,
+     *                         or {@code null} when failed records shall be retried in place
+     */
+    AbstractProcessingStrategy(final Serde<K> keySerde, final Serde<V> valueSerde, final RetryTopicRouter retryTopicRouter) {
         this.keySerde = keySerde;
         this.valueSerde = valueSerde;
+        this.retryTopicRouter = retryTopicRouter;
     }
 
     /**
@@ -0,0 +1,259 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Periodically adjusts the {@link AdaptiveLimit}s of processors, following an
+ * additive-increase / multiplicative-decrease (AIMD) approach:
+ * <ul>
+ *     <li>When the database connection pool is saturated, or the processing latency exceeds
+ *     the configured target, concurrency and batch size are halved.</li>
+ *     <li>When the consumer lag exceeds the configured threshold, and the current concurrency
+ *     limit was fully utilized, concurrency is incremented by one, and batch size is increased
+ *     by a tenth of its maximum.</li>
+ * </ul>
+ * Limits are never adjusted beyond the bounds configured for the respective processor.
+ *
+ * @since 5.6.0
+ */
+class AdaptiveConcurrencyController implements AutoCloseable {
+
+    enum Reason {
+        CONSUMER_LAG,
+        DB_POOL_SATURATION,
+        LATENCY
+    }
+
+    /**
+     * @param latencyPercentile The latency percentile to compare against {@code latencyTarget}
+     * @param latencyTarget     The desired upper bound for the processing latency
+     * @param lagThreshold      The consumer lag above which limits shall be increased
+     */
+    record Settings(double latencyPercentile, Duration latencyTarget, long lagThreshold) {
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveConcurrencyController.class);
+
+    private final Map<String, ControlledProcessor> processors = new ConcurrentHashMap<>();
+    private final DoubleSupplier dbPoolSaturationSupplier;
+    private final MeterRegistry meterRegistry;
+    private ScheduledExecutorService executor;
+
+    AdaptiveConcurrencyController() {
+        this(() -> getDbPoolSaturation(Metrics.getRegistry()), Metrics.getRegistry());
+    }
+
+    @VisibleForTesting
+    AdaptiveConcurrencyController(final DoubleSupplier dbPoolSaturationSupplier, final MeterRegistry meterRegistry) {
+        this.dbPoolSaturationSupplier = dbPoolSaturationSupplier;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Register a processor for adaptive concurrency control.
+     *
+     * @param processorName Name of the processor
+     * @param limit         The {@link AdaptiveLimit} to adjust
+     * @param lagSupplier   Supplier of the processor's current consumer lag
+     * @param settings      The {@link Settings} to use
+     */
+    void register(final String processorName, final AdaptiveLimit limit,
+                  final DoubleSupplier lagSupplier, final Settings settings) {
+        Gauge.builder("kafka_processor_concurrency_limit", limit, AdaptiveLimit::concurrency)
+                .description("Current concurrency limit of the processor")
+                .tag("processor", processorName)
+                .register(meterRegistry);
+        Gauge.builder("kafka_processor_batch_size_limit", limit, AdaptiveLimit::batchSize)
+                .description("Current batch size limit of the processor")
+                .tag("processor", processorName)
+                .register(meterRegistry);
+
+        processors.put(processorName, new ControlledProcessor(limit, lagSupplier, settings));
+    }
+
+    /**
+     * Start adjusting the limits of all registered processors.
+     *
+     * @param interval The interval in which to adjust limits
+     */
+    void start(final Duration interval) {
+        if (processors.isEmpty()) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("ProcessorConcurrencyController").daemon(true).factory());
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                adjustAll();
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to adjust processor limits", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @VisibleForTesting
+    void adjustAll() {
+        final double dbPoolSaturation = dbPoolSaturationSupplier.getAsDouble();
+        for (final Map.Entry<String, ControlledProcessor> entry : processors.entrySet()) {
+            adjust(entry.getKey(), entry.getValue(), dbPoolSaturation);
+        }
+    }
+
+    private void adjust(final String processorName, final ControlledProcessor processor, final double dbPoolSaturation) {
+        final AdaptiveLimit limit = processor.limit();
+        final AdaptiveLimit.Sample sample = limit.sample(processor.settings().latencyPercentile());
+
+        final Reason decreaseReason;
+        if (dbPoolSaturation >= 1.0) {
+            decreaseReason = Reason.DB_POOL_SATURATION;
+        } else if (sample.latency() != null
+                && sample.latency().compareTo(processor.settings().latencyTarget()) > 0) {
+            decreaseReason = Reason.LATENCY;
+        } else {
+            decreaseReason = null;
+        }
+
+        if (decreaseReason != null) {
+            setConcurrency(processorName, limit, limit.concurrency() / 2, decreaseReason);
+            setBatchSize(processorName, limit, limit.batchSize() / 2, decreaseReason);
+            return;
+        }
+
+        final double lag = processor.lagSupplier().getAsDouble();
+        if (!Double.isNaN(lag) && lag > processor.settings().lagThreshold() && sample.saturated()) {
+            setConcurrency(processorName, limit, limit.concurrency() + 1, Reason.CONSUMER_LAG);
+            setBatchSize(processorName, limit, limit.batchSize() + Math.max(1, limit.maxBatchSize() / 10), Reason.CONSUMER_LAG);
+        }
+    }
+
+    private void setConcurrency(final String processorName, final AdaptiveLimit limit,
+                                final int concurrency, final Reason reason) {
+        final int previousConcurrency = limit.concurrency();
+        final int newConcurrency = limit.setConcurrency(concurrency);
+        if (newConcurrency != previousConcurrency) {
+            LOGGER.debug("Adjusted concurrency of processor %s from %d to %d due to %s"
+                    .formatted(processorName, previousConcurrency, newConcurrency, reason));
+            recordAdjustment(processorName, "concurrency", newConcurrency > previousConcurrency, reason);
+        }
+    }
+
+    private void setBatchSize(final String processorName, final AdaptiveLimit limit,
+                              final int batchSize, final Reason reason) {
+        final int previousBatchSize = limit.batchSize();
+        final int newBatchSize = limit.setBatchSize(batchSize);
+        if (newBatchSize != previousBatchSize) {
+            LOGGER.debug("Adjusted batch size of processor %s from %d to %d due to %s"
+                    .formatted(processorName, previousBatchSize, newBatchSize, reason));
+            recordAdjustment(processorName, "batch_size", newBatchSize > previousBatchSize, reason);
+        }
+    }
+
+    private void recordAdjustment(final String processorName, final String limitName,
+                                  final boolean increased, final Reason reason) {
+        Counter.builder("kafka_processor_limit_adjustments")
+                .description("Number of adjustments made to processor limits")
+                .tag("processor", processorName)
+                .tag("limit", limitName)
+                .tag("direction", increased ? "increase" : "decrease")
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Determine the consumer lag of a given {@link Consumer}, based on its
+     * {@code records-lag-max} metric.
+     *
+     * @param consumer The {@link Consumer} to determine the lag for
+     * @return The maximum lag across all assigned partitions, or {@link Double#NaN} when not known
+     */
+    static double getConsumerLag(final Consumer<?, ?> consumer) {
+        for (final Map.Entry<MetricName, ? extends Metric> entry : consumer.metrics().entrySet()) {
+            final MetricName metricName = entry.getKey();
+            if ("records-lag-max".equals(metricName.name())
+                    && "consumer-fetch-manager-metrics".equals(metricName.group())
+                    && !metricName.tags().containsKey("topic")
+                    && entry.getValue().metricValue() instanceof final Double lag) {
+                return lag;
+            }
+        }
+
+        return Double.NaN;
+    }
+
+    /**
+     * Determine the saturation of database connection pools, based on the metrics
+     * reported by HikariCP. A saturation of {@code 1.0} or higher indicates that
+     * threads are waiting for connections.
+     *
+     * @param meterRegistry The {@link MeterRegistry} to read the pool metrics from
+     * @return The highest saturation of all pools, or {@code 0.0} when not known
+     */
+    static double getDbPoolSaturation(final MeterRegistry meterRegistry) {
+        double saturation = 0.0;
+        for (final Gauge pendingGauge : meterRegistry.find("hikaricp.connections.pending").gauges()) {
+            if (pendingGauge.value() > 0) {
+                return 1.0;
+            }
+
+            final String poolName = pendingGauge.getId().getTag("pool");
+            if (poolName == null) {
+                continue;
+            }
+
+            final Gauge activeGauge = meterRegistry.find("hikaricp.connections.active").tag("pool", poolName).gauge();
+            final Gauge maxGauge = meterRegistry.find("hikaricp.connections.max").tag("pool", poolName).gauge();
+            if (activeGauge != null && maxGauge != null && maxGauge.value() > 0) {
+                saturation = Math.max(saturation, activeGauge.value() / maxGauge.value());
+            }
+        }
+
+        return saturation;
+    }
+
+    private record ControlledProcessor(AdaptiveLimit limit, DoubleSupplier lagSupplier, Settings settings) {
+    }
+
+}
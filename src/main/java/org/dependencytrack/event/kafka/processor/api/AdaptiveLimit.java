@@ -0,0 +1,204 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency and batch size limits of a single processor, as adjusted at runtime
+ * by the {@link AdaptiveConcurrencyController}.
+ * <p>
+ * The limits are always within the bounds the processor has been configured with.
+ * The upper bounds correspond to the static {@code max.concurrency} and {@code max.batch.size}
+ * of the underlying parallel consumer, which can not be changed after it has been created.
+ * Limiting is thus performed by having excess worker threads wait for a permit.
+ *
+ * @since 5.6.0
+ */
+final class AdaptiveLimit {
+
+    private static final int LATENCY_WINDOW_SIZE = 1024;
+
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final long[] latencyWindowNanos = new long[LATENCY_WINDOW_SIZE];
+    private int latencyWindowCount;
+    private int latencyWindowIndex;
+    private int concurrency;
+    private int batchSize;
+    private int inFlight;
+    private int peakInFlight;
+
+    AdaptiveLimit(final int minConcurrency, final int maxConcurrency, final int minBatchSize, final int maxBatchSize) {
+        if (minConcurrency < 1 || minConcurrency > maxConcurrency) {
+            throw new IllegalArgumentException("minConcurrency must be between 1 and %d, but is %d"
+                    .formatted(maxConcurrency, minConcurrency));
+        }
+        if (minBatchSize < 1 || minBatchSize > maxBatchSize) {
+            throw new IllegalArgumentException("minBatchSize must be between 1 and %d, but is %d"
+                    .formatted(maxBatchSize, minBatchSize));
+        }
+
+        this.minConcurrency = minConcurrency;
+        this.maxConcurrency = maxConcurrency;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+
+        // Start out with the static limits, such that processors behave
+        // as before until pressure is detected.
+        this.concurrency = maxConcurrency;
+        this.batchSize = maxBatchSize;
+    }
+
+    /**
+     * Wait until processing is permitted by the current concurrency limit.
+     *
+     * @throws InterruptedException When interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= concurrency) {
+                permitReleased.await();
+            }
+
+            inFlight++;
+            peakInFlight = Math.max(peakInFlight, inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release a permit previously obtained via {@link #acquire()},
+     * and record how long the processing took.
+     *
+     * @param latency Duration of the processing
+     */
+    void release(final Duration latency) {
+        lock.lock();
+        try {
+            inFlight--;
+            latencyWindowNanos[latencyWindowIndex] = latency.toNanos();
+            latencyWindowIndex = (latencyWindowIndex + 1) % LATENCY_WINDOW_SIZE;
+            latencyWindowCount = Math.min(latencyWindowCount + 1, LATENCY_WINDOW_SIZE);
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take a {@link Sample} of the processing that happened since the last sample was taken.
+     *
+     * @param percentile The latency percentile to determine, between {@code 0.0} and {@code 1.0}
+     * @return The {@link Sample}
+     */
+    Sample sample(final double percentile) {
+        lock.lock();
+        try {
+            final Duration latency;
+            if (latencyWindowCount == 0) {
+                latency = null;
+            } else {
+                final long[] sortedLatencies = Arrays.copyOf(latencyWindowNanos, latencyWindowCount);
+                Arrays.sort(sortedLatencies);
+                final int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+                latency = Duration.ofNanos(sortedLatencies[Math.max(0, index)]);
+            }
+
+            final boolean saturated = peakInFlight >= concurrency;
+
+            latencyWindowCount = 0;
+            latencyWindowIndex = 0;
+            peakInFlight = inFlight;
+
+            return new Sample(latency, saturated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param latency   The latency percentile of the processing since the last sample,
+     *                  or {@code null} when nothing was processed
+     * @param saturated Whether the concurrency limit was fully utilized since the last sample
+     */
+    record Sample(Duration latency, boolean saturated) {
+    }
+
+    int concurrency() {
+        lock.lock();
+        try {
+            return concurrency;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int batchSize() {
+        lock.lock();
+        try {
+            return batchSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param concurrency The desired concurrency limit
+     * @return The effective concurrency limit, after applying the configured bounds
+     */
+    int setConcurrency(final int concurrency) {
+        lock.lock();
+        try {
+            this.concurrency = Math.clamp(concurrency, minConcurrency, maxConcurrency);
+            permitReleased.signalAll();
+            return this.concurrency;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param batchSize The desired batch size limit
+     * @return The effective batch size limit, after applying the configured bounds
+     */
+    int setBatchSize(final int batchSize) {
+        lock.lock();
+        try {
+            this.batchSize = Math.clamp(batchSize, minBatchSize, maxBatchSize);
+            return this.batchSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+}
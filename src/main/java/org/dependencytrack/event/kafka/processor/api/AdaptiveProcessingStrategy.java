@@ -0,0 +1,80 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import io.confluent.parallelconsumer.PCRetriableException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A {@link ProcessingStrategy} that enforces the limits of an {@link AdaptiveLimit}
+ * before delegating to another {@link ProcessingStrategy}.
+ * <p>
+ * Batches that exceed the current batch size limit are split up and processed sequentially.
+ * Because the parallel consumer tracks the entire batch as one unit of work, a failure
+ * in any of the chunks causes the complete batch to be retried.
+ *
+ * @since 5.6.0
+ */
+class AdaptiveProcessingStrategy implements ProcessingStrategy {
+
+    private final ProcessingStrategy delegate;
+    private final AdaptiveLimit limit;
+
+    AdaptiveProcessingStrategy(final ProcessingStrategy delegate, final AdaptiveLimit limit) {
+        this.delegate = delegate;
+        this.limit = limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void processRecords(final List<ConsumerRecord<byte[], byte[]>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        int offset = 0;
+        while (offset < records.size()) {
+            final int chunkSize = Math.min(limit.batchSize(), records.size() - offset);
+            processChunk(records.subList(offset, offset + chunkSize));
+            offset += chunkSize;
+        }
+    }
+
+    private void processChunk(final List<ConsumerRecord<byte[], byte[]>> records) {
+        try {
+            limit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PCRetriableException("Interrupted while waiting for a processing permit", e);
+        }
+
+        final long startTimeNanos = System.nanoTime();
+        try {
+            delegate.processRecords(records);
+        } finally {
+            limit.release(Duration.ofNanos(System.nanoTime() - startTimeNanos));
+        }
+    }
+
+}
@@ -44,7 +44,13 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
 
     BatchProcessingStrategy(final BatchProcessor<K, V> batchProcessor,
                             final Serde<K> keySerde, final Serde<V> valueSerde) {
-        super(keySerde, valueSerde);
+        this(batchProcessor, keySerde, valueSerde, null);
+    }
+
+    BatchProcessingStrategy(final BatchProcessor<K, V> batchProcessor,
+                            final Serde<K> keySerde, final Serde<V> valueSerde,
+                            final RetryTopicRouter retryTopicRouter) {
+        super(keySerde, valueSerde, retryTopicRouter);
         this.batchProcessor = batchProcessor;
     }
 
@@ -54,14 +60,20 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
     @Override
     public void processRecords(final List<ConsumerRecord<byte[], byte[]>> records) {
         final var deserializedRecords = new ArrayList<ConsumerRecord<K, V>>(records.size());
+        final var deserializableRecords = new ArrayList<ConsumerRecord<byte[], byte[]>>(records.size());
         for (final ConsumerRecord<byte[], byte[]> record : records) {
             try (var ignoredMdcKafkaRecordTopic = MDC.putCloseable(MdcKeys.MDC_KAFKA_RECORD_TOPIC, record.topic());
                  var ignoredMdcKafkaRecordPartition = MDC.putCloseable(MdcKeys.MDC_KAFKA_RECORD_PARTITION, String.valueOf(record.partition()));
                  var ignoredMdcKafkaRecordOffset = MDC.putCloseable(MdcKeys.MDC_KAFKA_RECORD_OFFSET, String.valueOf(record.offset()))) {
                 deserializedRecords.add(deserialize(record));
+                deserializableRecords.add(record);
             } catch (SerializationException e) {
-                // TODO: Consider supporting error handlers, e.g. to send record to DLT.
-                LOGGER.error("Failed to deserialize record; Skipping", e);
+                if (retryTopicRouter != null) {
+                    LOGGER.error("Failed to deserialize record; Moving to dead letter topic", e);
+                    retryTopicRouter.route(record, e, /* retryable */ false);
+                } else {
+                    LOGGER.error("Failed to deserialize record; Skipping", e);
+                }
             }
         }
 
@@ -73,13 +85,22 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
         try {
             batchProcessor.process(deserializedRecords);
         } catch (ProcessingException | RuntimeException e) {
-            if (isRetryableException(e)) {
+            final boolean isRetryable = isRetryableException(e);
+            if (retryTopicRouter != null) {
+                LOGGER.warn("Encountered %s exception while processing %d records; Moving aside"
+                        .formatted(isRetryable ? "retryable" : "non-retryable", deserializedRecords.size()), e);
+                for (final ConsumerRecord<byte[], byte[]> record : deserializableRecords) {
+                    retryTopicRouter.route(record, e, isRetryable);
+                }
+                return;
+            }
+
+            if (isRetryable) {
                 LOGGER.warn("Encountered retryable exception while processing %d records".formatted(deserializedRecords.size()), e);
                 throw new PCRetriableException(e);
             }
 
             LOGGER.error("Encountered non-retryable exception while processing %d records; Skipping".formatted(deserializedRecords.size()), e);
-            // TODO: Consider supporting error handlers, e.g. to send records to DLT.
             // Skip records to avoid poison-pill scenario.
         }
     }
@@ -0,0 +1,238 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.HEADERS;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.HEADER_ATTEMPT;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.HEADER_EXCEPTION_CLASS;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.HEADER_EXCEPTION_MESSAGE;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.HEADER_ORIGINAL_OFFSET;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.HEADER_ORIGINAL_PARTITION;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.HEADER_ORIGINAL_TOPIC;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.getIntHeader;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.getLongHeader;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.getStringHeader;
+
+/**
+ * Provides access to the dead letter topic of a processor.
+ * <p>
+ * Progress of replays is tracked using a dedicated consumer group. Records that
+ * have been replayed are no longer returned by {@link #peek(int)}.
+ *
+ * @since 5.6.0
+ */
+public class DeadLetterQueue {
+
+    /**
+     * A record in a dead letter topic.
+     *
+     * @param partition         Partition of the record in the dead letter topic
+     * @param offset            Offset of the record in the dead letter topic
+     * @param timestamp         Time at which the record was moved to the dead letter topic
+     * @param originalTopic     Topic the record was originally consumed from
+     * @param originalPartition Partition the record was originally consumed from
+     * @param originalOffset    Offset the record originally had
+     * @param attempts          Number of processing attempts
+     * @param exceptionClass    Class of the exception that caused the last attempt to fail
+     * @param exceptionMessage  Message of the exception that caused the last attempt to fail
+     */
+    public record DeadLetter(
+            int partition,
+            long offset,
+            @JsonFormat(
+                    shape = JsonFormat.Shape.NUMBER_INT,
+                    without = JsonFormat.Feature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+            Instant timestamp,
+            String originalTopic,
+            Integer originalPartition,
+            Long originalOffset,
+            Integer attempts,
+            String exceptionClass,
+            String exceptionMessage) {
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(DeadLetterQueue.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration MAX_READ_DURATION = Duration.ofSeconds(30);
+
+    private final String topic;
+    private final String fallbackReplayTopic;
+    private final Supplier<Consumer<byte[], byte[]>> consumerFactory;
+    private final Supplier<Producer<byte[], byte[]>> producerSupplier;
+
+    DeadLetterQueue(final String topic, final String fallbackReplayTopic,
+                    final Supplier<Consumer<byte[], byte[]>> consumerFactory,
+                    final Supplier<Producer<byte[], byte[]>> producerSupplier) {
+        this.topic = topic;
+        this.fallbackReplayTopic = fallbackReplayTopic;
+        this.consumerFactory = consumerFactory;
+        this.producerSupplier = producerSupplier;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    /**
+     * Retrieve records from the dead letter topic that have not been replayed yet.
+     *
+     * @param limit Maximum number of records to retrieve
+     * @return The retrieved {@link DeadLetter}s
+     */
+    public synchronized List<DeadLetter> peek(final int limit) {
+        final var deadLetters = new ArrayList<DeadLetter>();
+        try (final Consumer<byte[], byte[]> consumer = consumerFactory.get()) {
+            readToEnd(consumer, records -> {
+                for (final ConsumerRecord<byte[], byte[]> record : records) {
+                    if (deadLetters.size() >= limit) {
+                        return false;
+                    }
+
+                    deadLetters.add(convert(record));
+                }
+
+                return deadLetters.size() < limit;
+            });
+        }
+
+        return deadLetters;
+    }
+
+    /**
+     * Replay all records in the dead letter topic to the topics they were originally consumed from.
+     *
+     * @return Number of replayed records
+     */
+    public synchronized int replay() {
+        final var numReplayed = new AtomicInteger();
+        try (final Consumer<byte[], byte[]> consumer = consumerFactory.get()) {
+            readToEnd(consumer, records -> {
+                final var futures = new ArrayList<Future<RecordMetadata>>(records.count());
+                final var offsetsToCommit = new HashMap<TopicPartition, OffsetAndMetadata>();
+                for (final ConsumerRecord<byte[], byte[]> record : records) {
+                    final String replayTopic = getStringHeader(record.headers(), HEADER_ORIGINAL_TOPIC).orElse(fallbackReplayTopic);
+
+                    final var headers = new RecordHeaders();
+                    for (final Header header : record.headers()) {
+                        if (!HEADERS.contains(header.key())) {
+                            headers.add(header);
+                        }
+                    }
+
+                    futures.add(producerSupplier.get().send(new ProducerRecord<>(replayTopic, null, record.key(), record.value(), headers)));
+                    offsetsToCommit.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                }
+
+                for (final Future<RecordMetadata> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        throw new IllegalStateException("Failed to replay record", e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while replaying records", e);
+                    }
+                }
+
+                consumer.commitSync(offsetsToCommit);
+                numReplayed.addAndGet(futures.size());
+                return true;
+            });
+        }
+
+        LOGGER.info("Replayed %d record(s) from dead letter topic %s".formatted(numReplayed.get(), topic));
+        return numReplayed.get();
+    }
+
+    private interface RecordsHandler {
+
+        /**
+         * @return {@code true} when reading shall continue, otherwise {@code false}
+         */
+        boolean handle(final ConsumerRecords<byte[], byte[]> records);
+
+    }
+
+    private void readToEnd(final Consumer<byte[], byte[]> consumer, final RecordsHandler handler) {
+        final List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+                .toList();
+        consumer.assign(partitions);
+
+        // Only read up to the offsets at the time of the request,
+        // records that arrive while reading will be handled next time.
+        final Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+        final Instant deadline = Instant.now().plus(MAX_READ_DURATION);
+        while (Instant.now().isBefore(deadline) && !hasReachedEnd(consumer, endOffsets)) {
+            final ConsumerRecords<byte[], byte[]> records = consumer.poll(POLL_TIMEOUT);
+            if (!records.isEmpty() && !handler.handle(records)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean hasReachedEnd(final Consumer<?, ?> consumer, final Map<TopicPartition, Long> endOffsets) {
+        for (final Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
+            if (consumer.position(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static DeadLetter convert(final ConsumerRecord<byte[], byte[]> record) {
+        return new DeadLetter(
+                record.partition(),
+                record.offset(),
+                Instant.ofEpochMilli(record.timestamp()),
+                getStringHeader(record.headers(), HEADER_ORIGINAL_TOPIC).orElse(null),
+                getIntHeader(record.headers(), HEADER_ORIGINAL_PARTITION).orElse(null),
+                getLongHeader(record.headers(), HEADER_ORIGINAL_OFFSET).orElse(null),
+                getIntHeader(record.headers(), HEADER_ATTEMPT).orElse(null),
+                getStringHeader(record.headers(), HEADER_EXCEPTION_CLASS).orElse(null),
+                getStringHeader(record.headers(), HEADER_EXCEPTION_MESSAGE).orElse(null));
+    }
+
+}
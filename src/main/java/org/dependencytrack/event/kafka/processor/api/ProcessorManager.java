@@ -35,14 +35,17 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.kafka.KafkaProducerInitializer;
 import org.dependencytrack.event.kafka.KafkaTopics.Topic;
 import org.dependencytrack.util.ConfigUtil;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -51,12 +54,15 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.apache.kafka.clients.CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG;
 import static org.apache.kafka.clients.CommonClientConfigs.CLIENT_ID_CONFIG;
 import static org.apache.kafka.clients.CommonClientConfigs.SECURITY_PROTOCOL_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
@@ -66,6 +72,19 @@ import static org.apache.kafka.common.config.SslConfigs.SSL_KEYSTORE_PASSWORD_CO
 import static org.apache.kafka.common.config.SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG;
 import static org.apache.kafka.common.config.SslConfigs.SSL_TRUSTSTORE_PASSWORD_CONFIG;
 import static org.dependencytrack.common.ConfigKey.KAFKA_BOOTSTRAP_SERVERS;
+import static org.dependencytrack.common.ConfigKey.KAFKA_PROCESSOR_ADAPTIVE_INTERVAL_DURATION;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_ENABLED;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_ENABLED_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LAG_THRESHOLD;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LAG_THRESHOLD_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LATENCY_PERCENTILE;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LATENCY_PERCENTILE_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LATENCY_TARGET_MS;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LATENCY_TARGET_MS_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_MIN_BATCH_SIZE;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_MIN_BATCH_SIZE_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_MIN_CONCURRENCY;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_MIN_CONCURRENCY_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_BATCH_SIZE;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_BATCH_SIZE_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_CONCURRENCY;
@@ -80,6 +99,10 @@ import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_MULTIPLIER_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_RANDOMIZATION_FACTOR;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_RANDOMIZATION_FACTOR_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_TOPICS_DELAYS;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_TOPICS_DELAYS_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_TOPICS_ENABLED;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_TOPICS_ENABLED_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_SHUTDOWN_TIMEOUT_MS;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_SHUTDOWN_TIMEOUT_MS_DEFAULT;
 
@@ -89,13 +112,22 @@ public class ProcessorManager implements AutoCloseable {
     private static final Pattern PROCESSOR_NAME_PATTERN = Pattern.compile("^[a-z.]+$");
 
     private final Map<String, ManagedProcessor> managedProcessors = new LinkedHashMap<>();
+    private final Map<String, DeadLetterQueue> deadLetterQueues = new LinkedHashMap<>();
     private final UUID instanceId;
     private final Config config;
+    private final AdaptiveConcurrencyController concurrencyController;
+    private final Supplier<Producer<byte[], byte[]>> producerSupplier;
     private AdminClient adminClient;
 
     public ProcessorManager() {
+        this(KafkaProducerInitializer::getProducer);
+    }
+
+    ProcessorManager(final Supplier<Producer<byte[], byte[]>> producerSupplier) {
         this.instanceId = UUID.randomUUID();
         this.config = Config.getInstance();
+        this.concurrencyController = new AdaptiveConcurrencyController();
+        this.producerSupplier = producerSupplier;
     }
 
     /**
@@ -109,9 +141,13 @@ public class ProcessorManager implements AutoCloseable {
      */
     public <K, V> void registerProcessor(final String name, final Topic<K, V> topic, final Processor<K, V> processor) {
         requireValidProcessorName(name);
-        final var processingStrategy = new SingleRecordProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde());
-        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, false);
-        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, topic.name()));
+        final RetryTopicRouter retryTopicRouter = createRetryTopicRouter(name, topic);
+        final var processingStrategy = new SingleRecordProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde(), retryTopicRouter);
+        final ParallelConsumerOptions<byte[], byte[]> options = createParallelConsumerOptions(name, topic, false);
+        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, options);
+        managedProcessors.put(name, new ManagedProcessor(parallelConsumer,
+                maybeAdaptive(name, options, processingStrategy), topic.name()));
+        maybeRegisterRetryTiers(name, topic, retryTopicRouter, processingStrategy);
     }
 
     /**
@@ -125,9 +161,24 @@ public class ProcessorManager implements AutoCloseable {
      */
     public <K, V> void registerBatchProcessor(final String name, final Topic<K, V> topic, final BatchProcessor<K, V> processor) {
         requireValidProcessorName(name);
-        final var processingStrategy = new BatchProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde());
-        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, true);
-        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, topic.name()));
+        final RetryTopicRouter retryTopicRouter = createRetryTopicRouter(name, topic);
+        final var processingStrategy = new BatchProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde(), retryTopicRouter);
+        final ParallelConsumerOptions<byte[], byte[]> options = createParallelConsumerOptions(name, topic, true);
+        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, options);
+        managedProcessors.put(name, new ManagedProcessor(parallelConsumer,
+                maybeAdaptive(name, options, processingStrategy), topic.name()));
+        maybeRegisterRetryTiers(name, topic, retryTopicRouter, processingStrategy);
+    }
+
+    /**
+     * Get the {@link DeadLetterQueue} of a given processor.
+     *
+     * @param processorName Name of the processor
+     * @return The {@link DeadLetterQueue}, or {@link Optional#empty()} when the processor
+     * does not exist or does not have retry topics enabled
+     */
+    public Optional<DeadLetterQueue> getDeadLetterQueue(final String processorName) {
+        return Optional.ofNullable(deadLetterQueues.get(processorName));
     }
 
     @SuppressWarnings("resource")
@@ -146,6 +197,8 @@ public class ProcessorManager implements AutoCloseable {
                 managedProcessor.processingStrategy().processRecords(polledRecords);
             });
         }
+
+        concurrencyController.start(Duration.parse(config.getProperty(KAFKA_PROCESSOR_ADAPTIVE_INTERVAL_DURATION)));
     }
 
     public HealthCheckResponse probeHealth() {
@@ -176,6 +229,8 @@ public class ProcessorManager implements AutoCloseable {
     @Override
     @SuppressWarnings("resource")
     public void close() {
+        concurrencyController.close();
+
         if (adminClient != null) {
             LOGGER.debug("Closing admin client");
             adminClient.close();
@@ -191,7 +246,9 @@ public class ProcessorManager implements AutoCloseable {
     }
 
     private void ensureTopicsExist() {
-        final List<String> topicNames = managedProcessors.values().stream().map(ManagedProcessor::topic).toList();
+        final List<String> topicNames = Stream.concat(
+                managedProcessors.values().stream().map(ManagedProcessor::topic),
+                deadLetterQueues.values().stream().map(DeadLetterQueue::topic)).toList();
         LOGGER.info("Verifying existence of subscribed topics: %s".formatted(topicNames));
 
         final DescribeTopicsResult topicsResult = adminClient().describeTopics(topicNames, new DescribeTopicsOptions().timeoutMs(3_000));
@@ -237,9 +294,9 @@ public class ProcessorManager implements AutoCloseable {
         }
     }
 
-    private ParallelStreamProcessor<byte[], byte[]> createParallelConsumer(final String processorName, final Topic<?, ?> topic, final boolean isBatch) {
+    private ParallelConsumerOptions<byte[], byte[]> createParallelConsumerOptions(final String processorName, final Topic<?, ?> topic, final boolean isBatch) {
         final var optionsBuilder = ParallelConsumerOptions.<byte[], byte[]>builder()
-                .consumer(createConsumer(processorName))
+                .consumer(createConsumer(processorName, processorName))
                 .ignoreReflectiveAccessExceptionsForAutoCommitDisabledCheck(true);
 
         final Map<String, String> properties = getPassThroughProperties(processorName.toLowerCase());
@@ -300,15 +357,131 @@ public class ProcessorManager implements AutoCloseable {
                     .pcInstanceTag(processorName);
         }
 
-        final ParallelConsumerOptions<byte[], byte[]> options = optionsBuilder.build();
+        return optionsBuilder.build();
+    }
+
+    private RetryTopicRouter createRetryTopicRouter(final String processorName, final Topic<?, ?> topic) {
+        final Map<String, String> properties = getPassThroughProperties(processorName.toLowerCase());
+
+        final boolean isRetryTopicsEnabled = Optional.ofNullable(properties.get(PROPERTY_RETRY_TOPICS_ENABLED))
+                .map(Boolean::parseBoolean)
+                .orElse(PROPERTY_RETRY_TOPICS_ENABLED_DEFAULT);
+        if (!isRetryTopicsEnabled) {
+            return null;
+        }
+
+        final String[] delays = Optional.ofNullable(properties.get(PROPERTY_RETRY_TOPICS_DELAYS))
+                .orElse(PROPERTY_RETRY_TOPICS_DELAYS_DEFAULT)
+                .split(",");
+        final var tiers = new ArrayList<RetryTopicRouter.Tier>(delays.length);
+        for (int i = 0; i < delays.length; i++) {
+            final var tierTopic = new Topic<>("dtrack.processor.%s.retry.%d".formatted(processorName, i + 1),
+                    topic.keySerde(), topic.valueSerde());
+            tiers.add(new RetryTopicRouter.Tier(tierTopic.name(), Duration.parse(delays[i].trim())));
+        }
+
+        final String deadLetterTopic = new Topic<>("dtrack.processor.%s.dlq".formatted(processorName),
+                topic.keySerde(), topic.valueSerde()).name();
+        deadLetterQueues.put(processorName, new DeadLetterQueue(deadLetterTopic, topic.name(),
+                () -> createDeadLetterQueueConsumer(processorName), producerSupplier));
+
+        return new RetryTopicRouter(processorName, tiers, deadLetterTopic, producerSupplier);
+    }
+
+    private void maybeRegisterRetryTiers(final String processorName, final Topic<?, ?> topic,
+                                         final RetryTopicRouter retryTopicRouter, final ProcessingStrategy processingStrategy) {
+        if (retryTopicRouter == null) {
+            return;
+        }
+
+        final Map<String, String> properties = getPassThroughProperties(processorName.toLowerCase());
+        final IntervalFunction retryIntervalFunction = getRetryIntervalFunction(properties);
+        final long shutdownTimeoutMs = Optional.ofNullable(properties.get(PROPERTY_SHUTDOWN_TIMEOUT_MS))
+                .map(Long::parseLong)
+                .orElse(PROPERTY_SHUTDOWN_TIMEOUT_MS_DEFAULT);
+
+        for (int i = 0; i < retryTopicRouter.tiers().size(); i++) {
+            final RetryTopicRouter.Tier tier = retryTopicRouter.tiers().get(i);
+            final String consumerName = "%s-retry-%d".formatted(processorName, i + 1);
+
+            // Records in retry topics become due in the order they were written,
+            // so they must be consumed in partition order.
+            final var optionsBuilder = ParallelConsumerOptions.<byte[], byte[]>builder()
+                    .consumer(createConsumer(processorName, consumerName))
+                    .ignoreReflectiveAccessExceptionsForAutoCommitDisabledCheck(true)
+                    .ordering(ProcessingOrder.PARTITION)
+                    .maxConcurrency(getTopicPartitionCount(tier.topic()))
+                    .retryDelayProvider(recordCtx -> Duration.ofMillis(
+                            retryIntervalFunction.apply(recordCtx.getNumberOfFailedAttempts())))
+                    .shutdownTimeout(Duration.ofMillis(shutdownTimeoutMs));
+            if (config.getPropertyAsBoolean(Config.AlpineKey.METRICS_ENABLED)) {
+                optionsBuilder
+                        .meterRegistry(Metrics.getRegistry())
+                        .pcInstanceTag(consumerName);
+            }
+
+            final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(consumerName, optionsBuilder.build());
+            managedProcessors.put(consumerName, new ManagedProcessor(parallelConsumer,
+                    new RetryTierProcessingStrategy(processingStrategy), tier.topic()));
+        }
+
+        LOGGER.debug("Registered %d retry tier(s) for processor %s consuming from topic %s"
+                .formatted(retryTopicRouter.tiers().size(), processorName, topic.name()));
+    }
+
+    private ParallelStreamProcessor<byte[], byte[]> createParallelConsumer(final String processorName, final ParallelConsumerOptions<byte[], byte[]> options) {
         LOGGER.debug("Creating parallel consumer for processor %s with options %s".formatted(processorName, options));
         return ParallelStreamProcessor.createEosStreamProcessor(options);
     }
 
-    private Consumer<byte[], byte[]> createConsumer(final String processorName) {
+    private ProcessingStrategy maybeAdaptive(final String processorName, final ParallelConsumerOptions<byte[], byte[]> options,
+                                             final ProcessingStrategy processingStrategy) {
+        final Map<String, String> properties = getPassThroughProperties(processorName.toLowerCase());
+
+        final boolean isAdaptive = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_ENABLED))
+                .map(Boolean::parseBoolean)
+                .orElse(PROPERTY_ADAPTIVE_ENABLED_DEFAULT);
+        if (!isAdaptive) {
+            return processingStrategy;
+        }
+
+        final int minConcurrency = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_MIN_CONCURRENCY))
+                .map(Integer::parseInt)
+                .orElse(PROPERTY_ADAPTIVE_MIN_CONCURRENCY_DEFAULT);
+        final int minBatchSize = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_MIN_BATCH_SIZE))
+                .map(Integer::parseInt)
+                .orElse(PROPERTY_ADAPTIVE_MIN_BATCH_SIZE_DEFAULT);
+        final double latencyPercentile = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_LATENCY_PERCENTILE))
+                .map(Double::parseDouble)
+                .orElse(PROPERTY_ADAPTIVE_LATENCY_PERCENTILE_DEFAULT);
+        final long latencyTargetMs = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_LATENCY_TARGET_MS))
+                .map(Long::parseLong)
+                .orElse(PROPERTY_ADAPTIVE_LATENCY_TARGET_MS_DEFAULT);
+        final long lagThreshold = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_LAG_THRESHOLD))
+                .map(Long::parseLong)
+                .orElse(PROPERTY_ADAPTIVE_LAG_THRESHOLD_DEFAULT);
+
+        // The limits of the parallel consumer are fixed once it has been created,
+        // so they serve as upper bounds for the adaptive limits.
+        final int maxBatchSize = options.getBatchSize() != null ? options.getBatchSize() : 1;
+        final var limit = new AdaptiveLimit(
+                Math.min(minConcurrency, options.getMaxConcurrency()), options.getMaxConcurrency(),
+                Math.min(minBatchSize, maxBatchSize), maxBatchSize);
+
+        final Consumer<byte[], byte[]> consumer = options.getConsumer();
+        concurrencyController.register(processorName, limit,
+                () -> AdaptiveConcurrencyController.getConsumerLag(consumer),
+                new AdaptiveConcurrencyController.Settings(
+                        latencyPercentile, Duration.ofMillis(latencyTargetMs), lagThreshold));
+
+        LOGGER.debug("Enabled adaptive concurrency for processor %s".formatted(processorName));
+        return new AdaptiveProcessingStrategy(processingStrategy, limit);
+    }
+
+    private Consumer<byte[], byte[]> createConsumer(final String processorName, final String consumerName) {
         final var consumerConfig = new HashMap<String, Object>();
         consumerConfig.put(BOOTSTRAP_SERVERS_CONFIG, config.getProperty(KAFKA_BOOTSTRAP_SERVERS));
-        consumerConfig.put(CLIENT_ID_CONFIG, "%s-%s-consumer".formatted(instanceId, processorName));
+        consumerConfig.put(CLIENT_ID_CONFIG, "%s-%s-consumer".formatted(instanceId, consumerName));
         consumerConfig.put(GROUP_ID_CONFIG, processorName);
         consumerConfig.putAll(getGlobalTlsConfig());
 
@@ -340,6 +513,21 @@ public class ProcessorManager implements AutoCloseable {
         return consumer;
     }
 
+    private Consumer<byte[], byte[]> createDeadLetterQueueConsumer(final String processorName) {
+        final var consumerConfig = new HashMap<String, Object>();
+        consumerConfig.put(BOOTSTRAP_SERVERS_CONFIG, config.getProperty(KAFKA_BOOTSTRAP_SERVERS));
+        consumerConfig.put(CLIENT_ID_CONFIG, "%s-%s-dlq-consumer".formatted(instanceId, processorName));
+        consumerConfig.put(GROUP_ID_CONFIG, "%s-dlq-replay".formatted(processorName));
+        consumerConfig.putAll(getGlobalTlsConfig());
+        consumerConfig.put(KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        consumerConfig.put(VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        consumerConfig.put(ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerConfig.put(AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        LOGGER.debug("Creating dead letter queue consumer for processor %s with options %s".formatted(processorName, consumerConfig));
+        return new KafkaConsumer<>(consumerConfig);
+    }
+
     private AdminClient adminClient() {
         if (adminClient != null) {
             return adminClient;
@@ -22,6 +22,18 @@ import io.confluent.parallelconsumer.ParallelConsumerOptions.ProcessingOrder;
 
 final class ProcessorProperties {
 
+    static final String PROPERTY_ADAPTIVE_ENABLED = "adaptive.enabled";
+    static final boolean PROPERTY_ADAPTIVE_ENABLED_DEFAULT = false;
+    static final String PROPERTY_ADAPTIVE_MIN_CONCURRENCY = "adaptive.min.concurrency";
+    static final int PROPERTY_ADAPTIVE_MIN_CONCURRENCY_DEFAULT = 1;
+    static final String PROPERTY_ADAPTIVE_MIN_BATCH_SIZE = "adaptive.min.batch.size";
+    static final int PROPERTY_ADAPTIVE_MIN_BATCH_SIZE_DEFAULT = 1;
+    static final String PROPERTY_ADAPTIVE_LATENCY_PERCENTILE = "adaptive.latency.percentile";
+    static final double PROPERTY_ADAPTIVE_LATENCY_PERCENTILE_DEFAULT = 0.95;
+    static final String PROPERTY_ADAPTIVE_LATENCY_TARGET_MS = "adaptive.latency.target.ms";
+    static final long PROPERTY_ADAPTIVE_LATENCY_TARGET_MS_DEFAULT = 5 * 1000; // 5s
+    static final String PROPERTY_ADAPTIVE_LAG_THRESHOLD = "adaptive.lag.threshold";
+    static final long PROPERTY_ADAPTIVE_LAG_THRESHOLD_DEFAULT = 1000;
     static final String PROPERTY_MAX_BATCH_SIZE = "max.batch.size";
     static final int PROPERTY_MAX_BATCH_SIZE_DEFAULT = 10;
     static final String PROPERTY_MAX_CONCURRENCY = "max.concurrency";
@@ -36,6 +48,10 @@ final class ProcessorProperties {
     static final double PROPERTY_RETRY_RANDOMIZATION_FACTOR_DEFAULT = 0.3;
     static final String PROPERTY_RETRY_MAX_DELAY_MS = "retry.max.delay.ms";
     static final long PROPERTY_RETRY_MAX_DELAY_MS_DEFAULT = 60 * 1000; // 60s
+    static final String PROPERTY_RETRY_TOPICS_ENABLED = "retry.topics.enabled";
+    static final boolean PROPERTY_RETRY_TOPICS_ENABLED_DEFAULT = false;
+    static final String PROPERTY_RETRY_TOPICS_DELAYS = "retry.topics.delays";
+    static final String PROPERTY_RETRY_TOPICS_DELAYS_DEFAULT = "PT1M,PT10M,PT1H";
     static final String PROPERTY_SHUTDOWN_TIMEOUT_MS = "shutdown.timeout.ms";
     static final long PROPERTY_SHUTDOWN_TIMEOUT_MS_DEFAULT = 10 * 1000; // 10s
 
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import io.confluent.parallelconsumer.PCRetriableException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.List;
+
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.HEADER_NOT_BEFORE;
+import static org.dependencytrack.event.kafka.processor.api.RetryTopicRouter.getLongHeader;
+
+/**
+ * A {@link ProcessingStrategy} for records consumed from retry topics.
+ * <p>
+ * Waits until a record is due for retry before delegating to another {@link ProcessingStrategy}.
+ * Because all records within a retry topic share the same delay, records in a partition
+ * become due in the order they were written. Waiting thus never delays records that
+ * would otherwise already be due, as long as the topic is consumed in partition order.
+ *
+ * @since 5.6.0
+ */
+class RetryTierProcessingStrategy implements ProcessingStrategy {
+
+    private final ProcessingStrategy delegate;
+
+    RetryTierProcessingStrategy(final ProcessingStrategy delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void processRecords(final List<ConsumerRecord<byte[], byte[]>> records) {
+        for (final ConsumerRecord<byte[], byte[]> record : records) {
+            final long notBeforeMillis = getLongHeader(record.headers(), HEADER_NOT_BEFORE).orElse(0L);
+            final long waitMillis = notBeforeMillis - System.currentTimeMillis();
+            if (waitMillis > 0) {
+                try {
+                    Thread.sleep(waitMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new PCRetriableException("Interrupted while waiting for record to become due", e);
+                }
+            }
+        }
+
+        delegate.processRecords(records);
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.confluent.parallelconsumer.PCRetriableException;
+import io.micrometer.core.instrument.Counter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Moves records that failed to be processed aside, such that they do not block
+ * subsequent records of the same key or partition.
+ * <p>
+ * Records that failed with a retryable exception are routed to the next retry tier,
+ * from where they are consumed again once the tier's delay has elapsed.
+ * Records that failed with a non-retryable exception, or that exhausted all retry tiers,
+ * are routed to the dead letter topic.
+ *
+ * @since 5.6.0
+ */
+class RetryTopicRouter {
+
+    /**
+     * @param topic The name of the retry topic
+     * @param delay The delay after which records in the topic are retried
+     */
+    record Tier(String topic, Duration delay) {
+    }
+
+    static final String HEADER_ATTEMPT = "dt.retry.attempt";
+    static final String HEADER_NOT_BEFORE = "dt.retry.not.before";
+    static final String HEADER_ORIGINAL_TOPIC = "dt.retry.original.topic";
+    static final String HEADER_ORIGINAL_PARTITION = "dt.retry.original.partition";
+    static final String HEADER_ORIGINAL_OFFSET = "dt.retry.original.offset";
+    static final String HEADER_EXCEPTION_CLASS = "dt.retry.exception.class";
+    static final String HEADER_EXCEPTION_MESSAGE = "dt.retry.exception.message";
+    static final Set<String> HEADERS = Set.of(
+            HEADER_ATTEMPT,
+            HEADER_NOT_BEFORE,
+            HEADER_ORIGINAL_TOPIC,
+            HEADER_ORIGINAL_PARTITION,
+            HEADER_ORIGINAL_OFFSET,
+            HEADER_EXCEPTION_CLASS,
+            HEADER_EXCEPTION_MESSAGE);
+
+    private static final Logger LOGGER = Logger.getLogger(RetryTopicRouter.class);
+    private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 1024;
+
+    private final String processorName;
+    private final List<Tier> tiers;
+    private final String deadLetterTopic;
+    private final Supplier<Producer<byte[], byte[]>> producerSupplier;
+
+    RetryTopicRouter(final String processorName, final List<Tier> tiers, final String deadLetterTopic,
+                     final Supplier<Producer<byte[], byte[]>> producerSupplier) {
+        this.processorName = processorName;
+        this.tiers = List.copyOf(tiers);
+        this.deadLetterTopic = deadLetterTopic;
+        this.producerSupplier = producerSupplier;
+    }
+
+    List<Tier> tiers() {
+        return tiers;
+    }
+
+    String deadLetterTopic() {
+        return deadLetterTopic;
+    }
+
+    /**
+     * Route a {@link ConsumerRecord} that failed to be processed.
+     * <p>
+     * Blocks until the routed record has been acknowledged by the broker. If that fails,
+     * a {@link PCRetriableException} is thrown, causing the record to be retried in place instead.
+     *
+     * @param record    The {@link ConsumerRecord} that failed to be processed
+     * @param cause     The cause of the failure
+     * @param retryable Whether the failure is retryable
+     */
+    void route(final ConsumerRecord<byte[], byte[]> record, final Throwable cause, final boolean retryable) {
+        final int attempt = getIntHeader(record.headers(), HEADER_ATTEMPT).orElse(0);
+
+        final String destinationTopic;
+        final var headers = new RecordHeaders();
+        for (final Header header : record.headers()) {
+            if (!HEADERS.contains(header.key())) {
+                headers.add(header);
+            }
+        }
+
+        if (retryable && attempt < tiers.size()) {
+            final Tier tier = tiers.get(attempt);
+            destinationTopic = tier.topic();
+            addHeader(headers, HEADER_NOT_BEFORE, String.valueOf(Instant.now().plus(tier.delay()).toEpochMilli()));
+        } else {
+            destinationTopic = deadLetterTopic;
+        }
+
+        addHeader(headers, HEADER_ATTEMPT, String.valueOf(attempt + 1));
+        addHeader(headers, HEADER_ORIGINAL_TOPIC, getStringHeader(record.headers(), HEADER_ORIGINAL_TOPIC).orElse(record.topic()));
+        addHeader(headers, HEADER_ORIGINAL_PARTITION, getStringHeader(record.headers(), HEADER_ORIGINAL_PARTITION).orElse(String.valueOf(record.partition())));
+        addHeader(headers, HEADER_ORIGINAL_OFFSET, getStringHeader(record.headers(), HEADER_ORIGINAL_OFFSET).orElse(String.valueOf(record.offset())));
+        addHeader(headers, HEADER_EXCEPTION_CLASS, cause.getClass().getName());
+        if (cause.getMessage() != null) {
+            addHeader(headers, HEADER_EXCEPTION_MESSAGE, StringUtils.abbreviate(cause.getMessage(), MAX_EXCEPTION_MESSAGE_LENGTH));
+        }
+
+        final var producerRecord = new ProducerRecord<>(destinationTopic, null, record.key(), record.value(), headers);
+        try {
+            producerSupplier.get().send(producerRecord).get();
+        } catch (ExecutionException e) {
+            throw new PCRetriableException("Failed to route record to topic %s".formatted(destinationTopic), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PCRetriableException("Interrupted while routing record to topic %s".formatted(destinationTopic), e);
+        }
+
+        final boolean isDeadLetter = deadLetterTopic.equals(destinationTopic);
+        if (isDeadLetter) {
+            LOGGER.warn("Moved record to dead letter topic %s after %d attempt(s)".formatted(destinationTopic, attempt + 1));
+        } else {
+            LOGGER.debug("Moved record to retry topic %s after %d attempt(s)".formatted(destinationTopic, attempt + 1));
+        }
+
+        Counter.builder("kafka_processor_records_routed")
+                .description("Number of records moved to retry or dead letter topics")
+                .tag("processor", processorName)
+                .tag("destination", isDeadLetter ? "dlq" : "retry")
+                .register(Metrics.getRegistry())
+                .increment();
+    }
+
+    static Optional<String> getStringHeader(final Headers headers, final String key) {
+        return Optional.ofNullable(headers.lastHeader(key))
+                .map(Header::value)
+                .map(value -> new String(value, StandardCharsets.UTF_8));
+    }
+
+    static Optional<Integer> getIntHeader(final Headers headers, final String key) {
+        return getStringHeader(headers, key).map(Integer::parseInt);
+    }
+
+    static Optional<Long> getLongHeader(final Headers headers, final String key) {
+        return getStringHeader(headers, key).map(Long::parseLong);
+    }
+
+    private static void addHeader(final Headers headers, final String key, final String value) {
+        headers.add(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
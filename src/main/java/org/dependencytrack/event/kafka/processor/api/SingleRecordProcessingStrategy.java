@@ -47,7 +47,13 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
 
     SingleRecordProcessingStrategy(final Processor<K, V> processor,
                                    final Serde<K> keySerde, final Serde<V> valueSerde) {
-        super(keySerde, valueSerde);
+        this(processor, keySerde, valueSerde, null);
+    }
+
+    SingleRecordProcessingStrategy(final Processor<K, V> processor,
+                                   final Serde<K> keySerde, final Serde<V> valueSerde,
+                                   final RetryTopicRouter retryTopicRouter) {
+        super(keySerde, valueSerde, retryTopicRouter);
         this.processor = processor;
     }
 
@@ -77,21 +83,33 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
         try {
             deserializedRecord = deserialize(record);
         } catch (SerializationException e) {
+            if (retryTopicRouter != null) {
+                LOGGER.error("Failed to deserialize consumer record; Moving to dead letter topic", e);
+                retryTopicRouter.route(record, e, /* retryable */ false);
+                return;
+            }
+
             LOGGER.error("Failed to deserialize consumer record %s; Skipping", e);
-            // TODO: Consider supporting error handlers, e.g. to send record to DLT.
             return; // Skip record to avoid poison-pill scenario.
         }
 
         try (var ignoredMdcKafkaRecordKey = MDC.putCloseable(MDC_KAFKA_RECORD_KEY, String.valueOf(deserializedRecord.key()))) {
             processor.process(deserializedRecord);
         } catch (ProcessingException | RuntimeException e) {
-            if (isRetryableException(e)) {
+            final boolean isRetryable = isRetryableException(e);
+            if (retryTopicRouter != null) {
+                LOGGER.warn("Encountered %s exception while processing record; Moving aside"
+                        .formatted(isRetryable ? "retryable" : "non-retryable"), e);
+                retryTopicRouter.route(record, e, isRetryable);
+                return;
+            }
+
+            if (isRetryable) {
                 LOGGER.warn("Encountered retryable exception while processing record", e);
                 throw new PCRetriableException(e);
             }
 
             LOGGER.error("Encountered non-retryable exception while processing record; Skipping", e);
-            // TODO: Consider supporting error handlers, e.g. to send record to DLT.
             // Skip record to avoid poison-pill scenario.
         }
     }
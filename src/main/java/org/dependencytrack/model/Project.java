@@ -296,6 +296,11 @@ public class Project implements Serializable {
             type = "integer", format = "int64", description = "UNIX epoch timestamp in milliseconds")
     private Date inactiveSince;
 
+    @Persistent
+    @Column(name = "DELETED_AT")
+    @JsonIgnore
+    private Date deletedAt;
+
     @Persistent(table = "PROJECT_ACCESS_TEAMS", defaultFetchGroup = "true")
     @Join(column = "PROJECT_ID")
     @Element(column = "TEAM_ID")
@@ -531,6 +536,14 @@ public class Project implements Serializable {
         this.inactiveSince = inactiveSince;
     }
 
+    public Date getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Date deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     public boolean isActive() {
         return inactiveSince == null;
     }
@@ -77,6 +77,10 @@ public class WorkflowState implements Serializable {
     @Column(name = "FAILURE_REASON", jdbcType = "CLOB", allowsNull = "true")
     private String failureReason;
 
+    @Persistent
+    @Column(name = "PROGRESS", jdbcType = "CLOB", allowsNull = "true")
+    private String progress;
+
     public long getId() {
         return id;
     }
@@ -140,4 +144,12 @@ public class WorkflowState implements Serializable {
     public void setFailureReason(String failureReason) {
         this.failureReason = failureReason;
     }
+
+    public String getProgress() {
+        return progress;
+    }
+
+    public void setProgress(String progress) {
+        this.progress = progress;
+    }
 }
@@ -18,7 +18,7 @@
  */
 package org.dependencytrack.model.validation;
 
-import org.dependencytrack.parser.spdx.expression.SpdxExpressionParser;
+import org.dependencytrack.parser.spdx.expression.SpdxExpressionCache;
 import org.dependencytrack.parser.spdx.expression.model.SpdxExpression;
 
 import jakarta.validation.ConstraintValidator;
@@ -34,7 +34,7 @@ public class SpdxExpressionValidator implements ConstraintValidator<ValidSpdxExp
             return true;
         }
 
-        return !Objects.equals(new SpdxExpressionParser().parse(expressionString), SpdxExpression.INVALID);
+        return !Objects.equals(SpdxExpressionCache.getInstance().parse(expressionString), SpdxExpression.INVALID);
     }
 
 }
@@ -57,7 +57,7 @@ import org.dependencytrack.model.Tools;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.parser.common.resolver.CweResolver;
 import org.dependencytrack.parser.cyclonedx.CycloneDXExporter;
-import org.dependencytrack.parser.spdx.expression.SpdxExpressionParser;
+import org.dependencytrack.parser.spdx.expression.SpdxExpressionCache;
 import org.dependencytrack.parser.spdx.expression.model.SpdxExpression;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.util.VulnerabilityUtil;
@@ -268,8 +268,7 @@ public class ModelConverter {
             final Expression licenseExpression = cdxComponent.getLicenses().getExpression();
             if (licenseExpression != null && isNotBlank(licenseExpression.getValue())) {
                 // If the expression consists of just one license ID, add it as another option.
-                final var expressionParser = new SpdxExpressionParser();
-                final SpdxExpression expression = expressionParser.parse(licenseExpression.getValue());
+                final SpdxExpression expression = SpdxExpressionCache.getInstance().parse(licenseExpression.getValue());
                 if (!SpdxExpression.INVALID.equals(expression)) {
                     component.setLicenseExpression(trim(licenseExpression.getValue()));
 
@@ -47,7 +47,7 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetadata;
 import org.dependencytrack.model.ServiceComponent;
 import org.dependencytrack.model.Tools;
-import org.dependencytrack.parser.spdx.expression.SpdxExpressionParser;
+import org.dependencytrack.parser.spdx.expression.SpdxExpressionCache;
 import org.dependencytrack.parser.spdx.expression.model.SpdxExpression;
 
 import java.util.ArrayList;
@@ -235,8 +235,7 @@ public class ModelConverterProto {
                 final String licenseExpression = licenseChoice.getExpression();
                 if (isNotBlank(licenseExpression)) {
                     // If the expression consists of just one license ID, add it as another option.
-                    final var expressionParser = new SpdxExpressionParser();
-                    final SpdxExpression expression = expressionParser.parse(licenseExpression);
+                    final SpdxExpression expression = SpdxExpressionCache.getInstance().parse(licenseExpression);
                     if (!SpdxExpression.INVALID.equals(expression)) {
                         component.setLicenseExpression(trim(licenseExpression));
                         if (expression.getSpdxLicenseId() != null) {
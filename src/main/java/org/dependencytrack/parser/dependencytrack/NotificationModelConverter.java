@@ -330,7 +330,7 @@ public final class NotificationModelConverter {
         return builder.build();
     }
 
-    private static Project convert(final org.dependencytrack.model.Project project) {
+    public static Project convert(final org.dependencytrack.model.Project project) {
         final Project.Builder builder = Project.newBuilder()
                 .setUuid(project.getUuid().toString())
                 .setName(project.getName());
@@ -0,0 +1,98 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.spdx.expression;
+
+import org.dependencytrack.parser.spdx.expression.model.SpdxExpression;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A thread-safe, bounded LRU cache of parsed {@link SpdxExpression}s.
+ * <p>
+ * Only a small number of distinct expressions is typically used across a portfolio,
+ * but each of them appears on many components. Caching parsed expressions avoids
+ * tokenizing and parsing the same expression over and over again.
+ * <p>
+ * {@link SpdxExpression}s returned by this cache are shared, and must not be modified.
+ *
+ * @since 5.6.0
+ */
+public final class SpdxExpressionCache {
+
+    private static final int DEFAULT_MAX_SIZE = 1000;
+    private static final SpdxExpressionCache INSTANCE = new SpdxExpressionCache(DEFAULT_MAX_SIZE);
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile(" {2,}");
+
+    private final SpdxExpressionParser parser = new SpdxExpressionParser();
+    private final Map<String, SpdxExpression> entries;
+
+    SpdxExpressionCache(final int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, /* accessOrder */ true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, SpdxExpression> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static SpdxExpressionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Parse an SPDX expression, or retrieve it from the cache if it has been parsed before.
+     *
+     * @param spdxExpression The SPDX expression to parse
+     * @return The parsed {@link SpdxExpression}, or {@link SpdxExpression#INVALID}
+     * @see SpdxExpressionParser#parse(String)
+     */
+    public SpdxExpression parse(final String spdxExpression) {
+        final String key = normalize(spdxExpression);
+
+        synchronized (entries) {
+            final SpdxExpression expression = entries.get(key);
+            if (expression != null) {
+                return expression;
+            }
+        }
+
+        // Parse outside the lock. Concurrent misses for the same
+        // expression may parse it more than once, which is harmless.
+        final SpdxExpression expression = parser.parse(key);
+
+        synchronized (entries) {
+            entries.put(key, expression);
+        }
+
+        return expression;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String normalize(final String spdxExpression) {
+        return WHITESPACE_PATTERN.matcher(spdxExpression.trim()).replaceAll(" ");
+    }
+
+}
@@ -27,6 +27,7 @@ import java.net.URLDecoder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -56,17 +57,31 @@ public class SpdxLicenseDetailParser {
      */
     public List<License> getLicenseDefinitions() throws IOException {
         final List<License> licenses = new ArrayList<>();
+        for (final Path file : getLicenseDefinitionFiles()) {
+            final License license = parse(file);
+            licenses.add(license);
+        }
+        return licenses;
+    }
+
+    /**
+     * Returns the json files containing license definitions, in a stable order.
+     *
+     * @since 5.6.0
+     */
+    public List<Path> getLicenseDefinitionFiles() throws IOException {
+        final List<Path> licenseFiles = new ArrayList<>();
         final String[] dirs = {"/license-list-data/json/details", "/license-list-data/json/exceptions"};
         for (final String s: dirs) {
         	final File dir = new File(URLDecoder.decode(getClass().getProtectionDomain().getCodeSource().getLocation().getPath(), UTF_8.name()) + s);
             final File[] files = dir.listFiles();
             if (files != null) {
+                Arrays.sort(files);
                 for (final File nextFile : files) {
-                    final License license = parse(nextFile.toPath());
-                    licenses.add(license);
+                    licenseFiles.add(nextFile.toPath());
                 }
             }
         }
-        return licenses;
+        return licenseFiles;
     }
 }
@@ -0,0 +1,158 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.Config;
+import alpine.persistence.Pagination;
+import alpine.resources.AlpineRequest;
+import com.google.common.annotations.VisibleForTesting;
+import jakarta.annotation.Nullable;
+import org.dependencytrack.auth.PrincipalContextCache.PrincipalContext;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.persistence.jdbi.VulnerabilityDao.AffectedProjectListRow;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An application-wide, in-memory cache of the projects affected by a vulnerability.
+ * <p>
+ * When a prominent vulnerability is disclosed, many users and clients tend to request its
+ * affected projects at the same time. Entries are kept for a short duration only
+ * ({@link ConfigKey#VULNERABILITY_AFFECTED_PROJECTS_CACHE_TTL_DURATION}), such that only
+ * vulnerabilities that are requested frequently are served from the cache.
+ * Entries are keyed by the authorization context of the requesting principal,
+ * such that principals with identical access share them.
+ *
+ * @since 5.6.0
+ */
+public final class AffectedProjectsCache {
+
+    static final int MAX_ENTRIES = 1000;
+
+    /**
+     * @param source           Source of the vulnerability
+     * @param vulnId           ID of the vulnerability
+     * @param excludeInactive  Whether inactive projects are excluded
+     * @param principalContext Authorization context of the requesting principal
+     * @param ordering         Requested {@link Ordering}
+     * @param offset           Requested pagination offset
+     * @param limit            Requested pagination limit
+     */
+    public record Key(
+            String source,
+            String vulnId,
+            boolean excludeInactive,
+            @Nullable PrincipalContext principalContext,
+            Ordering ordering,
+            int offset,
+            int limit) {
+
+        public static Key of(
+                final String source,
+                final String vulnId,
+                final boolean excludeInactive,
+                @Nullable final PrincipalContext principalContext,
+                final AlpineRequest alpineRequest) {
+            final Pagination pagination = alpineRequest.getPagination();
+            final boolean isPaginated = pagination != null && pagination.isPaginated();
+
+            // Team memberships are irrelevant when the principal has access to all projects.
+            final PrincipalContext effectivePrincipalContext =
+                    principalContext != null && principalContext.hasAccessManagementPermission()
+                            ? new PrincipalContext(Set.of(), true)
+                            : principalContext;
+
+            return new Key(
+                    source,
+                    vulnId,
+                    excludeInactive,
+                    effectivePrincipalContext,
+                    new Ordering(alpineRequest),
+                    isPaginated ? pagination.getOffset() : 0,
+                    isPaginated ? pagination.getLimit() : 0);
+        }
+
+    }
+
+    private record CacheEntry(List<AffectedProjectListRow> rows, long expiresAtNanos) {
+    }
+
+    private static final class InstanceHolder {
+        private static final AffectedProjectsCache INSTANCE = new AffectedProjectsCache(
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.VULNERABILITY_AFFECTED_PROJECTS_CACHE_TTL_DURATION)),
+                System::nanoTime);
+    }
+
+    private final Map<Key, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final LongSupplier nanoTimeSupplier;
+
+    @VisibleForTesting
+    AffectedProjectsCache(final Duration ttl, final LongSupplier nanoTimeSupplier) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    public static AffectedProjectsCache getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Get the affected projects for a given {@link Key}, loading them on cache miss.
+     *
+     * @param key    The {@link Key} to get the affected projects for
+     * @param loader The {@link Supplier} to load the affected projects with on cache miss
+     * @return The affected projects
+     */
+    public List<AffectedProjectListRow> get(final Key key, final Supplier<List<AffectedProjectListRow>> loader) {
+        if (ttlNanos <= 0) {
+            return loader.get();
+        }
+
+        final long nowNanos = nanoTimeSupplier.getAsLong();
+        final CacheEntry entry = entries.get(key);
+        if (entry != null && entry.expiresAtNanos() - nowNanos > 0) {
+            return entry.rows();
+        }
+
+        final List<AffectedProjectListRow> rows = List.copyOf(loader.get());
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(expiredEntry -> expiredEntry.expiresAtNanos() - nowNanos <= 0);
+        }
+        if (entries.size() < MAX_ENTRIES) {
+            entries.put(key, new CacheEntry(rows, nanoTimeSupplier.getAsLong() + ttlNanos));
+        }
+
+        return rows;
+    }
+
+    /**
+     * Invalidate all cached entries.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+}
@@ -27,14 +27,19 @@ import com.github.packageurl.PackageURL;
 import org.apache.commons.lang3.tuple.Pair;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ComponentIdentity;
+import org.dependencytrack.model.ComponentMetaInformation;
 import org.dependencytrack.model.ComponentOccurrence;
 import org.dependencytrack.model.ComponentProperty;
+import org.dependencytrack.model.DependencyMetrics;
+import org.dependencytrack.model.IntegrityMatchStatus;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.RepositoryMetaComponent;
 import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.model.sqlmapping.ComponentProjection;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
 import org.dependencytrack.resources.v1.vo.DependencyGraphResponse;
 import org.dependencytrack.tasks.IntegrityMetaInitializerTask;
+import org.jdbi.v3.core.Handle;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
@@ -44,15 +49,21 @@ import javax.jdo.Query;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.dependencytrack.model.sqlmapping.ComponentProjection.mapToComponent;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
 import static org.dependencytrack.util.PersistenceUtil.assertNonPersistent;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistent;
 
@@ -282,12 +293,15 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         } finally {
             query.closeAll();
         }
+        final Map<Long, DependencyMetrics> metricsByComponentId = includeMetrics
+                ? getMostRecentDependencyMetricsByIds(resultSet.stream().map(result -> result.id).toList())
+                : Collections.emptyMap();
         for (final var result : resultSet) {
             final org.dependencytrack.model.Component component = mapToComponent(result);
             if (includeMetrics) {
 //             Populate each Component object in the paginated result with transitive related
 //             data to minimize the number of round trips a client needs to make, process, and render.
-                component.setMetrics(getMostRecentDependencyMetricsById(component.getId()));
+                component.setMetrics(metricsByComponentId.get(component.getId()));
                 final PackageURL purl = component.getPurl();
                 if (purl != null) {
                     final RepositoryType type = RepositoryType.resolve(purl);
@@ -304,6 +318,8 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
 
     /**
      * Returns Components by their hash.
+     * <p>
+     * The hash is matched against the digests of all supported algorithms.
      *
      * @param hash the hash of the component to retrieve
      * @return a list of components
@@ -313,19 +329,50 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             return null;
         }
 
-        final String queryFilter = switch (hash.length()) {
-            case 32 -> "(md5 == :hash)";
-            case 40 -> "(sha1 == :hash)";
-            case 64 -> "(sha256 == :hash || sha3_256 == :hash || blake2b_256 == :hash)";
-            case 96 -> "(sha384 == :hash || sha3_384 == :hash || blake2b_384 == :hash)";
-            case 128 -> "(sha512 == :hash || sha3_512 == :hash || blake2b_512 == :hash)";
-            default -> "(blake3 == :hash)";
-        };
+        final byte[] digest;
+        try {
+            digest = HexFormat.of().parseHex(hash);
+        } catch (IllegalArgumentException e) {
+            return new PaginatedResult().objects(Collections.emptyList()).total(0);
+        }
 
-        final Query<Component> query = pm.newQuery(Component.class);
-        final Map<String, Object> params = Map.of("hash", hash);
-        preprocessACLs(query, queryFilter, params, false);
-        return execute(query, params);
+        final List<ComponentDao.HashSearchRow> rows;
+        try (final Handle jdbiHandle = openJdbiHandle(this.request)) {
+            rows = jdbiHandle.attach(ComponentDao.class).searchByHash(digest);
+        }
+        if (rows.isEmpty()) {
+            return new PaginatedResult().objects(Collections.emptyList()).total(0);
+        }
+
+        final List<Long> componentIds = rows.stream().map(ComponentDao.HashSearchRow::id).toList();
+        final Map<Long, Component> componentById = getComponentsById(componentIds);
+        final var components = new ArrayList<Component>(componentIds.size());
+        for (final Long componentId : componentIds) {
+            final Component component = componentById.get(componentId);
+            if (component != null) {
+                components.add(component);
+            }
+        }
+        return new PaginatedResult().objects(components).total(rows.getFirst().totalCount());
+    }
+
+    /**
+     * Resolves multiple hashes to the components carrying them, using a single query.
+     *
+     * @param hashes the hex-encoded hashes to resolve
+     * @return a {@link List} of matches, ordered by hash
+     */
+    public List<ComponentDao.HashLookupRow> lookupComponentsByHashes(final Collection<String> hashes) {
+        if (hashes == null || hashes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final Set<String> normalizedHashes = hashes.stream()
+                .map(hash -> hash.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        try (final Handle jdbiHandle = openJdbiHandle(this.request)) {
+            return jdbiHandle.attach(ComponentDao.class).lookupByHashes(normalizedHashes);
+        }
     }
 
     /**
@@ -357,66 +404,71 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             return null;
         }
 
-        final var queryFilterElements = new ArrayList<String>();
-        final var queryParams = new HashMap<String, Object>();
-
-        if (project != null) {
-            queryFilterElements.add(" project == :project ");
-            queryParams.put("project", project);
-        }
+        String groupPattern = null;
+        String namePattern = null;
+        String versionPattern = null;
+        String purlFilter = null;
+        String purlCoordinatesFilter = null;
+        String purlCoordinatesQualifiersPattern = null;
+        String purlCoordinatesSubpathPattern = null;
+        String purlPattern = null;
+        String cpePattern = null;
+        String swidTagIdPattern = null;
 
-        final PaginatedResult result;
         if (identity.getGroup() != null || identity.getName() != null || identity.getVersion() != null) {
-            if (identity.getGroup() != null) {
-                queryFilterElements.add(" group.toLowerCase().matches(:group) ");
-                queryParams.put("group", ".*" + identity.getGroup().toLowerCase() + ".*");
-            }
-            if (identity.getName() != null) {
-                queryFilterElements.add(" name.toLowerCase().matches(:name) ");
-                queryParams.put("name", ".*" + identity.getName().toLowerCase() + ".*");
-            }
-            if (identity.getVersion() != null) {
-                queryFilterElements.add(" version.toLowerCase().matches(:version) ");
-                queryParams.put("version", ".*" + identity.getVersion().toLowerCase() + ".*");
-            }
-
-            result = loadComponents("(" + String.join(" && ", queryFilterElements) + ")", queryParams);
+            groupPattern = toContainsPattern(identity.getGroup());
+            namePattern = toContainsPattern(identity.getName());
+            versionPattern = toContainsPattern(identity.getVersion());
         } else if (identity.getPurl() != null) {
-            queryFilterElements.add("purl.toLowerCase().matches(:purl)");
-            queryParams.put("purl", ".*" + identity.getPurl().canonicalize().toLowerCase() + ".*");
-
-            result = loadComponents("(" + String.join(" && ", queryFilterElements) + ")", queryParams);
+            final PackageURL purl = identity.getPurl();
+            if (purl.getVersion() == null) {
+                purlPattern = toContainsPattern(purl.canonicalize());
+            } else if ((purl.getQualifiers() != null && !purl.getQualifiers().isEmpty()) || purl.getSubpath() != null) {
+                // A fully qualified purl can only match exactly.
+                purlFilter = purl.canonicalize();
+            } else {
+                // Coordinates match components with the same coordinates, regardless of their
+                // qualifiers or subpath. Components created from BOMs have their coordinates
+                // populated, but components created otherwise may not.
+                purlCoordinatesFilter = purl.canonicalize();
+                purlCoordinatesQualifiersPattern = escapeLikePattern(purlCoordinatesFilter.toLowerCase()) + "?%";
+                purlCoordinatesSubpathPattern = escapeLikePattern(purlCoordinatesFilter.toLowerCase()) + "#%";
+            }
         } else if (identity.getCpe() != null) {
-            queryFilterElements.add("cpe.toLowerCase().matches(:cpe)");
-            queryParams.put("cpe", ".*" + identity.getCpe().toLowerCase() + ".*");
-
-            result = loadComponents("(" + String.join(" && ", queryFilterElements) + ")", queryParams);
+            cpePattern = toContainsPattern(identity.getCpe());
         } else if (identity.getSwidTagId() != null) {
-            queryFilterElements.add("swidTagId.toLowerCase().matches(:swidTagId)");
-            queryParams.put("swidTagId", ".*" + identity.getSwidTagId().toLowerCase() + ".*");
-
-            result = loadComponents("(" + String.join(" && ", queryFilterElements) + ")", queryParams);
+            swidTagIdPattern = toContainsPattern(identity.getSwidTagId());
         } else {
-            result = new PaginatedResult();
+            return new PaginatedResult();
+        }
+
+        final List<ComponentDao.IdentitySearchRow> rows;
+        try (final Handle jdbiHandle = openJdbiHandle(this.request)) {
+            rows = jdbiHandle.attach(ComponentDao.class).searchByIdentity(
+                    project != null ? project.getId() : null, groupPattern, namePattern, versionPattern,
+                    purlFilter, purlCoordinatesFilter, purlCoordinatesQualifiersPattern,
+                    purlCoordinatesSubpathPattern, purlPattern, cpePattern, swidTagIdPattern);
+        }
+        if (rows.isEmpty()) {
+            return new PaginatedResult().objects(Collections.emptyList()).total(0);
+        }
+
+        final List<Long> componentIds = rows.stream().map(ComponentDao.IdentitySearchRow::id).toList();
+        final Map<Long, Component> componentById = getComponentsById(componentIds);
+        final var components = new ArrayList<Component>(componentIds.size());
+        for (final Long componentId : componentIds) {
+            final Component component = componentById.get(componentId);
+            if (component != null) {
+                components.add(component);
+            }
         }
 
         if (includeMetrics) {
             // Populate each Component object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Component component : result.getList(Component.class)) {
-                component.setMetrics(getMostRecentDependencyMetrics(component));
-                final PackageURL purl = component.getPurl();
-                if (purl != null) {
-                    final RepositoryType type = RepositoryType.resolve(purl);
-                    if (RepositoryType.UNSUPPORTED != type) {
-                        final RepositoryMetaComponent repoMetaComponent = getRepositoryMetaComponent(type, purl.getNamespace(), purl.getName());
-                        component.setRepositoryMeta(repoMetaComponent);
-                        component.setComponentMetaInformation(getMetaInformation(component.getUuid()));
-                    }
-                }
-            }
+            populateMetricsAndMeta(components);
         }
-        for (Component component : result.getList(Component.class)) {
+        for (Component component : components) {
             component.getProject(); // Force loading of project
             component.getProject().getGroup();
             component.getProject().getName();
@@ -425,16 +477,97 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             component.getProject().getCpe();
             component.getProject().getUuid();
         }
-        return result;
+        return new PaginatedResult().objects(components).total(rows.getFirst().totalCount());
     }
 
-    private PaginatedResult loadComponents(String queryFilter, Map<String, Object> params) {
-        var query = pm.newQuery(Component.class);
-        if (orderBy == null) {
-            query.setOrdering("id asc");
+    private Map<Long, Component> getComponentsById(final List<Long> componentIds) {
+        final Query<Component> query = pm.newQuery(Component.class);
+        query.setFilter(":ids.contains(id)");
+        query.setParameters(componentIds);
+        try {
+            return query.executeList().stream()
+                    .collect(Collectors.toMap(Component::getId, Function.identity()));
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    /**
+     * Populates metrics, repository metadata, and integrity metadata of the given {@link Component}s,
+     * using a constant number of queries regardless of the number of {@link Component}s.
+     */
+    private void populateMetricsAndMeta(final List<Component> components) {
+        final List<Long> componentIds = components.stream().map(Component::getId).toList();
+        final Map<Long, DependencyMetrics> metricsByComponentId = getMostRecentDependencyMetricsByIds(componentIds);
+
+        final var metaComponentSearchByComponentId = new HashMap<Long, RepositoryQueryManager.RepositoryMetaComponentSearch>();
+        for (final Component component : components) {
+            final PackageURL purl = component.getPurl();
+            if (purl == null) {
+                continue;
+            }
+
+            final RepositoryType type = RepositoryType.resolve(purl);
+            if (RepositoryType.UNSUPPORTED != type) {
+                metaComponentSearchByComponentId.put(component.getId(),
+                        new RepositoryQueryManager.RepositoryMetaComponentSearch(type, purl.getNamespace(), purl.getName()));
+            }
+        }
+
+        final Map<RepositoryQueryManager.RepositoryMetaComponentSearch, RepositoryMetaComponent> metaComponentBySearch =
+                metaComponentSearchByComponentId.isEmpty()
+                        ? Collections.emptyMap()
+                        : getRepositoryMetaComponents(List.copyOf(new HashSet<>(metaComponentSearchByComponentId.values()))).stream()
+                        .collect(Collectors.toMap(
+                                metaComponent -> new RepositoryQueryManager.RepositoryMetaComponentSearch(
+                                        metaComponent.getRepositoryType(), metaComponent.getNamespace(), metaComponent.getName()),
+                                Function.identity(),
+                                (a, b) -> a));
+
+        final var metaInformationByComponentId = new HashMap<Long, ComponentDao.MetaInformationRow>();
+        if (!metaComponentSearchByComponentId.isEmpty()) {
+            try (final Handle jdbiHandle = openJdbiHandle()) {
+                jdbiHandle.attach(ComponentDao.class)
+                        .getMetaInformation(List.copyOf(metaComponentSearchByComponentId.keySet()))
+                        .forEach(row -> metaInformationByComponentId.put(row.componentId(), row));
+            }
+        }
+
+        for (final Component component : components) {
+            component.setMetrics(metricsByComponentId.get(component.getId()));
+
+            final RepositoryQueryManager.RepositoryMetaComponentSearch metaComponentSearch =
+                    metaComponentSearchByComponentId.get(component.getId());
+            if (metaComponentSearch == null) {
+                continue;
+            }
+
+            component.setRepositoryMeta(metaComponentBySearch.get(metaComponentSearch));
+
+            final ComponentDao.MetaInformationRow metaInformation = metaInformationByComponentId.get(component.getId());
+            if (metaInformation != null) {
+                component.setComponentMetaInformation(new ComponentMetaInformation(
+                        metaInformation.publishedAt() != null ? Date.from(metaInformation.publishedAt()) : null,
+                        metaInformation.integrityCheckStatus() != null ? IntegrityMatchStatus.valueOf(metaInformation.integrityCheckStatus()) : null,
+                        metaInformation.lastFetch() != null ? Date.from(metaInformation.lastFetch()) : null,
+                        metaInformation.repositoryUrl()));
+            }
         }
-        preprocessACLs(query, queryFilter, params, false);
-        return execute(query, params);
+    }
+
+    private static String toContainsPattern(final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        return "%" + escapeLikePattern(value.toLowerCase()) + "%";
+    }
+
+    private static String escapeLikePattern(final String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 
     /**
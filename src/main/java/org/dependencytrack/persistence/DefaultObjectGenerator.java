@@ -25,26 +25,51 @@ import alpine.model.ManagedUser;
 import alpine.model.Permission;
 import alpine.model.Team;
 import alpine.server.auth.PasswordService;
+import com.google.common.collect.Lists;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.SerializationUtils;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.model.ConfigPropertyConstants;
 import org.dependencytrack.model.License;
 import org.dependencytrack.model.RepositoryType;
+import org.dependencytrack.notification.publisher.DefaultNotificationPublishers;
 import org.dependencytrack.parser.spdx.json.SpdxLicenseDetailParser;
 import org.dependencytrack.persistence.defaults.DefaultLicenseGroupImporter;
+import org.dependencytrack.persistence.jdbi.LicenseDao;
+import org.dependencytrack.persistence.jdbi.LicenseDao.LicenseUpsert;
 import org.dependencytrack.util.NotificationUtil;
 import org.dependencytrack.util.WaitingLockConfiguration;
+import org.jdbi.v3.core.Handle;
+import org.json.JSONObject;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static net.javacrumbs.shedlock.core.LockAssert.assertLocked;
+import static org.dependencytrack.model.ConfigPropertyConstants.INTERNAL_DEFAULT_OBJECTS_HASHES;
 import static org.dependencytrack.model.ConfigPropertyConstants.INTERNAL_DEFAULT_OBJECTS_VERSION;
+import static org.dependencytrack.model.ConfigPropertyConstants.NOTIFICATION_TEMPLATE_DEFAULT_OVERRIDE_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.createLocalJdbi;
 import static org.dependencytrack.util.LockProvider.executeWithLockWaiting;
 
 /**
@@ -56,6 +81,30 @@ import static org.dependencytrack.util.LockProvider.executeWithLockWaiting;
 public class DefaultObjectGenerator implements ServletContextListener {
 
     private static final Logger LOGGER = Logger.getLogger(DefaultObjectGenerator.class);
+    private static final int LICENSE_UPSERT_BATCH_SIZE = 250;
+
+    private static final List<DefaultRepository> DEFAULT_REPOSITORIES = List.of(
+            new DefaultRepository(RepositoryType.CPAN, "cpan-public-registry", "https://fastapi.metacpan.org/v1/"),
+            new DefaultRepository(RepositoryType.GEM, "rubygems.org", "https://rubygems.org/"),
+            new DefaultRepository(RepositoryType.HEX, "hex.pm", "https://hex.pm/"),
+            new DefaultRepository(RepositoryType.MAVEN, "central", "https://repo1.maven.org/maven2/"),
+            new DefaultRepository(RepositoryType.MAVEN, "atlassian-public", "https://packages.atlassian.com/content/repositories/atlassian-public/"),
+            new DefaultRepository(RepositoryType.MAVEN, "jboss-releases", "https://repository.jboss.org/nexus/content/repositories/releases/"),
+            new DefaultRepository(RepositoryType.MAVEN, "clojars", "https://repo.clojars.org/"),
+            new DefaultRepository(RepositoryType.MAVEN, "google-android", "https://maven.google.com/"),
+            new DefaultRepository(RepositoryType.NPM, "npm-public-registry", "https://registry.npmjs.org/"),
+            new DefaultRepository(RepositoryType.PYPI, "pypi.org", "https://pypi.org/"),
+            new DefaultRepository(RepositoryType.NUGET, "nuget-gallery", "https://api.nuget.org/"),
+            new DefaultRepository(RepositoryType.COMPOSER, "packagist", "https://repo.packagist.org/"),
+            new DefaultRepository(RepositoryType.CARGO, "crates.io", "https://crates.io"),
+            new DefaultRepository(RepositoryType.GO_MODULES, "proxy.golang.org", "https://proxy.golang.org"),
+            new DefaultRepository(RepositoryType.GITHUB, "github.com", "https://github.com"),
+            new DefaultRepository(RepositoryType.HACKAGE, "hackage.haskell", "https://hackage.haskell.org/"),
+            new DefaultRepository(RepositoryType.NIXPKGS, "nixos.org", "https://channels.nixos.org/nixpkgs-unstable/packages.json.br")
+    );
+
+    private record DefaultRepository(RepositoryType type, String identifier, String url) {
+    }
 
     /**
      * {@inheritDoc}
@@ -110,18 +159,43 @@ public class DefaultObjectGenerator implements ServletContextListener {
             return;
         }
 
-        // TODO: Make population transactional with recordDefaultObjectsVersion().
-
         LOGGER.info("Initializing default object generator");
-        loadDefaultPermissions();
-        loadDefaultPersonas();
-        loadDefaultLicenses();
-        loadDefaultLicenseGroups();
-        loadDefaultRepositories();
-        loadDefaultConfigProperties();
-        loadDefaultNotificationPublishers();
-
-        recordDefaultObjectsVersion();
+        final var contentHashes = new ContentHashes(getDefaultObjectsHashes());
+
+        // Loaders that do not depend on each other are executed concurrently.
+        // Personas are assigned permissions, and notification publisher templates
+        // may be overridden via config properties, hence those loaders are chained.
+        final ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> {
+                        contentHashes.loadIfChanged("permissions", getPermissionsHash(), this::loadDefaultPermissions);
+                        loadDefaultPersonas();
+                    }, executorService),
+                    CompletableFuture.runAsync(() -> contentHashes.loadIfChanged(
+                            "repositories", getRepositoriesHash(), this::loadDefaultRepositories), executorService),
+                    CompletableFuture.runAsync(() -> {
+                        contentHashes.loadIfChanged("configProperties", getConfigPropertiesHash(), this::loadDefaultConfigProperties);
+                        contentHashes.loadIfChanged("notificationPublishers", getNotificationPublishersHash(), this::loadDefaultNotificationPublishers);
+                    }, executorService)
+            ).join();
+        } finally {
+            executorService.shutdown();
+        }
+
+        // Licenses and license groups are populated in the same transaction that records
+        // the default objects version. If any of it fails, the next start will try again.
+        final String licensesHash = getLicensesHash();
+        try (final var qm = new QueryManager()) {
+            qm.runInTransaction(() -> {
+                contentHashes.loadIfChanged("licenses", licensesHash, () -> loadDefaultLicenses(qm));
+                loadDefaultLicenseGroups(qm);
+                recordDefaultObjectsVersion(qm, contentHashes.current());
+            });
+        }
+
+        // Build the license index eagerly, such that the first BOM upload doesn't have to.
+        LicenseIndex.getInstance().current();
     }
 
     /**
@@ -145,56 +219,114 @@ public class DefaultObjectGenerator implements ServletContextListener {
         }
     }
 
-    private void recordDefaultObjectsVersion() {
+    private Map<String, String> getDefaultObjectsHashes() {
         try (final var qm = new QueryManager()) {
-            qm.runInTransaction(() -> {
-                final ConfigProperty configProperty = qm.getConfigProperty(
-                        INTERNAL_DEFAULT_OBJECTS_VERSION.getGroupName(),
-                        INTERNAL_DEFAULT_OBJECTS_VERSION.getPropertyName()
-                );
+            final ConfigProperty configProperty = qm.getConfigProperty(
+                    INTERNAL_DEFAULT_OBJECTS_HASHES.getGroupName(),
+                    INTERNAL_DEFAULT_OBJECTS_HASHES.getPropertyName()
+            );
+            if (configProperty == null || configProperty.getPropertyValue() == null) {
+                return Map.of();
+            }
 
-                configProperty.setPropertyValue(Config.getInstance().getApplicationBuildUuid());
-            });
+            final var hashes = new HashMap<String, String>();
+            final var hashesJson = new JSONObject(configProperty.getPropertyValue());
+            for (final String name : hashesJson.keySet()) {
+                hashes.put(name, hashesJson.getString(name));
+            }
+            return hashes;
         }
     }
 
+    private void recordDefaultObjectsVersion(final QueryManager qm, final Map<String, String> hashes) {
+        final ConfigProperty versionProperty = qm.getConfigProperty(
+                INTERNAL_DEFAULT_OBJECTS_VERSION.getGroupName(),
+                INTERNAL_DEFAULT_OBJECTS_VERSION.getPropertyName()
+        );
+        versionProperty.setPropertyValue(Config.getInstance().getApplicationBuildUuid());
+
+        final ConfigProperty hashesProperty = qm.getConfigProperty(
+                INTERNAL_DEFAULT_OBJECTS_HASHES.getGroupName(),
+                INTERNAL_DEFAULT_OBJECTS_HASHES.getPropertyName()
+        );
+        hashesProperty.setPropertyValue(new JSONObject(hashes).toString());
+    }
+
     /**
      * Loads the default licenses into the database if no license data exists.
      */
     public static void loadDefaultLicenses() {
-        try (QueryManager qm = new QueryManager()) {
-            LOGGER.info("Synchronizing SPDX license definitions to datastore");
+        try (final var qm = new QueryManager()) {
+            qm.runInTransaction(() -> loadDefaultLicenses(qm));
+        }
 
-            final SpdxLicenseDetailParser parser = new SpdxLicenseDetailParser();
-            try {
-                final List<License> licenses = parser.getLicenseDefinitions();
-                for (final License license : licenses) {
-                    LOGGER.debug("Synchronizing: " + license.getName());
-                    qm.synchronizeLicense(license, false);
-                }
-            } catch (IOException e) {
-                LOGGER.error("An error occurred during the parsing SPDX license definitions");
-                LOGGER.error(e.getMessage());
+        LicenseIndex.getInstance().current();
+    }
+
+    /**
+     * Creates or updates all SPDX licenses using multi-row upserts.
+     * <p>
+     * Must be called within an active transaction of {@code qm}.
+     */
+    private static void loadDefaultLicenses(final QueryManager qm) {
+        LOGGER.info("Synchronizing SPDX license definitions to datastore");
+
+        final List<License> licenses;
+        try {
+            licenses = new SpdxLicenseDetailParser().getLicenseDefinitions();
+        } catch (IOException e) {
+            LOGGER.error("An error occurred during the parsing SPDX license definitions");
+            LOGGER.error(e.getMessage());
+            return;
+        }
+
+        // A single upsert statement must not contain the same license ID twice.
+        // Let later definitions win, like they did when synchronizing one by one.
+        final var upsertByLicenseId = new LinkedHashMap<String, LicenseUpsert>();
+        for (final License license : licenses) {
+            upsertByLicenseId.put(license.getLicenseId(), new LicenseUpsert(
+                    license.getLicenseId(),
+                    license.getName(),
+                    license.getText(),
+                    license.getTemplate(),
+                    license.getHeader(),
+                    license.getComment(),
+                    license.isOsiApproved(),
+                    license.isFsfLibre(),
+                    license.isDeprecatedLicenseId(),
+                    /* customLicense */ false,
+                    // Must match how DataNucleus persists the @Serialized seeAlso field.
+                    license.getSeeAlso() != null ? SerializationUtils.serialize(license.getSeeAlso()) : null,
+                    UUID.randomUUID()));
+        }
+
+        int modified = 0;
+        try (final Handle jdbiHandle = createLocalJdbi(qm).open()) {
+            final var dao = jdbiHandle.attach(LicenseDao.class);
+            for (final List<LicenseUpsert> batch : Lists.partition(List.copyOf(upsertByLicenseId.values()), LICENSE_UPSERT_BATCH_SIZE)) {
+                modified += dao.upsertAll(batch);
             }
         }
+
+        LOGGER.info("Created or updated %d of %d SPDX license definitions".formatted(modified, upsertByLicenseId.size()));
     }
 
     /**
      * Loads the default license groups into the database if no license groups exists.
+     * <p>
+     * Must be called within an active transaction of {@code qm}.
      */
-    private void loadDefaultLicenseGroups() {
-        try (QueryManager qm = new QueryManager()) {
-            final DefaultLicenseGroupImporter importer = new DefaultLicenseGroupImporter(qm);
-            if (! importer.shouldImport()) {
-                return;
-            }
-            LOGGER.info("Adding default license group definitions to datastore");
-            try {
-                importer.loadDefaults();
-            } catch (IOException e) {
-                LOGGER.error("An error occurred loading default license group definitions");
-                LOGGER.error(e.getMessage());
-            }
+    private void loadDefaultLicenseGroups(final QueryManager qm) {
+        final DefaultLicenseGroupImporter importer = new DefaultLicenseGroupImporter(qm);
+        if (! importer.shouldImport()) {
+            return;
+        }
+        LOGGER.info("Adding default license group definitions to datastore");
+        try {
+            importer.loadDefaults();
+        } catch (IOException e) {
+            LOGGER.error("An error occurred loading default license group definitions");
+            LOGGER.error(e.getMessage());
         }
     }
 
@@ -299,23 +431,9 @@ public class DefaultObjectGenerator implements ServletContextListener {
     public void loadDefaultRepositories() {
         try (QueryManager qm = new QueryManager()) {
             LOGGER.info("Synchronizing default repositories to datastore");
-            qm.createRepository(RepositoryType.CPAN, "cpan-public-registry", "https://fastapi.metacpan.org/v1/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.GEM, "rubygems.org", "https://rubygems.org/", true, false, false,null, null);
-            qm.createRepository(RepositoryType.HEX, "hex.pm", "https://hex.pm/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.MAVEN, "central", "https://repo1.maven.org/maven2/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.MAVEN, "atlassian-public", "https://packages.atlassian.com/content/repositories/atlassian-public/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.MAVEN, "jboss-releases", "https://repository.jboss.org/nexus/content/repositories/releases/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.MAVEN, "clojars", "https://repo.clojars.org/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.MAVEN, "google-android", "https://maven.google.com/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.NPM, "npm-public-registry", "https://registry.npmjs.org/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.PYPI, "pypi.org", "https://pypi.org/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.NUGET, "nuget-gallery", "https://api.nuget.org/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.COMPOSER, "packagist", "https://repo.packagist.org/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.CARGO, "crates.io", "https://crates.io", true, false, false, null, null);
-            qm.createRepository(RepositoryType.GO_MODULES, "proxy.golang.org", "https://proxy.golang.org", true, false, false, null, null);
-            qm.createRepository(RepositoryType.GITHUB, "github.com", "https://github.com", true, false, false, null, null);
-            qm.createRepository(RepositoryType.HACKAGE, "hackage.haskell", "https://hackage.haskell.org/", true, false, false, null, null);
-            qm.createRepository(RepositoryType.NIXPKGS, "nixos.org", "https://channels.nixos.org/nixpkgs-unstable/packages.json.br", true, false, false, null, null);
+            for (final DefaultRepository repository : DEFAULT_REPOSITORIES) {
+                qm.createRepository(repository.type(), repository.identifier(), repository.url(), true, false, false, null, null);
+            }
         }
     }
 
@@ -347,4 +465,115 @@ public class DefaultObjectGenerator implements ServletContextListener {
             }
         }
     }
+
+    private static String getPermissionsHash() {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        for (final Permissions permission : Permissions.values()) {
+            updateDigest(digest, permission.name(), permission.getDescription());
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static String getRepositoriesHash() {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        for (final DefaultRepository repository : DEFAULT_REPOSITORIES) {
+            updateDigest(digest, repository.type().name(), repository.identifier(), repository.url());
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static String getConfigPropertiesHash() {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        for (final ConfigPropertyConstants cpc : ConfigPropertyConstants.values()) {
+            // Default values are only applied to newly created properties, and some
+            // of them (e.g. the cluster ID) are generated anew for every JVM.
+            updateDigest(digest, cpc.getGroupName(), cpc.getPropertyName(), cpc.getPropertyType().name(), cpc.getDescription());
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * @return The hash of the bundled notification publishers, or {@code null} when their
+     * templates may be overridden by user-provided files, which are not tracked.
+     */
+    private static String getNotificationPublishersHash() {
+        try (final var qm = new QueryManager()) {
+            if (qm.isEnabled(NOTIFICATION_TEMPLATE_DEFAULT_OVERRIDE_ENABLED)) {
+                return null;
+            }
+        }
+
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        for (final DefaultNotificationPublishers publisher : DefaultNotificationPublishers.values()) {
+            updateDigest(digest, publisher.getPublisherName(), publisher.getPublisherDescription(),
+                    publisher.getPublisherClass().name(), publisher.getTemplateMimeType(),
+                    String.valueOf(publisher.isDefaultPublisher()));
+            try (final InputStream templateInputStream = DefaultObjectGenerator.class.getResourceAsStream(publisher.getPublisherTemplateFile())) {
+                if (templateInputStream == null) {
+                    return null;
+                }
+                digest.update(templateInputStream.readAllBytes());
+            } catch (IOException e) {
+                LOGGER.warn("Failed to hash template of notification publisher %s".formatted(publisher.getPublisherName()), e);
+                return null;
+            }
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static String getLicensesHash() {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        try {
+            for (final Path licenseFile : new SpdxLicenseDetailParser().getLicenseDefinitionFiles()) {
+                updateDigest(digest, licenseFile.getFileName().toString());
+                digest.update(Files.readAllBytes(licenseFile));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to hash SPDX license definitions", e);
+            return null;
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static void updateDigest(final MessageDigest digest, final String... values) {
+        for (final String value : values) {
+            if (value != null) {
+                digest.update(value.getBytes(UTF_8));
+            }
+            // Separate values, such that shifting characters between them changes the hash.
+            digest.update((byte) 0);
+        }
+    }
+
+    /**
+     * Tracks content hashes of default objects, allowing loaders to be skipped
+     * when the objects they would populate did not change since the last execution.
+     */
+    private static final class ContentHashes {
+
+        private final Map<String, String> previous;
+        private final Map<String, String> current = new ConcurrentHashMap<>();
+
+        private ContentHashes(final Map<String, String> previous) {
+            this.previous = previous;
+        }
+
+        private void loadIfChanged(final String name, final String hash, final Runnable loader) {
+            if (hash != null && hash.equals(previous.get(name))) {
+                LOGGER.info("Default %s did not change since they were last loaded; Skipping".formatted(name));
+            } else {
+                loader.run();
+            }
+
+            if (hash != null) {
+                current.put(name, hash);
+            }
+        }
+
+        private Map<String, String> current() {
+            return Map.copyOf(current);
+        }
+
+    }
+
 }
@@ -0,0 +1,183 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.common.logging.Logger;
+import org.dependencytrack.model.License;
+import org.dependencytrack.persistence.jdbi.CacheVersionDao;
+import org.dependencytrack.persistence.jdbi.LicenseDao;
+import org.dependencytrack.persistence.jdbi.LicenseDao.LicenseIdentity;
+
+import javax.jdo.PersistenceManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * An application-wide, in-memory index of {@link License}s, used to resolve licenses
+ * by their SPDX ID or name without querying the database.
+ * <p>
+ * Each {@link Snapshot} of the index is immutable. Modifications of the {@code LICENSE} table
+ * bump its version in {@code CACHE_VERSION} via trigger, which causes the next call to
+ * {@link #current()} to build a new snapshot. This works across all application instances,
+ * and regardless of which code path modified the table.
+ *
+ * @since 5.6.0
+ */
+public final class LicenseIndex {
+
+    static final String CACHE_VERSION_NAME = "license";
+
+    // Version assumed when CACHE_VERSION has no row for licenses, i.e. when they have
+    // not been modified since CACHE_VERSION was introduced. Versions drawn from
+    // CACHE_VERSION_SEQ start at 1, so this never collides with a bumped version.
+    private static final long UNMODIFIED_VERSION = 0;
+
+    private static final Logger LOGGER = Logger.getLogger(LicenseIndex.class);
+    private static final LicenseIndex INSTANCE = new LicenseIndex();
+
+    private volatile Snapshot snapshot;
+
+    private LicenseIndex() {
+    }
+
+    public static LicenseIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the current {@link Snapshot} of the index, rebuilding it if the licenses
+     * in the database have been modified since it was last built.
+     * <p>
+     * Callers that resolve many licenses in one go (e.g. for all components of a BOM)
+     * should call this method once, and re-use the returned {@link Snapshot}.
+     *
+     * @return The current {@link Snapshot}
+     */
+    public Snapshot current() {
+        final long version = withJdbiHandle(handle ->
+                handle.attach(CacheVersionDao.class).getVersion(CACHE_VERSION_NAME).orElse(UNMODIFIED_VERSION));
+
+        final Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null && currentSnapshot.version == version) {
+            return currentSnapshot;
+        }
+
+        synchronized (this) {
+            if (snapshot != null && snapshot.version == version) {
+                return snapshot;
+            }
+
+            // NB: The version is read before the licenses. If licenses are modified
+            // in between, the snapshot is built from newer data than its version suggests,
+            // which will merely cause another rebuild on the next call.
+            final List<LicenseIdentity> licenses = withJdbiHandle(handle ->
+                    handle.attach(LicenseDao.class).getAllLicenseIdentities());
+            snapshot = new Snapshot(version, licenses);
+            LOGGER.debug("Built license index with %d licenses for version %d".formatted(licenses.size(), version));
+            return snapshot;
+        }
+    }
+
+    /**
+     * Obtain a reference to the {@link License} with a given database ID, without loading it.
+     *
+     * @param pm The {@link PersistenceManager} to obtain the reference from
+     * @param id The database ID of the {@link License}
+     * @return A (potentially hollow) {@link License}
+     */
+    public static License getReference(final PersistenceManager pm, final long id) {
+        return (License) pm.getObjectById(pm.newObjectIdInstance(License.class, id), false);
+    }
+
+    /**
+     * An immutable snapshot of the {@link LicenseIndex}.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final Map<String, Long> idByLicenseIdOrName;
+        private final Map<String, Long> idByFoldedLicenseIdOrName;
+        private final Map<String, Long> idByCustomLicenseName;
+
+        private Snapshot(final long version, final List<LicenseIdentity> licenses) {
+            this.version = version;
+
+            // Licenses are ordered by their license ID. Where multiple licenses share
+            // the same key, the first one wins, consistent with QueryManager#getLicenseByIdOrName.
+            final var idByLicenseIdOrName = new HashMap<String, Long>(licenses.size() * 2);
+            final var idByFoldedLicenseIdOrName = new HashMap<String, Long>(licenses.size() * 2);
+            final var idByCustomLicenseName = new HashMap<String, Long>();
+            for (final LicenseIdentity license : licenses) {
+                if (license.licenseId() != null) {
+                    idByLicenseIdOrName.putIfAbsent(license.licenseId(), license.id());
+                    idByFoldedLicenseIdOrName.putIfAbsent(fold(license.licenseId()), license.id());
+                }
+                if (license.name() != null) {
+                    idByLicenseIdOrName.putIfAbsent(license.name(), license.id());
+                    idByFoldedLicenseIdOrName.putIfAbsent(fold(license.name()), license.id());
+                    if (license.customLicense()) {
+                        idByCustomLicenseName.putIfAbsent(license.name(), license.id());
+                    }
+                }
+            }
+
+            this.idByLicenseIdOrName = Map.copyOf(idByLicenseIdOrName);
+            this.idByFoldedLicenseIdOrName = Map.copyOf(idByFoldedLicenseIdOrName);
+            this.idByCustomLicenseName = Map.copyOf(idByCustomLicenseName);
+        }
+
+        /**
+         * Resolve a license by its ID or name. Exact matches take precedence
+         * over case-insensitive matches.
+         *
+         * @param licenseIdOrName The license ID or name to resolve
+         * @return The database ID of the resolved {@link License}, or {@code null} when no license matched
+         */
+        public Long getLicenseIdByIdOrName(final String licenseIdOrName) {
+            if (licenseIdOrName == null) {
+                return null;
+            }
+
+            final Long id = idByLicenseIdOrName.get(licenseIdOrName);
+            return id != null ? id : idByFoldedLicenseIdOrName.get(fold(licenseIdOrName));
+        }
+
+        /**
+         * @param licenseName The name of the custom license to resolve
+         * @return The database ID of the resolved custom {@link License}, or {@code null} when no license matched
+         */
+        public Long getCustomLicenseIdByName(final String licenseName) {
+            if (licenseName == null) {
+                return null;
+            }
+
+            return idByCustomLicenseName.get(licenseName);
+        }
+
+        private static String fold(final String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+
+    }
+
+}
@@ -29,8 +29,13 @@ import org.dependencytrack.model.VulnerabilityMetrics;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class MetricsQueryManager extends QueryManager implements IQueryManager {
 
@@ -101,15 +106,58 @@ public class MetricsQueryManager extends QueryManager implements IQueryManager {
 
     /**
      * Retrieves the most recent ProjectMetrics.
+     * <p>
+     * The most recent metrics are read from {@code PROJECT_METRICS_LATEST},
+     * which avoids scanning through the metrics history of the project.
      *
      * @param project the Project to retrieve metrics for
      * @return a ProjectMetrics object
      */
     public ProjectMetrics getMostRecentProjectMetrics(Project project) {
-        final Query<ProjectMetrics> query = pm.newQuery(ProjectMetrics.class, "project == :project");
-        query.setOrdering("lastOccurrence desc");
-        query.setRange(0, 1);
-        return singleResult(query.execute(project));
+        final Query<ProjectMetrics> query = pm.newQuery(Query.SQL, """
+                SELECT *
+                  FROM "PROJECT_METRICS_LATEST"
+                 WHERE "PROJECT_ID" = :projectId
+                """);
+        query.setClass(ProjectMetrics.class);
+        query.setNamedParameters(Map.of("projectId", project.getId()));
+        try {
+            return query.executeUnique();
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    /**
+     * Retrieves the most recent ProjectMetrics for multiple projects at once.
+     *
+     * @param projects the Projects to retrieve metrics for
+     * @return a Map of project IDs to ProjectMetrics; Projects without metrics are not included
+     */
+    public Map<Long, ProjectMetrics> getMostRecentProjectMetrics(Collection<Project> projects) {
+        if (projects.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // IDs are numeric and can thus safely be inlined.
+        final String projectIds = projects.stream()
+                .map(project -> String.valueOf(project.getId()))
+                .collect(Collectors.joining(", "));
+        final Query<ProjectMetrics> query = pm.newQuery(Query.SQL, """
+                SELECT *
+                  FROM "PROJECT_METRICS_LATEST"
+                 WHERE "PROJECT_ID" IN (%s)
+                """.formatted(projectIds));
+        query.setClass(ProjectMetrics.class);
+        try {
+            final var metricsByProjectId = new HashMap<Long, ProjectMetrics>(projects.size());
+            for (final ProjectMetrics metrics : query.executeList()) {
+                metricsByProjectId.put(metrics.getProject().getId(), metrics);
+            }
+            return metricsByProjectId;
+        } finally {
+            query.closeAll();
+        }
     }
 
     /**
@@ -143,25 +191,63 @@ public class MetricsQueryManager extends QueryManager implements IQueryManager {
      * @return a DependencyMetrics object
      */
     public DependencyMetrics getMostRecentDependencyMetrics(Component component) {
-        final Query<DependencyMetrics> query = pm.newQuery(DependencyMetrics.class, "component == :component");
-        query.setOrdering("lastOccurrence desc");
-        query.setRange(0, 1);
-        return singleResult(query.execute(component));
-
+        return getMostRecentDependencyMetricsById(component.getId());
     }
 
     /**
      * Retrieves the most recent DependencyMetrics by component ID.
+     * <p>
+     * The most recent metrics are read from {@code COMPONENT_METRICS_LATEST},
+     * which avoids scanning through the metrics history of the component.
      *
      * @param componentId the Component ID to retrieve metrics for
      * @return a DependencyMetrics object
      */
     public DependencyMetrics getMostRecentDependencyMetricsById(long componentId) {
-        final Query<DependencyMetrics> query = pm.newQuery(DependencyMetrics.class, "component.id == :componentId");
-        query.setOrdering("lastOccurrence desc");
-        query.setRange(0, 1);
-        return singleResult(query.execute(componentId));
+        final Query<DependencyMetrics> query = pm.newQuery(Query.SQL, """
+                SELECT *
+                  FROM "COMPONENT_METRICS_LATEST"
+                 WHERE "COMPONENT_ID" = :componentId
+                """);
+        query.setClass(DependencyMetrics.class);
+        query.setNamedParameters(Map.of("componentId", componentId));
+        try {
+            return query.executeUnique();
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    /**
+     * Retrieves the most recent DependencyMetrics for multiple components at once.
+     *
+     * @param componentIds IDs of the Components to retrieve metrics for
+     * @return a Map of component IDs to DependencyMetrics; Components without metrics are not included
+     */
+    public Map<Long, DependencyMetrics> getMostRecentDependencyMetricsByIds(Collection<Long> componentIds) {
+        if (componentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
+        // IDs are numeric and can thus safely be inlined.
+        final String componentIdsStr = componentIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+        final Query<DependencyMetrics> query = pm.newQuery(Query.SQL, """
+                SELECT *
+                  FROM "COMPONENT_METRICS_LATEST"
+                 WHERE "COMPONENT_ID" IN (%s)
+                """.formatted(componentIdsStr));
+        query.setClass(DependencyMetrics.class);
+        try {
+            final var metricsByComponentId = new HashMap<Long, DependencyMetrics>(componentIds.size());
+            for (final DependencyMetrics metrics : query.executeList()) {
+                metricsByComponentId.put(metrics.getComponent().getId(), metrics);
+            }
+            return metricsByComponentId;
+        } finally {
+            query.closeAll();
+        }
     }
 
     /**
@@ -51,6 +51,11 @@ class ProjectQueryFilterBuilder {
         return this;
     }
 
+    ProjectQueryFilterBuilder excludeDeleted() {
+        filterCriteria.add("(deletedAt == null)");
+        return this;
+    }
+
     ProjectQueryFilterBuilder withTeam(Team team) {
         params.put("team", team);
         filterCriteria.add("(accessTeams.contains(:team))");
@@ -27,43 +27,36 @@ import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
 import alpine.persistence.PaginatedResult;
 import alpine.resources.AlpineRequest;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.github.packageurl.PackageURL;
-import org.apache.commons.collections4.CollectionUtils;
 import org.datanucleus.api.jdo.JDOQuery;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
-import org.dependencytrack.model.Analysis;
-import org.dependencytrack.model.AnalysisComment;
 import org.dependencytrack.model.Classifier;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ConfigPropertyConstants;
-import org.dependencytrack.model.FindingAttribution;
 import org.dependencytrack.model.PolicyViolation;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetadata;
+import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.ProjectProperty;
 import org.dependencytrack.model.ProjectVersion;
-import org.dependencytrack.model.ServiceComponent;
 import org.dependencytrack.model.Tag;
-import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
+import org.dependencytrack.persistence.jdbi.ProjectCloneDao;
+import org.jdbi.v3.core.Handle;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import javax.jdo.metadata.MemberMetadata;
 import javax.jdo.metadata.TypeMetadata;
-import java.io.IOException;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -71,6 +64,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Objects.requireNonNullElse;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.createLocalJdbi;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistent;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistentAll;
 
@@ -142,8 +136,10 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
+            final List<Project> projects = result.getList(Project.class);
+            final Map<Long, ProjectMetrics> metricsByProjectId = getMostRecentProjectMetrics(projects);
+            for (Project project : projects) {
+                project.setMetrics(metricsByProjectId.get(project.getId()));
             }
         }
         return result;
@@ -190,7 +186,9 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
     public List<Project> getAllProjects(boolean excludeInactive) {
         final Query<Project> query = pm.newQuery(Project.class);
         if (excludeInactive) {
-            query.setFilter("inactiveSince == null");
+            query.setFilter("inactiveSince == null && deletedAt == null");
+        } else {
+            query.setFilter("deletedAt == null");
         }
         query.setOrdering("id asc");
         return query.executeList();
@@ -259,7 +257,8 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
 
         final var filterBuilder = new ProjectQueryFilterBuilder()
                 .withName(name)
-                .withVersion(version);
+                .withVersion(version)
+                .excludeDeleted();
 
         final String queryFilter = filterBuilder.buildFilter();
         final Map<String, Object> params = filterBuilder.getParams();
@@ -289,7 +288,8 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
 
         final var filterBuilder = new ProjectQueryFilterBuilder()
                 .withName(name)
-                .onlyLatestVersion();
+                .onlyLatestVersion()
+                .excludeDeleted();
 
         final String queryFilter = filterBuilder.buildFilter();
         final Map<String, Object> params = filterBuilder.getParams();
@@ -373,8 +373,10 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
+            final List<Project> projects = result.getList(Project.class);
+            final Map<Long, ProjectMetrics> metricsByProjectId = getMostRecentProjectMetrics(projects);
+            for (Project project : projects) {
+                project.setMetrics(metricsByProjectId.get(project.getId()));
             }
         }
         return result;
@@ -411,8 +413,10 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
+            final List<Project> projects = result.getList(Project.class);
+            final Map<Long, ProjectMetrics> metricsByProjectId = getMostRecentProjectMetrics(projects);
+            for (Project project : projects) {
+                project.setMetrics(metricsByProjectId.get(project.getId()));
             }
         }
         return result;
@@ -569,7 +573,6 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
             final boolean makeCloneLatest
     ) {
         final AtomicReference<Project> oldLatestProject = new AtomicReference<>();
-        final var jsonMapper = new JsonMapper();
         return callInTransaction(() -> {
             final Project source = getObjectByUuid(Project.class, from, Project.FetchGroup.ALL.name());
             if (source == null) {
@@ -603,9 +606,6 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
             project.setCpe(source.getCpe());
             project.setPurl(source.getPurl());
             project.setSwidTagId(source.getSwidTagId());
-            if (source.getDirectDependencies() != null && includeComponents && includeServices) {
-                project.setDirectDependencies(source.getDirectDependencies());
-            }
             project.setParent(source.getParent());
             // Remove isLatest flag from current latest project version, if this project will be the latest now
             if(oldLatestProject.get() != null) {
@@ -622,195 +622,80 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
                 persist(metadata);
             }
 
-            if (includeTags) {
-                for (final Tag tag : source.getTags()) {
-                    tag.getProjects().add(project);
-                    persist(tag);
-                }
-            }
+            // Make the cloned project visible to the set-based statements below,
+            // which share the same connection, but bypass the persistence manager.
+            pm.flush();
 
-            if (includeProperties && source.getProperties() != null) {
-                for (final ProjectProperty sourceProperty : source.getProperties()) {
-                    final ProjectProperty property = new ProjectProperty();
-                    property.setProject(project);
-                    property.setPropertyType(sourceProperty.getPropertyType());
-                    property.setGroupName(sourceProperty.getGroupName());
-                    property.setPropertyName(sourceProperty.getPropertyName());
-                    property.setPropertyValue(sourceProperty.getPropertyValue());
-                    property.setDescription(sourceProperty.getDescription());
-                    persist(property);
-                }
-            }
-
-            final var projectDirectDepsSourceComponentUuids = new HashSet<UUID>();
-            if (project.getDirectDependencies() != null) {
-                projectDirectDepsSourceComponentUuids.addAll(
-                        parseDirectDependenciesUuids(jsonMapper, project.getDirectDependencies()));
-            }
+            try (final Handle jdbiHandle = createLocalJdbi(this).open()) {
+                final var cloneDao = jdbiHandle.attach(ProjectCloneDao.class);
 
-            final var clonedComponentById = new HashMap<Long, Component>();
-            final var clonedComponentBySourceComponentId = new HashMap<Long, Component>();
-            final var directDepsSourceComponentUuidsByClonedComponentId = new HashMap<Long, Set<UUID>>();
-            final var clonedComponentUuidBySourceComponentUuid = new HashMap<UUID, UUID>();
-
-            if (includeComponents) {
-                final List<Component> sourceComponents = getAllComponents(source);
-                if (sourceComponents != null) {
-                    for (final Component sourceComponent : sourceComponents) {
-                        final Component clonedComponent = cloneComponent(sourceComponent, project, false);
-                        // Add vulnerabilties and finding attribution from the source component to the cloned component
-                        for (Vulnerability vuln : sourceComponent.getVulnerabilities()) {
-                            final FindingAttribution sourceAttribution = this.getFindingAttribution(vuln, sourceComponent);
-                            this.addVulnerability(vuln, clonedComponent, sourceAttribution.getAnalyzerIdentity(), sourceAttribution.getAlternateIdentifier(),
-                                    sourceAttribution.getReferenceUrl(), sourceAttribution.getAttributedOn());
-                        }
-
-                        clonedComponentById.put(clonedComponent.getId(), clonedComponent);
-                        clonedComponentBySourceComponentId.put(sourceComponent.getId(), clonedComponent);
-                        clonedComponentUuidBySourceComponentUuid.put(sourceComponent.getUuid(), clonedComponent.getUuid());
+                if (includeTags) {
+                    cloneDao.cloneTags(source.getId(), project.getId());
+                }
+                if (includeProperties) {
+                    cloneDao.cloneProperties(source.getId(), project.getId());
+                }
+                if (includeACL) {
+                    cloneDao.cloneAccessTeams(source.getId(), project.getId());
+                }
 
-                        if (clonedComponent.getDirectDependencies() != null) {
-                            final Set<UUID> directDepsUuids = parseDirectDependenciesUuids(jsonMapper, clonedComponent.getDirectDependencies());
-                            if (!directDepsUuids.isEmpty()) {
-                                directDepsSourceComponentUuidsByClonedComponentId.put(clonedComponent.getId(), directDepsUuids);
-                            }
-                        }
+                if (includeComponents) {
+                    cloneDao.createComponentMapping(source.getId());
+                    cloneDao.cloneComponents(project.getId());
+                    if (source.getDirectDependencies() != null && includeServices) {
+                        cloneDao.cloneProjectDirectDependencies(source.getId(), project.getId());
                     }
-                }
-            }
 
-            if (!projectDirectDepsSourceComponentUuids.isEmpty()) {
-                String directDependencies = project.getDirectDependencies();
-                for (final UUID sourceComponentUuid : projectDirectDepsSourceComponentUuids) {
-                    final UUID clonedComponentUuid = clonedComponentUuidBySourceComponentUuid.get(sourceComponentUuid);
-                    if (clonedComponentUuid != null) {
-                        directDependencies = directDependencies.replace(
-                                sourceComponentUuid.toString(), clonedComponentUuid.toString());
-                    } else {
+                    final List<UUID> unmappedUuids = cloneDao.getUnmappedDirectDependencyUuids(source.getId());
+                    if (!unmappedUuids.isEmpty()) {
                         // NB: This may happen when the source project itself is a clone,
                         // and it was cloned before DT v4.12.0.
                         // https://github.com/DependencyTrack/dependency-track/pull/4171
                         LOGGER.warn("""
-                                The source project's directDependencies refer to a component with UUID \
-                                %s, which does not exist in the project. The cloned project's dependency graph \
-                                may be broken as a result. A BOM upload will resolve the issue.\
-                                """.formatted(sourceComponentUuid));
+                                The directDependencies of project %s or its components refer to components \
+                                with UUIDs %s, which do not exist in the project. The cloned project's dependency \
+                                graph may be broken as a result. A BOM upload will resolve the issue.\
+                                """.formatted(source, unmappedUuids));
                     }
-                }
 
-                project.setDirectDependencies(directDependencies);
-            }
+                    cloneDao.cloneComponentVulnerabilities();
+                    cloneDao.cloneFindingAttributions(project.getId());
 
-            for (final long componentId : directDepsSourceComponentUuidsByClonedComponentId.keySet()) {
-                final Component component = clonedComponentById.get(componentId);
-                final Set<UUID> sourceComponentUuids = directDepsSourceComponentUuidsByClonedComponentId.get(componentId);
-
-                String directDependencies = component.getDirectDependencies();
-                for (final UUID sourceComponentUuid : sourceComponentUuids) {
-                    final UUID clonedComponentUuid = clonedComponentUuidBySourceComponentUuid.get(sourceComponentUuid);
-                    if (clonedComponentUuid != null) {
-                        directDependencies = directDependencies.replace(
-                                sourceComponentUuid.toString(), clonedComponentUuid.toString());
-                    } else {
-                        LOGGER.warn("""
-                                The directDependencies of component %s refer to a component with UUID \
-                                %s, which does not exist in the source project. The cloned project's dependency graph \
-                                may be broken as a result. A BOM upload will resolve the issue.\
-                                """.formatted(component, sourceComponentUuid));
+                    if (includeAuditHistory) {
+                        cloneDao.cloneAnalyses(project.getId());
                     }
                 }
 
-                component.setDirectDependencies(directDependencies);
-            }
-
-            if (includeServices) {
-                final List<ServiceComponent> sourceServices = getAllServiceComponents(source);
-                if (sourceServices != null) {
-                    for (final ServiceComponent sourceService : sourceServices) {
-                        cloneServiceComponent(sourceService, project, false);
-                    }
+                if (includeServices) {
+                    cloneDao.cloneServices(source.getId(), project.getId());
                 }
-            }
 
-            if (includeAuditHistory && includeComponents) {
-                final List<Analysis> analyses = super.getAnalyses(source);
-                if (analyses != null) {
-                    for (final Analysis sourceAnalysis : analyses) {
-                        Analysis analysis = new Analysis();
-                        analysis.setAnalysisState(sourceAnalysis.getAnalysisState());
-                        final Component clonedComponent = clonedComponentBySourceComponentId.get(sourceAnalysis.getComponent().getId());
-                        if (clonedComponent == null) {
-                            break;
-                        }
-                        analysis.setComponent(clonedComponent);
-                        analysis.setVulnerability(sourceAnalysis.getVulnerability());
-                        analysis.setSuppressed(sourceAnalysis.isSuppressed());
-                        analysis.setAnalysisResponse(sourceAnalysis.getAnalysisResponse());
-                        analysis.setAnalysisJustification(sourceAnalysis.getAnalysisJustification());
-                        analysis.setAnalysisState(sourceAnalysis.getAnalysisState());
-                        analysis.setAnalysisDetails(sourceAnalysis.getAnalysisDetails());
-                        analysis.setVulnerabilityPolicyId(sourceAnalysis.getVulnerabilityPolicyId());
-                        analysis = persist(analysis);
-                        if (sourceAnalysis.getAnalysisComments() != null) {
-                            for (final AnalysisComment sourceComment : sourceAnalysis.getAnalysisComments()) {
-                                final AnalysisComment analysisComment = new AnalysisComment();
-                                analysisComment.setAnalysis(analysis);
-                                analysisComment.setTimestamp(sourceComment.getTimestamp());
-                                analysisComment.setComment(sourceComment.getComment());
-                                analysisComment.setCommenter(sourceComment.getCommenter());
-                                persist(analysisComment);
-                            }
-                        }
+                if (includeComponents && includePolicyViolations) {
+                    final List<ProjectCloneDao.ComponentMappingRow> componentMappings =
+                            cloneDao.getComponentMappingsWithPolicyViolations();
+                    final var clonedComponentIdBySourceComponentId = new HashMap<Long, Long>(componentMappings.size());
+                    for (final ProjectCloneDao.ComponentMappingRow componentMapping : componentMappings) {
+                        clonedComponentIdBySourceComponentId.put(componentMapping.sourceId(), componentMapping.targetId());
                     }
-                }
-            }
-
-            if (includeACL) {
-                List<Team> accessTeams = source.getAccessTeams();
-                if (!CollectionUtils.isEmpty(accessTeams)) {
-                    project.setAccessTeams(new ArrayList<>(accessTeams));
-                }
-            }
 
-            if (includeComponents && includePolicyViolations) {
-                final List<PolicyViolation> sourcePolicyViolations = getAllPolicyViolations(source);
-                if (sourcePolicyViolations != null) {
-                    for (final PolicyViolation policyViolation : sourcePolicyViolations) {
-                        final Component destinationComponent = clonedComponentBySourceComponentId.get(policyViolation.getComponent().getId());
-                        final PolicyViolation clonedPolicyViolation = clonePolicyViolation(policyViolation, destinationComponent);
-                        persist(clonedPolicyViolation);
+                    final List<PolicyViolation> sourcePolicyViolations = getAllPolicyViolations(source);
+                    if (sourcePolicyViolations != null) {
+                        for (final PolicyViolation policyViolation : sourcePolicyViolations) {
+                            final Long destinationComponentId = clonedComponentIdBySourceComponentId.get(policyViolation.getComponent().getId());
+                            final Component destinationComponent = getObjectById(Component.class, destinationComponentId);
+                            final PolicyViolation clonedPolicyViolation = clonePolicyViolation(policyViolation, destinationComponent);
+                            persist(clonedPolicyViolation);
+                        }
                     }
                 }
             }
 
+            // Pick up tags, access teams, and directDependencies written by the statements above.
+            pm.refresh(project);
             return project;
         });
     }
 
-    private static Set<UUID> parseDirectDependenciesUuids(
-            final JsonMapper jsonMapper,
-            final String directDependencies) throws IOException {
-        final var uuids = new HashSet<UUID>();
-        try (final JsonParser jsonParser = jsonMapper.createParser(directDependencies)) {
-            JsonToken currentToken = jsonParser.nextToken();
-            if (currentToken != JsonToken.START_ARRAY) {
-                throw new IllegalArgumentException("""
-                        Expected directDependencies to be a JSON array, \
-                        but encountered token: %s""".formatted(currentToken));
-            }
-
-            while (jsonParser.nextToken() != null) {
-                if (jsonParser.currentToken() == JsonToken.FIELD_NAME
-                    && "uuid".equals(jsonParser.currentName())
-                    && jsonParser.nextToken() == JsonToken.VALUE_STRING) {
-                    uuids.add(UUID.fromString(jsonParser.getValueAsString()));
-                }
-            }
-        }
-
-        return uuids;
-    }
-
     /**
      * Creates a key/value pair (ProjectProperty) for the specified Project.
      *
@@ -930,7 +815,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
             return true;
         }
 
-        final Set<Long> teamIds = getTeamIds(principal);
+        final Set<Long> teamIds = getPrincipalContext(principal).teamIds();
         if (teamIds.isEmpty()) {
             return false;
         }
@@ -943,7 +828,8 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
     }
 
     @Override
-    void preprocessACLs(final Query<?> query, final String inputFilter, final Map<String, Object> params, final boolean bypass) {
+    void preprocessACLs(final Query<?> query, final String filter, final Map<String, Object> params, final boolean bypass) {
+        final String inputFilter = excludeDeletedProjects(query, filter);
         if (bypass
             || principal == null
             || !isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED)
@@ -952,7 +838,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
             return;
         }
 
-        final Set<Long> teamIds = getTeamIds(principal);
+        final Set<Long> teamIds = getPrincipalContext(principal).teamIds();
         if (teamIds.isEmpty()) {
             if (inputFilter != null && !inputFilter.isBlank()) {
                 query.setFilter(inputFilter + " && false");
@@ -969,25 +855,17 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
             // with Project we can still make the ACL check work. If the query candidate
             // has EXACTLY one persistent field of type Project, we'll use that.
             // If there are more than one, or none at all, we fail to avoid unintentional behavior.
-            final TypeMetadata candidateTypeMetadata = pm.getPersistenceManagerFactory().getMetadata(internalQuery.getCandidateClassName());
-
-            for (final MemberMetadata memberMetadata : candidateTypeMetadata.getMembers()) {
-                if (!Project.class.getName().equals(memberMetadata.getFieldType())) {
-                    continue;
-                }
-
-                if (projectMemberFieldName != null) {
-                    throw new IllegalArgumentException("Query candidate class %s has multiple members of type %s"
-                            .formatted(internalQuery.getCandidateClassName(), Project.class.getName()));
-                }
-
-                projectMemberFieldName = memberMetadata.getName();
+            final List<String> projectMemberFieldNames = getProjectMemberFieldNames(internalQuery);
+            if (projectMemberFieldNames.size() > 1) {
+                throw new IllegalArgumentException("Query candidate class %s has multiple members of type %s"
+                        .formatted(internalQuery.getCandidateClassName(), Project.class.getName()));
             }
-
-            if (projectMemberFieldName == null) {
+            if (projectMemberFieldNames.isEmpty()) {
                 throw new IllegalArgumentException("Query candidate class %s has no member of type %s"
                         .formatted(internalQuery.getCandidateClassName(), Project.class.getName()));
             }
+
+            projectMemberFieldName = projectMemberFieldNames.getFirst();
         }
 
         final var aclCondition = "%s.isAccessibleBy(:projectAclTeamIds)".formatted(
@@ -1001,6 +879,50 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         params.put("projectAclTeamIds", teamIds.toArray(new Long[0]));
     }
 
+    /**
+     * Projects that are pending deletion are not visible to anyone, regardless of ACL.
+     * <p>
+     * Applies to queries targeting {@link Project}, and to queries whose candidate
+     * has exactly one member of type {@link Project}, e.g. policy violations.
+     */
+    private String excludeDeletedProjects(final Query<?> query, final String filter) {
+        final org.datanucleus.store.query.Query<?> internalQuery = ((JDOQuery<?>) query).getInternalQuery();
+
+        final String condition;
+        if (Project.class.equals(internalQuery.getCandidateClass())) {
+            condition = "(deletedAt == null)";
+        } else {
+            final List<String> projectMemberFieldNames = getProjectMemberFieldNames(internalQuery);
+            if (projectMemberFieldNames.size() != 1) {
+                return filter;
+            }
+
+            condition = "(%s.deletedAt == null)".formatted(projectMemberFieldNames.getFirst());
+        }
+
+        if (filter == null || filter.isBlank()) {
+            return condition;
+        }
+
+        return "%s && %s".formatted(filter, condition);
+    }
+
+    private List<String> getProjectMemberFieldNames(final org.datanucleus.store.query.Query<?> internalQuery) {
+        final TypeMetadata candidateTypeMetadata = pm.getPersistenceManagerFactory().getMetadata(internalQuery.getCandidateClassName());
+        if (candidateTypeMetadata == null) {
+            return Collections.emptyList();
+        }
+
+        final var memberFieldNames = new ArrayList<String>();
+        for (final MemberMetadata memberMetadata : candidateTypeMetadata.getMembers()) {
+            if (Project.class.getName().equals(memberMetadata.getFieldType())) {
+                memberFieldNames.add(memberMetadata.getName());
+            }
+        }
+
+        return memberFieldNames;
+    }
+
     /**
      * Updates a Project ACL to add the principals Team to the AccessTeams
      * This only happens if Portfolio Access Control is enabled and the @param principal is an ApyKey
@@ -1076,8 +998,10 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
+            final List<Project> projects = result.getList(Project.class);
+            final Map<Long, ProjectMetrics> metricsByProjectId = getMostRecentProjectMetrics(projects);
+            for (Project project : projects) {
+                project.setMetrics(metricsByProjectId.get(project.getId()));
             }
         }
         return result;
@@ -1105,8 +1029,10 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
+            final List<Project> projects = result.getList(Project.class);
+            final Map<Long, ProjectMetrics> metricsByProjectId = getMostRecentProjectMetrics(projects);
+            for (Project project : projects) {
+                project.setMetrics(metricsByProjectId.get(project.getId()));
             }
         }
         return result;
@@ -1138,8 +1064,10 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
+            final List<Project> projects = result.getList(Project.class);
+            final Map<Long, ProjectMetrics> metricsByProjectId = getMostRecentProjectMetrics(projects);
+            for (Project project : projects) {
+                project.setMetrics(metricsByProjectId.get(project.getId()));
             }
         }
         return result;
@@ -1259,7 +1187,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
     public boolean doesProjectExist(final String name, final String version) {
         final Query<Project> query = pm.newQuery(Project.class);
         if (version != null) {
-            query.setFilter("name == :name && version == :version");
+            query.setFilter("name == :name && version == :version && deletedAt == null");
             query.setNamedParameters(Map.of(
                     "name", name,
                     "version", version
@@ -1268,7 +1196,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
             // Version is optional for projects, but using null
             // for parameter values bypasses the query compilation cache.
             // https://github.com/DependencyTrack/dependency-track/issues/2540
-            query.setFilter("name == :name && version == null");
+            query.setFilter("name == :name && version == null && deletedAt == null");
             query.setNamedParameters(Map.of(
                     "name", name
             ));
@@ -1309,7 +1237,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
 
     private List<ProjectVersion> getProjectVersions(Project project) {
         final Query<Project> query = pm.newQuery(Project.class);
-        query.setFilter("name == :name");
+        query.setFilter("name == :name && deletedAt == null");
         query.setParameters(project.getName());
         query.setResult("uuid, version, inactiveSince");
         query.setOrdering("id asc"); // Ensure consistent ordering
@@ -41,6 +41,8 @@ import io.github.resilience4j.retry.RetryConfig;
 import org.apache.commons.lang3.ClassUtils;
 import org.datanucleus.PropertyNames;
 import org.datanucleus.api.jdo.JDOQuery;
+import org.dependencytrack.auth.PrincipalContextCache;
+import org.dependencytrack.auth.PrincipalContextCache.PrincipalContext;
 import org.dependencytrack.model.AffectedVersionAttribution;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalysisComment;
@@ -95,6 +97,7 @@ import org.dependencytrack.model.WorkflowStatus;
 import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.publisher.PublisherClass;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
 import org.dependencytrack.proto.vulnanalysis.v1.ScanResult;
 import org.dependencytrack.proto.vulnanalysis.v1.ScanStatus;
 import org.dependencytrack.proto.vulnanalysis.v1.ScannerResult;
@@ -516,6 +519,18 @@ public class QueryManager extends AlpineQueryManager {
         return principalTeamIds;
     }
 
+    /**
+     * Get the {@link PrincipalContext} of a given {@link Principal}, resolving it only
+     * if it is not already cached in the {@link PrincipalContextCache}.
+     *
+     * @return The {@link PrincipalContext}
+     * @since 5.6.0
+     */
+    public PrincipalContext getPrincipalContext(final Principal principal) {
+        return PrincipalContextCache.getInstance().get(principal, () -> new PrincipalContext(
+                getTeamIds(principal), resolveAccessManagementPermission(principal)));
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     //// BEGIN WRAPPER METHODS                                                                                      ////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -673,6 +688,10 @@ public class QueryManager extends AlpineQueryManager {
         return getComponentQueryManager().getComponentByHash(hash);
     }
 
+    public List<ComponentDao.HashLookupRow> lookupComponentsByHashes(final Collection<String> hashes) {
+        return getComponentQueryManager().lookupComponentsByHashes(hashes);
+    }
+
     public IntegrityMetaInitializerTask.ComponentProjection getComponentByPurl(String purl) {
         return getComponentQueryManager().getComponentByPurl(purl);
     }
@@ -1131,6 +1150,10 @@ public class QueryManager extends AlpineQueryManager {
         return getMetricsQueryManager().getMostRecentProjectMetrics(project);
     }
 
+    public Map<Long, ProjectMetrics> getMostRecentProjectMetrics(Collection<Project> projects) {
+        return getMetricsQueryManager().getMostRecentProjectMetrics(projects);
+    }
+
     public PaginatedResult getProjectMetrics(Project project) {
         return getMetricsQueryManager().getProjectMetrics(project);
     }
@@ -1147,6 +1170,10 @@ public class QueryManager extends AlpineQueryManager {
         return getMetricsQueryManager().getMostRecentDependencyMetricsById(component);
     }
 
+    public Map<Long, DependencyMetrics> getMostRecentDependencyMetricsByIds(Collection<Long> componentIds) {
+        return getMetricsQueryManager().getMostRecentDependencyMetricsByIds(componentIds);
+    }
+
     public PaginatedResult getDependencyMetrics(Component component) {
         return getMetricsQueryManager().getDependencyMetrics(component);
     }
@@ -1294,6 +1321,16 @@ public class QueryManager extends AlpineQueryManager {
     }
 
     public boolean hasAccessManagementPermission(final Object principal) {
+        if (principal instanceof final UserPrincipal userPrincipal) {
+            return getPrincipalContext(userPrincipal).hasAccessManagementPermission();
+        } else if (principal instanceof final ApiKey apiKey) {
+            return getPrincipalContext(apiKey).hasAccessManagementPermission();
+        }
+
+        throw new IllegalArgumentException("Provided principal is of invalid type " + ClassUtils.getName(principal));
+    }
+
+    private boolean resolveAccessManagementPermission(final Principal principal) {
         if (principal instanceof final UserPrincipal userPrincipal) {
             return hasAccessManagementPermission(userPrincipal);
         } else if (principal instanceof final ApiKey apiKey) {
@@ -1931,19 +1968,21 @@ public class QueryManager extends AlpineQueryManager {
 
     /**
      * @param projectTableAlias Name or alias of the {@code PROJECT} table to use in the condition.
-     * @return A SQL condition that may be used to check if the {@link #principal} has access to a project
+     * @return A SQL condition that may be used to check if the {@link #principal} has access to a project.
+     * Projects pending deletion are never accessible.
      * @since 4.12.0
      */
     public Map.Entry<String, Map<String, Object>> getProjectAclSqlCondition(final String projectTableAlias) {
+        final String notDeletedCondition = "\"%s\".\"DELETED_AT\" IS NULL".formatted(projectTableAlias);
         if (request == null) {
-            return Map.entry("TRUE", Collections.emptyMap());
+            return Map.entry(notDeletedCondition, Collections.emptyMap());
         }
 
         if (principal == null || !isEnabled(ACCESS_MANAGEMENT_ACL_ENABLED) || hasAccessManagementPermission(principal)) {
-            return Map.entry("TRUE", Collections.emptyMap());
+            return Map.entry(notDeletedCondition, Collections.emptyMap());
         }
 
-        final var teamIds = new ArrayList<>(getTeamIds(principal));
+        final var teamIds = new ArrayList<>(getPrincipalContext(principal).teamIds());
         if (teamIds.isEmpty()) {
             return Map.entry("FALSE", Collections.emptyMap());
         }
@@ -1951,7 +1990,8 @@ public class QueryManager extends AlpineQueryManager {
         final var params = new HashMap<String, Object>();
         params.put("projectAclTeamIds", teamIds.toArray(new Long[0]));
 
-        return Map.entry("HAS_PROJECT_ACCESS(\"%s\".\"ID\", :projectAclTeamIds)".formatted(projectTableAlias), params);
+        return Map.entry("(HAS_PROJECT_ACCESS(\"%1$s\".\"ID\", :projectAclTeamIds) AND %2$s)"
+                .formatted(projectTableAlias, notDeletedCondition), params);
     }
 
     /**
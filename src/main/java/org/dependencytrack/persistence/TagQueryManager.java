@@ -188,7 +188,8 @@ public class TagQueryManager extends QueryManager implements IQueryManager {
                               FROM "PROJECTS_TAGS"
                              INNER JOIN "PROJECT"
                                 ON "PROJECT"."ID" = "PROJECTS_TAGS"."PROJECT_ID"
-                             WHERE "PROJECTS_TAGS"."TAG_ID" = "TAG"."ID") AS "projectCount"
+                             WHERE "PROJECTS_TAGS"."TAG_ID" = "TAG"."ID"
+                               AND "PROJECT"."DELETED_AT" IS NULL) AS "projectCount"
                          , (SELECT COUNT(*)
                               FROM "PROJECTS_TAGS"
                              INNER JOIN "PROJECT"
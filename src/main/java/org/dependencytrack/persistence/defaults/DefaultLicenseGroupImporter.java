@@ -59,6 +59,10 @@ public class DefaultLicenseGroupImporter implements IDefaultObjectImporter {
         return true;
     }
 
+    /**
+     * Must be called within an active transaction of the {@link QueryManager},
+     * so that license groups are created atomically with the licenses they reference.
+     */
     public void loadDefaults() throws IOException {
         final File defaultsFile = new File(URLDecoder.decode(getClass().getProtectionDomain().getCodeSource().getLocation().getPath(), UTF_8.name()) + "default-objects/licenseGroups.json");
         final JSONArray licenseGroups = readFile(defaultsFile);
@@ -80,7 +84,7 @@ public class DefaultLicenseGroupImporter implements IDefaultObjectImporter {
                 }
             }
             licenseGroup.setLicenses(licenses);
-            qm.persist(licenseGroup);
+            qm.getPersistenceManager().makePersistent(licenseGroup);
         }
     }
 
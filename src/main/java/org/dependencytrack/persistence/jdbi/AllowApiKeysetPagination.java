@@ -0,0 +1,67 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.SimpleExtensionConfigurer;
+import org.jdbi.v3.core.extension.annotation.UseExtensionConfigurer;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Allows for cursor-based (keyset) pagination, as an alternative to offset-based pagination.
+ * <p>
+ * Keyset pagination is used when a {@link KeysetCursor} is defined as
+ * {@value JdbiAttributes#ATTRIBUTE_API_KEYSET_CURSOR} attribute of the statement.
+ * Results are then ordered by {@link #column()}, and filtered to those following the cursor,
+ * such that the cost of retrieving a page does not grow with its depth.
+ *
+ * @since 5.6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@UseExtensionConfigurer(AllowApiKeysetPagination.ExtensionConfigurer.class)
+public @interface AllowApiKeysetPagination {
+
+    /**
+     * A <strong>raw</strong> name of the column to paginate by, as used in the query.
+     * <p>
+     * The column must be unique, not nullable, of type {@code BIGINT}, and indexed.
+     */
+    String column();
+
+    final class ExtensionConfigurer extends SimpleExtensionConfigurer {
+
+        @Override
+        public void configure(final ConfigRegistry configRegistry, final Annotation annotation, final Class<?> extensionType) {
+            final var allowKeysetPaginationAnnotation = (AllowApiKeysetPagination) annotation;
+
+            final var config = configRegistry.get(ApiRequestConfig.class);
+            config.setKeysetColumn(allowKeysetPaginationAnnotation.column());
+        }
+
+    }
+
+}
@@ -31,6 +31,7 @@ public class ApiRequestConfig implements JdbiConfig<ApiRequestConfig> {
     private Set<OrderingColumn> orderingAllowedColumns;
     private String orderingAlwaysBy = "";
     private String projectIdColumn = "\"PROJECT\".\"ID\"";
+    private String keysetColumn;
 
     @SuppressWarnings("unused")
     public ApiRequestConfig() {
@@ -43,6 +44,7 @@ public class ApiRequestConfig implements JdbiConfig<ApiRequestConfig> {
                 : that.orderingAllowedColumns;
         this.orderingAlwaysBy = that.orderingAlwaysBy;
         this.projectIdColumn = that.projectIdColumn;
+        this.keysetColumn = that.keysetColumn;
     }
 
     @Override
@@ -76,6 +78,14 @@ public class ApiRequestConfig implements JdbiConfig<ApiRequestConfig> {
         return projectIdColumn;
     }
 
+    String keysetColumn() {
+        return keysetColumn;
+    }
+
+    public void setKeysetColumn(final String keysetColumn) {
+        this.keysetColumn = keysetColumn;
+    }
+
     public record OrderingColumn(String name, String queryName) {
 
         public OrderingColumn(final String name) {
@@ -25,6 +25,8 @@ import alpine.model.OidcUser;
 import alpine.persistence.OrderDirection;
 import alpine.resources.AlpineRequest;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalContextCache;
+import org.dependencytrack.auth.PrincipalContextCache.PrincipalContext;
 import org.dependencytrack.persistence.Ordering;
 import org.dependencytrack.persistence.jdbi.ApiRequestConfig.OrderingColumn;
 import org.jdbi.v3.core.qualifier.QualifiedType;
@@ -41,6 +43,9 @@ import java.util.Set;
 
 import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_FILTER_PARAMETER;
+import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_KEYSET_CONDITION;
+import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_KEYSET_CURSOR;
+import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_KEYSET_PAGINATION;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_ORDER_BY_CLAUSE;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_PROJECT_ACL_CONDITION;
@@ -53,6 +58,8 @@ import static org.jdbi.v3.core.generic.GenericTypes.parameterizeClass;
  * <ul>
  *     <li>filtering: {@value JdbiAttributes#ATTRIBUTE_API_FILTER_PARAMETER}</li>
  *     <li>pagination: {@value JdbiAttributes#ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE}</li>
+ *     <li>keyset pagination: {@value JdbiAttributes#ATTRIBUTE_API_KEYSET_PAGINATION},
+ *     {@value JdbiAttributes#ATTRIBUTE_API_KEYSET_CONDITION}, see {@link AllowApiKeysetPagination}</li>
  *     <li>ordering: {@value JdbiAttributes#ATTRIBUTE_API_ORDER_BY_CLAUSE}</li>
  *     <li>portfolio access control: {@value JdbiAttributes#ATTRIBUTE_API_PROJECT_ACL_CONDITION}</li>
  * </ul>
@@ -70,7 +77,10 @@ import static org.jdbi.v3.core.generic.GenericTypes.parameterizeClass;
 class ApiRequestStatementCustomizer implements StatementCustomizer {
 
     static final String PARAMETER_PROJECT_ACL_TEAM_IDS = "projectAclTeamIds";
-    static final String TEMPLATE_PROJECT_ACL_CONDITION = "HAS_PROJECT_ACCESS(%s, :projectAclTeamIds)";
+    static final String TEMPLATE_PROJECT_NOT_DELETED_CONDITION =
+            "%s NOT IN (SELECT \"ID\" FROM \"PROJECT\" WHERE \"DELETED_AT\" IS NOT NULL)";
+    static final String TEMPLATE_PROJECT_ACL_CONDITION =
+            "(HAS_PROJECT_ACCESS(%1$s, :projectAclTeamIds) AND " + TEMPLATE_PROJECT_NOT_DELETED_CONDITION.formatted("%1$s") + ")";
 
     private final AlpineRequest apiRequest;
 
@@ -81,8 +91,10 @@ class ApiRequestStatementCustomizer implements StatementCustomizer {
     @Override
     public void beforeTemplating(final PreparedStatement stmt, final StatementContext ctx) throws SQLException {
         defineFilter(ctx);
-        defineOrdering(ctx);
-        definePagination(ctx);
+        if (!defineKeysetPagination(ctx)) {
+            defineOrdering(ctx);
+            definePagination(ctx);
+        }
         defineProjectAclCondition(ctx);
     }
 
@@ -168,23 +180,61 @@ class ApiRequestStatementCustomizer implements StatementCustomizer {
         }
     }
 
+    private boolean defineKeysetPagination(final StatementContext ctx) {
+        if (!(ctx.getAttribute(ATTRIBUTE_API_KEYSET_CURSOR) instanceof final KeysetCursor cursor)) {
+            return false;
+        }
+
+        final var config = ctx.getConfig(ApiRequestConfig.class);
+        if (config.keysetColumn() == null) {
+            throw new IllegalArgumentException("Keyset pagination is not allowed");
+        }
+
+        // Ordering by the key column is required for the keyset condition to be stable.
+        // Custom ordering would require the cursor to encode all ordering columns,
+        // which is not supported at the moment.
+        ctx.define(ATTRIBUTE_API_KEYSET_PAGINATION, true);
+        ctx.define(ATTRIBUTE_API_ORDER_BY_CLAUSE, "ORDER BY %s ASC".formatted(config.keysetColumn()));
+        ctx.define(ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE, "FETCH NEXT :paginationLimit ROWS ONLY");
+        ctx.getBinding().addNamed("paginationLimit",
+                KeysetCursor.limit(apiRequest != null ? apiRequest.getPagination() : null));
+
+        if (cursor.afterKey() != null) {
+            ctx.define(ATTRIBUTE_API_KEYSET_CONDITION, "%s > :keysetAfterKey".formatted(config.keysetColumn()));
+            ctx.getBinding().addNamed("keysetAfterKey", cursor.afterKey());
+        }
+
+        return true;
+    }
+
     private void defineProjectAclCondition(final StatementContext ctx) throws SQLException {
+        final ApiRequestConfig config = ctx.getConfig(ApiRequestConfig.class);
+
+        // Projects pending asynchronous deletion must not be visible,
+        // regardless of whether the principal has access to them.
+        final String notDeletedCondition = TEMPLATE_PROJECT_NOT_DELETED_CONDITION.formatted(config.projectAclProjectIdColumn());
+
         if (apiRequest == null
             || apiRequest.getPrincipal() == null
-            || !isAclEnabled(ctx)
-            || hasAccessManagementPermission(ctx, apiRequest.getPrincipal())) {
-            ctx.define(ATTRIBUTE_API_PROJECT_ACL_CONDITION, "TRUE");
+            || !isAclEnabled(ctx)) {
+            ctx.define(ATTRIBUTE_API_PROJECT_ACL_CONDITION, notDeletedCondition);
             return;
         }
 
-        final Set<Long> principalTeamIds = getPrincipalTeamIds(apiRequest.getPrincipal());
+        final Principal principal = apiRequest.getPrincipal();
+        final PrincipalContext principalContext = PrincipalContextCache.getInstance().get(principal,
+                () -> new PrincipalContext(getPrincipalTeamIds(principal), hasAccessManagementPermission(ctx, principal)));
+        if (principalContext.hasAccessManagementPermission()) {
+            ctx.define(ATTRIBUTE_API_PROJECT_ACL_CONDITION, notDeletedCondition);
+            return;
+        }
+
+        final Set<Long> principalTeamIds = principalContext.teamIds();
         if (principalTeamIds.isEmpty()) {
             ctx.define(ATTRIBUTE_API_PROJECT_ACL_CONDITION, "FALSE");
             return;
         }
 
-        final ApiRequestConfig config = ctx.getConfig(ApiRequestConfig.class);
-
         ctx.define(
                 ATTRIBUTE_API_PROJECT_ACL_CONDITION,
                 TEMPLATE_PROJECT_ACL_CONDITION.formatted(config.projectAclProjectIdColumn())
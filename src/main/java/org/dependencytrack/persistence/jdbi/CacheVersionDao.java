@@ -0,0 +1,43 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.Optional;
+
+/**
+ * Provides access to the versions of data sets that application instances cache locally.
+ * <p>
+ * Versions are bumped by database triggers whenever the underlying data is modified,
+ * regardless of which instance or code path performed the modification.
+ *
+ * @since 5.6.0
+ */
+public interface CacheVersionDao {
+
+    @SqlQuery("""
+            SELECT "VERSION"
+              FROM "CACHE_VERSION"
+             WHERE "NAME" = :name
+            """)
+    Optional<Long> getVersion(@Bind String name);
+
+}
@@ -18,15 +18,25 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import jakarta.annotation.Nullable;
 import org.dependencytrack.model.ComponentOccurrence;
+import org.jdbi.v3.json.Json;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.customizer.DefineNamedBindings;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_KEYSET_CURSOR;
+
 public interface ComponentDao {
 
     @SqlUpdate("""
@@ -40,9 +50,12 @@ public interface ComponentDao {
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
             SELECT ${apiProjectAclCondition}
               FROM "COMPONENT"
-             WHERE "UUID" = :componentUuid
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
+             WHERE "COMPONENT"."UUID" = :componentUuid
+               AND "PROJECT"."DELETED_AT" IS NULL
             """)
-    @DefineApiProjectAclCondition(projectIdColumn = "\"PROJECT_ID\"")
+    @DefineApiProjectAclCondition(projectIdColumn = "\"COMPONENT\".\"PROJECT_ID\"")
     Boolean isAccessible(@Bind UUID componentUuid);
 
     @SqlQuery(/* language=InjectedFreeMarker */ """
@@ -68,4 +81,372 @@ public interface ComponentDao {
     @RegisterBeanMapper(ComponentOccurrence.class)
     List<ComponentOccurrence> getOccurrences(@Bind UUID componentUuid);
 
+    /**
+     * Search for components by their identity.
+     * <p>
+     * Patterns are matched case-insensitively using {@code LIKE}, and are expected
+     * to be lowercase already. Pattern matches on group, name, and purl are backed
+     * by trigram indexes. {@code purlFilter} and {@code purlCoordinatesFilter} are
+     * matched exactly, using the respective B-tree indexes.
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="projectIdFilter" type="Boolean" -->
+            <#-- @ftlvariable name="groupPattern" type="Boolean" -->
+            <#-- @ftlvariable name="namePattern" type="Boolean" -->
+            <#-- @ftlvariable name="versionPattern" type="Boolean" -->
+            <#-- @ftlvariable name="purlFilter" type="Boolean" -->
+            <#-- @ftlvariable name="purlCoordinatesFilter" type="Boolean" -->
+            <#-- @ftlvariable name="purlPattern" type="Boolean" -->
+            <#-- @ftlvariable name="cpePattern" type="Boolean" -->
+            <#-- @ftlvariable name="swidTagIdPattern" type="Boolean" -->
+            <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
+            <#-- @ftlvariable name="apiOrderByClause" type="String" -->
+            <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
+            SELECT "COMPONENT"."ID" AS "id"
+                 , "COMPONENT"."GROUP" AS "group"
+                 , "COMPONENT"."NAME" AS "name"
+                 , "COMPONENT"."VERSION" AS "version"
+                 , "COMPONENT"."LAST_RISKSCORE" AS "lastInheritedRiskScore"
+                 , COUNT(*) OVER() AS "totalCount"
+              FROM "COMPONENT"
+             WHERE ${apiProjectAclCondition}
+            <#if projectIdFilter>
+               AND "COMPONENT"."PROJECT_ID" = :projectIdFilter
+            </#if>
+            <#if groupPattern>
+               AND LOWER("COMPONENT"."GROUP") LIKE :groupPattern
+            </#if>
+            <#if namePattern>
+               AND LOWER("COMPONENT"."NAME") LIKE :namePattern
+            </#if>
+            <#if versionPattern>
+               AND LOWER("COMPONENT"."VERSION") LIKE :versionPattern
+            </#if>
+            <#if purlFilter>
+               AND "COMPONENT"."PURL" = :purlFilter
+            <#elseif purlCoordinatesFilter>
+               AND ("COMPONENT"."PURLCOORDINATES" = :purlCoordinatesFilter
+                    OR "COMPONENT"."PURL" = :purlCoordinatesFilter
+                    OR LOWER("COMPONENT"."PURL") LIKE :purlCoordinatesQualifiersPattern
+                    OR LOWER("COMPONENT"."PURL") LIKE :purlCoordinatesSubpathPattern)
+            <#elseif purlPattern>
+               AND LOWER("COMPONENT"."PURL") LIKE :purlPattern
+            </#if>
+            <#if cpePattern>
+               AND LOWER("COMPONENT"."CPE") LIKE :cpePattern
+            </#if>
+            <#if swidTagIdPattern>
+               AND LOWER("COMPONENT"."SWIDTAGID") LIKE :swidTagIdPattern
+            </#if>
+            <#if apiOrderByClause??>
+              ${apiOrderByClause}
+            <#else>
+             ORDER BY "id"
+            </#if>
+            ${apiOffsetLimitClause!}
+            """)
+    @DefineNamedBindings
+    @DefineApiProjectAclCondition(projectIdColumn = "\"COMPONENT\".\"PROJECT_ID\"")
+    @AllowApiOrdering(alwaysBy = "id", by = {
+            @AllowApiOrdering.Column(name = "id"),
+            @AllowApiOrdering.Column(name = "group"),
+            @AllowApiOrdering.Column(name = "name"),
+            @AllowApiOrdering.Column(name = "version"),
+            @AllowApiOrdering.Column(name = "lastInheritedRiskScore")
+    })
+    @RegisterConstructorMapper(IdentitySearchRow.class)
+    List<IdentitySearchRow> searchByIdentity(
+            @Bind Long projectIdFilter,
+            @Bind String groupPattern,
+            @Bind String namePattern,
+            @Bind String versionPattern,
+            @Bind String purlFilter,
+            @Bind String purlCoordinatesFilter,
+            @Bind String purlCoordinatesQualifiersPattern,
+            @Bind String purlCoordinatesSubpathPattern,
+            @Bind String purlPattern,
+            @Bind String cpePattern,
+            @Bind String swidTagIdPattern
+    );
+
+    record IdentitySearchRow(long id, long totalCount) {
+    }
+
+    @SqlQuery("""
+            SELECT "COMPONENT"."ID" AS "componentId"
+                 , "INTEGRITY_META_COMPONENT"."PUBLISHED_AT" AS "publishedAt"
+                 , "INTEGRITY_META_COMPONENT"."LAST_FETCH" AS "lastFetch"
+                 , "INTEGRITY_META_COMPONENT"."REPOSITORY_URL" AS "repositoryUrl"
+                 , "INTEGRITY_ANALYSIS"."INTEGRITY_CHECK_STATUS" AS "integrityCheckStatus"
+              FROM "COMPONENT"
+             INNER JOIN "INTEGRITY_META_COMPONENT"
+                ON "INTEGRITY_META_COMPONENT"."PURL" = "COMPONENT"."PURL"
+              LEFT JOIN "INTEGRITY_ANALYSIS"
+                ON "INTEGRITY_ANALYSIS"."COMPONENT_ID" = "COMPONENT"."ID"
+             WHERE "COMPONENT"."ID" = ANY(:componentIds)
+            """)
+    @RegisterConstructorMapper(MetaInformationRow.class)
+    List<MetaInformationRow> getMetaInformation(@Bind List<Long> componentIds);
+
+    record MetaInformationRow(
+            long componentId,
+            @Nullable Instant publishedAt,
+            @Nullable Instant lastFetch,
+            @Nullable String repositoryUrl,
+            @Nullable String integrityCheckStatus
+    ) {
+    }
+
+    /**
+     * Search for components by digest, using the index on {@code COMPONENT_HASH}.
+     * <p>
+     * The digest is matched regardless of the algorithm that produced it.
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
+            <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
+            SELECT "COMPONENT"."ID" AS "id"
+                 , COUNT(*) OVER() AS "totalCount"
+              FROM "COMPONENT"
+             WHERE EXISTS (SELECT 1
+                             FROM "COMPONENT_HASH"
+                            WHERE "COMPONENT_HASH"."COMPONENT_ID" = "COMPONENT"."ID"
+                              AND "COMPONENT_HASH"."DIGEST" = :digest)
+               AND ${apiProjectAclCondition}
+             ORDER BY "COMPONENT"."ID"
+            ${apiOffsetLimitClause!}
+            """)
+    @DefineApiProjectAclCondition(projectIdColumn = "\"COMPONENT\".\"PROJECT_ID\"")
+    @RegisterConstructorMapper(HashSearchRow.class)
+    List<HashSearchRow> searchByHash(@Bind byte[] digest);
+
+    record HashSearchRow(long id, long totalCount) {
+    }
+
+    /**
+     * Resolve multiple hashes to the components carrying them.
+     * <p>
+     * Hashes are expected to be valid, lowercase hex strings. They are decoded
+     * to raw bytes in the database, such that the index on {@code COMPONENT_HASH}
+     * can be used for all of them in a single scan.
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
+            SELECT ENCODE("COMPONENT_HASH"."DIGEST", 'hex') AS "hash"
+                 , "COMPONENT_HASH"."ALGORITHM" AS "algorithm"
+                 , "COMPONENT"."UUID" AS "uuid"
+                 , "COMPONENT"."GROUP" AS "group"
+                 , "COMPONENT"."NAME" AS "name"
+                 , "COMPONENT"."VERSION" AS "version"
+                 , "COMPONENT"."PURL" AS "purl"
+                 , "PROJECT"."UUID" AS "projectUuid"
+                 , "PROJECT"."NAME" AS "projectName"
+                 , "PROJECT"."VERSION" AS "projectVersion"
+              FROM "COMPONENT_HASH"
+             INNER JOIN "COMPONENT"
+                ON "COMPONENT"."ID" = "COMPONENT_HASH"."COMPONENT_ID"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
+             WHERE "COMPONENT_HASH"."DIGEST" = ANY(ARRAY(SELECT DECODE("HASH", 'hex') FROM UNNEST(:hashes) AS "HASH"))
+               AND ${apiProjectAclCondition}
+               AND "PROJECT"."DELETED_AT" IS NULL
+             ORDER BY "hash", "COMPONENT"."ID"
+            """)
+    @DefineApiProjectAclCondition(projectIdColumn = "\"COMPONENT\".\"PROJECT_ID\"")
+    @RegisterConstructorMapper(HashLookupRow.class)
+    List<HashLookupRow> lookupByHashes(@Bind Collection<String> hashes);
+
+    record HashLookupRow(
+            String hash,
+            String algorithm,
+            UUID uuid,
+            @Nullable String group,
+            String name,
+            @Nullable String version,
+            @Nullable String purl,
+            UUID projectUuid,
+            String projectName,
+            @Nullable String projectVersion
+    ) {
+    }
+
+    /**
+     * Retrieve a page of a project's components, in a concise representation.
+     * <p>
+     * The latest metrics, latest version as reported by repository metadata, and
+     * integrity analysis status are joined in the same statement, such that no
+     * additional queries are required per component.
+     * <p>
+     * Repository metadata is matched using the component's group and name,
+     * and the repository type derived from the component's purl.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="onlyOutdated" type="Boolean" -->
+            <#-- @ftlvariable name="onlyDirect" type="Boolean" -->
+            <#-- @ftlvariable name="onlyInternal" type="Boolean" -->
+            <#-- @ftlvariable name="apiFilterParameter" type="String" -->
+            <#-- @ftlvariable name="apiOrderByClause" type="String" -->
+            <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
+            <#-- @ftlvariable name="apiKeysetPagination" type="Boolean" -->
+            <#-- @ftlvariable name="apiKeysetCondition" type="String" -->
+            SELECT "COMPONENT"."ID" AS "id"
+                 , "COMPONENT"."UUID" AS "uuid"
+                 , "COMPONENT"."GROUP" AS "group"
+                 , "COMPONENT"."NAME" AS "name"
+                 , "COMPONENT"."VERSION" AS "version"
+                 , "COMPONENT"."CLASSIFIER" AS "classifier"
+                 , "COMPONENT"."PURL" AS "purl"
+                 , "COMPONENT"."CPE" AS "cpe"
+                 , COALESCE("COMPONENT"."INTERNAL", FALSE) AS "internal"
+                 , "LICENSE"."LICENSEID" AS "resolvedLicenseId"
+                 , COALESCE("LICENSE"."NAME", "COMPONENT"."LICENSE") AS "licenseName"
+                 , "COMPONENT"."LICENSE_EXPRESSION" AS "licenseExpression"
+                 , "COMPONENT"."LAST_RISKSCORE" AS "lastInheritedRiskScore"
+                 , (SELECT COUNT(*)
+                      FROM "COMPONENT_OCCURRENCE"
+                     WHERE "COMPONENT_OCCURRENCE"."COMPONENT_ID" = "COMPONENT"."ID") AS "occurrenceCount"
+                 , "REPO_META"."LATEST_VERSION" AS "latestVersion"
+                 , "REPO_META"."PUBLISHED" AS "latestVersionPublishedAt"
+                 , "INTEGRITY_ANALYSIS"."INTEGRITY_CHECK_STATUS" AS "integrityCheckStatus"
+                 , TO_JSONB("METRICS") AS "metrics"
+            <#if apiKeysetPagination??>
+                 , NULL AS "totalCount"
+            <#else>
+                 , COUNT(*) OVER() AS "totalCount"
+            </#if>
+              FROM "COMPONENT"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
+              LEFT JOIN "LICENSE"
+                ON "LICENSE"."ID" = "COMPONENT"."LICENSE_ID"
+              LEFT JOIN "INTEGRITY_ANALYSIS"
+                ON "INTEGRITY_ANALYSIS"."COMPONENT_ID" = "COMPONENT"."ID"
+              LEFT JOIN LATERAL (
+                SELECT "LATEST_VERSION"
+                     , "PUBLISHED"
+                  FROM "REPOSITORY_META_COMPONENT"
+                 WHERE "REPOSITORY_TYPE" = CASE SUBSTRING("COMPONENT"."PURL" FROM '^pkg:([^/]+)/')
+                                             WHEN 'cargo' THEN 'CARGO'
+                                             WHEN 'composer' THEN 'COMPOSER'
+                                             WHEN 'cpan' THEN 'CPAN'
+                                             WHEN 'gem' THEN 'GEM'
+                                             WHEN 'github' THEN 'GITHUB'
+                                             WHEN 'golang' THEN 'GO_MODULES'
+                                             WHEN 'hackage' THEN 'HACKAGE'
+                                             WHEN 'hex' THEN 'HEX'
+                                             WHEN 'maven' THEN 'MAVEN'
+                                             WHEN 'nixpkgs' THEN 'NIXPKGS'
+                                             WHEN 'npm' THEN 'NPM'
+                                             WHEN 'nuget' THEN 'NUGET'
+                                             WHEN 'pypi' THEN 'PYPI'
+                                           END
+                   AND ("NAMESPACE" = "COMPONENT"."GROUP"
+                        OR ("NAMESPACE" IS NULL AND "COMPONENT"."GROUP" IS NULL))
+                   AND "NAME" = "COMPONENT"."NAME"
+                 LIMIT 1
+              ) AS "REPO_META" ON TRUE
+              LEFT JOIN LATERAL (
+                SELECT "CRITICAL"
+                     , "HIGH"
+                     , "MEDIUM"
+                     , "LOW"
+                     , "UNASSIGNED_SEVERITY"
+                     , "VULNERABILITIES"
+                     , "SUPPRESSED"
+                     , "FINDINGS_TOTAL"
+                     , "FINDINGS_AUDITED"
+                     , "POLICYVIOLATIONS_FAIL"
+                     , "POLICYVIOLATIONS_WARN"
+                     , "POLICYVIOLATIONS_INFO"
+                     , "POLICYVIOLATIONS_TOTAL"
+                     , "RISKSCORE"
+                  FROM "COMPONENT_METRICS_LATEST"
+                 WHERE "COMPONENT_METRICS_LATEST"."COMPONENT_ID" = "COMPONENT"."ID"
+              ) AS "METRICS" ON TRUE
+             WHERE "COMPONENT"."PROJECT_ID" = :projectId
+            <#if apiKeysetCondition??>
+               AND ${apiKeysetCondition}
+            </#if>
+            <#if apiFilterParameter??>
+               AND (LOWER("COMPONENT"."NAME") LIKE ('%' || LOWER(${apiFilterParameter}) || '%')
+                    OR LOWER("COMPONENT"."GROUP") LIKE ('%' || LOWER(${apiFilterParameter}) || '%'))
+            </#if>
+            <#if onlyOutdated>
+               AND "REPO_META"."LATEST_VERSION" <> "COMPONENT"."VERSION"
+            </#if>
+            <#if onlyDirect>
+               AND "PROJECT"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "COMPONENT"."UUID"))
+            </#if>
+            <#if onlyInternal>
+               AND "COMPONENT"."INTERNAL"
+            </#if>
+            <#if apiOrderByClause??>
+              ${apiOrderByClause}
+            <#else>
+             ORDER BY "name", "version" DESC, "id"
+            </#if>
+            ${apiOffsetLimitClause!}
+            """)
+    @AllowApiOrdering(alwaysBy = "id", by = {
+            @AllowApiOrdering.Column(name = "id"),
+            @AllowApiOrdering.Column(name = "group"),
+            @AllowApiOrdering.Column(name = "name"),
+            @AllowApiOrdering.Column(name = "version"),
+            @AllowApiOrdering.Column(name = "lastInheritedRiskScore"),
+            @AllowApiOrdering.Column(name = "occurrenceCount"),
+            @AllowApiOrdering.Column(name = "integrityCheckStatus")
+    })
+    @AllowApiKeysetPagination(column = "\"COMPONENT\".\"ID\"")
+    @RegisterConstructorMapper(ConciseComponentListRow.class)
+    List<ConciseComponentListRow> getProjectComponentsPageConcise(
+            @Bind long projectId,
+            @Define boolean onlyOutdated,
+            @Define boolean onlyDirect,
+            @Define boolean onlyInternal,
+            @Define(ATTRIBUTE_API_KEYSET_CURSOR) KeysetCursor keysetCursor
+    );
+
+    record ConciseComponentListRow(
+            long id,
+            UUID uuid,
+            @Nullable String group,
+            String name,
+            @Nullable String version,
+            @Nullable String classifier,
+            @Nullable String purl,
+            @Nullable String cpe,
+            boolean internal,
+            @Nullable String resolvedLicenseId,
+            @Nullable String licenseName,
+            @Nullable String licenseExpression,
+            @Nullable Double lastInheritedRiskScore,
+            long occurrenceCount,
+            @Nullable String latestVersion,
+            @Nullable Instant latestVersionPublishedAt,
+            @Nullable String integrityCheckStatus,
+            @Nullable @Json ConciseComponentMetricsRow metrics,
+            @Nullable Long totalCount
+    ) {
+    }
+
+    record ConciseComponentMetricsRow(
+            int critical,
+            int high,
+            int medium,
+            int low,
+            @JsonAlias("unassigned_severity") int unassigned,
+            int vulnerabilities,
+            int suppressed,
+            @JsonAlias("findings_total") int findingsTotal,
+            @JsonAlias("findings_audited") int findingsAudited,
+            @JsonAlias("policyviolations_fail") int policyViolationsFail,
+            @JsonAlias("policyviolations_warn") int policyViolationsWarn,
+            @JsonAlias("policyviolations_info") int policyViolationsInfo,
+            @JsonAlias("policyviolations_total") int policyViolationsTotal,
+            @JsonAlias("riskscore") double riskScore
+    ) {
+    }
+
 }
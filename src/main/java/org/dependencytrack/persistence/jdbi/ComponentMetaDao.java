@@ -18,30 +18,47 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
-import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.List;
 
 /**
  * @since 5.6.0
  */
 public interface ComponentMetaDao {
 
-    @SqlUpdate("""
+    @SqlQuery("""
             DELETE
               FROM "INTEGRITY_META_COMPONENT"
-             WHERE NOT EXISTS(
-               SELECT 1
-                 FROM "COMPONENT"
-                WHERE "COMPONENT"."PURL" = "INTEGRITY_META_COMPONENT"."PURL")
+             WHERE ctid IN (
+               SELECT ctid
+                 FROM "INTEGRITY_META_COMPONENT"
+                WHERE "ID" > :afterId
+                  AND NOT EXISTS(
+                    SELECT 1
+                      FROM "COMPONENT"
+                     WHERE "COMPONENT"."PURL" = "INTEGRITY_META_COMPONENT"."PURL")
+                ORDER BY "ID"
+                LIMIT :batchSize)
+            RETURNING "ID"
             """)
-    int deleteOrphanIntegrityMetaComponents();
+    List<Long> deleteOrphanIntegrityMetaComponents(@Bind long afterId, @Bind int batchSize);
 
     // TODO: Do a NOT EXISTS query against the COMPONENT table instead.
     //  Requires https://github.com/DependencyTrack/hyades/issues/1465.
-    @SqlUpdate("""
+    @SqlQuery("""
             DELETE
               FROM "REPOSITORY_META_COMPONENT"
-             WHERE NOW() - "LAST_CHECK" > INTERVAL '30' DAY
+             WHERE ctid IN (
+               SELECT ctid
+                 FROM "REPOSITORY_META_COMPONENT"
+                WHERE "ID" > :afterId
+                  AND NOW() - "LAST_CHECK" > INTERVAL '30' DAY
+                ORDER BY "ID"
+                LIMIT :batchSize)
+            RETURNING "ID"
             """)
-    int deleteOrphanRepositoryMetaComponents();
+    List<Long> deleteOrphanRepositoryMetaComponents(@Bind long afterId, @Bind int batchSize);
 
 }
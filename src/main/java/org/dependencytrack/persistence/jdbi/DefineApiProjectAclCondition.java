@@ -34,6 +34,7 @@ import java.sql.PreparedStatement;
 
 import static org.dependencytrack.persistence.jdbi.ApiRequestStatementCustomizer.PARAMETER_PROJECT_ACL_TEAM_IDS;
 import static org.dependencytrack.persistence.jdbi.ApiRequestStatementCustomizer.TEMPLATE_PROJECT_ACL_CONDITION;
+import static org.dependencytrack.persistence.jdbi.ApiRequestStatementCustomizer.TEMPLATE_PROJECT_NOT_DELETED_CONDITION;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_PROJECT_ACL_CONDITION;
 
 /**
@@ -111,12 +112,15 @@ public @interface DefineApiProjectAclCondition {
 
             if (ctx.getBinding().findForName(PARAMETER_PROJECT_ACL_TEAM_IDS, ctx).isPresent()) {
                 // The existing condition has defined team IDs for the ACL check already,
-                // so it's not a trivial TRUE or FALSE. Re-use those bindings by defining
+                // so it's not a trivial FALSE. Re-use those bindings by defining
                 // a new condition, using the chosen project table alias.
                 ctx.define(attributeName, TEMPLATE_PROJECT_ACL_CONDITION.formatted(projectIdColumn));
-            } else {
-                // Likely a trivial TRUE or FALSE; Just re-use it.
+            } else if ("FALSE".equals(aclCondition)) {
+                // Trivial FALSE; Just re-use it.
                 ctx.define(attributeName, aclCondition);
+            } else {
+                // No ACL check required, but deleted projects must still be excluded.
+                ctx.define(attributeName, TEMPLATE_PROJECT_NOT_DELETED_CONDITION.formatted(projectIdColumn));
             }
         }
 
@@ -26,6 +26,9 @@ package org.dependencytrack.persistence.jdbi;
 final class JdbiAttributes {
 
     static final String ATTRIBUTE_API_FILTER_PARAMETER = "apiFilterParameter";
+    static final String ATTRIBUTE_API_KEYSET_CONDITION = "apiKeysetCondition";
+    static final String ATTRIBUTE_API_KEYSET_CURSOR = "apiKeysetCursor";
+    static final String ATTRIBUTE_API_KEYSET_PAGINATION = "apiKeysetPagination";
     static final String ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE = "apiOffsetLimitClause";
     static final String ATTRIBUTE_API_ORDER_BY_CLAUSE = "apiOrderByClause";
     static final String ATTRIBUTE_API_PROJECT_ACL_CONDITION = "apiProjectAclCondition";
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import alpine.persistence.Pagination;
+import jakarta.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * An opaque cursor for keyset pagination.
+ *
+ * @param afterKey The key of the last record of the previous page,
+ *                 or {@code null} when requesting the first page
+ * @see AllowApiKeysetPagination
+ * @since 5.6.0
+ */
+public record KeysetCursor(@Nullable Long afterKey) {
+
+    /**
+     * Number of records per page, if no explicit limit was requested.
+     */
+    public static final int DEFAULT_LIMIT = 100;
+
+    private static final String PREFIX = "k1:";
+
+    /**
+     * Decode a cursor as provided by clients.
+     *
+     * @param cursor The encoded cursor. An empty value denotes the first page.
+     * @return The decoded {@link KeysetCursor}
+     * @throws IllegalArgumentException When the cursor is invalid
+     */
+    public static KeysetCursor decode(final String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new KeysetCursor(null);
+        }
+
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (!decoded.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        try {
+            return new KeysetCursor(Long.parseLong(decoded.substring(PREFIX.length())));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Encode a cursor pointing to the page after the record with a given key.
+     *
+     * @param key The key of the last record of the current page
+     * @return The encoded cursor
+     */
+    public static String encode(final long key) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param pagination The requested {@link Pagination}, if any
+     * @return The maximum number of records per page
+     */
+    public static int limit(final Pagination pagination) {
+        return pagination != null && pagination.isPaginated()
+                ? pagination.getLimit()
+                : DEFAULT_LIMIT;
+    }
+
+}
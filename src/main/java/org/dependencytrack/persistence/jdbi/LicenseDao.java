@@ -0,0 +1,99 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.BindMethodsList;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @since 5.6.0
+ */
+public interface LicenseDao {
+
+    @SqlQuery("""
+            SELECT "ID"
+                 , "LICENSEID"
+                 , "NAME"
+                 , COALESCE("ISCUSTOMLICENSE", FALSE) AS "ISCUSTOMLICENSE"
+              FROM "LICENSE"
+             ORDER BY "LICENSEID", "ID"
+            """)
+    @RegisterConstructorMapper(LicenseIdentity.class)
+    List<LicenseIdentity> getAllLicenseIdentities();
+
+    /**
+     * Create or update the given SPDX licenses with a single multi-row statement.
+     * <p>
+     * Existing licenses are matched on their license ID. Their {@code UUID} and custom
+     * license flag are retained, and rows whose content did not change are not touched.
+     * The given list must not contain duplicate license IDs.
+     *
+     * @param licenses The licenses to upsert
+     * @return Number of created or modified licenses
+     */
+    @SqlUpdate("""
+            INSERT INTO "LICENSE"
+              ("LICENSEID", "NAME", "TEXT", "TEMPLATE", "HEADER", "COMMENT", "ISOSIAPPROVED", "FSFLIBRE", "ISDEPRECATED", "ISCUSTOMLICENSE", "SEEALSO", "UUID")
+            VALUES ${licenses}
+            ON CONFLICT ("LICENSEID") DO UPDATE
+            SET "NAME" = EXCLUDED."NAME"
+              , "TEXT" = EXCLUDED."TEXT"
+              , "TEMPLATE" = EXCLUDED."TEMPLATE"
+              , "HEADER" = EXCLUDED."HEADER"
+              , "COMMENT" = EXCLUDED."COMMENT"
+              , "ISOSIAPPROVED" = EXCLUDED."ISOSIAPPROVED"
+              , "FSFLIBRE" = EXCLUDED."FSFLIBRE"
+              , "ISDEPRECATED" = EXCLUDED."ISDEPRECATED"
+              , "SEEALSO" = EXCLUDED."SEEALSO"
+            WHERE ("LICENSE"."NAME", "LICENSE"."TEXT", "LICENSE"."TEMPLATE", "LICENSE"."HEADER", "LICENSE"."COMMENT", "LICENSE"."ISOSIAPPROVED", "LICENSE"."FSFLIBRE", "LICENSE"."ISDEPRECATED", "LICENSE"."SEEALSO")
+                  IS DISTINCT FROM (EXCLUDED."NAME", EXCLUDED."TEXT", EXCLUDED."TEMPLATE", EXCLUDED."HEADER", EXCLUDED."COMMENT", EXCLUDED."ISOSIAPPROVED", EXCLUDED."FSFLIBRE", EXCLUDED."ISDEPRECATED", EXCLUDED."SEEALSO")
+            """)
+    int upsertAll(@BindMethodsList(value = "licenses", methodNames = {
+            "licenseId", "name", "text", "template", "header", "comment", "osiApproved",
+            "fsfLibre", "deprecated", "customLicense", "seeAlso", "uuid"}) List<LicenseUpsert> licenses);
+
+    record LicenseUpsert(
+            String licenseId,
+            String name,
+            String text,
+            String template,
+            String header,
+            String comment,
+            boolean osiApproved,
+            boolean fsfLibre,
+            boolean deprecated,
+            boolean customLicense,
+            byte[] seeAlso,
+            UUID uuid) {
+    }
+
+    record LicenseIdentity(
+            @ColumnName("ID") long id,
+            @ColumnName("LICENSEID") String licenseId,
+            @ColumnName("NAME") String name,
+            @ColumnName("ISCUSTOMLICENSE") boolean customLicense) {
+    }
+
+}
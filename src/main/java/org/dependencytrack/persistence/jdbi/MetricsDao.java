@@ -19,40 +19,161 @@
 package org.dependencytrack.persistence.jdbi;
 
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * @since 5.6.0
  */
 public interface MetricsDao {
 
-    @SqlUpdate("""
+    /**
+     * Names of the metrics tables that are range-partitioned by {@code LAST_OCCURRENCE}.
+     */
+    List<String> PARTITIONED_TABLE_NAMES = List.of("DEPENDENCYMETRICS", "PROJECTMETRICS");
+
+    @SqlQuery("""
+            SELECT "CREATE_METRICS_PARTITIONS"(:tableName, :daysAhead)
+            """)
+    int createPartitions(@Bind String tableName, @Bind int daysAhead);
+
+    @SqlQuery("""
+            SELECT "DROP_EXPIRED_METRICS_PARTITIONS"(:tableName, :retentionDuration)
+            """)
+    int dropExpiredPartitions(@Bind String tableName, @Bind Duration retentionDuration);
+
+    @SqlQuery("""
             DELETE
               FROM "DEPENDENCYMETRICS"
-             USING "PROJECT"
-             WHERE "PROJECT"."ID" = "DEPENDENCYMETRICS"."PROJECT_ID"
-               AND "PROJECT"."INACTIVE_SINCE" IS NULL
-               AND NOW() - "DEPENDENCYMETRICS"."LAST_OCCURRENCE" > :duration
+             WHERE (tableoid, ctid) IN (
+               SELECT "M".tableoid, "M".ctid
+                 FROM "DEPENDENCYMETRICS" AS "M"
+                INNER JOIN "PROJECT"
+                   ON "PROJECT"."ID" = "M"."PROJECT_ID"
+                WHERE "M"."ID" > :afterId
+                  AND "M"."LAST_OCCURRENCE" < NOW() - :duration
+                  AND "PROJECT"."INACTIVE_SINCE" IS NULL
+                ORDER BY "M"."ID"
+                LIMIT :batchSize)
+            RETURNING "ID"
             """)
-    int deleteComponentMetricsForRetentionDuration(@Bind Duration duration);
+    List<Long> deleteComponentMetricsForRetentionDuration(@Bind Duration duration, @Bind long afterId, @Bind int batchSize);
 
-    @SqlUpdate("""
+    @SqlQuery("""
             DELETE
               FROM "PROJECTMETRICS"
-             USING "PROJECT"
-             WHERE "PROJECT"."ID" = "PROJECTMETRICS"."PROJECT_ID"
-               AND "PROJECT"."INACTIVE_SINCE" IS NULL
-               AND NOW() - "PROJECTMETRICS"."LAST_OCCURRENCE" > :duration
+             WHERE (tableoid, ctid) IN (
+               SELECT "M".tableoid, "M".ctid
+                 FROM "PROJECTMETRICS" AS "M"
+                INNER JOIN "PROJECT"
+                   ON "PROJECT"."ID" = "M"."PROJECT_ID"
+                WHERE "M"."ID" > :afterId
+                  AND "M"."LAST_OCCURRENCE" < NOW() - :duration
+                  AND "PROJECT"."INACTIVE_SINCE" IS NULL
+                ORDER BY "M"."ID"
+                LIMIT :batchSize)
+            RETURNING "ID"
             """)
-    int deleteProjectMetricsForRetentionDuration(@Bind Duration duration);
+    List<Long> deleteProjectMetricsForRetentionDuration(@Bind Duration duration, @Bind long afterId, @Bind int batchSize);
 
+    /**
+     * Downsamples {@code DEPENDENCYMETRICS} of active projects in the range {@code [from, to)} to weekly resolution.
+     * <p>
+     * Per week and component, only the most recent data point is retained, and its {@code FIRST_OCCURRENCE}
+     * is extended to the earliest {@code FIRST_OCCURRENCE} of that week. Weeks are aligned to
+     * ISO weeks in UTC. Applying this to already downsampled data is a no-op.
+     *
+     * @return Number of data points deleted
+     */
     @SqlUpdate("""
+            WITH "CTE_WEEKLY" AS (
+              SELECT "DM"."ID"
+                   , "DM"."LAST_OCCURRENCE"
+                   , ROW_NUMBER() OVER ("WEEK" ORDER BY "DM"."LAST_OCCURRENCE" DESC) AS "ROW_NUMBER"
+                   , MIN("DM"."FIRST_OCCURRENCE") OVER "WEEK" AS "WEEK_FIRST_OCCURRENCE"
+                FROM "DEPENDENCYMETRICS" AS "DM"
+               INNER JOIN "PROJECT"
+                  ON "PROJECT"."ID" = "DM"."PROJECT_ID"
+               WHERE "PROJECT"."INACTIVE_SINCE" IS NULL
+                 AND "DM"."LAST_OCCURRENCE" >= :from
+                 AND "DM"."LAST_OCCURRENCE" < :to
+              WINDOW "WEEK" AS (PARTITION BY "DM"."COMPONENT_ID", DATE_TRUNC('week', "DM"."LAST_OCCURRENCE", 'UTC'))
+            ),
+            "CTE_EXTENDED" AS (
+              UPDATE "DEPENDENCYMETRICS" AS "DM"
+                 SET "FIRST_OCCURRENCE" = "CTE_WEEKLY"."WEEK_FIRST_OCCURRENCE"
+                FROM "CTE_WEEKLY"
+               WHERE "CTE_WEEKLY"."ROW_NUMBER" = 1
+                 AND "DM"."ID" = "CTE_WEEKLY"."ID"
+                 AND "DM"."LAST_OCCURRENCE" = "CTE_WEEKLY"."LAST_OCCURRENCE"
+                 AND "DM"."FIRST_OCCURRENCE" > "CTE_WEEKLY"."WEEK_FIRST_OCCURRENCE"
+            )
+            DELETE
+              FROM "DEPENDENCYMETRICS" AS "DM"
+             USING "CTE_WEEKLY"
+             WHERE "CTE_WEEKLY"."ROW_NUMBER" > 1
+               AND "DM"."ID" = "CTE_WEEKLY"."ID"
+               AND "DM"."LAST_OCCURRENCE" = "CTE_WEEKLY"."LAST_OCCURRENCE"
+            """)
+    int downsampleComponentMetrics(@Bind Instant from, @Bind Instant to);
+
+    /**
+     * Downsamples {@code PROJECTMETRICS} of active projects in the range {@code [from, to)} to weekly resolution.
+     * <p>
+     * Per week and project, only the most recent data point is retained, and its {@code FIRST_OCCURRENCE}
+     * is extended to the earliest {@code FIRST_OCCURRENCE} of that week. Weeks are aligned to
+     * ISO weeks in UTC. Applying this to already downsampled data is a no-op.
+     *
+     * @return Number of data points deleted
+     */
+    @SqlUpdate("""
+            WITH "CTE_WEEKLY" AS (
+              SELECT "PM"."ID"
+                   , "PM"."LAST_OCCURRENCE"
+                   , ROW_NUMBER() OVER ("WEEK" ORDER BY "PM"."LAST_OCCURRENCE" DESC) AS "ROW_NUMBER"
+                   , MIN("PM"."FIRST_OCCURRENCE") OVER "WEEK" AS "WEEK_FIRST_OCCURRENCE"
+                FROM "PROJECTMETRICS" AS "PM"
+               INNER JOIN "PROJECT"
+                  ON "PROJECT"."ID" = "PM"."PROJECT_ID"
+               WHERE "PROJECT"."INACTIVE_SINCE" IS NULL
+                 AND "PM"."LAST_OCCURRENCE" >= :from
+                 AND "PM"."LAST_OCCURRENCE" < :to
+              WINDOW "WEEK" AS (PARTITION BY "PM"."PROJECT_ID", DATE_TRUNC('week', "PM"."LAST_OCCURRENCE", 'UTC'))
+            ),
+            "CTE_EXTENDED" AS (
+              UPDATE "PROJECTMETRICS" AS "PM"
+                 SET "FIRST_OCCURRENCE" = "CTE_WEEKLY"."WEEK_FIRST_OCCURRENCE"
+                FROM "CTE_WEEKLY"
+               WHERE "CTE_WEEKLY"."ROW_NUMBER" = 1
+                 AND "PM"."ID" = "CTE_WEEKLY"."ID"
+                 AND "PM"."LAST_OCCURRENCE" = "CTE_WEEKLY"."LAST_OCCURRENCE"
+                 AND "PM"."FIRST_OCCURRENCE" > "CTE_WEEKLY"."WEEK_FIRST_OCCURRENCE"
+            )
+            DELETE
+              FROM "PROJECTMETRICS" AS "PM"
+             USING "CTE_WEEKLY"
+             WHERE "CTE_WEEKLY"."ROW_NUMBER" > 1
+               AND "PM"."ID" = "CTE_WEEKLY"."ID"
+               AND "PM"."LAST_OCCURRENCE" = "CTE_WEEKLY"."LAST_OCCURRENCE"
+            """)
+    int downsampleProjectMetrics(@Bind Instant from, @Bind Instant to);
+
+    @SqlQuery("""
             DELETE
               FROM "PORTFOLIOMETRICS"
-             WHERE NOW() - "LAST_OCCURRENCE" > :duration
+             WHERE ctid IN (
+               SELECT ctid
+                 FROM "PORTFOLIOMETRICS"
+                WHERE "ID" > :afterId
+                  AND NOW() - "LAST_OCCURRENCE" > :duration
+                ORDER BY "ID"
+                LIMIT :batchSize)
+            RETURNING "ID"
             """)
-    int deletePortfolioMetricsForRetentionDuration(@Bind Duration duration);
+    List<Long> deletePortfolioMetricsForRetentionDuration(@Bind Duration duration, @Bind long afterId, @Bind int batchSize);
 
 }
@@ -47,6 +47,7 @@ import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -137,23 +138,57 @@ public interface NotificationSubjectDao extends SqlObject {
               '/api/v1/vulnerability/source/' || "V"."SOURCE" || '/vuln/' || "V"."VULNID" || '/projects' AS "affectedProjectsApiUrl",
               '/vulnerabilities/' || "V"."SOURCE" || '/' || "V"."VULNID" || '/affectedProjects'          AS "affectedProjectsFrontendUrl"
             FROM
-              "COMPONENT" AS "C"
+              UNNEST(:componentUuids, :vulnUuids) AS "PAIR"("COMPONENT_UUID", "VULN_UUID")
+            INNER JOIN
+              "COMPONENT" AS "C" ON "C"."UUID" = "PAIR"."COMPONENT_UUID"
             INNER JOIN
               "PROJECT" AS "P" ON "P"."ID" = "C"."PROJECT_ID"
             INNER JOIN
-              "COMPONENTS_VULNERABILITIES" AS "CV" ON "CV"."COMPONENT_ID" = "C"."ID"
+              "VULNERABILITY" AS "V" ON "V"."UUID" = "PAIR"."VULN_UUID"
             INNER JOIN
-              "VULNERABILITY" AS "V" ON "V"."ID" = "CV"."VULNERABILITY_ID"
+              "COMPONENTS_VULNERABILITIES" AS "CV" ON "CV"."COMPONENT_ID" = "C"."ID" AND "CV"."VULNERABILITY_ID" = "V"."ID"
             LEFT JOIN
               "ANALYSIS" AS "A" ON "A"."COMPONENT_ID" = "C"."ID" AND "A"."VULNERABILITY_ID" = "V"."ID"
             WHERE
-              "C"."UUID" = :componentUuid AND "V"."UUID" = ANY(:vulnUuids)
-              AND ("A"."SUPPRESSED" IS NULL OR NOT "A"."SUPPRESSED")
+              ("A"."SUPPRESSED" IS NULL OR NOT "A"."SUPPRESSED")
+              AND "P"."DELETED_AT" IS NULL
             """)
     @RegisterRowMapper(NotificationSubjectNewVulnerabilityRowMapper.class)
-    List<NewVulnerabilitySubject> getForNewVulnerabilities(final UUID componentUuid, final Collection<UUID> vulnUuids,
+    List<NewVulnerabilitySubject> getForNewVulnerabilities(final List<UUID> componentUuids, final List<UUID> vulnUuids,
                                                            final VulnerabilityAnalysisLevel vulnAnalysisLevel);
 
+    /**
+     * Fetch {@link NewVulnerabilitySubject}s for multiple components in a single query.
+     * <p>
+     * Pairs that do not (or no longer) correspond to an existing, non-suppressed finding are omitted.
+     *
+     * @param vulnUuidsByComponentUuid UUIDs of newly identified vulnerabilities, keyed by the UUID of the affected component
+     * @param vulnAnalysisLevel        The {@link VulnerabilityAnalysisLevel} to report
+     * @return A {@link List} of {@link NewVulnerabilitySubject}s
+     */
+    default List<NewVulnerabilitySubject> getForNewVulnerabilities(final Map<UUID, ? extends Collection<UUID>> vulnUuidsByComponentUuid,
+                                                                   final VulnerabilityAnalysisLevel vulnAnalysisLevel) {
+        final var componentUuids = new ArrayList<UUID>();
+        final var vulnUuids = new ArrayList<UUID>();
+        for (final Map.Entry<UUID, ? extends Collection<UUID>> entry : vulnUuidsByComponentUuid.entrySet()) {
+            for (final UUID vulnUuid : entry.getValue()) {
+                componentUuids.add(entry.getKey());
+                vulnUuids.add(vulnUuid);
+            }
+        }
+
+        if (componentUuids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return getForNewVulnerabilities(componentUuids, vulnUuids, vulnAnalysisLevel);
+    }
+
+    default List<NewVulnerabilitySubject> getForNewVulnerabilities(final UUID componentUuid, final Collection<UUID> vulnUuids,
+                                                                   final VulnerabilityAnalysisLevel vulnAnalysisLevel) {
+        return getForNewVulnerabilities(Map.of(componentUuid, vulnUuids), vulnAnalysisLevel);
+    }
+
     @SqlQuery("""
             SELECT
               "C"."UUID"                       AS "componentUuid",
@@ -236,6 +271,7 @@ public interface NotificationSubjectDao extends SqlObject {
             WHERE
               "C"."UUID" = :componentUuid
               AND ("A"."SUPPRESSED" IS NULL OR NOT "A"."SUPPRESSED")
+              AND "P"."DELETED_AT" IS NULL
             """)
     @UseRowReducer(NotificationSubjectNewVulnerableDependencyRowReducer.class)
     Optional<NewVulnerableDependencySubject> getForNewVulnerableDependency(final UUID componentUuid);
@@ -325,6 +361,7 @@ public interface NotificationSubjectDao extends SqlObject {
               "ANALYSIS" AS "A" ON "A"."COMPONENT_ID" = "C"."ID" AND "A"."VULNERABILITY_ID" = "V"."ID"
             WHERE
               "C"."UUID" = :componentUuid AND "V"."UUID" = :vulnUuid
+              AND "P"."DELETED_AT" IS NULL
             """)
     @RegisterRowMapper(NotificationSubjectProjectAuditChangeRowMapper.class)
     Optional<VulnerabilityAnalysisDecisionChangeSubject> getForProjectAuditChange(final UUID componentUuid, final UUID vulnUuid, AnalysisState analysisState, boolean isSuppressed);
@@ -353,6 +390,7 @@ public interface NotificationSubjectDao extends SqlObject {
                AND "WFS"."STEP" = 'BOM_PROCESSING'
                AND "WFS"."STATUS" = 'COMPLETED'
              WHERE "VS"."TOKEN" = ANY(:workflowTokens)
+               AND "P"."DELETED_AT" IS NULL
             """)
     @RegisterRowMapper(NotificationSubjectBomConsumedOrProcessedRowMapper.class)
     List<BomConsumedOrProcessedSubject> getForDelayedBomProcessed(Collection<UUID> workflowTokens);
@@ -371,6 +409,7 @@ public interface NotificationSubjectDao extends SqlObject {
                    ) AS "projectTags"
               FROM "PROJECT" AS "P"
              WHERE "P"."UUID" = :projectUuid
+               AND "P"."DELETED_AT" IS NULL
             """)
     Optional<Project> getProject(UUID projectUuid);
 
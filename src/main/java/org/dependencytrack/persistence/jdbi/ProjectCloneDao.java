@@ -0,0 +1,426 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based cloning of projects.
+ * <p>
+ * Components are cloned via the {@code CLONE_COMPONENT_MAPPING} temporary table,
+ * which maps the ID and UUID of every source component to the ID and UUID of its clone.
+ * All other statements join against this table, so they must be executed on the same
+ * {@link org.jdbi.v3.core.Handle} and within the same transaction as
+ * {@link #createComponentMapping(long)}. The table is dropped on commit.
+ *
+ * @since 5.6.0
+ */
+public interface ProjectCloneDao {
+
+    @SqlUpdate("""
+            DROP TABLE IF EXISTS "CLONE_COMPONENT_MAPPING"
+            """)
+    void dropComponentMappingTable();
+
+    @SqlUpdate("""
+            CREATE TEMPORARY TABLE "CLONE_COMPONENT_MAPPING" (
+              "SOURCE_ID" BIGINT PRIMARY KEY
+            , "SOURCE_UUID" UUID NOT NULL UNIQUE
+            , "TARGET_ID" BIGINT NOT NULL
+            , "TARGET_UUID" UUID NOT NULL
+            ) ON COMMIT DROP
+            """)
+    void createComponentMappingTable();
+
+    @SqlUpdate("""
+            INSERT INTO "CLONE_COMPONENT_MAPPING" ("SOURCE_ID", "SOURCE_UUID", "TARGET_ID", "TARGET_UUID")
+            SELECT "ID"
+                 , "UUID"
+                 , NEXTVAL(PG_GET_SERIAL_SEQUENCE('"COMPONENT"', 'ID'))
+                 , GEN_RANDOM_UUID()
+              FROM "COMPONENT"
+             WHERE "PROJECT_ID" = :sourceProjectId
+            """)
+    int populateComponentMapping(@Bind long sourceProjectId);
+
+    @SqlUpdate("""
+            ANALYZE "CLONE_COMPONENT_MAPPING"
+            """)
+    void analyzeComponentMapping();
+
+    /**
+     * Create and populate the component mapping for the project with ID {@code sourceProjectId}.
+     *
+     * @param sourceProjectId ID of the project being cloned
+     * @return Number of components that will be cloned
+     */
+    default int createComponentMapping(final long sourceProjectId) {
+        // Guard against multiple clones being performed within the same transaction.
+        dropComponentMappingTable();
+        createComponentMappingTable();
+        final int componentsMapped = populateComponentMapping(sourceProjectId);
+        analyzeComponentMapping();
+        return componentsMapped;
+    }
+
+    /**
+     * Clone all mapped components into the project with ID {@code targetProjectId}.
+     * <p>
+     * UUIDs referenced in {@code DIRECT_DEPENDENCIES} are rewritten to the UUIDs of their clones.
+     * References to components that are not part of the source project are retained as-is.
+     */
+    @SqlUpdate("""
+            INSERT INTO "COMPONENT" (
+              "ID"
+            , "UUID"
+            , "PROJECT_ID"
+            , "AUTHORS"
+            , "BLAKE2B_256"
+            , "BLAKE2B_384"
+            , "BLAKE2B_512"
+            , "BLAKE3"
+            , "CLASSIFIER"
+            , "COPYRIGHT"
+            , "CPE"
+            , "DESCRIPTION"
+            , "DIRECT_DEPENDENCIES"
+            , "EXTENSION"
+            , "FILENAME"
+            , "GROUP"
+            , "INTERNAL"
+            , "LICENSE"
+            , "LICENSE_EXPRESSION"
+            , "LICENSE_ID"
+            , "LICENSE_URL"
+            , "MD5"
+            , "NAME"
+            , "PURL"
+            , "PURLCOORDINATES"
+            , "SHA1"
+            , "SHA_256"
+            , "SHA_384"
+            , "SHA_512"
+            , "SHA3_256"
+            , "SHA3_384"
+            , "SHA3_512"
+            , "SUPPLIER"
+            , "SWIDTAGID"
+            , "VERSION"
+            )
+            SELECT "MAPPING"."TARGET_ID"
+                 , "MAPPING"."TARGET_UUID"
+                 , :targetProjectId
+                 , "COMPONENT"."AUTHORS"
+                 , "COMPONENT"."BLAKE2B_256"
+                 , "COMPONENT"."BLAKE2B_384"
+                 , "COMPONENT"."BLAKE2B_512"
+                 , "COMPONENT"."BLAKE3"
+                 , "COMPONENT"."CLASSIFIER"
+                 , "COMPONENT"."COPYRIGHT"
+                 , "COMPONENT"."CPE"
+                 , "COMPONENT"."DESCRIPTION"
+                 , CASE WHEN "COMPONENT"."DIRECT_DEPENDENCIES" IS NOT NULL THEN (
+                     SELECT COALESCE(JSONB_AGG(
+                              CASE WHEN "DEP_MAPPING"."TARGET_UUID" IS NOT NULL
+                                   THEN JSONB_SET("DEP"."VALUE", '{uuid}', TO_JSONB("DEP_MAPPING"."TARGET_UUID"::TEXT))
+                                   ELSE "DEP"."VALUE"
+                              END ORDER BY "DEP"."ORDINALITY"), '[]'::JSONB)
+                       FROM JSONB_ARRAY_ELEMENTS("COMPONENT"."DIRECT_DEPENDENCIES")
+                            WITH ORDINALITY AS "DEP"("VALUE", "ORDINALITY")
+                       LEFT JOIN "CLONE_COMPONENT_MAPPING" AS "DEP_MAPPING"
+                         ON "DEP_MAPPING"."SOURCE_UUID" = ("DEP"."VALUE"->>'uuid')::UUID)
+                   END
+                 , "COMPONENT"."EXTENSION"
+                 , "COMPONENT"."FILENAME"
+                 , "COMPONENT"."GROUP"
+                 , "COMPONENT"."INTERNAL"
+                 , "COMPONENT"."LICENSE"
+                 , "COMPONENT"."LICENSE_EXPRESSION"
+                 , "COMPONENT"."LICENSE_ID"
+                 , "COMPONENT"."LICENSE_URL"
+                 , "COMPONENT"."MD5"
+                 , "COMPONENT"."NAME"
+                 , "COMPONENT"."PURL"
+                 , "COMPONENT"."PURLCOORDINATES"
+                 , "COMPONENT"."SHA1"
+                 , "COMPONENT"."SHA_256"
+                 , "COMPONENT"."SHA_384"
+                 , "COMPONENT"."SHA_512"
+                 , "COMPONENT"."SHA3_256"
+                 , "COMPONENT"."SHA3_384"
+                 , "COMPONENT"."SHA3_512"
+                 , "COMPONENT"."SUPPLIER"
+                 , "COMPONENT"."SWIDTAGID"
+                 , "COMPONENT"."VERSION"
+              FROM "CLONE_COMPONENT_MAPPING" AS "MAPPING"
+             INNER JOIN "COMPONENT"
+                ON "COMPONENT"."ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int cloneComponents(@Bind long targetProjectId);
+
+    /**
+     * Copy the {@code DIRECT_DEPENDENCIES} of the project with ID {@code sourceProjectId} to the project
+     * with ID {@code targetProjectId}, rewriting component UUIDs the same way {@link #cloneComponents(long)} does.
+     */
+    @SqlUpdate("""
+            UPDATE "PROJECT"
+               SET "DIRECT_DEPENDENCIES" = (
+                     SELECT CASE WHEN "SOURCE"."DIRECT_DEPENDENCIES" IS NOT NULL THEN (
+                              SELECT COALESCE(JSONB_AGG(
+                                       CASE WHEN "DEP_MAPPING"."TARGET_UUID" IS NOT NULL
+                                            THEN JSONB_SET("DEP"."VALUE", '{uuid}', TO_JSONB("DEP_MAPPING"."TARGET_UUID"::TEXT))
+                                            ELSE "DEP"."VALUE"
+                                       END ORDER BY "DEP"."ORDINALITY"), '[]'::JSONB)
+                                FROM JSONB_ARRAY_ELEMENTS("SOURCE"."DIRECT_DEPENDENCIES")
+                                     WITH ORDINALITY AS "DEP"("VALUE", "ORDINALITY")
+                                LEFT JOIN "CLONE_COMPONENT_MAPPING" AS "DEP_MAPPING"
+                                  ON "DEP_MAPPING"."SOURCE_UUID" = ("DEP"."VALUE"->>'uuid')::UUID)
+                            END
+                       FROM "PROJECT" AS "SOURCE"
+                      WHERE "SOURCE"."ID" = :sourceProjectId)
+             WHERE "ID" = :targetProjectId
+            """)
+    int cloneProjectDirectDependencies(@Bind long sourceProjectId, @Bind long targetProjectId);
+
+    /**
+     * @return UUIDs referenced in the {@code DIRECT_DEPENDENCIES} of the project with ID {@code sourceProjectId},
+     * or any of its components, that do not belong to a component of the project
+     */
+    @SqlQuery("""
+            SELECT DISTINCT ("DEP"."VALUE"->>'uuid')::UUID
+              FROM (SELECT "DIRECT_DEPENDENCIES"
+                      FROM "PROJECT"
+                     WHERE "ID" = :sourceProjectId
+                       AND "DIRECT_DEPENDENCIES" IS NOT NULL
+                     UNION ALL
+                    SELECT "DIRECT_DEPENDENCIES"
+                      FROM "COMPONENT"
+                     WHERE "PROJECT_ID" = :sourceProjectId
+                       AND "DIRECT_DEPENDENCIES" IS NOT NULL) AS "GRAPH"
+             CROSS JOIN JSONB_ARRAY_ELEMENTS("GRAPH"."DIRECT_DEPENDENCIES") AS "DEP"("VALUE")
+             WHERE "DEP"."VALUE"->>'uuid' IS NOT NULL
+               AND NOT EXISTS(
+                 SELECT 1
+                   FROM "CLONE_COMPONENT_MAPPING"
+                  WHERE "SOURCE_UUID" = ("DEP"."VALUE"->>'uuid')::UUID)
+            """)
+    List<UUID> getUnmappedDirectDependencyUuids(@Bind long sourceProjectId);
+
+    @SqlUpdate("""
+            INSERT INTO "COMPONENTS_VULNERABILITIES" ("COMPONENT_ID", "VULNERABILITY_ID")
+            SELECT "MAPPING"."TARGET_ID"
+                 , "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
+              FROM "CLONE_COMPONENT_MAPPING" AS "MAPPING"
+             INNER JOIN "COMPONENTS_VULNERABILITIES"
+                ON "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int cloneComponentVulnerabilities();
+
+    @SqlUpdate("""
+            INSERT INTO "FINDINGATTRIBUTION" (
+              "ALT_ID"
+            , "ANALYZERIDENTITY"
+            , "ATTRIBUTED_ON"
+            , "COMPONENT_ID"
+            , "PROJECT_ID"
+            , "REFERENCE_URL"
+            , "UUID"
+            , "VULNERABILITY_ID"
+            )
+            SELECT "FINDINGATTRIBUTION"."ALT_ID"
+                 , "FINDINGATTRIBUTION"."ANALYZERIDENTITY"
+                 , "FINDINGATTRIBUTION"."ATTRIBUTED_ON"
+                 , "MAPPING"."TARGET_ID"
+                 , :targetProjectId
+                 , "FINDINGATTRIBUTION"."REFERENCE_URL"
+                 , GEN_RANDOM_UUID()
+                 , "FINDINGATTRIBUTION"."VULNERABILITY_ID"
+              FROM "CLONE_COMPONENT_MAPPING" AS "MAPPING"
+             INNER JOIN "FINDINGATTRIBUTION"
+                ON "FINDINGATTRIBUTION"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            """)
+    int cloneFindingAttributions(@Bind long targetProjectId);
+
+    /**
+     * Clone analyses of all mapped components, including their comments.
+     */
+    @SqlUpdate("""
+            WITH "ANALYSIS_MAPPING" AS MATERIALIZED (
+              SELECT "ANALYSIS"."ID" AS "SOURCE_ID"
+                   , NEXTVAL(PG_GET_SERIAL_SEQUENCE('"ANALYSIS"', 'ID')) AS "TARGET_ID"
+                   , "MAPPING"."TARGET_ID" AS "TARGET_COMPONENT_ID"
+                FROM "CLONE_COMPONENT_MAPPING" AS "MAPPING"
+               INNER JOIN "ANALYSIS"
+                  ON "ANALYSIS"."COMPONENT_ID" = "MAPPING"."SOURCE_ID"
+            ),
+            "CLONED_ANALYSIS" AS (
+              INSERT INTO "ANALYSIS" (
+                "ID"
+              , "COMPONENT_ID"
+              , "PROJECT_ID"
+              , "VULNERABILITY_ID"
+              , "DETAILS"
+              , "JUSTIFICATION"
+              , "RESPONSE"
+              , "STATE"
+              , "SUPPRESSED"
+              , "VULNERABILITY_POLICY_ID"
+              )
+              SELECT "ANALYSIS_MAPPING"."TARGET_ID"
+                   , "ANALYSIS_MAPPING"."TARGET_COMPONENT_ID"
+                   , :targetProjectId
+                   , "ANALYSIS"."VULNERABILITY_ID"
+                   , "ANALYSIS"."DETAILS"
+                   , "ANALYSIS"."JUSTIFICATION"
+                   , "ANALYSIS"."RESPONSE"
+                   , "ANALYSIS"."STATE"
+                   , "ANALYSIS"."SUPPRESSED"
+                   , "ANALYSIS"."VULNERABILITY_POLICY_ID"
+                FROM "ANALYSIS_MAPPING"
+               INNER JOIN "ANALYSIS"
+                  ON "ANALYSIS"."ID" = "ANALYSIS_MAPPING"."SOURCE_ID"
+            )
+            INSERT INTO "ANALYSISCOMMENT" ("ANALYSIS_ID", "COMMENT", "COMMENTER", "TIMESTAMP")
+            SELECT "ANALYSIS_MAPPING"."TARGET_ID"
+                 , "ANALYSISCOMMENT"."COMMENT"
+                 , "ANALYSISCOMMENT"."COMMENTER"
+                 , "ANALYSISCOMMENT"."TIMESTAMP"
+              FROM "ANALYSIS_MAPPING"
+             INNER JOIN "ANALYSISCOMMENT"
+                ON "ANALYSISCOMMENT"."ANALYSIS_ID" = "ANALYSIS_MAPPING"."SOURCE_ID"
+            """)
+    void cloneAnalyses(@Bind long targetProjectId);
+
+    /**
+     * Clone all services of the project with ID {@code sourceProjectId}, including their vulnerabilities.
+     */
+    @SqlUpdate("""
+            WITH "SERVICE_MAPPING" AS MATERIALIZED (
+              SELECT "ID" AS "SOURCE_ID"
+                   , NEXTVAL(PG_GET_SERIAL_SEQUENCE('"SERVICECOMPONENT"', 'ID')) AS "TARGET_ID"
+                FROM "SERVICECOMPONENT"
+               WHERE "PROJECT_ID" = :sourceProjectId
+            ),
+            "CLONED_SERVICE" AS (
+              INSERT INTO "SERVICECOMPONENT" (
+                "ID"
+              , "UUID"
+              , "PROJECT_ID"
+              , "AUTHENTICATED"
+              , "DATA"
+              , "DESCRIPTION"
+              , "ENDPOINTS"
+              , "EXTERNAL_REFERENCES"
+              , "GROUP"
+              , "NAME"
+              , "PROVIDER_ID"
+              , "TEXT"
+              , "VERSION"
+              , "X_TRUST_BOUNDARY"
+              )
+              SELECT "SERVICE_MAPPING"."TARGET_ID"
+                   , GEN_RANDOM_UUID()
+                   , :targetProjectId
+                   , "SERVICECOMPONENT"."AUTHENTICATED"
+                   , "SERVICECOMPONENT"."DATA"
+                   , "SERVICECOMPONENT"."DESCRIPTION"
+                   , "SERVICECOMPONENT"."ENDPOINTS"
+                   , "SERVICECOMPONENT"."EXTERNAL_REFERENCES"
+                   , "SERVICECOMPONENT"."GROUP"
+                   , "SERVICECOMPONENT"."NAME"
+                   , "SERVICECOMPONENT"."PROVIDER_ID"
+                   , "SERVICECOMPONENT"."TEXT"
+                   , "SERVICECOMPONENT"."VERSION"
+                   , "SERVICECOMPONENT"."X_TRUST_BOUNDARY"
+                FROM "SERVICE_MAPPING"
+               INNER JOIN "SERVICECOMPONENT"
+                  ON "SERVICECOMPONENT"."ID" = "SERVICE_MAPPING"."SOURCE_ID"
+            )
+            INSERT INTO "SERVICECOMPONENTS_VULNERABILITIES" ("SERVICECOMPONENT_ID", "VULNERABILITY_ID")
+            SELECT "SERVICE_MAPPING"."TARGET_ID"
+                 , "SERVICECOMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
+              FROM "SERVICE_MAPPING"
+             INNER JOIN "SERVICECOMPONENTS_VULNERABILITIES"
+                ON "SERVICECOMPONENTS_VULNERABILITIES"."SERVICECOMPONENT_ID" = "SERVICE_MAPPING"."SOURCE_ID"
+            """)
+    void cloneServices(@Bind long sourceProjectId, @Bind long targetProjectId);
+
+    @SqlUpdate("""
+            INSERT INTO "PROJECT_PROPERTY" (
+              "PROJECT_ID"
+            , "DESCRIPTION"
+            , "GROUPNAME"
+            , "PROPERTYNAME"
+            , "PROPERTYTYPE"
+            , "PROPERTYVALUE"
+            )
+            SELECT :targetProjectId
+                 , "DESCRIPTION"
+                 , "GROUPNAME"
+                 , "PROPERTYNAME"
+                 , "PROPERTYTYPE"
+                 , "PROPERTYVALUE"
+              FROM "PROJECT_PROPERTY"
+             WHERE "PROJECT_ID" = :sourceProjectId
+            """)
+    int cloneProperties(@Bind long sourceProjectId, @Bind long targetProjectId);
+
+    @SqlUpdate("""
+            INSERT INTO "PROJECTS_TAGS" ("PROJECT_ID", "TAG_ID")
+            SELECT :targetProjectId
+                 , "TAG_ID"
+              FROM "PROJECTS_TAGS"
+             WHERE "PROJECT_ID" = :sourceProjectId
+            """)
+    int cloneTags(@Bind long sourceProjectId, @Bind long targetProjectId);
+
+    @SqlUpdate("""
+            INSERT INTO "PROJECT_ACCESS_TEAMS" ("PROJECT_ID", "TEAM_ID")
+            SELECT :targetProjectId
+                 , "TEAM_ID"
+              FROM "PROJECT_ACCESS_TEAMS"
+             WHERE "PROJECT_ID" = :sourceProjectId
+            """)
+    int cloneAccessTeams(@Bind long sourceProjectId, @Bind long targetProjectId);
+
+    /**
+     * @return Mappings of all components that have at least one policy violation
+     */
+    @SqlQuery("""
+            SELECT "SOURCE_ID" AS "sourceId"
+                 , "TARGET_ID" AS "targetId"
+              FROM "CLONE_COMPONENT_MAPPING" AS "MAPPING"
+             WHERE EXISTS(
+               SELECT 1
+                 FROM "POLICYVIOLATION"
+                WHERE "POLICYVIOLATION"."COMPONENT_ID" = "MAPPING"."SOURCE_ID")
+            """)
+    @RegisterConstructorMapper(ComponentMappingRow.class)
+    List<ComponentMappingRow> getComponentMappingsWithPolicyViolations();
+
+    record ComponentMappingRow(long sourceId, long targetId) {
+    }
+
+}
@@ -33,6 +33,8 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_KEYSET_CURSOR;
+
 /**
  * @since 5.5.0
  */
@@ -51,6 +53,8 @@ public interface ProjectDao {
             <#-- @ftlvariable name="apiFilterParameter" type="String" -->
             <#-- @ftlvariable name="apiOrderByClause" type="String" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
+            <#-- @ftlvariable name="apiKeysetPagination" type="Boolean" -->
+            <#-- @ftlvariable name="apiKeysetCondition" type="String" -->
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
             <#-- @ftlvariable name="apiParentProjectAclCondition" type="String" -->
             SELECT "PROJECT"."ID" AS "id"
@@ -80,7 +84,11 @@ public interface ProjectDao {
             <#if includeMetrics>
                  , TO_JSONB("metrics") AS "metrics"
             </#if>
+            <#if apiKeysetPagination??>
+                 , NULL AS "totalCount"
+            <#else>
                  , COUNT(*) OVER() AS "totalCount"
+            </#if>
               FROM "PROJECT"
             <#if includeMetrics>
               LEFT JOIN LATERAL (
@@ -99,13 +107,15 @@ public interface ProjectDao {
                      , "RISKSCORE"
                      , "UNASSIGNED_SEVERITY"
                      , "VULNERABILITIES"
-                  FROM "PROJECTMETRICS"
-                 WHERE "PROJECTMETRICS"."PROJECT_ID" = "PROJECT"."ID"
-                 ORDER BY "PROJECTMETRICS"."LAST_OCCURRENCE" DESC
-                 LIMIT 1
+                  FROM "PROJECT_METRICS_LATEST"
+                 WHERE "PROJECT_METRICS_LATEST"."PROJECT_ID" = "PROJECT"."ID"
               ) AS "metrics" ON TRUE
             </#if>
              WHERE ${apiProjectAclCondition}
+               AND "PROJECT"."DELETED_AT" IS NULL
+            <#if apiKeysetCondition??>
+               AND ${apiKeysetCondition}
+            </#if>
             <#if nameFilter>
                AND "PROJECT"."NAME" = :nameFilter
             </#if>
@@ -174,6 +184,7 @@ public interface ProjectDao {
             @AllowApiOrdering.Column(name = "metrics.policyViolationsTotal", queryName = "\"metrics\".\"POLICYVIOLATIONS_TOTAL\""),
             @AllowApiOrdering.Column(name = "metrics.vulnerabilities", queryName = "\"metrics\".\"VULNERABILITIES\"")
     })
+    @AllowApiKeysetPagination(column = "\"PROJECT\".\"ID\"")
     List<ConciseProjectListRow> getPageConcise(
             @Bind String nameFilter,
             @Bind String classifierFilter,
@@ -182,10 +193,12 @@ public interface ProjectDao {
             @Bind Boolean activeFilter,
             @Bind Boolean onlyRootFilter,
             @Bind UUID parentUuidFilter,
-            @Define boolean includeMetrics
+            @Define boolean includeMetrics,
+            @Define(ATTRIBUTE_API_KEYSET_CURSOR) KeysetCursor keysetCursor
     );
 
     record ConciseProjectListRow(
+            long id,
             UUID uuid,
             String group,
             String name,
@@ -199,7 +212,7 @@ public interface ProjectDao {
             @Nullable String lastBomImportFormat,
             boolean hasChildren,
             @Nullable @Json ConciseProjectMetricsRow metrics,
-            long totalCount
+            @Nullable Long totalCount
     ) {
     }
 
@@ -229,21 +242,30 @@ public interface ProjectDao {
             """)
     int deleteProject(@Bind final UUID projectUuid);
 
+    /**
+     * Tombstones projects that have been inactive for longer than the retention duration.
+     * <p>
+     * The data of tombstoned projects is deleted in batches afterward,
+     * see {@link #deleteComponentsBatch(long, int)} and related methods.
+     *
+     * @since 5.6.0
+     */
     @SqlQuery("""
             WITH "CTE" AS (
               SELECT "ID"
                 FROM "PROJECT"
                WHERE "INACTIVE_SINCE" < :retentionCutOff
+                 AND "DELETED_AT" IS NULL
                ORDER BY "INACTIVE_SINCE"
                LIMIT :batchSize
             )
-            DELETE
-              FROM "PROJECT"
+            UPDATE "PROJECT"
+               SET "DELETED_AT" = NOW()
              WHERE "ID" IN (SELECT "ID" FROM "CTE")
-             RETURNING "NAME", "VERSION", "INACTIVE_SINCE", "UUID"
-           """)
+            RETURNING "NAME", "VERSION", "INACTIVE_SINCE", "UUID"
+            """)
     @RegisterConstructorMapper(DeletedProject.class)
-    List<DeletedProject> deleteInactiveProjectsForRetentionDuration(@Bind final Instant retentionCutOff, @Bind final int batchSize);
+    List<DeletedProject> tombstoneInactiveProjectsForRetentionDuration(@Bind final Instant retentionCutOff, @Bind final int batchSize);
 
     record DeletedProject(@ColumnName("NAME") String name,
                           @ColumnName("VERSION") String version,
@@ -252,18 +274,20 @@ public interface ProjectDao {
     }
 
     @SqlQuery("""
-           DELETE
-            FROM "PROJECT"
-            WHERE "PROJECT"."INACTIVE_SINCE" IS NOT NULL
-            AND "PROJECT"."NAME" = :projectName
-            AND "PROJECT"."ID" NOT IN (
-                SELECT "PROJECT"."ID" 
-                 FROM "PROJECT"
-                 WHERE "PROJECT"."INACTIVE_SINCE" IS NOT NULL
-                 AND "PROJECT"."NAME" = :projectName
-                 ORDER BY "PROJECT"."INACTIVE_SINCE" DESC
-                 LIMIT :versionCountThreshold
-                )
+            UPDATE "PROJECT"
+               SET "DELETED_AT" = NOW()
+             WHERE "PROJECT"."INACTIVE_SINCE" IS NOT NULL
+               AND "PROJECT"."DELETED_AT" IS NULL
+               AND "PROJECT"."NAME" = :projectName
+               AND "PROJECT"."ID" NOT IN (
+                 SELECT "PROJECT"."ID"
+                   FROM "PROJECT"
+                  WHERE "PROJECT"."INACTIVE_SINCE" IS NOT NULL
+                    AND "PROJECT"."DELETED_AT" IS NULL
+                    AND "PROJECT"."NAME" = :projectName
+                  ORDER BY "PROJECT"."INACTIVE_SINCE" DESC
+                  LIMIT :versionCountThreshold
+               )
             RETURNING "NAME", "VERSION", "INACTIVE_SINCE", "UUID"
             """)
     @RegisterConstructorMapper(DeletedProject.class)
@@ -273,9 +297,178 @@ public interface ProjectDao {
             SELECT "PROJECT"."NAME"
               FROM "PROJECT"
               WHERE "INACTIVE_SINCE" IS NOT NULL
+                AND "DELETED_AT" IS NULL
               GROUP BY "NAME"
               HAVING COUNT(*) > :versionCountThreshold
               LIMIT :batchSize
             """)
     List<String> getDistinctProjects(@Bind final int versionCountThreshold, @Bind final int batchSize);
+
+    /**
+     * Tombstones a project and all of its descendants, such that they are no longer visible.
+     *
+     * @return IDs of the tombstoned projects
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            WITH RECURSIVE "CTE" ("ID") AS (
+              SELECT "ID"
+                FROM "PROJECT"
+               WHERE "ID" = :projectId
+               UNION ALL
+              SELECT "CHILD"."ID"
+                FROM "PROJECT" AS "CHILD"
+               INNER JOIN "CTE"
+                  ON "CTE"."ID" = "CHILD"."PARENT_PROJECT_ID"
+            )
+            UPDATE "PROJECT"
+               SET "DELETED_AT" = NOW()
+             WHERE "ID" IN (SELECT "ID" FROM "CTE")
+               AND "DELETED_AT" IS NULL
+            RETURNING "ID"
+            """)
+    List<Long> tombstoneProject(@Bind long projectId);
+
+    /**
+     * @return IDs of all tombstoned projects, in the order in which they were tombstoned
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "ID"
+              FROM "PROJECT"
+             WHERE "DELETED_AT" IS NOT NULL
+             ORDER BY "DELETED_AT", "ID"
+            """)
+    List<Long> getTombstonedProjectIds();
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "ID"
+              FROM "PROJECT"
+             WHERE "UUID" = :projectUuid
+               AND "DELETED_AT" IS NOT NULL
+            """)
+    Long getTombstonedProjectId(@Bind UUID projectUuid);
+
+    /**
+     * Returns the IDs of a tombstoned project and all of its descendants, ordered such that
+     * children precede their parents. Deleting projects in this order ensures that deleting
+     * a parent never cascades to the (potentially large) data of its children.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            WITH RECURSIVE "CTE" ("ID", "DEPTH") AS (
+              SELECT "ID", 0
+                FROM "PROJECT"
+               WHERE "ID" = :projectId
+                 AND "DELETED_AT" IS NOT NULL
+               UNION ALL
+              SELECT "CHILD"."ID", "CTE"."DEPTH" + 1
+                FROM "PROJECT" AS "CHILD"
+               INNER JOIN "CTE"
+                  ON "CTE"."ID" = "CHILD"."PARENT_PROJECT_ID"
+            )
+            SELECT "ID"
+              FROM "CTE"
+             ORDER BY "DEPTH" DESC, "ID"
+            """)
+    List<Long> getTombstonedProjectTreeIds(@Bind long projectId);
+
+    /**
+     * Claims the deletion of a tombstoned project, unless it is already claimed by another session.
+     * <p>
+     * Deleting a project spans many transactions, so the claim is a session-level advisory lock,
+     * rather than a row lock. It is held until {@link #releaseProjectDeletion(long)} is called
+     * on the same {@link org.jdbi.v3.core.Handle}, or until its connection is closed.
+     *
+     * @return {@code true} when the deletion was claimed, otherwise {@code false}
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT PG_TRY_ADVISORY_LOCK(:projectId)
+            """)
+    boolean tryClaimProjectDeletion(@Bind long projectId);
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT PG_ADVISORY_UNLOCK(:projectId)
+            """)
+    boolean releaseProjectDeletion(@Bind long projectId);
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "DEPENDENCYMETRICS"
+             WHERE (tableoid, ctid) IN (
+               SELECT tableoid, ctid
+                 FROM "DEPENDENCYMETRICS"
+                WHERE "PROJECT_ID" = :projectId
+                LIMIT :batchSize)
+            """)
+    int deleteComponentMetricsBatch(@Bind long projectId, @Bind int batchSize);
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "PROJECTMETRICS"
+             WHERE (tableoid, ctid) IN (
+               SELECT tableoid, ctid
+                 FROM "PROJECTMETRICS"
+                WHERE "PROJECT_ID" = :projectId
+                LIMIT :batchSize)
+            """)
+    int deleteProjectMetricsBatch(@Bind long projectId, @Bind int batchSize);
+
+    /**
+     * Deletes a batch of components of a project. Data that is specific to the components,
+     * like findings, analyses, and policy violations, is deleted via {@code ON DELETE CASCADE}.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "COMPONENT"
+             WHERE "ID" IN (
+               SELECT "ID"
+                 FROM "COMPONENT"
+                WHERE "PROJECT_ID" = :projectId
+                LIMIT :batchSize)
+            """)
+    int deleteComponentsBatch(@Bind long projectId, @Bind int batchSize);
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "SERVICECOMPONENT"
+             WHERE "ID" IN (
+               SELECT "ID"
+                 FROM "SERVICECOMPONENT"
+                WHERE "PROJECT_ID" = :projectId
+                LIMIT :batchSize)
+            """)
+    int deleteServicesBatch(@Bind long projectId, @Bind int batchSize);
+
+    /**
+     * Deletes a tombstoned project, once its bulk data has been deleted.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "PROJECT"
+             WHERE "ID" = :projectId
+               AND "DELETED_AT" IS NOT NULL
+            """)
+    int deleteTombstonedProject(@Bind long projectId);
 }
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Persists the progress of long-running tasks, such that they can resume
+ * where they left off after being interrupted.
+ *
+ * @since 5.6.0
+ */
+public interface TaskCheckpointDao {
+
+    @SqlQuery("""
+            SELECT "POSITION"
+              FROM "TASK_CHECKPOINT"
+             WHERE "NAME" = :name
+               AND NOW() - "UPDATED_AT" <= :maxAge
+            """)
+    Optional<Long> getPosition(@Bind String name, @Bind Duration maxAge);
+
+    @SqlUpdate("""
+            INSERT INTO "TASK_CHECKPOINT" ("NAME", "POSITION")
+            VALUES (:name, :position)
+            ON CONFLICT ("NAME") DO UPDATE
+            SET "POSITION" = EXCLUDED."POSITION"
+              , "UPDATED_AT" = NOW()
+            """)
+    void setPosition(@Bind String name, @Bind long position);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "TASK_CHECKPOINT"
+             WHERE "NAME" = :name
+            """)
+    void delete(@Bind String name);
+
+}
@@ -38,7 +38,9 @@ import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * @since 5.6.0
@@ -160,41 +162,29 @@ public interface VulnerabilityDao {
             <#-- @ftlvariable name="apiOrderByClause" type="String" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
-            WITH "CTE_AFFECTED_COMPONENTS" AS (
-              SELECT "COMPONENT"."UUID" AS "UUID"
-                   , "PROJECT"."ID" AS "PROJECT_ID"
-                FROM "COMPONENT"
-               INNER JOIN "PROJECT"
-                  ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
-               INNER JOIN "COMPONENTS_VULNERABILITIES"
-                  ON "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" = "COMPONENT"."ID"
-               INNER JOIN "VULNERABILITY"
-                  ON "VULNERABILITY"."ID" = "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
-               WHERE ${apiProjectAclCondition}
-                 AND "VULNERABILITY"."SOURCE" = :source
-                 AND "VULNERABILITY"."VULNID" = :vulnId
+            SELECT "PROJECT"."ID" AS "id"
+                 , "VULNERABILITY"."ID" AS "vulnerabilityId"
+                 , "PROJECT"."UUID" AS "uuid"
+                 , "PROJECT"."NAME" AS "name"
+                 , "PROJECT"."VERSION" AS "version"
+                 , "PROJECT"."INACTIVE_SINCE" AS "inactiveSince"
+                 , ("PROJECT"."DIRECT_DEPENDENCIES" IS NOT NULL) AS "dependencyGraphAvailable"
+                 , COUNT(*) OVER() AS "totalCount"
+              FROM "VULNERABILITY"
+             INNER JOIN "VULNERABILITY_PROJECT"
+                ON "VULNERABILITY_PROJECT"."VULNERABILITY_ID" = "VULNERABILITY"."ID"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "VULNERABILITY_PROJECT"."PROJECT_ID"
+             WHERE ${apiProjectAclCondition}
+               AND "VULNERABILITY"."SOURCE" = :source
+               AND "VULNERABILITY"."VULNID" = :vulnId
             <#if activeFilter>
-                 AND "PROJECT"."INACTIVE_SINCE" IS NULL
+               AND "PROJECT"."INACTIVE_SINCE" IS NULL
             </#if>
-            )
-            SELECT "UUID" AS "uuid"
-                 , "NAME" AS "name"
-                 , "VERSION" AS "version"
-                 , "INACTIVE_SINCE" AS "inactiveSince"
-                 , ("DIRECT_DEPENDENCIES" IS NOT NULL) AS "dependencyGraphAvailable"
-                 , (SELECT ARRAY_AGG("UUID")
-                      FROM "CTE_AFFECTED_COMPONENTS"
-                     WHERE "PROJECT_ID" = "PROJECT"."ID") AS "affectedComponentUuids"
-                 , COUNT(*) OVER() AS "totalCount"
-              FROM "PROJECT"
-             WHERE EXISTS(
-                 SELECT 1
-                   FROM "CTE_AFFECTED_COMPONENTS"
-                  WHERE "PROJECT_ID" = "PROJECT"."ID")
             <#if apiOrderByClause??>
               ${apiOrderByClause}
             <#else>
-             ORDER BY "NAME" ASC, "VERSION" DESC
+             ORDER BY "PROJECT"."NAME" ASC, "PROJECT"."VERSION" DESC
             </#if>
             ${apiOffsetLimitClause!}
             """)
@@ -204,19 +194,79 @@ public interface VulnerabilityDao {
             @AllowApiOrdering.Column(name = "version"),
             @AllowApiOrdering.Column(name = "inactiveSince")
     })
-    @RegisterConstructorMapper(AffectedProjectListRow.class)
-    List<AffectedProjectListRow> getAffectedProjects(
+    @RegisterConstructorMapper(AffectedProjectPageRow.class)
+    List<AffectedProjectPageRow> getAffectedProjectPage(
             @Bind String source,
             @Bind String vulnId,
             @Bind Boolean activeFilter);
 
+    record AffectedProjectPageRow(
+            long id,
+            long vulnerabilityId,
+            UUID uuid,
+            String name,
+            String version,
+            @Nullable Instant inactiveSince,
+            boolean dependencyGraphAvailable,
+            long totalCount) {
+    }
+
+    @SqlQuery("""
+            SELECT "COMPONENT"."PROJECT_ID" AS "projectId"
+                 , ARRAY_AGG("COMPONENT"."UUID") AS "componentUuids"
+              FROM "COMPONENTS_VULNERABILITIES"
+             INNER JOIN "COMPONENT"
+                ON "COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+             WHERE "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID" = :vulnerabilityId
+               AND "COMPONENT"."PROJECT_ID" = ANY(:projectIds)
+             GROUP BY "COMPONENT"."PROJECT_ID"
+            """)
+    @RegisterConstructorMapper(AffectedComponentsRow.class)
+    List<AffectedComponentsRow> getAffectedComponentUuids(@Bind long vulnerabilityId, @Bind List<Long> projectIds);
+
+    record AffectedComponentsRow(long projectId, List<UUID> componentUuids) {
+    }
+
+    /**
+     * Get a page of projects affected by a given vulnerability, along with the UUIDs of their affected components.
+     * <p>
+     * Component UUIDs are loaded in a single query for all projects of the page,
+     * rather than for every project matching the vulnerability.
+     */
+    default List<AffectedProjectListRow> getAffectedProjects(
+            final String source,
+            final String vulnId,
+            final Boolean activeFilter) {
+        final List<AffectedProjectPageRow> pageRows = getAffectedProjectPage(source, vulnId, activeFilter);
+        if (pageRows.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, List<UUID>> componentUuidsByProjectId =
+                getAffectedComponentUuids(
+                        pageRows.getFirst().vulnerabilityId(),
+                        pageRows.stream().map(AffectedProjectPageRow::id).toList()).stream()
+                        .collect(Collectors.toMap(AffectedComponentsRow::projectId, AffectedComponentsRow::componentUuids));
+
+        return pageRows.stream()
+                .map(row -> new AffectedProjectListRow(
+                        row.uuid(),
+                        row.name(),
+                        row.version(),
+                        row.inactiveSince(),
+                        row.dependencyGraphAvailable(),
+                        componentUuidsByProjectId.get(row.id()),
+                        row.totalCount()))
+                .toList();
+    }
+
     record AffectedProjectListRow(
             UUID uuid,
             String name,
             String version,
             @Nullable Instant inactiveSince,
             boolean dependencyGraphAvailable,
-            List<UUID> affectedComponentUuids,
+            @Nullable List<UUID> affectedComponentUuids,
             long totalCount) {
     }
 
@@ -285,27 +335,18 @@ public interface VulnerabilityDao {
     @SqlQuery(/* language=InjectedFreeMarker */ """
             <#-- @ftlvariable name="includeSuppressed" type="boolean" -->
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
-            SELECT "VULNERABILITY"."ID" AS "id"
-                 , COUNT("PROJECT"."ID") AS "totalProjectCount"
+            SELECT "VULNERABILITY_PROJECT"."VULNERABILITY_ID" AS "id"
+                 , COUNT(*) AS "totalProjectCount"
                  , COUNT(*) FILTER (WHERE "PROJECT"."INACTIVE_SINCE" IS NULL) AS "activeProjectCount"
-              FROM "VULNERABILITY"
-             INNER JOIN "COMPONENTS_VULNERABILITIES"
-             	ON "VULNERABILITY"."ID" = "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
-             INNER JOIN "COMPONENT"
-              	ON "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" = "COMPONENT"."ID"
+              FROM "VULNERABILITY_PROJECT"
              INNER JOIN "PROJECT"
-            	ON "COMPONENT"."PROJECT_ID" = "PROJECT"."ID"
+                ON "PROJECT"."ID" = "VULNERABILITY_PROJECT"."PROJECT_ID"
+             WHERE "VULNERABILITY_PROJECT"."VULNERABILITY_ID" = ANY(:vulnerabilityIds)
             <#if !includeSuppressed>
-              LEFT JOIN "ANALYSIS"
-                ON "ANALYSIS"."VULNERABILITY_ID" = "VULNERABILITY"."ID"
-               AND "ANALYSIS"."COMPONENT_ID" = "COMPONENT"."ID"
-            </#if>
-             WHERE "VULNERABILITY"."ID" = ANY(:vulnerabilityIds)
-            <#if !includeSuppressed>
-               AND ("ANALYSIS"."SUPPRESSED" IS NULL OR NOT "ANALYSIS"."SUPPRESSED")
+               AND "VULNERABILITY_PROJECT"."COMPONENTS" > "VULNERABILITY_PROJECT"."SUPPRESSED"
             </#if>
                AND ${apiProjectAclCondition}
-             GROUP BY "VULNERABILITY"."ID"
+             GROUP BY "VULNERABILITY_PROJECT"."VULNERABILITY_ID"
             """)
     @RegisterConstructorMapper(AffectedProjectCountRow.class)
     List<AffectedProjectCountRow> getAffectedProjectCount(
@@ -435,15 +476,22 @@ public interface VulnerabilityDao {
     @RegisterColumnMapper(ExternalReferenceMapper.class)
     List<Component> getVulnerableComponents(@Bind long projectId, @Bind List<Long> vulnerabilityIds);
 
-    @SqlUpdate("""
+    @SqlQuery("""
             DELETE
               FROM "VULNERABLESOFTWARE"
-             WHERE NOT EXISTS(
-               SELECT 1
-                 FROM "VULNERABLESOFTWARE_VULNERABILITIES"
-                WHERE "VULNERABLESOFTWARE_ID" = "VULNERABLESOFTWARE"."ID")
+             WHERE ctid IN (
+               SELECT ctid
+                 FROM "VULNERABLESOFTWARE"
+                WHERE "ID" > :afterId
+                  AND NOT EXISTS(
+                    SELECT 1
+                      FROM "VULNERABLESOFTWARE_VULNERABILITIES"
+                     WHERE "VULNERABLESOFTWARE_ID" = "VULNERABLESOFTWARE"."ID")
+                ORDER BY "ID"
+                LIMIT :batchSize)
+            RETURNING "ID"
             """)
-    int deleteOrphanVulnerableSoftware();
+    List<Long> deleteOrphanVulnerableSoftware(@Bind long afterId, @Bind int batchSize);
 
     @SqlUpdate("""
             DELETE
@@ -24,7 +24,7 @@ import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlBatch;
-import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
 
 import java.time.Duration;
 import java.util.List;
@@ -63,11 +63,18 @@ public interface VulnerabilityScanDao extends SqlObject {
             @Bind List<Integer> scannerResultsTotal,
             @Bind List<Integer> scannerResultsFailed);
 
-    @SqlUpdate("""
+    @SqlQuery("""
             DELETE
               FROM "VULNERABILITYSCAN"
-             WHERE NOW() - "UPDATED_AT" > :duration
+             WHERE ctid IN (
+               SELECT ctid
+                 FROM "VULNERABILITYSCAN"
+                WHERE "ID" > :afterId
+                  AND NOW() - "UPDATED_AT" > :duration
+                ORDER BY "ID"
+                LIMIT :batchSize)
+            RETURNING "ID"
             """)
-    int deleteAllForRetentionDuration(@Bind Duration duration);
+    List<Long> deleteAllForRetentionDuration(@Bind Duration duration, @Bind long afterId, @Bind int batchSize);
 
 }
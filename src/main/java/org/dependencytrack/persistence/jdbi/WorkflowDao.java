@@ -84,6 +84,21 @@ public interface WorkflowDao extends SqlObject {
     @RegisterBeanMapper(WorkflowState.class)
     WorkflowState startState(@Bind WorkflowStep step, @Bind("token") UUID token);
 
+    /**
+     * Report progress of a step that is still being executed.
+     *
+     * @since 5.6.0
+     */
+    @SqlUpdate("""
+            UPDATE "WORKFLOW_STATE"
+               SET "PROGRESS" = :progress
+                 , "UPDATED_AT" = NOW()
+             WHERE "STEP" = :step
+               AND "TOKEN" = :token
+               AND "STATUS" = 'PENDING'
+            """)
+    int updateProgress(@Bind WorkflowStep step, @Bind UUID token, @Bind String progress);
+
     @SqlQuery("""
             SELECT "TOKEN"
               FROM "WORKFLOW_STATE"
@@ -178,7 +193,7 @@ public interface WorkflowDao extends SqlObject {
     /**
      * @since 5.6.0
      */
-    @SqlUpdate("""
+    @SqlQuery("""
             WITH "CTE_ELIGIBLE_TOKENS" AS (
               SELECT "TOKEN"
                 FROM "WORKFLOW_STATE" AS "WFS_PARENT"
@@ -189,12 +204,25 @@ public interface WorkflowDao extends SqlObject {
                     AND "WFS"."STATUS" IN ('PENDING', 'TIMED_OUT'))
                GROUP BY "TOKEN"
               HAVING NOW() - MAX("UPDATED_AT") > :retentionDuration
+                 AND MIN("ID") > :afterId
+               ORDER BY MIN("ID")
+               LIMIT :batchSize
+            ),
+            "CTE_DELETED" AS (
+              DELETE
+                FROM "WORKFLOW_STATE"
+               WHERE ctid IN (
+                 SELECT ctid
+                   FROM "WORKFLOW_STATE"
+                  WHERE "TOKEN" = ANY(SELECT "TOKEN" FROM "CTE_ELIGIBLE_TOKENS"))
+              RETURNING "TOKEN", "ID"
             )
-            DELETE
-              FROM "WORKFLOW_STATE"
-             WHERE "TOKEN" = ANY(SELECT "TOKEN" FROM "CTE_ELIGIBLE_TOKENS")
+            -- Report one ID per deleted workflow, namely the ID of its first step.
+            SELECT MIN("ID")
+              FROM "CTE_DELETED"
+             GROUP BY "TOKEN"
             """)
-    int deleteAllForRetention(@Bind Duration retentionDuration);
+    List<Long> deleteAllForRetention(@Bind Duration retentionDuration, @Bind long afterId, @Bind int batchSize);
 
     /**
      * @since 5.6.0
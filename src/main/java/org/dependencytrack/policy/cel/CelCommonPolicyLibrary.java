@@ -59,6 +59,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -79,6 +80,9 @@ public class CelCommonPolicyLibrary implements Library {
     static final String FUNC_COMPARE_AGE = "compare_age";
     static final String FUNC_COMPARE_VERSION_DISTANCE = "version_distance";
 
+    private static final int VERS_CACHE_MAX_SIZE = 1000;
+    private static final Map<String, Vers> VERS_CACHE = new ConcurrentHashMap<>();
+
     @Override
     public List<EnvOption> getCompileOptions() {
         return List.of(
@@ -234,9 +238,14 @@ public class CelCommonPolicyLibrary implements Library {
             return false;
         }
         final boolean isDirectDependency;
-        try (final var qm = new QueryManager();
-             final var celQm = new CelPolicyQueryManager(qm)) {
-            isDirectDependency = celQm.isDirectDependency(component);
+        final CelPolicyEvaluationContext evaluationContext = CelPolicyEvaluationContext.current();
+        if (evaluationContext != null) {
+            isDirectDependency = evaluationContext.isDirectDependency(component.getUuid());
+        } else {
+            try (final var qm = new QueryManager();
+                 final var celQm = new CelPolicyQueryManager(qm)) {
+                isDirectDependency = celQm.isDirectDependency(component);
+            }
         }
         return isDirectDependency && org.dependencytrack.model.VersionDistance.evaluate(value, comparatorComputed, versionDistance);
     }
@@ -646,11 +655,16 @@ public class CelCommonPolicyLibrary implements Library {
 
         // TODO: Result can / should likely be cached based on filter and params.
 
+        // If the component is a direct dependency of the project,
+        // it can no longer be a dependency exclusively introduced
+        // through another component.
+        final CelPolicyEvaluationContext evaluationContext = CelPolicyEvaluationContext.current();
+        if (evaluationContext != null && evaluationContext.isDirectDependency(leafComponent.getUuid())) {
+            return false;
+        }
+
         try (final Handle jdbiHandle = openJdbiHandle()) {
-            // If the component is a direct dependency of the project,
-            // it can no longer be a dependency exclusively introduced
-            // through another component.
-            if (isDirectDependency(jdbiHandle, leafComponent)) {
+            if (evaluationContext == null && isDirectDependency(jdbiHandle, leafComponent)) {
                 return false;
             }
 
@@ -762,7 +776,7 @@ public class CelCommonPolicyLibrary implements Library {
 
     private static boolean matchesRange(final String version, final String versStr) {
         try {
-            return Vers.parse(versStr).contains(version);
+            return parseVers(versStr).contains(version);
         } catch (VersException e) {
             LOGGER.warn("%s: Failed to check if version %s matches range %s"
                     .formatted(FUNC_MATCHES_RANGE, version, versStr), e);
@@ -770,6 +784,31 @@ public class CelCommonPolicyLibrary implements Library {
         }
     }
 
+    /**
+     * Parse a vers range, re-using previously parsed instances where possible.
+     * <p>
+     * Ranges are typically constant literals of policy conditions, and thus evaluated
+     * with the same value for every component of a project. The cache is bounded,
+     * and simply cleared once it is full.
+     *
+     * @param versStr The vers range to parse
+     * @return The parsed {@link Vers}
+     * @throws VersException When {@code versStr} is not a valid vers range
+     */
+    static Vers parseVers(final String versStr) {
+        final Vers cached = VERS_CACHE.get(versStr);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Vers vers = Vers.parse(versStr);
+        if (VERS_CACHE.size() >= VERS_CACHE_MAX_SIZE) {
+            VERS_CACHE.clear();
+        }
+        VERS_CACHE.put(versStr, vers);
+        return vers;
+    }
+
     private static boolean isComponentOld(Component component, String comparator, String age) {
         if (!component.hasPublishedAt()) {
             return false;
@@ -853,7 +892,7 @@ public class CelCommonPolicyLibrary implements Library {
                     sqlFilterParams.put("versionRegex", substringAfter(component.getVersion(), VALUE_PREFIX_REGEX));
                 } else if (component.getVersion().startsWith(VALUE_PREFIX_VERS)) {
                     // NB: Validation already happens during script compilation.
-                    final Vers vers = Vers.parse(component.getVersion());
+                    final Vers vers = parseVers(component.getVersion());
                     inMemoryFilters.add(node -> node.version() != null && vers.contains(node.version()));
                     sqlSelectColumns.add("\"VERSION\"");
                 } else {
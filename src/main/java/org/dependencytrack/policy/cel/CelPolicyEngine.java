@@ -208,22 +208,28 @@ public class CelPolicyEngine {
                 vulnIdsByComponentId = Collections.emptyMap();
             }
 
+            // Preload per-project facts that library functions would otherwise
+            // have to query the database for, once per component and condition.
+            final var evaluationContext = new CelPolicyEvaluationContext(celQm.getDirectDependencyUuids(project.getId()));
+
             // Evaluate all policy conditions against all components.
             final var conditionsViolated = new HashSetValuedHashMap<Long, PolicyCondition>();
             final Timestamp protoNow = Timestamps.now(); // Use consistent now timestamp for all evaluations.
-            for (final ComponentProjection component : components) {
-                final org.dependencytrack.proto.policy.v1.Component protoComponent = mapToProto(component, licenseById);
-                final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns =
-                        vulnIdsByComponentId.getOrDefault(component.id, emptyList()).stream()
-                                .map(protoVulnById::get)
-                                .toList();
-
-                conditionsViolated.putAll(component.id, evaluateConditions(conditionScriptPairs, Map.of(
-                        CelPolicyVariable.COMPONENT.variableName(), protoComponent,
-                        CelPolicyVariable.PROJECT.variableName(), protoProject,
-                        CelPolicyVariable.VULNS.variableName(), protoVulns,
-                        CelPolicyVariable.NOW.variableName(), protoNow
-                )));
+            try (var ignoredEvaluationContext = evaluationContext.enter()) {
+                for (final ComponentProjection component : components) {
+                    final org.dependencytrack.proto.policy.v1.Component protoComponent = mapToProto(component, licenseById);
+                    final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns =
+                            vulnIdsByComponentId.getOrDefault(component.id, emptyList()).stream()
+                                    .map(protoVulnById::get)
+                                    .toList();
+
+                    conditionsViolated.putAll(component.id, evaluateConditions(conditionScriptPairs, Map.of(
+                            CelPolicyVariable.COMPONENT.variableName(), protoComponent,
+                            CelPolicyVariable.PROJECT.variableName(), protoProject,
+                            CelPolicyVariable.VULNS.variableName(), protoVulns,
+                            CelPolicyVariable.NOW.variableName(), protoNow
+                    )));
+                }
             }
 
             final var violationsByComponentId = new ArrayListValuedHashMap<Long, PolicyViolation>();
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.policy.cel;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Per-project facts that are precomputed once by {@link CelPolicyEngine} and made
+ * available to CEL library functions for the duration of an evaluation.
+ * <p>
+ * Library functions are invoked once per component and condition. Resolving facts like
+ * the project's direct dependencies from within those functions would cause a database
+ * round-trip for every single invocation. Functions should consult {@link #current()}
+ * first, and only fall back to querying the database when no context is present.
+ *
+ * @since 5.6.0
+ */
+final class CelPolicyEvaluationContext {
+
+    private static final ThreadLocal<CelPolicyEvaluationContext> CURRENT = new ThreadLocal<>();
+
+    private final Set<String> directDependencyUuids;
+
+    CelPolicyEvaluationContext(final Set<String> directDependencyUuids) {
+        this.directDependencyUuids = directDependencyUuids != null
+                ? Collections.unmodifiableSet(directDependencyUuids)
+                : Collections.emptySet();
+    }
+
+    /**
+     * @return The {@link CelPolicyEvaluationContext} of the current thread, or {@code null} when none is set
+     */
+    static CelPolicyEvaluationContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Make this context available to the current thread until the returned {@link Scope} is closed.
+     *
+     * @return A {@link Scope} that removes the context again when closed
+     */
+    Scope enter() {
+        final CelPolicyEvaluationContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    boolean isDirectDependency(final String componentUuid) {
+        return directDependencyUuids.contains(componentUuid);
+    }
+
+    interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+}
@@ -648,6 +648,21 @@ class CelPolicyQueryManager implements AutoCloseable {
         return getParents(parentUuid, parents);
     }
 
+    Set<String> getDirectDependencyUuids(final long projectId) {
+        final Query<?> query = pm.newQuery(Query.SQL, /* language=SQL */ """
+                SELECT "DEPENDENCY"->>'uuid'
+                  FROM "PROJECT"
+                     , JSONB_ARRAY_ELEMENTS("DIRECT_DEPENDENCIES") AS "DEPENDENCY"
+                 WHERE "ID" = :projectId
+                """);
+        query.setNamedParameters(Map.of("projectId", projectId));
+        try {
+            return new HashSet<>(query.executeResultList(String.class));
+        } finally {
+            query.closeAll();
+        }
+    }
+
     boolean isDirectDependency(final org.dependencytrack.proto.policy.v1.Component component) {
         String queryString = /* language=SQL */ """
                 SELECT COUNT(*)
@@ -157,7 +157,7 @@ class CelPolicyScriptVersValidationVisitor {
         }
 
         try {
-            final Vers vers = Vers.parse(constExpr.getStringValue());
+            final Vers vers = CelCommonPolicyLibrary.parseVers(constExpr.getStringValue());
             vers.validate();
         } catch (VersException e) {
             errors.add(new VersValidationError(e, positions.get(expr.getId())));
@@ -25,12 +25,17 @@ import org.dependencytrack.exception.ProjectAccessDeniedException;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.KeysetCursor;
 import org.jdbi.v3.core.Handle;
 import org.owasp.security.logging.SecurityMarkers;
 
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.function.ToLongFunction;
 
 import static java.util.Objects.requireNonNullElse;
 import static org.dependencytrack.common.MdcKeys.MDC_COMPONENT_UUID;
@@ -43,6 +48,12 @@ import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_VERSION;
  */
 abstract class AbstractApiResource extends AlpineResource {
 
+    /**
+     * Name of the response header carrying the cursor of the next page,
+     * when cursor-based pagination is used.
+     */
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final Logger logger = Logger.getLogger(this.getClass());
 
     /**
@@ -58,10 +69,16 @@ abstract class AbstractApiResource extends AlpineResource {
      * @param qm      The {@link QueryManager} to use.
      * @param project The {@link Project} to verify access permission for.
      * @param message The message to use if a {@link ProjectAccessDeniedException} is thrown.
+     * @throws NoSuchElementException       When the given {@link Project} is pending deletion.
      * @throws ProjectAccessDeniedException When the authenticated {@link java.security.Principal}
      *                                      does not have access to the given {@link Project}.
      */
     void requireAccess(final QueryManager qm, final Project project, final String message) {
+        if (project.getDeletedAt() != null) {
+            // Tombstoned projects are treated as if they no longer existed.
+            throw new NoSuchElementException("Project could not be found");
+        }
+
         // TODO: Could make sense to cache the result for at least a few seconds.
         //  Frontend and API clients tend to make multiple successive requests targeting
         //  the same project. If we can avoid this overhead for even a few of those
@@ -104,4 +121,48 @@ abstract class AbstractApiResource extends AlpineResource {
         }
     }
 
+    /**
+     * Parses a cursor for keyset pagination, as provided by clients.
+     *
+     * @param cursor The cursor to parse. May be empty to request the first page.
+     * @return The parsed {@link KeysetCursor}, or {@code null} when {@code cursor} is {@code null},
+     * in which case offset-based pagination should be used
+     * @throws BadRequestException When the cursor is invalid, or custom ordering was requested
+     */
+    KeysetCursor parseKeysetCursor(final String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (getAlpineRequest().getOrderBy() != null) {
+            throw new BadRequestException(Response
+                    .status(Response.Status.BAD_REQUEST)
+                    .entity("Ordering is not supported with cursor-based pagination")
+                    .build());
+        }
+
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(Response
+                    .status(Response.Status.BAD_REQUEST)
+                    .entity("The provided cursor is invalid")
+                    .build());
+        }
+    }
+
+    /**
+     * Builds the cursor of the page following a given page of results.
+     *
+     * @param rows         The current page of results
+     * @param keyExtractor Function to extract the key from a result row
+     * @return The encoded cursor, or {@code null} when {@code rows} is the last page
+     */
+    <T> String nextKeysetCursor(final List<T> rows, final ToLongFunction<T> keyExtractor) {
+        if (rows.isEmpty() || rows.size() < KeysetCursor.limit(getAlpineRequest().getPagination())) {
+            return null;
+        }
+
+        return KeysetCursor.encode(keyExtractor.applyAsLong(rows.getLast()));
+    }
+
 }
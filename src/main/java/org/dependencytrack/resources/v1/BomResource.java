@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.resources.v1;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.model.ConfigProperty;
@@ -39,6 +40,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.cyclonedx.CycloneDxMediaType;
 import org.cyclonedx.exception.GeneratorException;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.BomUploadEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.model.BomValidationMode;
@@ -478,7 +480,7 @@ public class BomResource extends AbstractApiResource {
 
             final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFileMetadata);
             qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
-            Event.dispatch(bomUploadEvent);
+            dispatchBomUploadEvent(bomUploadEvent);
 
             BomUploadResponse bomUploadResponse = new BomUploadResponse();
             bomUploadResponse.setToken(bomUploadEvent.getChainIdentifier());
@@ -511,7 +513,7 @@ public class BomResource extends AbstractApiResource {
                 final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFileMetadata);
 
                 qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
-                Event.dispatch(bomUploadEvent);
+                dispatchBomUploadEvent(bomUploadEvent);
 
                 BomUploadResponse bomUploadResponse = new BomUploadResponse();
                 bomUploadResponse.setToken(bomUploadEvent.getChainIdentifier());
@@ -571,6 +573,16 @@ public class BomResource extends AbstractApiResource {
         }
     }
 
+    private static void dispatchBomUploadEvent(final BomUploadEvent bomUploadEvent) {
+        if (Config.getInstance().getPropertyAsBoolean(ConfigKey.BOM_UPLOAD_PROCESSING_KAFKA_ENABLED)) {
+            // Wait for the event to be acknowledged, such that the upload
+            // is not reported as successful when it could not be delivered.
+            new KafkaEventDispatcher().dispatchEvent(bomUploadEvent).join();
+        } else {
+            Event.dispatch(bomUploadEvent);
+        }
+    }
+
     private static void dispatchBomValidationFailedNotification(Project project, List<String> errors) {
         final KafkaEventDispatcher eventDispatcher = new KafkaEventDispatcher();
         eventDispatcher.dispatchNotification(new Notification()
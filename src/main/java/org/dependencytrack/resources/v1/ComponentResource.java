@@ -57,14 +57,20 @@ import org.dependencytrack.model.VulnerabilityScan;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.ComponentDao.ConciseComponentListRow;
+import org.dependencytrack.persistence.jdbi.KeysetCursor;
 import org.dependencytrack.proto.repometaanalysis.v1.FetchMeta;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
+import org.dependencytrack.resources.v1.vo.ComponentHashLookupResponseItem;
+import org.dependencytrack.resources.v1.vo.ConciseComponent;
 import org.dependencytrack.util.InternalComponentIdentifier;
 import org.dependencytrack.util.PurlUtil;
 import org.jdbi.v3.core.Handle;
 
 import jakarta.validation.Validator;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -79,6 +85,7 @@ import jakarta.ws.rs.core.Response;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.dependencytrack.event.kafka.componentmeta.IntegrityCheck.calculateIntegrityResult;
@@ -146,6 +153,72 @@ public class ComponentResource extends AbstractApiResource {
         }
     }
 
+    @GET
+    @Path("/project/{uuid}/concise")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Returns a list of all components for a given project, in a concise representation",
+            description = "<p>Requires permission <strong>VIEW_PORTFOLIO</strong></p>"
+    )
+    @PaginatedApi
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "A list of all components for a given project, in a concise representation",
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of components", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_CURSOR_HEADER, description = "The cursor of the next page, if any", schema = @Schema(type = "string"))
+                    },
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ConciseComponent.class)))
+            ),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access to the requested project is forbidden",
+                    content = @Content(schema = @Schema(implementation = ProblemDetails.class), mediaType = ProblemDetails.MEDIA_TYPE_JSON)),
+            @ApiResponse(responseCode = "404", description = "The project could not be found")
+    })
+    @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
+    public Response getProjectComponentsConcise(
+            @Parameter(description = "The UUID of the project to retrieve components for", schema = @Schema(type = "string", format = "uuid"), required = true)
+            @PathParam("uuid") @ValidUuid String uuid,
+            @Parameter(description = "Optionally exclude recent components so only outdated components are returned")
+            @QueryParam("onlyOutdated") boolean onlyOutdated,
+            @Parameter(description = "Optionally exclude transitive dependencies so only direct dependencies are returned")
+            @QueryParam("onlyDirect") boolean onlyDirect,
+            @Parameter(description = "Optionally exclude external components so only internal components are returned")
+            @QueryParam("onlyInternal") boolean onlyInternal,
+            @Parameter(description = """
+                    Cursor for cursor-based pagination. Provide an empty value to request the first page, \
+                    and the value of the X-Next-Cursor response header to request subsequent pages. \
+                    Cursor-based pagination does not support custom ordering, and does not report a total count.""")
+            @QueryParam("cursor") final String cursor) {
+        final KeysetCursor keysetCursor = parseKeysetCursor(cursor);
+
+        final long projectId;
+        try (QueryManager qm = new QueryManager()) {
+            final Project project = qm.getObjectByUuid(Project.class, uuid);
+            if (project == null) {
+                return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
+            }
+            requireAccess(qm, project);
+            projectId = project.getId();
+        }
+
+        final List<ConciseComponentListRow> componentRows = withJdbiHandle(getAlpineRequest(), handle -> handle.attach(ComponentDao.class)
+                .getProjectComponentsPageConcise(projectId, onlyOutdated, onlyDirect, onlyInternal, keysetCursor));
+
+        final List<ConciseComponent> components = componentRows.stream().map(ConciseComponent::new).toList();
+        if (keysetCursor != null) {
+            return Response.ok(components)
+                    .header(NEXT_CURSOR_HEADER, nextKeysetCursor(componentRows, ConciseComponentListRow::id))
+                    .build();
+        }
+
+        final long totalCount = componentRows.isEmpty() ? 0 : componentRows.getFirst().totalCount();
+        return Response.ok(components).header(TOTAL_COUNT_HEADER, totalCount).build();
+    }
+
     @GET
     @Path("/{uuid}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -376,6 +449,48 @@ public class ComponentResource extends AbstractApiResource {
         }
     }
 
+    @POST
+    @Path("/hash")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Resolves multiple hashes to the components that have them",
+            description = """
+                    <p>
+                      Hashes of all supported algorithms may be mixed in a single request.
+                      Hashes without a matching component are omitted from the response.
+                    </p>
+                    <p>Requires permission <strong>VIEW_PORTFOLIO</strong></p>
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "A list of components that have any of the specified hash values, ordered by hash",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ComponentHashLookupResponseItem.class)))
+            ),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
+    public Response lookupComponentsByHashes(
+            @Parameter(
+                    description = "The MD5, SHA-1, SHA-256, SHA-384, SHA-512, SHA3-256, SHA3-384, SHA3-512, BLAKE2b-256, BLAKE2b-384, BLAKE2b-512, or BLAKE3 hashes to resolve",
+                    required = true,
+                    array = @ArraySchema(schema = @Schema(type = "string"))
+            )
+            @Size(min = 1, max = 5000) final Set<@Pattern(regexp = "^([0-9a-fA-F]{2})+$") String> hashes
+    ) {
+        final List<ComponentDao.HashLookupRow> rows;
+        try (QueryManager qm = new QueryManager(getAlpineRequest())) {
+            rows = qm.lookupComponentsByHashes(hashes);
+        }
+
+        final List<ComponentHashLookupResponseItem> items = rows.stream()
+                .map(ComponentHashLookupResponseItem::new)
+                .toList();
+        return Response.ok(items).build();
+    }
+
     @PUT
     @Path("/project/{uuid}")
     @Consumes(MediaType.APPLICATION_JSON)
@@ -18,7 +18,6 @@
  */
 package org.dependencytrack.resources.v1;
 
-import alpine.event.framework.Event;
 import alpine.server.resources.AlpineResource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,6 +34,7 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.dependencytrack.event.EventLanes;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.resources.v1.vo.IsTokenBeingProcessedResponse;
@@ -88,7 +88,7 @@ public class EventResource extends AlpineResource {
         final UUID token = UUID.fromString(uuid);
 
         final boolean isProcessing;
-        if (Event.isEventBeingProcessed(token)) {
+        if (EventLanes.getInstance().isEventBeingProcessed(token)) {
             isProcessing = true;
         } else {
             isProcessing = withJdbiHandle(getAlpineRequest(), handle ->
@@ -0,0 +1,128 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1;
+
+import alpine.server.auth.PermissionRequired;
+import alpine.server.resources.AlpineResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.security.SecurityRequirements;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.event.kafka.processor.ProcessorInitializer;
+import org.dependencytrack.event.kafka.processor.api.DeadLetterQueue;
+import org.dependencytrack.event.kafka.processor.api.DeadLetterQueue.DeadLetter;
+import org.dependencytrack.resources.v1.vo.DeadLetterReplayResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JAX-RS resources for administering Kafka processors.
+ *
+ * @since 5.6.0
+ */
+@Path("/v1/kafka/processor")
+@Tag(name = "kafka")
+@SecurityRequirements({
+        @SecurityRequirement(name = "ApiKeyAuth"),
+        @SecurityRequirement(name = "BearerAuth")
+})
+public class KafkaProcessorResource extends AlpineResource {
+
+    @GET
+    @Path("/{name}/dead-letter")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Returns records in the dead letter topic of a processor that have not been replayed yet",
+            description = "<p>Requires permission <strong>SYSTEM_CONFIGURATION</strong> or <strong>SYSTEM_CONFIGURATION_READ</strong></p>"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Records in the dead letter topic",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = DeadLetter.class)))
+            ),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "The processor does not exist, or does not have retry topics enabled")
+    })
+    @PermissionRequired({Permissions.Constants.SYSTEM_CONFIGURATION, Permissions.Constants.SYSTEM_CONFIGURATION_READ})
+    public Response getDeadLetters(
+            @Parameter(description = "The name of the processor", required = true)
+            @PathParam("name") final String name,
+            @Parameter(description = "The maximum number of records to return")
+            @QueryParam("limit") @DefaultValue("100") @Min(1) @Max(1000) final int limit) {
+        final Optional<DeadLetterQueue> optionalDeadLetterQueue =
+                ProcessorInitializer.getProcessorManager().getDeadLetterQueue(name);
+        if (optionalDeadLetterQueue.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND).entity("The processor could not be found.").build();
+        }
+
+        final List<DeadLetter> deadLetters = optionalDeadLetterQueue.get().peek(limit);
+        return Response.ok(deadLetters).build();
+    }
+
+    @POST
+    @Path("/{name}/dead-letter/replay")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Replays all records in the dead letter topic of a processor to the topics they were originally consumed from",
+            description = "<p>Requires permission <strong>SYSTEM_CONFIGURATION</strong> or <strong>SYSTEM_CONFIGURATION_UPDATE</strong></p>"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "The number of replayed records",
+                    content = @Content(schema = @Schema(implementation = DeadLetterReplayResponse.class))
+            ),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "The processor does not exist, or does not have retry topics enabled")
+    })
+    @PermissionRequired({Permissions.Constants.SYSTEM_CONFIGURATION, Permissions.Constants.SYSTEM_CONFIGURATION_UPDATE})
+    public Response replayDeadLetters(
+            @Parameter(description = "The name of the processor", required = true)
+            @PathParam("name") final String name) {
+        final Optional<DeadLetterQueue> optionalDeadLetterQueue =
+                ProcessorInitializer.getProcessorManager().getDeadLetterQueue(name);
+        if (optionalDeadLetterQueue.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND).entity("The processor could not be found.").build();
+        }
+
+        final int replayed = optionalDeadLetterQueue.get().replay();
+        return Response.ok(new DeadLetterReplayResponse(replayed)).build();
+    }
+
+}
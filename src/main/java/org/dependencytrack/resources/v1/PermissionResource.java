@@ -43,6 +43,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalContextCache;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
 import org.owasp.security.logging.SecurityMarkers;
@@ -125,6 +126,7 @@ public class PermissionResource extends AlpineResource {
                 permissions.add(permission);
                 principal.setPermissions(permissions);
                 principal = qm.persist(principal);
+                PrincipalContextCache.getInstance().invalidate(principal);
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Added permission for user: " + principal.getName() + " / permission: " + permission.getName());
                 return Response.ok(principal).build();
             }
@@ -170,6 +172,7 @@ public class PermissionResource extends AlpineResource {
                 permissions.remove(permission);
                 principal.setPermissions(permissions);
                 principal = qm.persist(principal);
+                PrincipalContextCache.getInstance().invalidate(principal);
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Removed permission for user: " + principal.getName() + " / permission: " + permission.getName());
                 return Response.ok(principal).build();
             }
@@ -214,6 +217,7 @@ public class PermissionResource extends AlpineResource {
                 permissions.add(permission);
                 team.setPermissions(permissions);
                 team = qm.persist(team);
+                PrincipalContextCache.getInstance().invalidateAll();
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Added permission for team: " + team.getName() + " / permission: " + permission.getName());
                 return Response.ok(team).build();
             }
@@ -258,6 +262,7 @@ public class PermissionResource extends AlpineResource {
                 permissions.remove(permission);
                 team.setPermissions(permissions);
                 team = qm.persist(team);
+                PrincipalContextCache.getInstance().invalidateAll();
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Removed permission for team: " + team.getName() + " / permission: " + permission.getName());
                 return Response.ok(team).build();
             }
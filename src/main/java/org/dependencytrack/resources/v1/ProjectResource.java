@@ -39,6 +39,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.CloneProjectEvent;
+import org.dependencytrack.event.EventLanes;
+import org.dependencytrack.event.ProjectDeletionEvent;
 import org.dependencytrack.model.Classifier;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Tag;
@@ -47,6 +49,7 @@ import org.dependencytrack.model.WorkflowStatus;
 import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.KeysetCursor;
 import org.dependencytrack.persistence.jdbi.ProjectDao;
 import org.dependencytrack.persistence.jdbi.ProjectDao.ConciseProjectListRow;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
@@ -84,7 +87,6 @@ import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
-import static alpine.event.framework.Event.isEventBeingProcessed;
 import static java.util.Objects.requireNonNullElseGet;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.createLocalJdbi;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
@@ -118,7 +120,9 @@ public class ProjectResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all projects",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects"),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects")
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = Project.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
@@ -158,7 +162,10 @@ public class ProjectResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all projects in concise representation",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects"),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects"),
+                            @Header(name = NEXT_CURSOR_HEADER, schema = @Schema(type = "string"), description = "The cursor of the next page, if any")
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ConciseProject.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
@@ -178,14 +185,18 @@ public class ProjectResource extends AbstractApiResource {
             @Parameter(description = "Whether to show only root projects, i.e. those without a parent.")
             @QueryParam("onlyRoot") final Boolean onlyRootFilter,
             @Parameter(description = "Whether to include metrics in the response.")
-            @QueryParam("includeMetrics") final boolean includeMetrics
+            @QueryParam("includeMetrics") final boolean includeMetrics,
+            @Parameter(description = """
+                    Cursor for cursor-based pagination. Provide an empty value to request the first page, \
+                    and the value of the X-Next-Cursor response header to request subsequent pages. \
+                    Cursor-based pagination does not support custom ordering, and does not report a total count.""")
+            @QueryParam("cursor") final String cursor
     ) {
+        final KeysetCursor keysetCursor = parseKeysetCursor(cursor);
         final List<ConciseProjectListRow> projectRows = withJdbiHandle(getAlpineRequest(), handle -> handle.attach(ProjectDao.class)
-                .getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, onlyRootFilter, /* parentUuidFilter */ null, includeMetrics));
+                .getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, onlyRootFilter, /* parentUuidFilter */ null, includeMetrics, keysetCursor));
 
-        final long totalCount = projectRows.isEmpty() ? 0 : projectRows.getFirst().totalCount();
-        final List<ConciseProject> projects = projectRows.stream().map(ConciseProject::new).toList();
-        return Response.ok(projects).header(TOTAL_COUNT_HEADER, totalCount).build();
+        return createConciseProjectsResponse(projectRows, keysetCursor);
     }
 
     @GET
@@ -200,7 +211,10 @@ public class ProjectResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all child projects in a concise representation",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, description = "The total number of child projects", schema = @Schema(format = "integer")),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of child projects", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_CURSOR_HEADER, description = "The cursor of the next page, if any", schema = @Schema(type = "string"))
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ConciseProject.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
@@ -220,13 +234,29 @@ public class ProjectResource extends AbstractApiResource {
             @Parameter(description = "Whether to show only active, or only inactive projects. Omitting the filter will show both.")
             @QueryParam("active") final Boolean activeFilter,
             @Parameter(description = "Whether to include metrics in the response.")
-            @QueryParam("includeMetrics") final boolean includeMetrics
+            @QueryParam("includeMetrics") final boolean includeMetrics,
+            @Parameter(description = """
+                    Cursor for cursor-based pagination. Provide an empty value to request the first page, \
+                    and the value of the X-Next-Cursor response header to request subsequent pages. \
+                    Cursor-based pagination does not support custom ordering, and does not report a total count.""")
+            @QueryParam("cursor") final String cursor
     ) {
+        final KeysetCursor keysetCursor = parseKeysetCursor(cursor);
         final List<ConciseProjectListRow> projectRows = withJdbiHandle(getAlpineRequest(), handle -> handle.attach(ProjectDao.class)
-                .getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, /* onlyRootFilter */ null, UUID.fromString(parentUuid), includeMetrics));
+                .getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, /* onlyRootFilter */ null, UUID.fromString(parentUuid), includeMetrics, keysetCursor));
 
-        final long totalCount = projectRows.isEmpty() ? 0 : projectRows.getFirst().totalCount();
+        return createConciseProjectsResponse(projectRows, keysetCursor);
+    }
+
+    private Response createConciseProjectsResponse(final List<ConciseProjectListRow> projectRows, final KeysetCursor keysetCursor) {
         final List<ConciseProject> projects = projectRows.stream().map(ConciseProject::new).toList();
+        if (keysetCursor != null) {
+            return Response.ok(projects)
+                    .header(NEXT_CURSOR_HEADER, nextKeysetCursor(projectRows, ConciseProjectListRow::id))
+                    .build();
+        }
+
+        final long totalCount = projectRows.isEmpty() ? 0 : projectRows.getFirst().totalCount();
         return Response.ok(projects).header(TOTAL_COUNT_HEADER, totalCount).build();
     }
 
@@ -845,9 +875,17 @@ public class ProjectResource extends AbstractApiResource {
     @Produces(MediaType.APPLICATION_JSON)
     @Operation(
             summary = "Deletes a project",
-            description = "<p>Requires permission <strong>PORTFOLIO_MANAGEMENT</strong> or <strong>PORTFOLIO_MANAGEMENT_DELETE</strong></p>"
+            description = """
+                    <p>
+                      When <code>async</code> is <code>true</code>, the project and its descendants are
+                      hidden immediately, and their data is deleted in the background. The returned token
+                      can be used to track the progress of the deletion.
+                    </p>
+                    <p>Requires permission <strong>PORTFOLIO_MANAGEMENT</strong> or <strong>PORTFOLIO_MANAGEMENT_DELETE</strong></p>
+                    """
     )
     @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Project scheduled for deletion"),
             @ApiResponse(responseCode = "204", description = "Project removed successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(
@@ -860,9 +898,11 @@ public class ProjectResource extends AbstractApiResource {
     @PermissionRequired({Permissions.Constants.PORTFOLIO_MANAGEMENT, Permissions.Constants.PORTFOLIO_MANAGEMENT_DELETE})
     public Response deleteProject(
             @Parameter(description = "The UUID of the project to delete", schema = @Schema(type = "string", format = "uuid"), required = true)
-            @PathParam("uuid") @ValidUuid String uuid) {
+            @PathParam("uuid") @ValidUuid String uuid,
+            @Parameter(description = "Whether to delete the project's data in the background")
+            @QueryParam("async") final boolean async) {
         try (final var qm = new QueryManager()) {
-            qm.runInTransaction(() -> {
+            final ProjectDeletionEvent deletionEvent = qm.callInTransaction(() -> {
                 final Project project = qm.getObjectByUuid(Project.class, uuid, Project.FetchGroup.ALL.name());
                 if (project == null) {
                     throw new ClientErrorException(Response
@@ -876,12 +916,31 @@ public class ProjectResource extends AbstractApiResource {
 
                 try (final Handle jdbiHandle = createLocalJdbi(qm).open()) {
                     final var projectDao = jdbiHandle.attach(ProjectDao.class);
-                    projectDao.deleteProject(project.getUuid());
+                    if (!async) {
+                        projectDao.deleteProject(project.getUuid());
+                        return null;
+                    }
+
+                    projectDao.tombstoneProject(project.getId());
+
+                    final var event = new ProjectDeletionEvent(project.getUuid());
+                    final var workflowState = new WorkflowState();
+                    workflowState.setStep(WorkflowStep.PROJECT_DELETION);
+                    workflowState.setStatus(WorkflowStatus.PENDING);
+                    workflowState.setToken(event.getChainIdentifier());
+                    workflowState.setUpdatedAt(new Date());
+                    qm.persist(workflowState);
+                    return event;
                 } catch (RuntimeException e) {
                     LOGGER.error("Failed to delete project", e);
                     throw new ServerErrorException(Response.Status.INTERNAL_SERVER_ERROR);
                 }
             });
+
+            if (deletionEvent != null) {
+                Event.dispatch(deletionEvent);
+                return Response.accepted(Map.of("token", deletionEvent.getChainIdentifier())).build();
+            }
         }
 
         return Response.status(Response.Status.NO_CONTENT).build();
@@ -943,7 +1002,7 @@ public class ProjectResource extends AbstractApiResource {
                 final var event = new CloneProjectEvent(jsonRequest);
                 WorkflowState workflowState = qm.getWorkflowStateByTokenAndStep(event.getChainIdentifier(), WorkflowStep.PROJECT_CLONE);
                 if (workflowState != null) {
-                    if (isEventBeingProcessed(event.getChainIdentifier()) || !workflowState.getStatus().isTerminal()) {
+                    if (EventLanes.getInstance().isEventBeingProcessed(event.getChainIdentifier()) || !workflowState.getStatus().isTerminal()) {
                         throw new ClientErrorException(Response
                                 .status(Response.Status.CONFLICT)
                                 .entity(Map.of("message", "Project cloning is already in progress"))
@@ -48,6 +48,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalContextCache;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.TeamDao;
@@ -222,6 +223,7 @@ public class TeamResource extends AlpineResource {
                     final var teamDao = jdbiHandle.attach(TeamDao.class);
                     teamDao.deleteTeam(team.getId());
                 }
+                PrincipalContextCache.getInstance().invalidateAll();
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Team deleted: " + teamName);
                 return Response.status(Response.Status.NO_CONTENT).build();
             } else {
@@ -379,6 +381,7 @@ public class TeamResource extends AlpineResource {
             final ApiKey apiKey = qm.getApiKey(apikey);
             if (apiKey != null) {
                 qm.delete(apiKey);
+                PrincipalContextCache.getInstance().invalidate(apiKey);
                 return Response.status(Response.Status.NO_CONTENT).build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The API key could not be found.").build();
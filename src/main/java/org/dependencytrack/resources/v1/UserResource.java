@@ -61,6 +61,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalContextCache;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.model.IdentifiableObject;
 import org.dependencytrack.notification.NotificationConstants;
@@ -458,6 +459,7 @@ public class UserResource extends AlpineResource {
             if (user != null) {
                 final LdapUser detachedUser = qm.getPersistenceManager().detachCopy(user);
                 qm.delete(user);
+                PrincipalContextCache.getInstance().invalidate(detachedUser);
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "LDAP user deleted: " + detachedUser.getUsername());
                 dispatchUserDeletedNotification("LDAP user deleted", buildUserSubject(detachedUser.getUsername(), detachedUser.getEmail()));
                 return Response.status(Response.Status.NO_CONTENT).build();
@@ -586,6 +588,7 @@ public class UserResource extends AlpineResource {
             if (user != null) {
                 final ManagedUser detachedUser = qm.getPersistenceManager().detachCopy(user);
                 qm.delete(user);
+                PrincipalContextCache.getInstance().invalidate(detachedUser);
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Managed user deleted: " + detachedUser.getUsername());
                 dispatchUserDeletedNotification("Managed user deleted", buildUserSubject(detachedUser.getUsername(), detachedUser.getEmail()));
                 return Response.status(Response.Status.NO_CONTENT).build();
@@ -651,6 +654,7 @@ public class UserResource extends AlpineResource {
             if (user != null) {
                 final OidcUser detachedUser = qm.getPersistenceManager().detachCopy(user);
                 qm.delete(user);
+                PrincipalContextCache.getInstance().invalidate(detachedUser);
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "OpenID Connect user deleted: " + detachedUser.getUsername());
                 dispatchUserDeletedNotification("OpenID Connect user deleted", buildUserSubject(detachedUser.getUsername(), detachedUser.getEmail()));
                 return Response.status(Response.Status.NO_CONTENT).build();
@@ -694,6 +698,7 @@ public class UserResource extends AlpineResource {
                 return Response.status(Response.Status.NOT_FOUND).entity("The user could not be found.").build();
             }
             final boolean modified = qm.addUserToTeam(principal, team);
+            PrincipalContextCache.getInstance().invalidate(principal);
             principal = qm.getObjectById(principal.getClass(), principal.getId());
             if (modified) {
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Added team membership for: " + principal.getName() + " / team: " + team.getName());
@@ -738,6 +743,7 @@ public class UserResource extends AlpineResource {
                 return Response.status(Response.Status.NOT_FOUND).entity("The user could not be found.").build();
             }
             final boolean modified = qm.removeUserFromTeam(principal, team);
+            PrincipalContextCache.getInstance().invalidate(principal);
             principal = qm.getObjectById(principal.getClass(), principal.getId());
             if (modified) {
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Removed team membership for: " + principal.getName() + " / team: " + team.getName());
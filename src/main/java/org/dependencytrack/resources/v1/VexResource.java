@@ -41,10 +41,13 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.parser.cyclonedx.CycloneDXExporter;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.plugin.PluginManager;
+import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
 import org.dependencytrack.resources.v1.problems.InvalidBomProblemDetails;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 import org.dependencytrack.resources.v1.vo.BomUploadResponse;
 import org.dependencytrack.resources.v1.vo.VexSubmitRequest;
+import org.dependencytrack.storage.FileStorage;
 import org.glassfish.jersey.media.multipart.BodyPartEntity;
 import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import org.glassfish.jersey.media.multipart.FormDataParam;
@@ -62,6 +65,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
@@ -266,7 +270,16 @@ public class VexResource extends AbstractApiResource {
             requireAccess(qm, project);
             final byte[] decoded = Base64.getDecoder().decode(encodedVexData);
             BomResource.validate(decoded, project);
-            final VexUploadEvent vexUploadEvent = new VexUploadEvent(project.getUuid(), decoded);
+
+            final FileMetadata vexFileMetadata;
+            try {
+                vexFileMetadata = storeVex(decoded, project);
+            } catch (IOException e) {
+                LOGGER.error("An unexpected error occurred while storing a VEX uploaded to project: " + project.getUuid(), e);
+                return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
+            }
+
+            final VexUploadEvent vexUploadEvent = new VexUploadEvent(project.getUuid(), vexFileMetadata);
             Event.dispatch(vexUploadEvent);
             return Response.ok(Collections.singletonMap("token", vexUploadEvent.getChainIdentifier())).build();
         } else {
@@ -285,7 +298,7 @@ public class VexResource extends AbstractApiResource {
                 try (InputStream in = bodyPartEntity.getInputStream()) {
                     final byte[] content = IOUtils.toByteArray(new BOMInputStream((in)));
                     BomResource.validate(content, project);
-                    final VexUploadEvent vexUploadEvent = new VexUploadEvent(project.getUuid(), content);
+                    final VexUploadEvent vexUploadEvent = new VexUploadEvent(project.getUuid(), storeVex(content, project));
                     Event.dispatch(vexUploadEvent);
                     return Response.ok(Collections.singletonMap("token", vexUploadEvent.getChainIdentifier())).build();
                 } catch (IOException e) {
@@ -298,4 +311,10 @@ public class VexResource extends AbstractApiResource {
         return Response.ok().build();
     }
 
+    private static FileMetadata storeVex(final byte[] vexBytes, final Project project) throws IOException {
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            return fileStorage.store("vex-upload/%s_%s".formatted(Instant.now().toEpochMilli(), project.getUuid()), vexBytes);
+        }
+    }
+
 }
@@ -43,6 +43,7 @@ import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.EventLanes;
 import org.dependencytrack.event.VulnerabilityPolicyFetchEvent;
 import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.model.WorkflowStatus;
@@ -60,8 +61,6 @@ import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
 
-import static alpine.event.framework.Event.isEventBeingProcessed;
-
 /**
  * Resource for vulnerability policies.
  */
@@ -135,7 +134,7 @@ public class VulnerabilityPolicyResource extends AlpineResource {
             final Response response = qm.callInTransaction(() -> {
                 WorkflowState workflowState = qm.getWorkflowStateByTokenAndStep(token, WorkflowStep.POLICY_BUNDLE_SYNC);
                 if (workflowState != null) {
-                    if (isEventBeingProcessed(token) || !workflowState.getStatus().isTerminal()) {
+                    if (EventLanes.getInstance().isEventBeingProcessed(token) || !workflowState.getStatus().isTerminal()) {
                         return Response
                                 .status(Response.Status.CONFLICT)
                                 .entity(Map.of("message", "Bundle synchronization is already in progress"))
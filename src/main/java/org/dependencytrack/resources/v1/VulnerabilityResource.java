@@ -19,6 +19,7 @@
 package org.dependencytrack.resources.v1;
 
 import alpine.persistence.PaginatedResult;
+import alpine.resources.AlpineRequest;
 import alpine.server.auth.PermissionRequired;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,6 +32,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalContextCache.PrincipalContext;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Cwe;
@@ -40,6 +42,7 @@ import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerableSoftware;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.parser.common.resolver.CweResolver;
+import org.dependencytrack.persistence.AffectedProjectsCache;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.VulnerabilityDao;
 import org.dependencytrack.persistence.jdbi.VulnerabilityDao.AffectedProjectListRow;
@@ -272,8 +275,19 @@ public class VulnerabilityResource extends AbstractApiResource {
                                        @PathParam("vuln") String vuln,
                                        @Parameter(description = "Optionally excludes inactive projects from being returned", required = false)
                                        @QueryParam("excludeInactive") boolean excludeInactive) {
-        final List<AffectedProjectListRow> affectedProjectRows = withJdbiHandle(getAlpineRequest(), handle ->
-                handle.attach(VulnerabilityDao.class).getAffectedProjects(source, vuln, excludeInactive ? true : null));
+        final AlpineRequest alpineRequest = getAlpineRequest();
+
+        PrincipalContext principalContext = null;
+        if (alpineRequest.getPrincipal() != null) {
+            try (final var qm = new QueryManager(alpineRequest)) {
+                principalContext = qm.getPrincipalContext(alpineRequest.getPrincipal());
+            }
+        }
+
+        final List<AffectedProjectListRow> affectedProjectRows = AffectedProjectsCache.getInstance().get(
+                AffectedProjectsCache.Key.of(source, vuln, excludeInactive, principalContext, alpineRequest),
+                () -> withJdbiHandle(alpineRequest, handle ->
+                        handle.attach(VulnerabilityDao.class).getAffectedProjects(source, vuln, excludeInactive ? true : null)));
 
         final long totalCount = affectedProjectRows.isEmpty() ? 0 : affectedProjectRows.getFirst().totalCount();
         final List<AffectedProject> affectedProjects = affectedProjectRows.stream()
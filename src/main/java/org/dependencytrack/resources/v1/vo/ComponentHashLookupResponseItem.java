@@ -0,0 +1,50 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1.vo;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.dependencytrack.persistence.jdbi.ComponentDao.HashLookupRow;
+
+import java.util.UUID;
+
+/**
+ * @since 5.6.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "A component that carries one of the requested hashes")
+public record ComponentHashLookupResponseItem(
+        @Schema(description = "The matched hash, in lowercase hex encoding", requiredMode = Schema.RequiredMode.REQUIRED) String hash,
+        @Schema(description = "Algorithm of the matched hash", requiredMode = Schema.RequiredMode.REQUIRED) String algorithm,
+        @Schema(description = "UUID of the component", requiredMode = Schema.RequiredMode.REQUIRED) UUID uuid,
+        @Schema(description = "Group or namespace of the component") String group,
+        @Schema(description = "Name of the component", requiredMode = Schema.RequiredMode.REQUIRED) String name,
+        @Schema(description = "Version of the component") String version,
+        @Schema(description = "Package URL of the component") String purl,
+        @Schema(description = "UUID of the project the component belongs to", requiredMode = Schema.RequiredMode.REQUIRED) UUID projectUuid,
+        @Schema(description = "Name of the project the component belongs to", requiredMode = Schema.RequiredMode.REQUIRED) String projectName,
+        @Schema(description = "Version of the project the component belongs to") String projectVersion
+) {
+
+    public ComponentHashLookupResponseItem(final HashLookupRow row) {
+        this(row.hash(), row.algorithm(), row.uuid(), row.group(), row.name(), row.version(), row.purl(),
+                row.projectUuid(), row.projectName(), row.projectVersion());
+    }
+
+}
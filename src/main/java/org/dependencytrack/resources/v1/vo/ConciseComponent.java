@@ -0,0 +1,72 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1.vo;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.dependencytrack.model.Classifier;
+import org.dependencytrack.model.IntegrityMatchStatus;
+import org.dependencytrack.persistence.jdbi.ComponentDao.ConciseComponentListRow;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * @since 5.6.0
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+@Schema(description = "A concise representation of a component")
+public record ConciseComponent(
+        @Schema(description = "UUID of the component", requiredMode = Schema.RequiredMode.REQUIRED) UUID uuid,
+        @Schema(description = "Group or namespace of the component") String group,
+        @Schema(description = "Name of the component", requiredMode = Schema.RequiredMode.REQUIRED) String name,
+        @Schema(description = "Version of the component") String version,
+        @Schema(description = "Classifier of the component") Classifier classifier,
+        @Schema(description = "Package URL of the component") String purl,
+        @Schema(description = "CPE of the component") String cpe,
+        @Schema(description = "Whether the component is internal", requiredMode = Schema.RequiredMode.REQUIRED) boolean internal,
+        @Schema(description = "SPDX ID of the resolved license") String resolvedLicenseId,
+        @Schema(description = "Name of the license") String licenseName,
+        @Schema(description = "SPDX expression of the license") String licenseExpression,
+        @Schema(description = "The inherited risk score") Double lastInheritedRiskScore,
+        @Schema(description = "Number of occurrences of the component", requiredMode = Schema.RequiredMode.REQUIRED) long occurrenceCount,
+        @Schema(description = "Latest version of the component, as reported by its repository") String latestVersion,
+        @Schema(description = "Timestamp of the publication of the latest version", type = "number", example = "1719499619599") Date latestVersionPublishedAt,
+        @Schema(description = "Status of the integrity check") IntegrityMatchStatus integrityCheckStatus,
+        @Schema(description = "Latest metrics for the component") ConciseComponentMetrics metrics
+) {
+
+    public ConciseComponent(final ConciseComponentListRow row) {
+        this(row.uuid(), row.group(), row.name(), row.version(),
+                row.classifier() != null ? Classifier.valueOf(row.classifier()) : null,
+                row.purl(),
+                row.cpe(),
+                row.internal(),
+                row.resolvedLicenseId(),
+                row.licenseName(),
+                row.licenseExpression(),
+                row.lastInheritedRiskScore(),
+                row.occurrenceCount(),
+                row.latestVersion(),
+                row.latestVersionPublishedAt() != null ? Date.from(row.latestVersionPublishedAt()) : null,
+                row.integrityCheckStatus() != null ? IntegrityMatchStatus.valueOf(row.integrityCheckStatus()) : null,
+                row.metrics() != null ? new ConciseComponentMetrics(row.metrics()) : null);
+    }
+
+}
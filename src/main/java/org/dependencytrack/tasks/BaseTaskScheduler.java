@@ -20,55 +20,116 @@ package org.dependencytrack.tasks;
 
 import alpine.Config;
 import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
 import alpine.event.framework.Event;
-import alpine.event.framework.EventService;
+import alpine.event.framework.Subscriber;
 import com.asahaf.javacron.Schedule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.dependencytrack.common.ConfigKey;
 
-import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Fires {@link Event}s according to cron {@link Schedule}s.
+ * <p>
+ * Rather than polling schedules in a fixed interval, the scheduler sleeps until the next
+ * fire time of each task. Scheduled executions do not go through the shared {@link alpine.event.framework.EventService},
+ * but are executed on a dedicated executor per task, whose concurrency and queue are bounded.
+ * Executions that can't be accepted because the task is still busy are counted as missed.
+ */
 public abstract class BaseTaskScheduler {
 
     private static final Logger LOGGER = Logger.getLogger(BaseTaskScheduler.class);
 
-    private Timer timer;
+    private ScheduledExecutorService scheduler;
+    private final List<TaskExecution> taskExecutions = new ArrayList<>();
+
+    /**
+     * Definition of a task to be executed according to a cron schedule.
+     *
+     * @param name            Name of the task, used for logging and metrics
+     * @param event           The {@link Event} to inform the subscriber about
+     * @param schedule        The cron {@link Schedule} of the task
+     * @param subscriberClass The {@link Subscriber} to execute
+     * @param maxConcurrency  Maximum number of concurrent executions of the task
+     * @param queueCapacity   Maximum number of executions that may wait for a running one to complete
+     */
+    protected record ScheduledTask(
+            String name,
+            Event event,
+            Schedule schedule,
+            Class<? extends Subscriber> subscriberClass,
+            int maxConcurrency,
+            int queueCapacity) {
 
-    private long pollingIntervalInMillis;
+        public ScheduledTask {
+            requireNonNull(name, "name must not be null");
+            requireNonNull(event, "event must not be null");
+            requireNonNull(schedule, "schedule must not be null");
+            requireNonNull(subscriberClass, "subscriberClass must not be null");
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            if (queueCapacity < 0) {
+                throw new IllegalArgumentException("queueCapacity must not be negative");
+            }
+        }
 
-    protected void scheduleTask(Map<Event, Schedule> eventScheduleMap) {
-        pollingIntervalInMillis = Config.getInstance().getPropertyAsLong(ConfigKey.TASK_SCHEDULER_POLLING_INTERVAL);
-        long initialDelay = Config.getInstance().getPropertyAsLong(ConfigKey.TASK_SCHEDULER_INITIAL_DELAY);
-        timer = new Timer();
-        timer.schedule(new ScheduleEvent().eventScheduleMap(eventScheduleMap), initialDelay, pollingIntervalInMillis);
     }
 
-    /**
-     * Inner-class that when run() publishes an Event
-     */
-    private class ScheduleEvent extends TimerTask {
+    protected void scheduleTasks(final Collection<ScheduledTask> tasks) {
+        scheduleTasks(tasks, Config.getInstance().getPropertyAsLong(ConfigKey.TASK_SCHEDULER_INITIAL_DELAY));
+    }
 
-        private Map<Event, Schedule> eventScheduleMap;
+    void scheduleTasks(final Collection<ScheduledTask> tasks, final long initialDelayMillis) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("TaskScheduler").daemon(true).factory());
 
-        public ScheduleEvent eventScheduleMap(final Map<Event, Schedule> eventScheduleMap) {
-            this.eventScheduleMap = eventScheduleMap;
-            return this;
+        for (final ScheduledTask task : tasks) {
+            taskExecutions.add(new TaskExecution(task));
         }
 
-        /**
-         * Publishes the Event specified in the constructor.
-         * This method publishes to all {@link EventService}s.
-         */
-        public void run() {
-            this.eventScheduleMap.forEach((event, schedule) -> {
-                long timeToExecuteTask = schedule.nextDuration(TimeUnit.MILLISECONDS);
-                LOGGER.debug("Time in milliseconds to execute " + event + "is: " + timeToExecuteTask);
-                if (timeToExecuteTask <= pollingIntervalInMillis) {
-                    Event.dispatch(event);
-                }
-            });
+        scheduler.schedule(() -> taskExecutions.forEach(this::scheduleNextFire), initialDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void scheduleNextFire(final TaskExecution taskExecution) {
+        final long delayMillis = taskExecution.task.schedule().nextDuration(TimeUnit.MILLISECONDS);
+        final long expectedFireTimeMillis = System.currentTimeMillis() + delayMillis;
+        LOGGER.debug("Next execution of %s in %dms".formatted(taskExecution.task.name(), delayMillis));
+
+        try {
+            scheduler.schedule(() -> fire(taskExecution, expectedFireTimeMillis), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Scheduler has been shut down.
+            LOGGER.debug("Not scheduling next execution of %s because the scheduler is shut down".formatted(taskExecution.task.name()));
+        }
+    }
+
+    private void fire(final TaskExecution taskExecution, final long expectedFireTimeMillis) {
+        try {
+            // Cron expressions have a precision of seconds. When the clock moves slightly
+            // backwards, the same fire time could be computed twice, so guard against that.
+            final long fireTimeSeconds = Math.round(expectedFireTimeMillis / 1000.0);
+            if (fireTimeSeconds > taskExecution.lastFireTimeSeconds) {
+                taskExecution.lastFireTimeSeconds = fireTimeSeconds;
+                taskExecution.lagTimer.record(Math.max(0, System.currentTimeMillis() - expectedFireTimeMillis), TimeUnit.MILLISECONDS);
+                taskExecution.submit();
+            }
+        } finally {
+            scheduleNextFire(taskExecution);
         }
     }
 
@@ -76,6 +137,65 @@ public abstract class BaseTaskScheduler {
      * Shuts town the TaskScheduler by canceling all scheduled events.
      */
     public void shutdown() {
-        timer.cancel();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        taskExecutions.forEach(taskExecution -> taskExecution.executor.shutdown());
+    }
+
+    private static final class TaskExecution {
+
+        private final ScheduledTask task;
+        private final ThreadPoolExecutor executor;
+        private final Timer lagTimer;
+        private final Counter missedFiresCounter;
+        private long lastFireTimeSeconds;
+
+        private TaskExecution(final ScheduledTask task) {
+            this.task = task;
+
+            final BlockingQueue<Runnable> queue = task.queueCapacity() > 0
+                    ? new ArrayBlockingQueue<>(task.queueCapacity())
+                    : new SynchronousQueue<>();
+            this.executor = new ThreadPoolExecutor(
+                    task.maxConcurrency(), task.maxConcurrency(),
+                    0, TimeUnit.MILLISECONDS, queue,
+                    Thread.ofPlatform().name("TaskScheduler-" + task.name() + "-", 0).daemon(true).factory(),
+                    new ThreadPoolExecutor.AbortPolicy());
+
+            this.lagTimer = Timer
+                    .builder("task_scheduler_fire_lag")
+                    .description("Delay between the scheduled and the actual fire time of tasks")
+                    .tag("task", task.name())
+                    .register(Metrics.getRegistry());
+            this.missedFiresCounter = Counter
+                    .builder("task_scheduler_fires_missed")
+                    .description("Number of task executions skipped because previous executions were still in progress")
+                    .tag("task", task.name())
+                    .register(Metrics.getRegistry());
+        }
+
+        private void submit() {
+            try {
+                executor.execute(this::execute);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("""
+                        Skipping execution of %s because %d previous execution(s) are still in progress \
+                        and the queue is full (capacity: %d)""".formatted(
+                        task.name(), task.maxConcurrency(), task.queueCapacity()));
+                missedFiresCounter.increment();
+            }
+        }
+
+        private void execute() {
+            try {
+                final Subscriber subscriber = task.subscriberClass().getDeclaredConstructor().newInstance();
+                subscriber.inform(task.event());
+            } catch (Throwable t) {
+                LOGGER.error("Execution of %s failed".formatted(task.name()), t);
+            }
+        }
+
     }
+
 }
@@ -24,9 +24,10 @@ import alpine.event.framework.ChainableEvent;
 import alpine.event.framework.Event;
 import alpine.event.framework.EventService;
 import alpine.event.framework.Subscriber;
-import alpine.notification.Notification;
-import alpine.notification.NotificationLevel;
+import com.google.protobuf.Any;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.Timestamps;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.cyclonedx.exception.ParseException;
@@ -56,13 +57,16 @@ import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.model.WorkflowStatus;
 import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.notification.NotificationConstants;
-import org.dependencytrack.notification.NotificationGroup;
-import org.dependencytrack.notification.NotificationScope;
-import org.dependencytrack.notification.vo.BomConsumedOrProcessed;
-import org.dependencytrack.notification.vo.BomProcessingFailed;
+import org.dependencytrack.parser.dependencytrack.NotificationModelConverter;
+import org.dependencytrack.persistence.LicenseIndex;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.plugin.PluginManager;
+import org.dependencytrack.proto.notification.v1.BomConsumedOrProcessedSubject;
+import org.dependencytrack.proto.notification.v1.BomProcessingFailedSubject;
+import org.dependencytrack.proto.notification.v1.Group;
+import org.dependencytrack.proto.notification.v1.Level;
+import org.dependencytrack.proto.notification.v1.Notification;
 import org.dependencytrack.storage.FileStorage;
 import org.dependencytrack.util.InternalComponentIdentifier;
 import org.dependencytrack.util.WaitingLockConfiguration;
@@ -83,6 +87,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -121,6 +126,12 @@ import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.conv
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.convertToProject;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.convertToProjectMetadata;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.proto.notification.v1.Group.GROUP_BOM_CONSUMED;
+import static org.dependencytrack.proto.notification.v1.Group.GROUP_BOM_PROCESSED;
+import static org.dependencytrack.proto.notification.v1.Group.GROUP_BOM_PROCESSING_FAILED;
+import static org.dependencytrack.proto.notification.v1.Level.LEVEL_ERROR;
+import static org.dependencytrack.proto.notification.v1.Level.LEVEL_INFORMATIONAL;
+import static org.dependencytrack.proto.notification.v1.Scope.SCOPE_PORTFOLIO;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_INTEGRITY_DATA_AND_LATEST_VERSION;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_LATEST_VERSION;
 import static org.dependencytrack.util.LockProvider.executeWithLockWaiting;
@@ -158,16 +169,41 @@ public class BomUploadProcessingTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(BomUploadProcessingTask.class);
 
+    // Builders are reused for all notifications dispatched by a thread,
+    // rather than being allocated anew for every notification.
+    private static final ThreadLocal<Notification.Builder> NOTIFICATION_BUILDER =
+            ThreadLocal.withInitial(Notification::newBuilder);
+    private static final ThreadLocal<BomConsumedOrProcessedSubject.Builder> BOM_CONSUMED_OR_PROCESSED_SUBJECT_BUILDER =
+            ThreadLocal.withInitial(BomConsumedOrProcessedSubject::newBuilder);
+
     private final KafkaEventDispatcher kafkaEventDispatcher;
     private final boolean delayBomProcessedNotification;
+    private final boolean projectLockEnabled;
 
     public BomUploadProcessingTask() {
-        this(new KafkaEventDispatcher(), Config.getInstance().getPropertyAsBoolean(ConfigKey.TMP_DELAY_BOM_PROCESSED_NOTIFICATION));
+        this(/* projectLockEnabled */ true);
+    }
+
+    /**
+     * @param projectLockEnabled Whether to prevent BOMs for the same project from being processed
+     *                           concurrently using a database lock. May only be disabled when the
+     *                           caller guarantees this already, e.g. by consuming from a Kafka topic
+     *                           that is keyed by project.
+     * @since 5.6.0
+     */
+    public BomUploadProcessingTask(final boolean projectLockEnabled) {
+        this(new KafkaEventDispatcher(), Config.getInstance().getPropertyAsBoolean(ConfigKey.TMP_DELAY_BOM_PROCESSED_NOTIFICATION), projectLockEnabled);
     }
 
     BomUploadProcessingTask(final KafkaEventDispatcher kafkaEventDispatcher, final boolean delayBomProcessedNotification) {
+        this(kafkaEventDispatcher, delayBomProcessedNotification, /* projectLockEnabled */ true);
+    }
+
+    BomUploadProcessingTask(final KafkaEventDispatcher kafkaEventDispatcher, final boolean delayBomProcessedNotification,
+                            final boolean projectLockEnabled) {
         this.kafkaEventDispatcher = kafkaEventDispatcher;
         this.delayBomProcessedNotification = delayBomProcessedNotification;
+        this.projectLockEnabled = projectLockEnabled;
     }
 
     /**
@@ -261,10 +297,14 @@ public class BomUploadProcessingTask implements Subscriber {
              var ignoredMdcBomSpecVersion = MDC.putCloseable(MDC_BOM_SPEC_VERSION, ctx.bomSpecVersion);
              var ignoredMdcBomSerialNumber = MDC.putCloseable(MDC_BOM_SERIAL_NUMBER, ctx.bomSerialNumber);
              var ignoredMdcBomVersion = MDC.putCloseable(MDC_BOM_VERSION, String.valueOf(ctx.bomVersion))) {
-            // Prevent BOMs for the same project to be processed concurrently.
-            // Note that this is an edge case, we're not expecting any lock waits under normal circumstances.
-            final WaitingLockConfiguration lockConfiguration = createLockConfiguration(ctx);
-            processedBom = executeWithLockWaiting(lockConfiguration, () -> processBom(ctx, consumedBom));
+            if (projectLockEnabled) {
+                // Prevent BOMs for the same project to be processed concurrently.
+                // Note that this is an edge case, we're not expecting any lock waits under normal circumstances.
+                final WaitingLockConfiguration lockConfiguration = createLockConfiguration(ctx);
+                processedBom = executeWithLockWaiting(lockConfiguration, () -> processBom(ctx, consumedBom));
+            } else {
+                processedBom = processBom(ctx, consumedBom);
+            }
         } catch (Throwable e) {
             LOGGER.error("Failed to process BOM", e);
             failWorkflowStepAndCancelDescendants(ctx, WorkflowStep.BOM_PROCESSING, e);
@@ -493,7 +533,7 @@ public class BomUploadProcessingTask implements Subscriber {
             final ProjectMetadata projectMetadata
     ) {
         final Query<Project> query = qm.getPersistenceManager().newQuery(Project.class);
-        query.setFilter("uuid == :uuid");
+        query.setFilter("uuid == :uuid && deletedAt == null");
         query.setParameters(ctx.project.getUuid());
 
         final Project persistentProject;
@@ -555,14 +595,13 @@ public class BomUploadProcessingTask implements Subscriber {
     ) {
         assertPersistent(project, "Project must be persistent");
 
-        // Avoid redundant queries by caching resolved licenses.
+        // Resolve licenses against the application-wide license index,
+        // rather than querying the database for every license candidate.
+        final LicenseIndex.Snapshot licenseIndex = LicenseIndex.getInstance().current();
+
         // It is likely that if license IDs were present in a BOM,
         // they appear multiple times for different components.
-        final var licenseCache = new HashMap<String, License>();
-
-        // We support resolution of custom licenses by their name.
-        // To avoid any conflicts with license IDs, cache those separately.
-        final var customLicenseCache = new HashMap<String, License>();
+        final var licenseById = new HashMap<Long, License>();
 
         final var internalComponentIdentifier = new InternalComponentIdentifier();
 
@@ -589,7 +628,7 @@ public class BomUploadProcessingTask implements Subscriber {
 
         for (final Component component : components) {
             component.setInternal(internalComponentIdentifier.isInternal(component));
-            resolveAndApplyLicense(qm, component, licenseCache, customLicenseCache);
+            resolveAndApplyLicense(qm, component, licenseIndex, licenseById);
 
             final var componentIdentity = new ComponentIdentity(component);
             Component persistentComponent = persistentComponentByIdentity.get(componentIdentity);
@@ -891,16 +930,16 @@ public class BomUploadProcessingTask implements Subscriber {
     private static void resolveAndApplyLicense(
             final QueryManager qm,
             final Component component,
-            final Map<String, License> licenseCache,
-            final Map<String, License> customLicenseCache
+            final LicenseIndex.Snapshot licenseIndex,
+            final Map<Long, License> licenseById
     ) {
         // CycloneDX components can declare multiple licenses, but we currently
         // only support one. We assume that the licenseCandidates list is ordered
         // by priority, and simply take the first resolvable candidate.
         for (final org.cyclonedx.model.License licenseCandidate : component.getLicenseCandidates()) {
             if (isNotBlank(licenseCandidate.getId())) {
-                final License resolvedLicense = licenseCache.computeIfAbsent(licenseCandidate.getId(), qm::getLicenseByIdOrName);
-                if (resolvedLicense != License.UNRESOLVED) {
+                final License resolvedLicense = getLicenseReference(qm, licenseById, licenseIndex.getLicenseIdByIdOrName(licenseCandidate.getId()));
+                if (resolvedLicense != null) {
                     component.setResolvedLicense(resolvedLicense);
                     component.setLicenseUrl(trimToNull(licenseCandidate.getUrl()));
                     break;
@@ -908,16 +947,15 @@ public class BomUploadProcessingTask implements Subscriber {
             }
 
             if (isNotBlank(licenseCandidate.getName())) {
-                final License resolvedLicense = licenseCache.computeIfAbsent(licenseCandidate.getName(), qm::getLicenseByIdOrName);
-                if (resolvedLicense != License.UNRESOLVED) {
+                final License resolvedLicense = getLicenseReference(qm, licenseById, licenseIndex.getLicenseIdByIdOrName(licenseCandidate.getName()));
+                if (resolvedLicense != null) {
                     component.setResolvedLicense(resolvedLicense);
                     component.setLicenseUrl(trimToNull(licenseCandidate.getUrl()));
                     break;
                 }
 
-                final License resolvedCustomLicense = customLicenseCache.computeIfAbsent(
-                        licenseCandidate.getName(), qm::getCustomLicenseByName);
-                if (resolvedCustomLicense != License.UNRESOLVED) {
+                final License resolvedCustomLicense = getLicenseReference(qm, licenseById, licenseIndex.getCustomLicenseIdByName(licenseCandidate.getName()));
+                if (resolvedCustomLicense != null) {
                     component.setResolvedLicense(resolvedCustomLicense);
                     component.setLicenseUrl(trimToNull(licenseCandidate.getUrl()));
                     break;
@@ -938,6 +976,14 @@ public class BomUploadProcessingTask implements Subscriber {
         }
     }
 
+    private static License getLicenseReference(final QueryManager qm, final Map<Long, License> licenseById, final Long id) {
+        if (id == null) {
+            return null;
+        }
+
+        return licenseById.computeIfAbsent(id, ignored -> LicenseIndex.getReference(qm.getPersistenceManager(), id));
+    }
+
     private static List<Component> getAllComponents(final QueryManager qm, final Project project) {
         final Query<Component> query = qm.getPersistenceManager().newQuery(Component.class);
         query.getFetchPlan().addGroup(Component.FetchGroup.BOM_UPLOAD_PROCESSING.name());
@@ -1106,36 +1152,70 @@ public class BomUploadProcessingTask implements Subscriber {
     }
 
     private void dispatchBomConsumedNotification(final Context ctx) {
-        kafkaEventDispatcher.dispatchNotification(new Notification()
-                .scope(NotificationScope.PORTFOLIO)
-                .group(NotificationGroup.BOM_CONSUMED)
-                .level(NotificationLevel.INFORMATIONAL)
-                .title(NotificationConstants.Title.BOM_CONSUMED)
-                .content("A %s BOM was consumed and will be processed".formatted(ctx.bomFormat.getFormatShortName()))
-                .subject(new BomConsumedOrProcessed(ctx.token, ctx.project, /* bom */ "(Omitted)", ctx.bomFormat, ctx.bomSpecVersion)));
+        kafkaEventDispatcher.dispatchNotificationProto(buildNotification(
+                GROUP_BOM_CONSUMED,
+                LEVEL_INFORMATIONAL,
+                NotificationConstants.Title.BOM_CONSUMED,
+                "A %s BOM was consumed and will be processed".formatted(ctx.bomFormat.getFormatShortName()),
+                buildBomConsumedOrProcessedSubject(ctx)));
     }
 
     private void dispatchBomProcessedNotification(final Context ctx) {
-        kafkaEventDispatcher.dispatchNotification(new Notification()
-                .scope(NotificationScope.PORTFOLIO)
-                .group(NotificationGroup.BOM_PROCESSED)
-                .level(NotificationLevel.INFORMATIONAL)
-                .title(NotificationConstants.Title.BOM_PROCESSED)
-                .content("A %s BOM was processed".formatted(ctx.bomFormat.getFormatShortName()))
-                // FIXME: Add reference to BOM after we have dedicated BOM server
-                .subject(new BomConsumedOrProcessed(ctx.token, ctx.project, /* bom */ "(Omitted)", ctx.bomFormat, ctx.bomSpecVersion)));
+        kafkaEventDispatcher.dispatchNotificationProto(buildNotification(
+                GROUP_BOM_PROCESSED,
+                LEVEL_INFORMATIONAL,
+                NotificationConstants.Title.BOM_PROCESSED,
+                "A %s BOM was processed".formatted(ctx.bomFormat.getFormatShortName()),
+                buildBomConsumedOrProcessedSubject(ctx)));
     }
 
     private void dispatchBomProcessingFailedNotification(final Context ctx, final Throwable throwable) {
-        kafkaEventDispatcher.dispatchNotification(new Notification()
-                .scope(NotificationScope.PORTFOLIO)
-                .group(NotificationGroup.BOM_PROCESSING_FAILED)
-                .level(NotificationLevel.ERROR)
-                .title(NotificationConstants.Title.BOM_PROCESSING_FAILED)
-                .content("An error occurred while processing a BOM")
-                // TODO: Look into adding more fields to BomProcessingFailed, to also cover serial number, version, etc.
-                // FIXME: Add reference to BOM after we have dedicated BOM server
-                .subject(new BomProcessingFailed(ctx.token, ctx.project, /* bom */ "(Omitted)", throwable.getMessage(), ctx.bomFormat, ctx.bomSpecVersion)));
+        // TODO: Look into adding more fields to BomProcessingFailed, to also cover serial number, version, etc.
+        final BomProcessingFailedSubject.Builder subjectBuilder = BomProcessingFailedSubject.newBuilder()
+                .setToken(ctx.token.toString())
+                .setProject(NotificationModelConverter.convert(ctx.project))
+                .setBom(buildNotificationBom(ctx));
+        Optional.ofNullable(throwable.getMessage()).ifPresent(subjectBuilder::setCause);
+
+        kafkaEventDispatcher.dispatchNotificationProto(buildNotification(
+                GROUP_BOM_PROCESSING_FAILED,
+                LEVEL_ERROR,
+                NotificationConstants.Title.BOM_PROCESSING_FAILED,
+                "An error occurred while processing a BOM",
+                subjectBuilder.build()));
+    }
+
+    private static Notification buildNotification(final Group group, final Level level, final String title,
+                                                  final String content, final Message subject) {
+        return NOTIFICATION_BUILDER.get().clear()
+                .setScope(SCOPE_PORTFOLIO)
+                .setGroup(group)
+                .setLevel(level)
+                .setTimestamp(Timestamps.now())
+                .setTitle(title)
+                .setContent(content)
+                .setSubject(Any.pack(subject))
+                .build();
+    }
+
+    private static BomConsumedOrProcessedSubject buildBomConsumedOrProcessedSubject(final Context ctx) {
+        return BOM_CONSUMED_OR_PROCESSED_SUBJECT_BUILDER.get().clear()
+                .setToken(ctx.token.toString())
+                .setProject(NotificationModelConverter.convert(ctx.project))
+                .setBom(buildNotificationBom(ctx))
+                .build();
+    }
+
+    /**
+     * The BOM is not embedded into notifications, as it can be arbitrarily large,
+     * and the uploaded file is removed from storage once processing has completed.
+     */
+    private static org.dependencytrack.proto.notification.v1.Bom buildNotificationBom(final Context ctx) {
+        final var bomBuilder = org.dependencytrack.proto.notification.v1.Bom.newBuilder()
+                .setContent("(Omitted)")
+                .setFormat(ctx.bomFormat.getFormatShortName());
+        Optional.ofNullable(ctx.bomSpecVersion).ifPresent(bomBuilder::setSpecVersion);
+        return bomBuilder.build();
     }
 
     private static List<ComponentVulnerabilityAnalysisEvent> createVulnAnalysisEvents(
@@ -0,0 +1,232 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
+import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.model.VulnerabilityAnalysisLevel;
+import org.dependencytrack.tasks.VulnerabilityAnalysisTask.ComponentProjection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Dispatches {@link ComponentVulnerabilityAnalysisEvent}s for the entire portfolio in a pipelined fashion.
+ * <p>
+ * Pages of {@link ComponentProjection}s are fetched on the calling thread, and handed over to a bounded queue.
+ * A configurable number of producer threads consume pages from the queue, and dispatch them as one batch
+ * using {@link KafkaEventDispatcher#dispatchAllEvents(java.util.Collection)}. Producer threads wait for
+ * all records of a batch to be acknowledged before they take the next page, which means that the queue
+ * fills up (and fetching of further pages blocks) when the Kafka producer can't keep up.
+ * <p>
+ * Fetching pages on the calling thread is intentional: ShedLock's {@link net.javacrumbs.shedlock.core.LockExtender}
+ * only works on the thread that acquired the lock.
+ *
+ * @since 5.6.0
+ */
+final class PortfolioVulnerabilityAnalysisDispatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(PortfolioVulnerabilityAnalysisDispatcher.class);
+    private static final List<ComponentProjection> POISON_PILL = List.of();
+
+    @FunctionalInterface
+    interface PageFetcher {
+
+        List<ComponentProjection> fetchNextPage(Long lastId) throws Exception;
+
+    }
+
+    private final KafkaEventDispatcher eventDispatcher;
+    private final UUID scanToken;
+    private final int producerThreads;
+    private final BlockingQueue<List<ComponentProjection>> pageQueue;
+    private final AtomicLong componentsFetched = new AtomicLong();
+    private final AtomicLong componentsDispatched = new AtomicLong();
+    private final AtomicReference<Throwable> producerFailure = new AtomicReference<>();
+
+    PortfolioVulnerabilityAnalysisDispatcher(
+            final KafkaEventDispatcher eventDispatcher,
+            final UUID scanToken,
+            final int producerThreads,
+            final int queueCapacity) {
+        this.eventDispatcher = requireNonNull(eventDispatcher, "eventDispatcher must not be null");
+        this.scanToken = requireNonNull(scanToken, "scanToken must not be null");
+        if (producerThreads <= 0) {
+            throw new IllegalArgumentException("producerThreads must be greater than zero");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be greater than zero");
+        }
+        this.producerThreads = producerThreads;
+        this.pageQueue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * @param pageFetcher The {@link PageFetcher} to fetch pages of components with
+     * @param heartbeat   A {@link Runnable} that is invoked on the calling thread after every fetched page
+     * @return The number of components that were dispatched
+     * @throws Exception When fetching pages failed, or any of the producer threads failed
+     */
+    long dispatch(final PageFetcher pageFetcher, final Runnable heartbeat) throws Exception {
+        final List<Meter> meters = registerMeters();
+        final var threads = new ArrayList<Thread>(producerThreads);
+        for (int i = 0; i < producerThreads; i++) {
+            threads.add(Thread.ofPlatform()
+                    .name("%s-%d".formatted(getClass().getSimpleName(), i))
+                    .daemon(true)
+                    .start(this::runProducer));
+        }
+
+        try {
+            List<ComponentProjection> page = pageFetcher.fetchNextPage(null);
+            while (!page.isEmpty() && producerFailure.get() == null) {
+                enqueue(page);
+                componentsFetched.addAndGet(page.size());
+                heartbeat.run();
+
+                final long lastId = page.getLast().id();
+                page = pageFetcher.fetchNextPage(lastId);
+            }
+        } finally {
+            signalProducersToStop(threads);
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+            meters.forEach(Metrics.getRegistry()::remove);
+        }
+
+        final Throwable failure = producerFailure.get();
+        if (failure instanceof final Exception e) {
+            throw e;
+        } else if (failure != null) {
+            throw new IllegalStateException("Failed to dispatch components for vulnerability analysis", failure);
+        }
+
+        return componentsDispatched.get();
+    }
+
+    long getComponentsFetched() {
+        return componentsFetched.get();
+    }
+
+    long getComponentsDispatched() {
+        return componentsDispatched.get();
+    }
+
+    private void enqueue(final List<ComponentProjection> page) throws InterruptedException {
+        // Offer with a timeout instead of blocking indefinitely, so that we notice
+        // when producers failed and there's no point in enqueueing more pages.
+        while (!pageQueue.offer(page, 1, TimeUnit.SECONDS)) {
+            if (producerFailure.get() != null) {
+                return;
+            }
+        }
+    }
+
+    private void signalProducersToStop(final List<Thread> threads) throws InterruptedException {
+        for (int i = 0; i < threads.size(); i++) {
+            while (!pageQueue.offer(POISON_PILL, 1, TimeUnit.SECONDS)) {
+                if (threads.stream().noneMatch(Thread::isAlive)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void runProducer() {
+        try {
+            while (true) {
+                final List<ComponentProjection> page = pageQueue.take();
+                if (page == POISON_PILL) {
+                    return;
+                }
+                if (producerFailure.get() != null) {
+                    // Drain remaining pages without dispatching them.
+                    continue;
+                }
+
+                dispatchPage(page);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            producerFailure.compareAndSet(null, e);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to dispatch components for vulnerability analysis (scan token: %s)".formatted(scanToken), e);
+            producerFailure.compareAndSet(null, e);
+
+            // Keep draining the queue, so that the fetching thread doesn't block forever.
+            drainUntilPoisonPill();
+        }
+    }
+
+    private void dispatchPage(final List<ComponentProjection> page) {
+        final var events = new ArrayList<ComponentVulnerabilityAnalysisEvent>(page.size());
+        for (final ComponentProjection component : page) {
+            events.add(new ComponentVulnerabilityAnalysisEvent(scanToken,
+                    component.uuid(), component.purl(), component.cpe(), component.swidTagId(),
+                    component.internal(), VulnerabilityAnalysisLevel.PERIODIC_ANALYSIS, false));
+        }
+
+        final List<CompletableFuture<RecordMetadata>> futures = eventDispatcher.dispatchAllEvents(events);
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        componentsDispatched.addAndGet(page.size());
+    }
+
+    private void drainUntilPoisonPill() {
+        try {
+            while (pageQueue.take() != POISON_PILL) {
+                // Discard.
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Meter> registerMeters() {
+        final String scanTokenStr = scanToken.toString();
+        return List.of(
+                Gauge.builder("vuln_analysis_portfolio_components_fetched", componentsFetched, AtomicLong::get)
+                        .description("Number of components fetched for portfolio vulnerability analysis")
+                        .tag("scanToken", scanTokenStr)
+                        .register(Metrics.getRegistry()),
+                Gauge.builder("vuln_analysis_portfolio_components_dispatched", componentsDispatched, AtomicLong::get)
+                        .description("Number of components dispatched for portfolio vulnerability analysis")
+                        .tag("scanToken", scanTokenStr)
+                        .register(Metrics.getRegistry()),
+                Gauge.builder("vuln_analysis_portfolio_pages_queued", pageQueue, BlockingQueue::size)
+                        .description("Number of component pages waiting to be dispatched for portfolio vulnerability analysis")
+                        .tag("scanToken", scanTokenStr)
+                        .register(Metrics.getRegistry()));
+    }
+
+}
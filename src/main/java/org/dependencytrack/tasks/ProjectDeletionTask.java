@@ -0,0 +1,248 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.ProjectDeletionEvent;
+import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.dependencytrack.persistence.jdbi.WorkflowDao;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.dependencytrack.common.MdcKeys.MDC_EVENT_TOKEN;
+import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
+import static org.dependencytrack.model.WorkflowStatus.COMPLETED;
+import static org.dependencytrack.model.WorkflowStatus.FAILED;
+import static org.dependencytrack.model.WorkflowStep.PROJECT_DELETION;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * Deletes the data of tombstoned projects in bounded batches.
+ * <p>
+ * Deleting a project in a single statement cascades to all of its components, findings,
+ * analyses, policy violations, and metrics history in one transaction. For large projects,
+ * this results in long-running transactions and large bursts of WAL. Instead, bulk data is
+ * deleted in batches of {@link ConfigKey#TASK_PROJECT_DELETION_BATCH_SIZE} records, each in
+ * its own transaction, before the project itself is deleted.
+ * <p>
+ * Deletion is idempotent: If it is interrupted, tombstoned projects are picked up again
+ * by {@link org.dependencytrack.tasks.maintenance.ProjectMaintenanceTask}.
+ *
+ * @since 5.6.0
+ */
+public class ProjectDeletionTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectDeletionTask.class);
+
+    @FunctionalInterface
+    private interface BatchDeleter {
+
+        int deleteBatch(ProjectDao dao, long projectId, int batchSize);
+
+    }
+
+    /**
+     * Progress of deleting a tree of tombstoned projects.
+     *
+     * @param projectsDeleted Number of projects deleted so far
+     * @param projectsTotal   Total number of projects to delete
+     * @param recordsDeleted  Number of metrics, component, and service records deleted so far
+     */
+    public record Progress(int projectsDeleted, int projectsTotal, long recordsDeleted) {
+
+        @Override
+        public String toString() {
+            return "Deleted %d of %d projects (%d records)".formatted(projectsDeleted, projectsTotal, recordsDeleted);
+        }
+
+    }
+
+    private final int batchSize;
+
+    public ProjectDeletionTask() {
+        this(Config.getInstance().getPropertyAsInt(ConfigKey.TASK_PROJECT_DELETION_BATCH_SIZE));
+    }
+
+    ProjectDeletionTask(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inform(final Event e) {
+        if (!(e instanceof final ProjectDeletionEvent event)) {
+            return;
+        }
+
+        final UUID token = event.getChainIdentifier();
+        try (var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, event.getProjectUuid().toString());
+             var ignoredMdcEventToken = MDC.putCloseable(MDC_EVENT_TOKEN, token.toString())) {
+            useJdbiTransaction(handle -> handle.attach(WorkflowDao.class).startState(PROJECT_DELETION, token));
+
+            try {
+                final Long projectId = withJdbiHandle(handle ->
+                        handle.attach(ProjectDao.class).getTombstonedProjectId(event.getProjectUuid()));
+                if (projectId == null) {
+                    LOGGER.info("Project does not exist or is not pending deletion; Nothing to do");
+                } else {
+                    deleteTombstonedProjectTree(projectId, progress -> useJdbiTransaction(handle ->
+                            handle.attach(WorkflowDao.class).updateProgress(PROJECT_DELETION, token, progress.toString())));
+                }
+
+                useJdbiTransaction(handle ->
+                        handle.attach(WorkflowDao.class).updateState(PROJECT_DELETION, token, COMPLETED, null));
+            } catch (RuntimeException ex) {
+                LOGGER.error("Failed to delete project", ex);
+                useJdbiTransaction(handle ->
+                        handle.attach(WorkflowDao.class).updateState(PROJECT_DELETION, token, FAILED, ex.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Deletes a tombstoned project, and all of its descendants.
+     * <p>
+     * Descendants that were created after the project has been tombstoned are tombstoned as well,
+     * such that deleting the project never cascades to the bulk data of another project.
+     * <p>
+     * The deletion of every project in the tree is claimed before any data is deleted.
+     * If any of them is already being deleted by another task, the tree is skipped,
+     * and left for {@link org.dependencytrack.tasks.maintenance.ProjectMaintenanceTask} to pick up.
+     *
+     * @param projectId        ID of the tombstoned project
+     * @param progressListener Callback to invoke after every deleted batch, e.g. to report progress
+     * @return Number of deleted projects
+     */
+    public int deleteTombstonedProjectTree(final long projectId, final Consumer<Progress> progressListener) {
+        final List<Long> projectIds = inJdbiTransaction(handle -> {
+            final var dao = handle.attach(ProjectDao.class);
+            final List<Long> treeIds = dao.getTombstonedProjectTreeIds(projectId);
+            if (!treeIds.isEmpty()) {
+                dao.tombstoneProject(projectId);
+            }
+
+            return treeIds;
+        });
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+
+        // Claims are bound to the session, so they must be acquired
+        // and released via the same handle.
+        return withJdbiHandle(claimHandle -> {
+            final var claimDao = claimHandle.attach(ProjectDao.class);
+            final var claimedIds = new ArrayList<Long>(projectIds.size());
+            try {
+                for (final Long id : projectIds) {
+                    if (!claimDao.tryClaimProjectDeletion(id)) {
+                        LOGGER.info("Project with ID %d is already being deleted by another task; Skipping".formatted(id));
+                        return 0;
+                    }
+
+                    claimedIds.add(id);
+                }
+
+                final var progressTracker = new ProgressTracker(projectIds.size(), progressListener);
+                for (final Long id : projectIds) {
+                    deleteTombstonedProject(id, progressTracker);
+                }
+
+                return projectIds.size();
+            } finally {
+                claimedIds.forEach(claimDao::releaseProjectDeletion);
+            }
+        });
+    }
+
+    private void deleteTombstonedProject(final long projectId, final ProgressTracker progressTracker) {
+        final long startTimeNs = System.nanoTime();
+
+        // Metrics history is deleted first, as it usually accounts for the majority of rows.
+        // Deleting components afterward only needs to cascade to their remaining data.
+        final int metricsDeleted = deleteInBatches(projectId, ProjectDao::deleteComponentMetricsBatch, progressTracker)
+                                   + deleteInBatches(projectId, ProjectDao::deleteProjectMetricsBatch, progressTracker);
+        final int componentsDeleted = deleteInBatches(projectId, ProjectDao::deleteComponentsBatch, progressTracker);
+        final int servicesDeleted = deleteInBatches(projectId, ProjectDao::deleteServicesBatch, progressTracker);
+
+        // What remains are small amounts of project-level data, like properties,
+        // tags, and BOM records, which are safe to delete via ON DELETE CASCADE.
+        inJdbiTransaction(handle -> handle.attach(ProjectDao.class).deleteTombstonedProject(projectId));
+        progressTracker.onProjectDeleted();
+
+        LOGGER.info("Deleted project with ID %d in %s (metrics: %d, components: %d, services: %d)".formatted(
+                projectId, Duration.ofNanos(System.nanoTime() - startTimeNs),
+                metricsDeleted, componentsDeleted, servicesDeleted));
+    }
+
+    private int deleteInBatches(
+            final long projectId,
+            final BatchDeleter batchDeleter,
+            final ProgressTracker progressTracker
+    ) {
+        int numDeleted = 0;
+        while (true) {
+            final int numDeletedInBatch = inJdbiTransaction(handle ->
+                    batchDeleter.deleteBatch(handle.attach(ProjectDao.class), projectId, batchSize));
+            numDeleted += numDeletedInBatch;
+            progressTracker.onRecordsDeleted(numDeletedInBatch);
+
+            if (numDeletedInBatch < batchSize) {
+                return numDeleted;
+            }
+        }
+    }
+
+    private static final class ProgressTracker {
+
+        private final int projectsTotal;
+        private final Consumer<Progress> listener;
+        private int projectsDeleted;
+        private long recordsDeleted;
+
+        private ProgressTracker(final int projectsTotal, final Consumer<Progress> listener) {
+            this.projectsTotal = projectsTotal;
+            this.listener = listener;
+        }
+
+        private void onRecordsDeleted(final int numDeleted) {
+            recordsDeleted += numDeleted;
+            listener.accept(new Progress(projectsDeleted, projectsTotal, recordsDeleted));
+        }
+
+        private void onProjectDeleted() {
+            projectsDeleted++;
+            listener.accept(new Progress(projectsDeleted, projectsTotal, recordsDeleted));
+        }
+
+    }
+
+}
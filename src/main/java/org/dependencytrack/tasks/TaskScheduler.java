@@ -20,8 +20,8 @@ package org.dependencytrack.tasks;
 
 import alpine.event.LdapSyncEvent;
 import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
 import alpine.server.tasks.LdapSyncTask;
-import com.asahaf.javacron.Schedule;
 import org.dependencytrack.event.DefectDojoUploadEventAbstract;
 import org.dependencytrack.event.EpssMirrorEvent;
 import org.dependencytrack.event.FortifySscUploadEventAbstract;
@@ -56,15 +56,15 @@ import org.dependencytrack.tasks.metrics.PortfolioMetricsUpdateTask;
 import org.dependencytrack.tasks.metrics.VulnerabilityMetricsUpdateTask;
 import org.dependencytrack.tasks.vulnerabilitypolicy.VulnerabilityPolicyFetchTask;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.dependencytrack.model.ConfigPropertyConstants.DEFECTDOJO_ENABLED;
 import static org.dependencytrack.model.ConfigPropertyConstants.FORTIFY_SSC_ENABLED;
 import static org.dependencytrack.model.ConfigPropertyConstants.KENNA_ENABLED;
 import static org.dependencytrack.util.TaskUtil.getCronScheduleForTask;
+import static org.dependencytrack.util.TaskUtil.getMaxConcurrencyForTask;
+import static org.dependencytrack.util.TaskUtil.getQueueCapacityForTask;
 
 /**
  * @author Steve Springett
@@ -79,46 +79,38 @@ public final class TaskScheduler extends BaseTaskScheduler {
      * Private constructor.
      */
     private TaskScheduler() {
-        final Map<Event, Schedule> eventScheduleMap = Map.ofEntries(
-                Map.entry(new VulnerabilityPolicyFetchEvent(), getCronScheduleForTask(VulnerabilityPolicyFetchTask.class)),
-                Map.entry(new LdapSyncEvent(), getCronScheduleForTask(LdapSyncTask.class)),
-                Map.entry(new NistMirrorEvent(), getCronScheduleForTask(NistMirrorTask.class)),
-                Map.entry(new OsvMirrorEvent(null), getCronScheduleForTask(OsvMirrorTask.class)),
-                Map.entry(new GitHubAdvisoryMirrorEvent(), getCronScheduleForTask(GitHubAdvisoryMirrorTask.class)),
-                Map.entry(new EpssMirrorEvent(), getCronScheduleForTask(EpssMirrorTask.class)),
-                Map.entry(new PortfolioMetricsUpdateEvent(), getCronScheduleForTask(PortfolioMetricsUpdateTask.class)),
-                Map.entry(new VulnerabilityMetricsUpdateEvent(), getCronScheduleForTask(VulnerabilityMetricsUpdateTask.class)),
-                Map.entry(new InternalComponentIdentificationEvent(), getCronScheduleForTask(InternalComponentIdentificationTask.class)),
-                Map.entry(new PortfolioVulnerabilityAnalysisEvent(), getCronScheduleForTask(VulnerabilityAnalysisTask.class)),
-                Map.entry(new PortfolioRepositoryMetaAnalysisEvent(), getCronScheduleForTask(RepositoryMetaAnalysisTask.class)),
-                Map.entry(new IntegrityMetaInitializerEvent(), getCronScheduleForTask(IntegrityMetaInitializerTask.class)),
-                Map.entry(new ComponentMetadataMaintenanceEvent(), getCronScheduleForTask(ComponentMetadataMaintenanceTask.class)),
-                Map.entry(new MetricsMaintenanceEvent(), getCronScheduleForTask(MetricsMaintenanceTask.class)),
-                Map.entry(new TagMaintenanceEvent(), getCronScheduleForTask(TagMaintenanceTask.class)),
-                Map.entry(new VulnerabilityDatabaseMaintenanceEvent(), getCronScheduleForTask(VulnerabilityDatabaseMaintenanceTask.class)),
-                Map.entry(new VulnerabilityScanMaintenanceEvent(), getCronScheduleForTask(VulnerabilityScanMaintenanceTask.class)),
-                Map.entry(new WorkflowMaintenanceEvent(), getCronScheduleForTask(WorkflowMaintenanceTask.class)),
-                Map.entry(new ProjectMaintenanceEvent(), getCronScheduleForTask(ProjectMaintenanceTask.class)));
+        final List<ScheduledTask> tasks = new ArrayList<>(List.of(
+                scheduledTask(new VulnerabilityPolicyFetchEvent(), VulnerabilityPolicyFetchTask.class),
+                scheduledTask(new LdapSyncEvent(), LdapSyncTask.class, LdapSyncTaskWrapper.class),
+                scheduledTask(new NistMirrorEvent(), NistMirrorTask.class),
+                scheduledTask(new OsvMirrorEvent(null), OsvMirrorTask.class),
+                scheduledTask(new GitHubAdvisoryMirrorEvent(), GitHubAdvisoryMirrorTask.class),
+                scheduledTask(new EpssMirrorEvent(), EpssMirrorTask.class),
+                scheduledTask(new PortfolioMetricsUpdateEvent(), PortfolioMetricsUpdateTask.class),
+                scheduledTask(new VulnerabilityMetricsUpdateEvent(), VulnerabilityMetricsUpdateTask.class),
+                scheduledTask(new InternalComponentIdentificationEvent(), InternalComponentIdentificationTask.class),
+                scheduledTask(new PortfolioVulnerabilityAnalysisEvent(), VulnerabilityAnalysisTask.class),
+                scheduledTask(new PortfolioRepositoryMetaAnalysisEvent(), RepositoryMetaAnalysisTask.class),
+                scheduledTask(new IntegrityMetaInitializerEvent(), IntegrityMetaInitializerTask.class),
+                scheduledTask(new ComponentMetadataMaintenanceEvent(), ComponentMetadataMaintenanceTask.class),
+                scheduledTask(new MetricsMaintenanceEvent(), MetricsMaintenanceTask.class),
+                scheduledTask(new TagMaintenanceEvent(), TagMaintenanceTask.class),
+                scheduledTask(new VulnerabilityDatabaseMaintenanceEvent(), VulnerabilityDatabaseMaintenanceTask.class),
+                scheduledTask(new VulnerabilityScanMaintenanceEvent(), VulnerabilityScanMaintenanceTask.class),
+                scheduledTask(new WorkflowMaintenanceEvent(), WorkflowMaintenanceTask.class),
+                scheduledTask(new ProjectMaintenanceEvent(), ProjectMaintenanceTask.class)));
 
-        Map<Event, Schedule> configurableTasksMap = new HashMap<>();
         if (isTaskEnabled(FORTIFY_SSC_ENABLED)) {
-            configurableTasksMap.put(new FortifySscUploadEventAbstract(), getCronScheduleForTask(FortifySscUploadTask.class));
+            tasks.add(scheduledTask(new FortifySscUploadEventAbstract(), FortifySscUploadTask.class));
         }
         if (isTaskEnabled(DEFECTDOJO_ENABLED)) {
-            configurableTasksMap.put(new DefectDojoUploadEventAbstract(), getCronScheduleForTask(DefectDojoUploadTask.class));
+            tasks.add(scheduledTask(new DefectDojoUploadEventAbstract(), DefectDojoUploadTask.class));
         }
         if (isTaskEnabled(KENNA_ENABLED)) {
-            configurableTasksMap.put(new KennaSecurityUploadEventAbstract(), getCronScheduleForTask(KennaSecurityUploadTask.class));
+            tasks.add(scheduledTask(new KennaSecurityUploadEventAbstract(), KennaSecurityUploadTask.class));
         }
 
-        final Map<Event, Schedule> mergedEventScheduleMap = Stream.concat(
-                        eventScheduleMap.entrySet().stream(),
-                        configurableTasksMap.entrySet().stream())
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue));
-
-        scheduleTask(mergedEventScheduleMap);
+        scheduleTasks(tasks);
     }
 
     /**
@@ -130,6 +122,27 @@ public final class TaskScheduler extends BaseTaskScheduler {
         return INSTANCE;
     }
 
+    private static ScheduledTask scheduledTask(final Event event, final Class<? extends Subscriber> taskClass) {
+        return scheduledTask(event, taskClass, taskClass);
+    }
+
+    /**
+     * @param taskClass       The task to look up the schedule and execution limits for
+     * @param subscriberClass The {@link Subscriber} to execute, if it differs from {@code taskClass}
+     */
+    private static ScheduledTask scheduledTask(
+            final Event event,
+            final Class<? extends Subscriber> taskClass,
+            final Class<? extends Subscriber> subscriberClass) {
+        return new ScheduledTask(
+                taskClass.getSimpleName(),
+                event,
+                getCronScheduleForTask(taskClass),
+                subscriberClass,
+                getMaxConcurrencyForTask(taskClass),
+                getQueueCapacityForTask(taskClass));
+    }
+
     private boolean isTaskEnabled(final ConfigPropertyConstants enabledConstraint) {
         try (final var qm = new QueryManager()) {
             return qm.isEnabled(enabledConstraint);
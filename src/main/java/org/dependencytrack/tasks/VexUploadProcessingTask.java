@@ -21,8 +21,9 @@ package org.dependencytrack.tasks;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
-import alpine.notification.Notification;
-import alpine.notification.NotificationLevel;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.util.Timestamps;
 import org.cyclonedx.parsers.BomParserFactory;
 import org.cyclonedx.parsers.Parser;
 import org.dependencytrack.event.VexUploadEvent;
@@ -30,18 +31,25 @@ import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.model.ConfigPropertyConstants;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Vex;
-import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.notification.NotificationConstants;
-import org.dependencytrack.notification.NotificationGroup;
-import org.dependencytrack.notification.NotificationScope;
-import org.dependencytrack.notification.vo.VexConsumedOrProcessed;
 import org.dependencytrack.parser.cyclonedx.CycloneDXVexImporter;
+import org.dependencytrack.parser.dependencytrack.NotificationModelConverter;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.plugin.PluginManager;
+import org.dependencytrack.proto.notification.v1.Group;
+import org.dependencytrack.proto.notification.v1.Notification;
+import org.dependencytrack.proto.notification.v1.VexConsumedOrProcessedSubject;
+import org.dependencytrack.storage.FileStorage;
 import org.dependencytrack.util.CompressUtil;
 
-import java.util.Base64;
+import java.io.IOException;
 import java.util.Date;
-import java.util.List;
+import java.util.Optional;
+
+import static org.dependencytrack.proto.notification.v1.Group.GROUP_VEX_CONSUMED;
+import static org.dependencytrack.proto.notification.v1.Group.GROUP_VEX_PROCESSED;
+import static org.dependencytrack.proto.notification.v1.Level.LEVEL_INFORMATIONAL;
+import static org.dependencytrack.proto.notification.v1.Scope.SCOPE_PORTFOLIO;
 
 /**
  * Subscriber task that performs processing of VEX when it is uploaded.
@@ -53,72 +61,116 @@ public class VexUploadProcessingTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(VexUploadProcessingTask.class);
 
+    // Builders are reused for all notifications dispatched by a thread,
+    // rather than being allocated anew for every notification.
+    private static final ThreadLocal<Notification.Builder> NOTIFICATION_BUILDER =
+            ThreadLocal.withInitial(Notification::newBuilder);
+    private static final ThreadLocal<VexConsumedOrProcessedSubject.Builder> VEX_CONSUMED_OR_PROCESSED_SUBJECT_BUILDER =
+            ThreadLocal.withInitial(VexConsumedOrProcessedSubject::newBuilder);
+
     private final KafkaEventDispatcher eventDispatcher = new KafkaEventDispatcher();
 
     /**
      * {@inheritDoc}
      */
     public void inform(final Event e) {
-        if (e instanceof VexUploadEvent) {
-            final VexUploadEvent event = (VexUploadEvent) e;
-            final byte[] vexBytes = CompressUtil.optionallyDecompress(event.getVex());
-            try(final QueryManager qm = new QueryManager()) {
-                final Project project = qm.getObjectByUuid(Project.class, event.getProjectUuid());
-                final List<Vulnerability> vulnerabilities;
-
-                // Holds a list of all Components that are existing dependencies of the specified project
-                final List<Vulnerability> existingProjectVulnerabilities = qm.getVulnerabilities(project, true);
-                final Vex.Format vexFormat;
-                final String vexSpecVersion;
-                final Integer vexVersion;
-                final String serialNumnber;
-                org.cyclonedx.model.Bom cycloneDxBom = null;
-                if (BomParserFactory.looksLikeCycloneDX(vexBytes)) {
-                    if (qm.isEnabled(ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX)) {
-                        LOGGER.info("Processing CycloneDX VEX uploaded to project: " + event.getProjectUuid());
-                        vexFormat = Vex.Format.CYCLONEDX;
-                        final Parser parser = BomParserFactory.createParser(vexBytes);
-                        cycloneDxBom = parser.parse(vexBytes);
-                        vexSpecVersion = cycloneDxBom.getSpecVersion();
-                        vexVersion = cycloneDxBom.getVersion();
-                        serialNumnber = cycloneDxBom.getSerialNumber();
-                        final CycloneDXVexImporter vexImporter = new CycloneDXVexImporter();
-                        vexImporter.applyVex(qm, cycloneDxBom, project);
-                        LOGGER.info("Completed processing of CycloneDX VEX for project: " + event.getProjectUuid());
-                    } else {
-                        LOGGER.warn("A CycloneDX VEX was uploaded but accepting CycloneDX format is disabled. Aborting");
-                        return;
-                    }
-                    // TODO: Add support for CSAF
+        if (!(e instanceof final VexUploadEvent event)) {
+            return;
+        }
+
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            final byte[] vexBytes;
+            try {
+                vexBytes = CompressUtil.optionallyDecompress(fileStorage.get(event.getFileMetadata()));
+            } catch (IOException ex) {
+                LOGGER.error("Failed to retrieve VEX file %s from storage".formatted(
+                        event.getFileMetadata().getLocation()), ex);
+                return;
+            }
+
+            try {
+                processEvent(event, vexBytes);
+            } finally {
+                // There are currently no retries, so the VEX file needs to be removed
+                // from storage no matter if processing failed or succeeded.
+
+                try {
+                    fileStorage.delete(event.getFileMetadata());
+                } catch (IOException ex) {
+                    LOGGER.error("Failed to delete VEX file %s from storage".formatted(
+                            event.getFileMetadata().getLocation()), ex);
+                }
+            }
+        }
+    }
+
+    private void processEvent(final VexUploadEvent event, final byte[] vexBytes) {
+        try (final QueryManager qm = new QueryManager()) {
+            final Project project = qm.getObjectByUuid(Project.class, event.getProjectUuid());
+
+            final Vex.Format vexFormat;
+            final String vexSpecVersion;
+            final Integer vexVersion;
+            final String serialNumnber;
+            if (BomParserFactory.looksLikeCycloneDX(vexBytes)) {
+                if (qm.isEnabled(ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX)) {
+                    LOGGER.info("Processing CycloneDX VEX uploaded to project: " + event.getProjectUuid());
+                    vexFormat = Vex.Format.CYCLONEDX;
+                    final Parser parser = BomParserFactory.createParser(vexBytes);
+                    final org.cyclonedx.model.Bom cycloneDxBom = parser.parse(vexBytes);
+                    vexSpecVersion = cycloneDxBom.getSpecVersion();
+                    vexVersion = cycloneDxBom.getVersion();
+                    serialNumnber = cycloneDxBom.getSerialNumber();
+                    final CycloneDXVexImporter vexImporter = new CycloneDXVexImporter();
+                    vexImporter.applyVex(qm, cycloneDxBom, project);
+                    LOGGER.info("Completed processing of CycloneDX VEX for project: " + event.getProjectUuid());
                 } else {
-                    LOGGER.warn("The VEX uploaded is not in a supported format. Supported formats include CycloneDX XML and JSON");
+                    LOGGER.warn("A CycloneDX VEX was uploaded but accepting CycloneDX format is disabled. Aborting");
                     return;
                 }
-                final Project copyOfProject = qm.detach(Project.class, qm.getObjectById(Project.class, project.getId()).getId());
-                String content = "A " + vexFormat.getFormatShortName() + " VEX was consumed and will be processed";
-                Object subject = new VexConsumedOrProcessed(copyOfProject, Base64.getEncoder().encodeToString(vexBytes), vexFormat, vexSpecVersion);
-                eventDispatcher.dispatchNotification(new Notification()
-                        .scope(NotificationScope.PORTFOLIO)
-                        .group(NotificationGroup.VEX_CONSUMED)
-                        .level(NotificationLevel.INFORMATIONAL)
-                        .title(NotificationConstants.Title.VEX_CONSUMED)
-                        .content(content)
-                        .subject(subject));
-                qm.createVex(project, new Date(), vexFormat, vexSpecVersion, vexVersion, serialNumnber);
-
-                final Project detachedProject = qm.detach(Project.class, project.getId());
-                content = "A " + vexFormat.getFormatShortName() + " VEX was processed";
-                subject = new VexConsumedOrProcessed(detachedProject, Base64.getEncoder().encodeToString(vexBytes), vexFormat, vexSpecVersion);
-                eventDispatcher.dispatchNotification(new Notification()
-                        .scope(NotificationScope.PORTFOLIO)
-                        .group(NotificationGroup.VEX_PROCESSED)
-                        .level(NotificationLevel.INFORMATIONAL)
-                        .title(NotificationConstants.Title.VEX_PROCESSED)
-                        .content(content)
-                        .subject(subject));
-            } catch (Exception ex) {
-                LOGGER.error("Error while processing vex", ex);
+                // TODO: Add support for CSAF
+            } else {
+                LOGGER.warn("The VEX uploaded is not in a supported format. Supported formats include CycloneDX XML and JSON");
+                return;
             }
+
+            // The VEX is not embedded into notifications, as it can be arbitrarily large,
+            // and the uploaded file is removed from storage once processing has completed.
+            final VexConsumedOrProcessedSubject.Builder subjectBuilder = VEX_CONSUMED_OR_PROCESSED_SUBJECT_BUILDER.get().clear()
+                    .setProject(NotificationModelConverter.convert(project))
+                    .setVex(ByteString.copyFromUtf8("(Omitted)"))
+                    .setFormat(vexFormat.getFormatShortName());
+            Optional.ofNullable(vexSpecVersion).ifPresent(subjectBuilder::setSpecVersion);
+            final VexConsumedOrProcessedSubject subject = subjectBuilder.build();
+
+            eventDispatcher.dispatchNotificationProto(buildNotification(
+                    GROUP_VEX_CONSUMED,
+                    NotificationConstants.Title.VEX_CONSUMED,
+                    "A " + vexFormat.getFormatShortName() + " VEX was consumed and will be processed",
+                    subject));
+
+            qm.createVex(project, new Date(), vexFormat, vexSpecVersion, vexVersion, serialNumnber);
+
+            eventDispatcher.dispatchNotificationProto(buildNotification(
+                    GROUP_VEX_PROCESSED,
+                    NotificationConstants.Title.VEX_PROCESSED,
+                    "A " + vexFormat.getFormatShortName() + " VEX was processed",
+                    subject));
+        } catch (Exception ex) {
+            LOGGER.error("Error while processing vex", ex);
         }
     }
+
+    private static Notification buildNotification(final Group group, final String title,
+                                                  final String content, final VexConsumedOrProcessedSubject subject) {
+        return NOTIFICATION_BUILDER.get().clear()
+                .setScope(SCOPE_PORTFOLIO)
+                .setGroup(group)
+                .setLevel(LEVEL_INFORMATIONAL)
+                .setTimestamp(Timestamps.now())
+                .setTitle(title)
+                .setContent(content)
+                .setSubject(Any.pack(subject))
+                .build();
+    }
 }
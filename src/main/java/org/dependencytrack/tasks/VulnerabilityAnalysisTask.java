@@ -18,12 +18,14 @@
  */
 package org.dependencytrack.tasks;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
 import net.javacrumbs.shedlock.core.LockConfiguration;
 import net.javacrumbs.shedlock.core.LockExtender;
 import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.PortfolioVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.ProjectVulnerabilityAnalysisEvent;
@@ -116,24 +118,22 @@ public class VulnerabilityAnalysisTask implements Subscriber {
     private void processPortfolio(final UUID scanToken) throws Exception {
         LOGGER.info("Submitting all components in portfolio for vulnerability analysis");
 
-        LockConfiguration lockConfiguration = getLockConfigForTask(VulnerabilityAnalysisTask.class);
-        long submittedComponents = 0;
+        final LockConfiguration lockConfiguration = getLockConfigForTask(VulnerabilityAnalysisTask.class);
+        final var dispatcher = new PortfolioVulnerabilityAnalysisDispatcher(eventDispatcher, scanToken,
+                Config.getInstance().getPropertyAsInt(ConfigKey.TASK_VULNERABILITY_ANALYSIS_DISPATCH_THREADS),
+                Config.getInstance().getPropertyAsInt(ConfigKey.TASK_VULNERABILITY_ANALYSIS_DISPATCH_QUEUE_CAPACITY));
+        final long submittedComponents;
 
         try (final QueryManager qm = new QueryManager()) {
-            final PersistenceManager pm = qm.getPersistenceManager();
-            long startTime = System.currentTimeMillis();
-            List<ComponentProjection> components = fetchNextComponentsPage(pm, null, null);
-            while (!components.isEmpty()) {
-                long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
-                if (isTaskLockToBeExtended(cumulativeProcessingTime, VulnerabilityAnalysisTask.class)) {
-                    LockExtender.extendActiveLock(Duration.ofMinutes(5).plus(lockConfiguration.getLockAtLeastFor()), lockConfiguration.getLockAtLeastFor());
-                }
-                dispatchComponents(scanToken, components);
-                submittedComponents += components.size();
-
-                final long lastId = components.get(components.size() - 1).id();
-                components = fetchNextComponentsPage(qm.getPersistenceManager(), null, lastId);
-            }
+            final long startTime = System.currentTimeMillis();
+            submittedComponents = dispatcher.dispatch(
+                    lastId -> fetchNextComponentsPage(qm.getPersistenceManager(), null, lastId),
+                    () -> {
+                        final long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
+                        if (isTaskLockToBeExtended(cumulativeProcessingTime, VulnerabilityAnalysisTask.class)) {
+                            LockExtender.extendActiveLock(Duration.ofMinutes(5).plus(lockConfiguration.getLockAtLeastFor()), lockConfiguration.getLockAtLeastFor());
+                        }
+                    });
         }
 
         LOGGER.info("All components (%d) in portfolio submitted for vulnerability analysis".formatted(submittedComponents));
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.maintenance;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.dependencytrack.persistence.jdbi.TaskCheckpointDao;
+import org.jdbi.v3.core.Handle;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes records in bounded batches, rather than in a single unbounded {@code DELETE}.
+ * <p>
+ * Each batch is executed in its own transaction, such that locks are released and WAL is
+ * written in small increments. Batches are processed in ascending ID order, and the ID of the
+ * last deleted record is checkpointed after every batch. All deletions of a task run share
+ * a single {@link TimeBudget}. Once it is exhausted, each deletion stops after its current batch,
+ * and the next run resumes from the checkpoint.
+ *
+ * @since 5.6.0
+ */
+final class BatchedDeletion {
+
+    /**
+     * Deletes a single batch of records.
+     */
+    @FunctionalInterface
+    interface BatchDeleter {
+
+        /**
+         * @param afterId   Only records with an ID greater than this value shall be deleted
+         * @param batchSize Maximum number of records to delete, in ascending ID order
+         * @return IDs of the deleted records
+         */
+        List<Long> deleteBatch(long afterId, int batchSize);
+
+    }
+
+    /**
+     * @param deleted   Number of records deleted
+     * @param batches   Number of batches executed
+     * @param completed Whether all eligible records were deleted, or the time budget was exhausted first
+     */
+    record Result(int deleted, int batches, boolean completed) {
+    }
+
+    /**
+     * Time budget of a task run, shared by all {@link BatchedDeletion}s performed in that run.
+     *
+     * @param duration   The total duration of the budget
+     * @param deadlineNs The {@link System#nanoTime()} at which the budget is exhausted
+     */
+    record TimeBudget(Duration duration, long deadlineNs) {
+
+        static TimeBudget start() {
+            return start(DEFAULT_TIME_BUDGET);
+        }
+
+        static TimeBudget start(final Duration duration) {
+            return new TimeBudget(duration, System.nanoTime() + duration.toNanos());
+        }
+
+        boolean isExhausted() {
+            return System.nanoTime() >= deadlineNs;
+        }
+
+    }
+
+    static final int DEFAULT_BATCH_SIZE = 5000;
+    static final Duration DEFAULT_TIME_BUDGET = Duration.ofMinutes(5);
+
+    private static final Logger LOGGER = Logger.getLogger(BatchedDeletion.class);
+    private static final String CHECKPOINT_NAME_PREFIX = "maintenance-deletion-";
+    private static final Duration CHECKPOINT_MAX_AGE = Duration.ofDays(7);
+
+    private final Handle jdbiHandle;
+    private final String name;
+    private final int batchSize;
+    private final TimeBudget timeBudget;
+
+    BatchedDeletion(final Handle jdbiHandle, final String name, final TimeBudget timeBudget) {
+        this(jdbiHandle, name, DEFAULT_BATCH_SIZE, timeBudget);
+    }
+
+    BatchedDeletion(final Handle jdbiHandle, final String name, final int batchSize, final TimeBudget timeBudget) {
+        this.jdbiHandle = jdbiHandle;
+        this.name = name;
+        this.batchSize = batchSize;
+        this.timeBudget = timeBudget;
+    }
+
+    Result execute(final BatchDeleter deleter) {
+        final var checkpointDao = jdbiHandle.attach(TaskCheckpointDao.class);
+        final String checkpointName = CHECKPOINT_NAME_PREFIX + name;
+
+        final Timer batchTimer = Timer
+                .builder("maintenance_deletion_batch_duration")
+                .description("Duration of batched deletions performed by maintenance tasks")
+                .tag("deletion", name)
+                .register(Metrics.getRegistry());
+        final Counter deletedCounter = Counter
+                .builder("maintenance_deletion_records_deleted")
+                .description("Number of records deleted by maintenance tasks")
+                .tag("deletion", name)
+                .register(Metrics.getRegistry());
+
+        long afterId = checkpointDao.getPosition(checkpointName, CHECKPOINT_MAX_AGE).orElse(0L);
+        if (afterId > 0) {
+            LOGGER.debug("%s: Resuming after ID %d".formatted(name, afterId));
+        }
+
+        int numDeleted = 0;
+        int numBatches = 0;
+        while (true) {
+            final long batchStartNs = System.nanoTime();
+            final List<Long> deletedIds = deleter.deleteBatch(afterId, batchSize);
+            batchTimer.record(System.nanoTime() - batchStartNs, TimeUnit.NANOSECONDS);
+            deletedCounter.increment(deletedIds.size());
+
+            numDeleted += deletedIds.size();
+            numBatches++;
+
+            if (deletedIds.size() < batchSize) {
+                // Reached the end of the table. Start over from the beginning next time,
+                // to catch records that became eligible for deletion in the meantime.
+                checkpointDao.delete(checkpointName);
+                return new Result(numDeleted, numBatches, true);
+            }
+
+            afterId = Collections.max(deletedIds);
+            checkpointDao.setPosition(checkpointName, afterId);
+
+            if (timeBudget.isExhausted()) {
+                LOGGER.warn("""
+                        %s: Time budget of %s exhausted after %d batches; \
+                        Will resume after ID %d in the next run""".formatted(name, timeBudget.duration(), numBatches, afterId));
+                return new Result(numDeleted, numBatches, false);
+            }
+        }
+    }
+
+}
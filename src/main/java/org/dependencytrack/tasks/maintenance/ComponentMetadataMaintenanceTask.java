@@ -74,8 +74,13 @@ public class ComponentMetadataMaintenanceTask implements Subscriber {
 
         final var dao = jdbiHandle.attach(ComponentMetaDao.class);
 
-        final int numDeletedIntegrityMeta = dao.deleteOrphanIntegrityMetaComponents();
-        final int numDeletedRepoMeta = dao.deleteOrphanRepositoryMetaComponents();
+        final var timeBudget = BatchedDeletion.TimeBudget.start();
+        final int numDeletedIntegrityMeta = new BatchedDeletion(jdbiHandle, "orphan-integrity-meta-components", timeBudget)
+                .execute(dao::deleteOrphanIntegrityMetaComponents)
+                .deleted();
+        final int numDeletedRepoMeta = new BatchedDeletion(jdbiHandle, "orphan-repository-meta-components", timeBudget)
+                .execute(dao::deleteOrphanRepositoryMetaComponents)
+                .deleted();
 
         return new Statistics(numDeletedIntegrityMeta, numDeletedRepoMeta);
     }
@@ -24,11 +24,18 @@ import alpine.event.framework.Subscriber;
 import org.dependencytrack.event.maintenance.MetricsMaintenanceEvent;
 import org.dependencytrack.persistence.jdbi.ConfigPropertyDao;
 import org.dependencytrack.persistence.jdbi.MetricsDao;
+import org.dependencytrack.persistence.jdbi.TaskCheckpointDao;
 import org.jdbi.v3.core.Handle;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 
 import static net.javacrumbs.shedlock.core.LockAssert.assertLocked;
+import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_METRICS_DOWNSAMPLING_DAYS;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_METRICS_RETENTION_DAYS;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
@@ -40,6 +47,8 @@ import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 public class MetricsMaintenanceTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(MetricsMaintenanceTask.class);
+    private static final String DOWNSAMPLING_CHECKPOINT_NAME = "metrics-downsampling";
+    private static final int PARTITION_DAYS_AHEAD = 7;
 
     @Override
     public void inform(final Event event) {
@@ -68,9 +77,13 @@ public class MetricsMaintenanceTask implements Subscriber {
 
     private record Statistics(
             Duration retentionDuration,
+            int createdPartitions,
+            int droppedPartitions,
             int deletedComponentMetrics,
             int deletedProjectMetrics,
-            int deletedPortfolioMetrics) {
+            int deletedPortfolioMetrics,
+            int downsampledComponentMetrics,
+            int downsampledProjectMetrics) {
     }
 
     private Statistics informLocked(final Handle jdbiHandle) {
@@ -82,11 +95,69 @@ public class MetricsMaintenanceTask implements Subscriber {
         final Integer retentionDays = configPropertyDao.getValue(MAINTENANCE_METRICS_RETENTION_DAYS, Integer.class);
         final Duration retentionDuration = Duration.ofDays(retentionDays);
 
-        final int numDeletedComponent = metricsDao.deleteComponentMetricsForRetentionDuration(retentionDuration);
-        final int numDeletedProject = metricsDao.deleteProjectMetricsForRetentionDuration(retentionDuration);
-        final int numDeletedPortfolio = metricsDao.deletePortfolioMetricsForRetentionDuration(retentionDuration);
+        int numCreatedPartitions = 0;
+        int numDroppedPartitions = 0;
+        for (final String tableName : MetricsDao.PARTITIONED_TABLE_NAMES) {
+            numCreatedPartitions += metricsDao.createPartitions(tableName, PARTITION_DAYS_AHEAD);
+            numDroppedPartitions += metricsDao.dropExpiredPartitions(tableName, retentionDuration);
+        }
+
+        // Dropping partitions takes care of the bulk of expired data.
+        // What remains are rows in the DEFAULT partitions, and rows in the
+        // partition that only partially falls out of the retention window.
+        final var timeBudget = BatchedDeletion.TimeBudget.start();
+        final int numDeletedComponent = new BatchedDeletion(jdbiHandle, "component-metrics", timeBudget)
+                .execute((afterId, batchSize) -> metricsDao.deleteComponentMetricsForRetentionDuration(retentionDuration, afterId, batchSize))
+                .deleted();
+        final int numDeletedProject = new BatchedDeletion(jdbiHandle, "project-metrics", timeBudget)
+                .execute((afterId, batchSize) -> metricsDao.deleteProjectMetricsForRetentionDuration(retentionDuration, afterId, batchSize))
+                .deleted();
+        final int numDeletedPortfolio = new BatchedDeletion(jdbiHandle, "portfolio-metrics", timeBudget)
+                .execute((afterId, batchSize) -> metricsDao.deletePortfolioMetricsForRetentionDuration(retentionDuration, afterId, batchSize))
+                .deleted();
+
+        int numDownsampledComponent = 0;
+        int numDownsampledProject = 0;
+        final int downsamplingDays = configPropertyDao
+                .getOptionalValue(MAINTENANCE_METRICS_DOWNSAMPLING_DAYS, Integer.class)
+                .orElseGet(() -> Integer.parseInt(MAINTENANCE_METRICS_DOWNSAMPLING_DAYS.getDefaultPropertyValue()));
+        if (downsamplingDays > 0 && downsamplingDays < retentionDays) {
+            final var checkpointDao = jdbiHandle.attach(TaskCheckpointDao.class);
+
+            // Only ever downsample complete weeks. Weeks that were already
+            // downsampled in a previous run are skipped based on the checkpoint.
+            final Instant retentionWeekStart = startOfWeek(Instant.now().minus(retentionDuration));
+            final Instant downsamplingWeekStart = startOfWeek(Instant.now().minus(downsamplingDays, ChronoUnit.DAYS));
+            Instant weekStart = checkpointDao.getPosition(DOWNSAMPLING_CHECKPOINT_NAME, retentionDuration)
+                    .map(Instant::ofEpochMilli)
+                    .filter(retentionWeekStart::isBefore)
+                    .orElse(retentionWeekStart);
+
+            while (weekStart.isBefore(downsamplingWeekStart)) {
+                final Instant weekEnd = weekStart.plus(7, ChronoUnit.DAYS);
+                numDownsampledComponent += metricsDao.downsampleComponentMetrics(weekStart, weekEnd);
+                numDownsampledProject += metricsDao.downsampleProjectMetrics(weekStart, weekEnd);
+                checkpointDao.setPosition(DOWNSAMPLING_CHECKPOINT_NAME, weekEnd.toEpochMilli());
+                weekStart = weekEnd;
+            }
+        }
+
+        return new Statistics(
+                retentionDuration,
+                numCreatedPartitions,
+                numDroppedPartitions,
+                numDeletedComponent,
+                numDeletedProject,
+                numDeletedPortfolio,
+                numDownsampledComponent,
+                numDownsampledProject);
+    }
 
-        return new Statistics(retentionDuration, numDeletedComponent, numDeletedProject, numDeletedPortfolio);
+    private static Instant startOfWeek(final Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC)
+                .truncatedTo(ChronoUnit.DAYS)
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .toInstant();
     }
 
 }
@@ -24,6 +24,7 @@ import alpine.event.framework.Subscriber;
 import org.dependencytrack.event.maintenance.ProjectMaintenanceEvent;
 import org.dependencytrack.persistence.jdbi.ConfigPropertyDao;
 import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.dependencytrack.tasks.ProjectDeletionTask;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -68,7 +69,7 @@ public class ProjectMaintenanceTask implements Subscriber {
         }
     }
 
-    private record Statistics(int deletedInactiveProjects) {
+    private record Statistics(int deletedInactiveProjects, int purgedTombstonedProjects) {
     }
 
     private Statistics informLocked() {
@@ -91,12 +92,12 @@ public class ProjectMaintenanceTask implements Subscriber {
                     final var deletedProjectsBatch = withJdbiHandle(
                             batchHandle -> {
                                 final var projectDao = batchHandle.attach(ProjectDao.class);
-                                return projectDao.deleteInactiveProjectsForRetentionDuration(retentionCutOff, batchSize);
+                                return projectDao.tombstoneInactiveProjectsForRetentionDuration(retentionCutOff, batchSize);
                             });
                     numDeletedLastBatch = deletedProjectsBatch.size();
                     numDeletedTotal.addAndGet(numDeletedLastBatch);
                     deletedProjectsBatch.forEach(deletedProject ->
-                            LOGGER.info("Inactive project deleted: [name:%s, version:%s, inactive since:%s, uuid:%s]".formatted(deletedProject.name(), deletedProject.version(), deletedProject.inactiveSince(), deletedProject.uuid())));
+                            LOGGER.info("Inactive project marked for deletion: [name:%s, version:%s, inactive since:%s, uuid:%s]".formatted(deletedProject.name(), deletedProject.version(), deletedProject.inactiveSince(), deletedProject.uuid())));
                 }
             } else {
                 final int versionCountThreshold = withJdbiHandle(handle ->
@@ -111,7 +112,7 @@ public class ProjectMaintenanceTask implements Subscriber {
                                     final var deletedProjects = projectDao.retainLastXInactiveProjects(projectName, versionCountThreshold);
                                     numDeletedTotal.addAndGet(deletedProjects.size());
                                     deletedProjects.forEach(deletedProject ->
-                                            LOGGER.info("Inactive project deleted: [name:%s, version:%s, inactive since:%s, uuid:%s]".formatted(deletedProject.name(), deletedProject.version(), deletedProject.inactiveSince(), deletedProject.uuid())));
+                                            LOGGER.info("Inactive project marked for deletion: [name:%s, version:%s, inactive since:%s, uuid:%s]".formatted(deletedProject.name(), deletedProject.version(), deletedProject.inactiveSince(), deletedProject.uuid())));
                                 }
                                 return projectBatch.size();
                             });
@@ -120,6 +121,27 @@ public class ProjectMaintenanceTask implements Subscriber {
         } else {
             LOGGER.info("Not deleting inactive projects because it is disabled");
         }
-        return new Statistics(numDeletedTotal.get());
+
+        // Delete the data of all tombstoned projects in batches. This includes projects
+        // tombstoned above, but also projects whose asynchronous deletion was interrupted.
+        // Projects that are being deleted by a ProjectDeletionTask are skipped.
+        // Once the time budget is exhausted, remaining projects are left for the next run.
+        final var timeBudget = BatchedDeletion.TimeBudget.start();
+        final var deletionTask = new ProjectDeletionTask();
+        final List<Long> tombstonedProjectIds = withJdbiHandle(handle ->
+                handle.attach(ProjectDao.class).getTombstonedProjectIds());
+        int numPurgedTotal = 0;
+        for (final Long projectId : tombstonedProjectIds) {
+            if (timeBudget.isExhausted()) {
+                LOGGER.warn("Time budget of %s exhausted after purging %d tombstoned projects; Will resume in the next run"
+                        .formatted(timeBudget.duration(), numPurgedTotal));
+                break;
+            }
+
+            numPurgedTotal += deletionTask.deleteTombstonedProjectTree(projectId, progress -> {
+            });
+        }
+
+        return new Statistics(numDeletedTotal.get(), numPurgedTotal);
     }
 }
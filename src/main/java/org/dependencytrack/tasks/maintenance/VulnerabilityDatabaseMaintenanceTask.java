@@ -71,7 +71,9 @@ public class VulnerabilityDatabaseMaintenanceTask implements Subscriber {
         assertLocked();
 
         final var dao = jdbiHandle.attach(VulnerabilityDao.class);
-        final int numDeletedVs = dao.deleteOrphanVulnerableSoftware();
+        final int numDeletedVs = new BatchedDeletion(jdbiHandle, "orphan-vulnerable-software", BatchedDeletion.TimeBudget.start())
+                .execute(dao::deleteOrphanVulnerableSoftware)
+                .deleted();
 
         return new Statistics(numDeletedVs);
     }
@@ -78,7 +78,9 @@ public class VulnerabilityScanMaintenanceTask implements Subscriber {
         final Integer retentionHours = configPropertyDao.getValue(MAINTENANCE_VULNERABILITY_SCAN_RETENTION_HOURS, Integer.class);
         final Duration retentionDuration = Duration.ofHours(retentionHours);
 
-        final int scansDeleted = vulnScanDao.deleteAllForRetentionDuration(retentionDuration);
+        final int scansDeleted = new BatchedDeletion(handle, "vulnerability-scans", BatchedDeletion.TimeBudget.start())
+                .execute((afterId, batchSize) -> vulnScanDao.deleteAllForRetentionDuration(retentionDuration, afterId, batchSize))
+                .deleted();
 
         return new Statistics(scansDeleted);
     }
@@ -118,7 +118,9 @@ public class WorkflowMaintenanceTask implements Subscriber {
             }
         });
 
-        final int numWorkflowsDeleted = workflowDao.deleteAllForRetention(retentionDuration);
+        final int numWorkflowsDeleted = new BatchedDeletion(jdbiHandle, "workflows", BatchedDeletion.TimeBudget.start())
+                .execute((afterId, batchSize) -> workflowDao.deleteAllForRetention(retentionDuration, afterId, batchSize))
+                .deleted();
 
         return new Statistics(
                 retentionDuration,
@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.tasks.metrics;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.common.util.SystemUtil;
 import alpine.event.framework.Event;
@@ -25,23 +26,21 @@ import alpine.event.framework.Subscriber;
 import net.javacrumbs.shedlock.core.LockConfiguration;
 import net.javacrumbs.shedlock.core.LockExtender;
 import net.javacrumbs.shedlock.core.LockingTaskExecutor;
-import org.dependencytrack.event.CallbackEvent;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
-import org.dependencytrack.event.ProjectMetricsUpdateEvent;
 import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.TaskCheckpointDao;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
 import static org.dependencytrack.util.LockProvider.isTaskLockToBeExtended;
 import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
@@ -54,8 +53,8 @@ import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 public class PortfolioMetricsUpdateTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(PortfolioMetricsUpdateTask.class);
-    private static final int MAX_CONCURRENCY = SystemUtil.getCpuCores();
-    private static final int BATCH_SIZE = MAX_CONCURRENCY * 100;
+    private static final int BATCH_SIZE = SystemUtil.getCpuCores() * 100;
+    private static final String CHECKPOINT_NAME = "portfolio-metrics-update";
 
     @Override
     public void inform(final Event e) {
@@ -87,62 +86,70 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
     }
 
     private static void refreshProjectMetrics() throws Exception {
-        try (final var qm = new QueryManager()) {
+        final LockConfiguration portfolioMetricsTaskConfig = getLockConfigForTask(PortfolioMetricsUpdateTask.class);
+        final Duration checkpointMaxAge = Duration.parse(
+                Config.getInstance().getProperty(ConfigKey.TASK_PORTFOLIO_METRICS_UPDATE_CHECKPOINT_MAX_AGE));
+
+        Long lastId = withJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class)
+                .getPosition(CHECKPOINT_NAME, checkpointMaxAge)
+                .orElse(null));
+        if (lastId != null) {
+            LOGGER.info("Resuming refresh of project metrics from checkpoint (projects with ID < %d)".formatted(lastId));
+        }
+
+        final int workerThreads = getWorkerThreads();
+        try (final var qm = new QueryManager();
+             final var executor = new ProjectMetricsUpdateExecutor(workerThreads, workerThreads * 10)) {
             final PersistenceManager pm = qm.getPersistenceManager();
+            final long processStartTime = System.currentTimeMillis();
+            long lastLockExtension = processStartTime;
+            long projectsSubmitted = 0;
 
             LOGGER.debug("Fetching first " + BATCH_SIZE + " projects");
-            LockConfiguration portfolioMetricsTaskConfig = getLockConfigForTask(PortfolioMetricsUpdateTask.class);
-            List<ProjectProjection> activeProjects = fetchNextActiveProjectsPage(pm, null);
-            long processStartTime = System.currentTimeMillis();
+            List<ProjectProjection> activeProjects = fetchNextActiveProjectsPage(pm, lastId);
             while (!activeProjects.isEmpty()) {
-                long startTimeOfBatch = System.currentTimeMillis();
-                final long firstId = activeProjects.get(0).id();
-                final long lastId = activeProjects.get(activeProjects.size() - 1).id();
-
-                // Distribute the batch across at most MAX_CONCURRENCY events, and process them asynchronously.
-                final List<List<ProjectProjection>> partitions = partition(activeProjects, MAX_CONCURRENCY);
-                final var countDownLatch = new CountDownLatch(partitions.size());
-
-                for (final List<ProjectProjection> partition : partitions) {
-                    final var partitionEvent = new CallbackEvent(() -> {
-                        for (final ProjectProjection project : partition) {
-                            new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.uuid()));
-                        }
-                    });
-
-                    final var countDownEvent = new CallbackEvent(countDownLatch::countDown);
-                    Event.dispatch(partitionEvent
-                            .onSuccess(countDownEvent)
-                            .onFailure(countDownEvent));
+                // Projects are submitted individually, and the executor blocks when its backlog is full.
+                // This way, a single slow project can't hold up processing of an entire batch.
+                for (final ProjectProjection project : activeProjects) {
+                    executor.submit(project);
                 }
+                projectsSubmitted += activeProjects.size();
 
-                LOGGER.debug("Waiting for metrics updates for projects " + firstId + "-" + lastId + " to complete");
-                if (!countDownLatch.await(15, TimeUnit.MINUTES)) {
-                    // Depending on the system load, it may take a while for the queued events
-                    // to be processed. And depending on how large the projects are, it may take a
-                    // while for the processing of the respective event to complete.
-                    // It is unlikely though that either of these situations causes a block for
-                    // over 15 minutes. If that happens, the system is under-resourced.
-                    LOGGER.warn("Updating metrics for projects " + firstId + "-" + lastId +
-                            " took longer than expected (15m); Proceeding with potentially stale data");
+                final Long checkpoint = executor.getCheckpoint();
+                if (checkpoint != null) {
+                    useJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class).setPosition(CHECKPOINT_NAME, checkpoint));
                 }
-                LOGGER.debug("Completed metrics updates for projects " + firstId + "-" + lastId);
-                LOGGER.debug("Fetching next " + BATCH_SIZE + " projects");
-                long now = System.currentTimeMillis();
-                long processDurationInMillis = now - startTimeOfBatch;
-                long cumulativeDurationInMillis = now - processStartTime;
-                //extend the lock for the duration of process
-                //initial duration of portfolio metrics can be set to 20min.
-                //No thread calculating metrics would be executing for more than 15min.
-                //lock can only be extended if lock until is held for time after current db time
-                if(isTaskLockToBeExtended(cumulativeDurationInMillis, PortfolioMetricsUpdateTask.class)) {
-                    Duration extendLockByDuration = Duration.ofMillis(processDurationInMillis).plus(portfolioMetricsTaskConfig.getLockAtLeastFor());
+                LOGGER.debug("Submitted %d projects so far; %d are pending".formatted(projectsSubmitted, executor.getBacklogSize()));
+
+                final long now = System.currentTimeMillis();
+                if (isTaskLockToBeExtended(now - processStartTime, PortfolioMetricsUpdateTask.class)) {
+                    final Duration extendLockByDuration = Duration.ofMillis(now - lastLockExtension).plus(portfolioMetricsTaskConfig.getLockAtLeastFor());
                     LOGGER.debug("Extending lock duration by ms: " + extendLockByDuration);
                     LockExtender.extendActiveLock(extendLockByDuration, portfolioMetricsTaskConfig.getLockAtLeastFor());
+                    lastLockExtension = now;
                 }
+
+                LOGGER.debug("Fetching next " + BATCH_SIZE + " projects");
+                lastId = activeProjects.getLast().id();
                 activeProjects = fetchNextActiveProjectsPage(pm, lastId);
             }
+
+            if (!executor.awaitCompletion(Duration.ofMinutes(15))) {
+                // It is unlikely that the remaining backlog takes more than 15 minutes to complete.
+                // If that happens, the system is under-resourced. Keep the checkpoint around,
+                // such that the next run can pick up where we left off.
+                LOGGER.warn("Updating metrics for remaining %d projects took longer than expected (15m); Proceeding with potentially stale data"
+                        .formatted(executor.getBacklogSize()));
+                return;
+            }
         }
+
+        useJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class).delete(CHECKPOINT_NAME));
+    }
+
+    private static int getWorkerThreads() {
+        final int workerThreads = Config.getInstance().getPropertyAsInt(ConfigKey.TASK_PORTFOLIO_METRICS_UPDATE_WORKER_THREADS);
+        return workerThreads > 0 ? workerThreads : SystemUtil.getCpuCores();
     }
 
     public record ProjectProjection(long id, UUID uuid) {
@@ -151,9 +158,9 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
     private static List<ProjectProjection> fetchNextActiveProjectsPage(final PersistenceManager pm, final Long lastId) throws Exception {
         try (final Query<Project> query = pm.newQuery(Project.class)) {
             if (lastId == null) {
-                query.setFilter("inactiveSince == null");
+                query.setFilter("inactiveSince == null && deletedAt == null");
             } else {
-                query.setFilter("inactiveSince == null && id < :lastId");
+                query.setFilter("inactiveSince == null && deletedAt == null && id < :lastId");
                 query.setParameters(lastId);
             }
             query.setOrdering("id DESC");
@@ -163,24 +170,4 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
         }
     }
 
-    static <T> List<List<T>> partition(final List<T> list, int numPartitions) {
-        if (list == null || list.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        final int listSize = list.size();
-        final var partitions = new ArrayList<List<T>>(numPartitions);
-        int partitionSize = (int) Math.ceil((double) listSize / numPartitions);
-
-        int i = 0, elementsLeft = listSize;
-        while (i < listSize && numPartitions != 0) {
-            partitions.add(list.subList(i, i + partitionSize));
-            i = i + partitionSize;
-            elementsLeft = elementsLeft - partitionSize;
-            partitionSize = (int) Math.ceil((double) elementsLeft / --numPartitions);
-        }
-
-        return partitions;
-    }
-
 }
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.tasks.metrics.PortfolioMetricsUpdateTask.ProjectProjection;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A dedicated executor for project metrics updates performed as part of a portfolio metrics refresh.
+ * <p>
+ * Projects are submitted individually to a work-stealing pool, such that a single slow project
+ * does not hold up the processing of others. The number of submitted, but not yet completed projects
+ * is bounded, causing {@link #submit(ProjectProjection)} to block when workers can't keep up.
+ * <p>
+ * Because projects are expected to be submitted in descending order of their ID, the executor is able
+ * to determine a {@link #getCheckpoint() checkpoint} below which all submitted projects have been processed.
+ *
+ * @since 5.6.0
+ */
+final class ProjectMetricsUpdateExecutor implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectMetricsUpdateExecutor.class);
+
+    private final ExecutorService executorService;
+    private final Semaphore backlogPermits;
+    private final ConcurrentSkipListSet<Long> inFlightProjectIds = new ConcurrentSkipListSet<>();
+    private final AtomicLong lastSubmittedProjectId = new AtomicLong(Long.MAX_VALUE);
+    private final Counter projectsProcessedCounter;
+    private final Timer projectUpdateTimer;
+    private final Meter backlogGauge;
+
+    ProjectMetricsUpdateExecutor(final int workerThreads, final int maxBacklog) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("workerThreads must be greater than zero");
+        }
+        if (maxBacklog < workerThreads) {
+            throw new IllegalArgumentException("maxBacklog must be greater than or equal to workerThreads");
+        }
+
+        this.executorService = Executors.newWorkStealingPool(workerThreads);
+        this.backlogPermits = new Semaphore(maxBacklog);
+        this.projectsProcessedCounter = Counter
+                .builder("metrics_portfolio_refresh_projects_processed")
+                .description("Number of projects processed during portfolio metrics refreshes")
+                .register(Metrics.getRegistry());
+        this.projectUpdateTimer = Timer
+                .builder("metrics_portfolio_refresh_project_duration")
+                .description("Duration of project metrics updates during portfolio metrics refreshes")
+                .register(Metrics.getRegistry());
+        this.backlogGauge = Gauge
+                .builder("metrics_portfolio_refresh_backlog", inFlightProjectIds, ConcurrentSkipListSet::size)
+                .description("Number of projects submitted for metrics update, but not yet processed")
+                .register(Metrics.getRegistry());
+    }
+
+    /**
+     * Submit a {@link ProjectProjection} for metrics update, blocking while the backlog is full.
+     *
+     * @param project The {@link ProjectProjection} to update metrics for
+     * @throws InterruptedException When interrupted while waiting for capacity in the backlog
+     */
+    void submit(final ProjectProjection project) throws InterruptedException {
+        backlogPermits.acquire();
+
+        inFlightProjectIds.add(project.id());
+        lastSubmittedProjectId.set(project.id());
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    projectUpdateTimer.record(() -> new ProjectMetricsUpdateTask()
+                            .inform(new ProjectMetricsUpdateEvent(project.uuid())));
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to update metrics of project %s".formatted(project.uuid()), e);
+                } finally {
+                    inFlightProjectIds.remove(project.id());
+                    projectsProcessedCounter.increment();
+                    backlogPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightProjectIds.remove(project.id());
+            backlogPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The lowest project ID for which it is guaranteed that all projects
+     * with an ID greater than or equal to it have been processed, or {@code null}
+     * when no project has been processed yet.
+     */
+    Long getCheckpoint() {
+        final long lastSubmittedId = lastSubmittedProjectId.get();
+        if (lastSubmittedId == Long.MAX_VALUE) {
+            return null;
+        }
+
+        try {
+            // Projects are submitted in descending order of their ID,
+            // so everything above the highest in-flight ID is done.
+            return inFlightProjectIds.last() + 1;
+        } catch (NoSuchElementException e) {
+            return lastSubmittedId;
+        }
+    }
+
+    int getBacklogSize() {
+        return inFlightProjectIds.size();
+    }
+
+    /**
+     * Wait for all submitted projects to be processed.
+     *
+     * @param timeout The maximum time to wait
+     * @return {@code true} when all projects have been processed, otherwise {@code false}
+     * @throws InterruptedException When interrupted while waiting
+     */
+    boolean awaitCompletion(final Duration timeout) throws InterruptedException {
+        executorService.shutdown();
+        return executorService.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+
+        // The gauge references state of this executor instance, and would otherwise
+        // prevent a gauge for the next instance from being registered.
+        Metrics.getRegistry().remove(backlogGauge);
+    }
+
+}
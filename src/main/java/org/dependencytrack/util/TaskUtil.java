@@ -39,6 +39,10 @@ public final class TaskUtil {
     private static final String PROPERTY_CRON = "cron";
     private static final String PROPERTY_LOCK_MAX_DURATION = "lock.max.duration";
     private static final String PROPERTY_LOCK_MIN_DURATION = "lock.min.duration";
+    private static final String PROPERTY_MAX_CONCURRENCY = "max.concurrency";
+    private static final String PROPERTY_QUEUE_CAPACITY = "queue.capacity";
+    private static final int DEFAULT_MAX_CONCURRENCY = 1;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1;
 
     private TaskUtil() {
     }
@@ -78,6 +82,43 @@ public final class TaskUtil {
         }
     }
 
+    /**
+     * @return The maximum number of concurrent scheduled executions of the given task
+     */
+    public static int getMaxConcurrencyForTask(final Class<? extends Subscriber> taskClass) {
+        return getIntPropertyForTask(taskClass, PROPERTY_MAX_CONCURRENCY, DEFAULT_MAX_CONCURRENCY, 1);
+    }
+
+    /**
+     * @return The maximum number of scheduled executions of the given task that may wait
+     * for a previous execution to complete, before further executions are considered missed
+     */
+    public static int getQueueCapacityForTask(final Class<? extends Subscriber> taskClass) {
+        return getIntPropertyForTask(taskClass, PROPERTY_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY, 0);
+    }
+
+    private static int getIntPropertyForTask(final Class<? extends Subscriber> taskClass, final String property,
+                                             final int defaultValue, final int minValue) {
+        final String taskName = getTaskConfigName(taskClass);
+
+        final String valueString = Config.getInstance().getProperty(new TaskConfigKey(taskName, property));
+        if (valueString == null) {
+            return defaultValue;
+        }
+
+        final int value;
+        try {
+            value = Integer.parseInt(valueString.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid %s configured for task %s: %s".formatted(property, taskName, valueString), e);
+        }
+        if (value < minValue) {
+            throw new IllegalStateException("%s of task %s must be at least %d, but is %d".formatted(property, taskName, minValue, value));
+        }
+
+        return value;
+    }
+
     private static String getTaskConfigName(final Class<? extends Subscriber> taskClass) {
         requireNonNull(taskClass);
 
@@ -0,0 +1,17 @@
+-- Bumps the version of the cached data set named by the first trigger argument,
+-- such that application instances holding a local copy of it know to refresh it.
+-- Versions are drawn from a sequence to ensure they never repeat, not even after
+-- the corresponding CACHE_VERSION row has been deleted.
+CREATE OR REPLACE FUNCTION "BUMP_CACHE_VERSION_TRIGGER"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+BEGIN
+  INSERT INTO "CACHE_VERSION" ("NAME", "VERSION")
+  VALUES (TG_ARGV[0], NEXTVAL('"CACHE_VERSION_SEQ"'))
+  ON CONFLICT ("NAME") DO UPDATE
+  SET "VERSION" = EXCLUDED."VERSION";
+
+  RETURN NULL;
+END;
+$$;
@@ -0,0 +1,37 @@
+-- Keeps COMPONENT_HASH in sync with the hash columns of COMPONENT, such that components
+-- can be looked up by digest without knowing the algorithm that produced it.
+-- Hashes are stored as raw bytes. Values that are not valid hex strings are skipped.
+-- Rows of deleted components are removed via the foreign key's ON DELETE CASCADE.
+-- On UPDATE, the trigger only fires when at least one hash has actually changed.
+CREATE OR REPLACE FUNCTION "COMPONENT_HASH_TRIGGER"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+BEGIN
+  IF TG_OP = 'UPDATE' THEN
+    DELETE
+      FROM "COMPONENT_HASH"
+     WHERE "COMPONENT_ID" = NEW."ID";
+  END IF;
+
+  INSERT INTO "COMPONENT_HASH" ("COMPONENT_ID", "ALGORITHM", "DIGEST")
+  SELECT NEW."ID"
+       , "H"."ALGORITHM"
+       , DECODE("H"."HEX", 'hex')
+    FROM (VALUES ('MD5', NEW."MD5")
+               , ('SHA-1', NEW."SHA1")
+               , ('SHA-256', NEW."SHA_256")
+               , ('SHA-384', NEW."SHA_384")
+               , ('SHA-512', NEW."SHA_512")
+               , ('SHA3-256', NEW."SHA3_256")
+               , ('SHA3-384', NEW."SHA3_384")
+               , ('SHA3-512', NEW."SHA3_512")
+               , ('BLAKE2b-256', NEW."BLAKE2B_256")
+               , ('BLAKE2b-384', NEW."BLAKE2B_384")
+               , ('BLAKE2b-512', NEW."BLAKE2B_512")
+               , ('BLAKE3', NEW."BLAKE3")) AS "H"("ALGORITHM", "HEX")
+   WHERE "H"."HEX" ~ '^([0-9a-fA-F]{2})+$';
+
+  RETURN NULL;
+END;
+$$;
@@ -0,0 +1,130 @@
+-- Keeps COMPONENT_METRICS_LATEST in sync with the most recent row in DEPENDENCYMETRICS per component,
+-- such that the current metrics of a component can be looked up without scanning its history.
+-- Rows that are moved between partitions of DEPENDENCYMETRICS arrive here as DELETE followed by INSERT.
+--
+-- When the row currently held in COMPONENT_METRICS_LATEST is deleted, e.g. by retention enforcement,
+-- it is replaced with the next most recent row of the component, if any.
+-- Partitions dropped by DROP_EXPIRED_METRICS_PARTITIONS do not fire this trigger,
+-- and are taken care of by that function instead.
+CREATE OR REPLACE FUNCTION "COMPONENT_METRICS_LATEST_TRIGGER"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    DELETE FROM "COMPONENT_METRICS_LATEST"
+     WHERE "COMPONENT_ID" = OLD."COMPONENT_ID"
+       AND "ID" = OLD."ID";
+
+    IF FOUND THEN
+      INSERT INTO "COMPONENT_METRICS_LATEST"
+      SELECT *
+        FROM "DEPENDENCYMETRICS"
+       WHERE "COMPONENT_ID" = OLD."COMPONENT_ID"
+       ORDER BY "LAST_OCCURRENCE" DESC
+       LIMIT 1
+      ON CONFLICT DO NOTHING;
+    END IF;
+
+    RETURN NULL;
+  END IF;
+
+  INSERT INTO "COMPONENT_METRICS_LATEST" AS "L" ("ID",
+                                                 "COMPONENT_ID",
+                                                 "PROJECT_ID",
+                                                 "VULNERABILITIES",
+                                                 "CRITICAL",
+                                                 "HIGH",
+                                                 "MEDIUM",
+                                                 "LOW",
+                                                 "UNASSIGNED_SEVERITY",
+                                                 "RISKSCORE",
+                                                 "FINDINGS_TOTAL",
+                                                 "FINDINGS_AUDITED",
+                                                 "FINDINGS_UNAUDITED",
+                                                 "SUPPRESSED",
+                                                 "POLICYVIOLATIONS_TOTAL",
+                                                 "POLICYVIOLATIONS_FAIL",
+                                                 "POLICYVIOLATIONS_WARN",
+                                                 "POLICYVIOLATIONS_INFO",
+                                                 "POLICYVIOLATIONS_AUDITED",
+                                                 "POLICYVIOLATIONS_UNAUDITED",
+                                                 "POLICYVIOLATIONS_LICENSE_TOTAL",
+                                                 "POLICYVIOLATIONS_LICENSE_AUDITED",
+                                                 "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+                                                 "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+                                                 "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+                                                 "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+                                                 "POLICYVIOLATIONS_SECURITY_TOTAL",
+                                                 "POLICYVIOLATIONS_SECURITY_AUDITED",
+                                                 "POLICYVIOLATIONS_SECURITY_UNAUDITED",
+                                                 "FIRST_OCCURRENCE",
+                                                 "LAST_OCCURRENCE")
+  VALUES (NEW."ID",
+          NEW."COMPONENT_ID",
+          NEW."PROJECT_ID",
+          NEW."VULNERABILITIES",
+          NEW."CRITICAL",
+          NEW."HIGH",
+          NEW."MEDIUM",
+          NEW."LOW",
+          NEW."UNASSIGNED_SEVERITY",
+          NEW."RISKSCORE",
+          NEW."FINDINGS_TOTAL",
+          NEW."FINDINGS_AUDITED",
+          NEW."FINDINGS_UNAUDITED",
+          NEW."SUPPRESSED",
+          NEW."POLICYVIOLATIONS_TOTAL",
+          NEW."POLICYVIOLATIONS_FAIL",
+          NEW."POLICYVIOLATIONS_WARN",
+          NEW."POLICYVIOLATIONS_INFO",
+          NEW."POLICYVIOLATIONS_AUDITED",
+          NEW."POLICYVIOLATIONS_UNAUDITED",
+          NEW."POLICYVIOLATIONS_LICENSE_TOTAL",
+          NEW."POLICYVIOLATIONS_LICENSE_AUDITED",
+          NEW."POLICYVIOLATIONS_LICENSE_UNAUDITED",
+          NEW."POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+          NEW."POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+          NEW."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+          NEW."POLICYVIOLATIONS_SECURITY_TOTAL",
+          NEW."POLICYVIOLATIONS_SECURITY_AUDITED",
+          NEW."POLICYVIOLATIONS_SECURITY_UNAUDITED",
+          NEW."FIRST_OCCURRENCE",
+          NEW."LAST_OCCURRENCE")
+  ON CONFLICT ("COMPONENT_ID") DO UPDATE
+  SET "ID" = EXCLUDED."ID"
+    , "PROJECT_ID" = EXCLUDED."PROJECT_ID"
+    , "VULNERABILITIES" = EXCLUDED."VULNERABILITIES"
+    , "CRITICAL" = EXCLUDED."CRITICAL"
+    , "HIGH" = EXCLUDED."HIGH"
+    , "MEDIUM" = EXCLUDED."MEDIUM"
+    , "LOW" = EXCLUDED."LOW"
+    , "UNASSIGNED_SEVERITY" = EXCLUDED."UNASSIGNED_SEVERITY"
+    , "RISKSCORE" = EXCLUDED."RISKSCORE"
+    , "FINDINGS_TOTAL" = EXCLUDED."FINDINGS_TOTAL"
+    , "FINDINGS_AUDITED" = EXCLUDED."FINDINGS_AUDITED"
+    , "FINDINGS_UNAUDITED" = EXCLUDED."FINDINGS_UNAUDITED"
+    , "SUPPRESSED" = EXCLUDED."SUPPRESSED"
+    , "POLICYVIOLATIONS_TOTAL" = EXCLUDED."POLICYVIOLATIONS_TOTAL"
+    , "POLICYVIOLATIONS_FAIL" = EXCLUDED."POLICYVIOLATIONS_FAIL"
+    , "POLICYVIOLATIONS_WARN" = EXCLUDED."POLICYVIOLATIONS_WARN"
+    , "POLICYVIOLATIONS_INFO" = EXCLUDED."POLICYVIOLATIONS_INFO"
+    , "POLICYVIOLATIONS_AUDITED" = EXCLUDED."POLICYVIOLATIONS_AUDITED"
+    , "POLICYVIOLATIONS_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_UNAUDITED"
+    , "POLICYVIOLATIONS_LICENSE_TOTAL" = EXCLUDED."POLICYVIOLATIONS_LICENSE_TOTAL"
+    , "POLICYVIOLATIONS_LICENSE_AUDITED" = EXCLUDED."POLICYVIOLATIONS_LICENSE_AUDITED"
+    , "POLICYVIOLATIONS_LICENSE_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_LICENSE_UNAUDITED"
+    , "POLICYVIOLATIONS_OPERATIONAL_TOTAL" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+    , "POLICYVIOLATIONS_OPERATIONAL_AUDITED" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+    , "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+    , "POLICYVIOLATIONS_SECURITY_TOTAL" = EXCLUDED."POLICYVIOLATIONS_SECURITY_TOTAL"
+    , "POLICYVIOLATIONS_SECURITY_AUDITED" = EXCLUDED."POLICYVIOLATIONS_SECURITY_AUDITED"
+    , "POLICYVIOLATIONS_SECURITY_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_SECURITY_UNAUDITED"
+    , "FIRST_OCCURRENCE" = EXCLUDED."FIRST_OCCURRENCE"
+    , "LAST_OCCURRENCE" = EXCLUDED."LAST_OCCURRENCE"
+  WHERE "L"."ID" = EXCLUDED."ID"
+     OR "L"."LAST_OCCURRENCE" <= EXCLUDED."LAST_OCCURRENCE";
+
+  RETURN NULL;
+END;
+$$;
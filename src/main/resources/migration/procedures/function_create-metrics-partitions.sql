@@ -0,0 +1,57 @@
+-- Creates the daily partitions of the given range-partitioned metrics table,
+-- from the current day (UTC) up until "days_ahead" days in the future.
+-- Partitions that already exist are skipped.
+--
+-- Rows that were written to the DEFAULT partition while a daily partition
+-- did not exist yet are moved to the newly created partition. PostgreSQL
+-- would otherwise refuse to create it.
+--
+-- Returns the number of partitions that were created.
+CREATE OR REPLACE FUNCTION "CREATE_METRICS_PARTITIONS"(
+  "table_name" TEXT,
+  "days_ahead" INT
+) RETURNS INT
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_today"            DATE := (NOW() AT TIME ZONE 'UTC')::DATE;
+  "v_day"              DATE;
+  "v_partition_name"   TEXT;
+  "v_lower_bound"      TIMESTAMPTZ;
+  "v_upper_bound"      TIMESTAMPTZ;
+  "v_has_default_rows" BOOLEAN;
+  "v_created"          INT := 0;
+BEGIN
+  FOR "v_day" IN SELECT GENERATE_SERIES("v_today", "v_today" + "days_ahead", INTERVAL '1 day')::DATE LOOP
+    "v_partition_name" := "table_name" || '_' || TO_CHAR("v_day", 'YYYYMMDD');
+    CONTINUE WHEN TO_REGCLASS(QUOTE_IDENT("v_partition_name")) IS NOT NULL;
+
+    "v_lower_bound" := "v_day"::TIMESTAMP AT TIME ZONE 'UTC';
+    "v_upper_bound" := ("v_day" + 1)::TIMESTAMP AT TIME ZONE 'UTC';
+
+    EXECUTE FORMAT('SELECT EXISTS(SELECT 1 FROM %I WHERE "LAST_OCCURRENCE" >= %L AND "LAST_OCCURRENCE" < %L)'
+      , "table_name" || '_DEFAULT', "v_lower_bound", "v_upper_bound")
+      INTO "v_has_default_rows";
+
+    IF "v_has_default_rows" THEN
+      EXECUTE FORMAT('CREATE TEMPORARY TABLE "METRICS_PARTITION_STAGING" (LIKE %I)', "table_name");
+      EXECUTE FORMAT('WITH "CTE_MOVED" AS (DELETE FROM %I WHERE "LAST_OCCURRENCE" >= %L AND "LAST_OCCURRENCE" < %L RETURNING *) '
+                       || 'INSERT INTO "METRICS_PARTITION_STAGING" SELECT * FROM "CTE_MOVED"'
+        , "table_name" || '_DEFAULT', "v_lower_bound", "v_upper_bound");
+    END IF;
+
+    EXECUTE FORMAT('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)'
+      , "v_partition_name", "table_name", "v_lower_bound", "v_upper_bound");
+
+    IF "v_has_default_rows" THEN
+      EXECUTE FORMAT('INSERT INTO %I SELECT * FROM "METRICS_PARTITION_STAGING"', "table_name");
+      DROP TABLE "METRICS_PARTITION_STAGING";
+    END IF;
+
+    "v_created" := "v_created" + 1;
+  END LOOP;
+
+  RETURN "v_created";
+END;
+$$;
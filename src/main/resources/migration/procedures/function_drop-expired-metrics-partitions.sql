@@ -0,0 +1,61 @@
+-- Drops all daily partitions of the given range-partitioned metrics table
+-- whose entire range is older than the given retention duration.
+--
+-- Metrics of inactive projects are retained indefinitely. Before a partition
+-- is dropped, it is detached, and rows of inactive projects are moved to the
+-- DEFAULT partition.
+--
+-- Dropping partitions does not fire row-level triggers, so references to dropped rows
+-- are removed from the corresponding latest-metrics table explicitly. Because partitions
+-- are ranged by LAST_OCCURRENCE, a latest row that lives in an expired partition has no
+-- more recent counterpart, hence there is nothing to replace it with.
+--
+-- Returns the number of partitions that were dropped.
+CREATE OR REPLACE FUNCTION "DROP_EXPIRED_METRICS_PARTITIONS"(
+  "table_name" TEXT,
+  "retention_duration" INTERVAL
+) RETURNS INT
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_partition_name" TEXT;
+  "v_day"            DATE;
+  "v_dropped"        INT := 0;
+  "v_latest_table"   TEXT;
+BEGIN
+  "v_latest_table" := CASE "table_name"
+                        WHEN 'PROJECTMETRICS' THEN 'PROJECT_METRICS_LATEST'
+                        WHEN 'DEPENDENCYMETRICS' THEN 'COMPONENT_METRICS_LATEST'
+                      END;
+
+  FOR "v_partition_name" IN
+    SELECT "C"."relname"
+      FROM "pg_inherits" AS "I"
+     INNER JOIN "pg_class" AS "C"
+        ON "C"."oid" = "I"."inhrelid"
+     WHERE "I"."inhparent" = QUOTE_IDENT("table_name")::REGCLASS
+       AND "C"."relname" ~ ('^' || "table_name" || '_[0-9]{8}$')
+     ORDER BY "C"."relname"
+  LOOP
+    "v_day" := TO_DATE(RIGHT("v_partition_name", 8), 'YYYYMMDD');
+    CONTINUE WHEN ("v_day" + 1)::TIMESTAMP AT TIME ZONE 'UTC' > NOW() - "retention_duration";
+
+    EXECUTE FORMAT('ALTER TABLE %I DETACH PARTITION %I', "table_name", "v_partition_name");
+    -- Rows of inactive projects are re-inserted below, which restores their latest rows via trigger.
+    IF "v_latest_table" IS NOT NULL THEN
+      EXECUTE FORMAT('DELETE FROM %I AS "L" USING %I AS "M" WHERE "L"."ID" = "M"."ID" '
+                       || 'AND "L"."LAST_OCCURRENCE" = "M"."LAST_OCCURRENCE"'
+        , "v_latest_table", "v_partition_name");
+    END IF;
+    EXECUTE FORMAT('INSERT INTO %I SELECT "M".* FROM %I AS "M" INNER JOIN "PROJECT" AS "P" ON "P"."ID" = "M"."PROJECT_ID" '
+                     || 'WHERE "P"."INACTIVE_SINCE" IS NOT NULL'
+      , "table_name", "v_partition_name");
+    EXECUTE FORMAT('DROP TABLE %I', "v_partition_name");
+
+    "v_dropped" := "v_dropped" + 1;
+  END LOOP;
+
+  RETURN "v_dropped";
+END;
+$$;
@@ -0,0 +1,123 @@
+-- Applies changes to a project's contribution to the portfolio metrics
+-- as deltas to the respective shard of PORTFOLIO_METRICS_ROLLUP.
+-- Rollup rows are sharded by project ID to reduce lock contention
+-- when metrics of multiple projects are updated concurrently.
+CREATE OR REPLACE FUNCTION "PORTFOLIO_METRICS_CONTRIBUTION_TRIGGER"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_new" "PORTFOLIO_METRICS_CONTRIBUTION"%ROWTYPE;
+  "v_old" "PORTFOLIO_METRICS_CONTRIBUTION"%ROWTYPE;
+  "v_project_id" BIGINT;
+  "v_projects_delta" INT;
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    "v_new" = NEW;
+    "v_project_id" = NEW."PROJECT_ID";
+    "v_projects_delta" = 1;
+  ELSIF TG_OP = 'UPDATE' THEN
+    "v_new" = NEW;
+    "v_old" = OLD;
+    "v_project_id" = NEW."PROJECT_ID";
+    "v_projects_delta" = 0;
+  ELSE
+    "v_old" = OLD;
+    "v_project_id" = OLD."PROJECT_ID";
+    "v_projects_delta" = -1;
+  END IF;
+
+  INSERT INTO "PORTFOLIO_METRICS_ROLLUP" AS "R" ("SHARD",
+                                                "PROJECTS",
+                                                "VULNERABLEPROJECTS",
+                                                "COMPONENTS",
+                                                "VULNERABLECOMPONENTS",
+                                                "VULNERABILITIES",
+                                                "CRITICAL",
+                                                "HIGH",
+                                                "MEDIUM",
+                                                "LOW",
+                                                "UNASSIGNED_SEVERITY",
+                                                "FINDINGS_TOTAL",
+                                                "FINDINGS_AUDITED",
+                                                "FINDINGS_UNAUDITED",
+                                                "SUPPRESSED",
+                                                "POLICYVIOLATIONS_TOTAL",
+                                                "POLICYVIOLATIONS_FAIL",
+                                                "POLICYVIOLATIONS_WARN",
+                                                "POLICYVIOLATIONS_INFO",
+                                                "POLICYVIOLATIONS_AUDITED",
+                                                "POLICYVIOLATIONS_UNAUDITED",
+                                                "POLICYVIOLATIONS_LICENSE_TOTAL",
+                                                "POLICYVIOLATIONS_LICENSE_AUDITED",
+                                                "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+                                                "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+                                                "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+                                                "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+                                                "POLICYVIOLATIONS_SECURITY_TOTAL",
+                                                "POLICYVIOLATIONS_SECURITY_AUDITED",
+                                                "POLICYVIOLATIONS_SECURITY_UNAUDITED")
+  VALUES ("v_project_id" % 16,
+          "v_projects_delta",
+          COALESCE("v_new"."VULNERABLEPROJECTS", 0) - COALESCE("v_old"."VULNERABLEPROJECTS", 0),
+          COALESCE("v_new"."COMPONENTS", 0) - COALESCE("v_old"."COMPONENTS", 0),
+          COALESCE("v_new"."VULNERABLECOMPONENTS", 0) - COALESCE("v_old"."VULNERABLECOMPONENTS", 0),
+          COALESCE("v_new"."VULNERABILITIES", 0) - COALESCE("v_old"."VULNERABILITIES", 0),
+          COALESCE("v_new"."CRITICAL", 0) - COALESCE("v_old"."CRITICAL", 0),
+          COALESCE("v_new"."HIGH", 0) - COALESCE("v_old"."HIGH", 0),
+          COALESCE("v_new"."MEDIUM", 0) - COALESCE("v_old"."MEDIUM", 0),
+          COALESCE("v_new"."LOW", 0) - COALESCE("v_old"."LOW", 0),
+          COALESCE("v_new"."UNASSIGNED_SEVERITY", 0) - COALESCE("v_old"."UNASSIGNED_SEVERITY", 0),
+          COALESCE("v_new"."FINDINGS_TOTAL", 0) - COALESCE("v_old"."FINDINGS_TOTAL", 0),
+          COALESCE("v_new"."FINDINGS_AUDITED", 0) - COALESCE("v_old"."FINDINGS_AUDITED", 0),
+          COALESCE("v_new"."FINDINGS_UNAUDITED", 0) - COALESCE("v_old"."FINDINGS_UNAUDITED", 0),
+          COALESCE("v_new"."SUPPRESSED", 0) - COALESCE("v_old"."SUPPRESSED", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_TOTAL", 0) - COALESCE("v_old"."POLICYVIOLATIONS_TOTAL", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_FAIL", 0) - COALESCE("v_old"."POLICYVIOLATIONS_FAIL", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_WARN", 0) - COALESCE("v_old"."POLICYVIOLATIONS_WARN", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_INFO", 0) - COALESCE("v_old"."POLICYVIOLATIONS_INFO", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_AUDITED", 0) - COALESCE("v_old"."POLICYVIOLATIONS_AUDITED", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_UNAUDITED", 0) - COALESCE("v_old"."POLICYVIOLATIONS_UNAUDITED", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_LICENSE_TOTAL", 0) - COALESCE("v_old"."POLICYVIOLATIONS_LICENSE_TOTAL", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_LICENSE_AUDITED", 0) - COALESCE("v_old"."POLICYVIOLATIONS_LICENSE_AUDITED", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_LICENSE_UNAUDITED", 0) - COALESCE("v_old"."POLICYVIOLATIONS_LICENSE_UNAUDITED", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_OPERATIONAL_TOTAL", 0) - COALESCE("v_old"."POLICYVIOLATIONS_OPERATIONAL_TOTAL", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_OPERATIONAL_AUDITED", 0) - COALESCE("v_old"."POLICYVIOLATIONS_OPERATIONAL_AUDITED", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED", 0) - COALESCE("v_old"."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_SECURITY_TOTAL", 0) - COALESCE("v_old"."POLICYVIOLATIONS_SECURITY_TOTAL", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_SECURITY_AUDITED", 0) - COALESCE("v_old"."POLICYVIOLATIONS_SECURITY_AUDITED", 0),
+          COALESCE("v_new"."POLICYVIOLATIONS_SECURITY_UNAUDITED", 0) - COALESCE("v_old"."POLICYVIOLATIONS_SECURITY_UNAUDITED", 0))
+  ON CONFLICT ("SHARD") DO UPDATE
+  SET "PROJECTS" = "R"."PROJECTS" + EXCLUDED."PROJECTS"
+    , "VULNERABLEPROJECTS" = "R"."VULNERABLEPROJECTS" + EXCLUDED."VULNERABLEPROJECTS"
+    , "COMPONENTS" = "R"."COMPONENTS" + EXCLUDED."COMPONENTS"
+    , "VULNERABLECOMPONENTS" = "R"."VULNERABLECOMPONENTS" + EXCLUDED."VULNERABLECOMPONENTS"
+    , "VULNERABILITIES" = "R"."VULNERABILITIES" + EXCLUDED."VULNERABILITIES"
+    , "CRITICAL" = "R"."CRITICAL" + EXCLUDED."CRITICAL"
+    , "HIGH" = "R"."HIGH" + EXCLUDED."HIGH"
+    , "MEDIUM" = "R"."MEDIUM" + EXCLUDED."MEDIUM"
+    , "LOW" = "R"."LOW" + EXCLUDED."LOW"
+    , "UNASSIGNED_SEVERITY" = "R"."UNASSIGNED_SEVERITY" + EXCLUDED."UNASSIGNED_SEVERITY"
+    , "FINDINGS_TOTAL" = "R"."FINDINGS_TOTAL" + EXCLUDED."FINDINGS_TOTAL"
+    , "FINDINGS_AUDITED" = "R"."FINDINGS_AUDITED" + EXCLUDED."FINDINGS_AUDITED"
+    , "FINDINGS_UNAUDITED" = "R"."FINDINGS_UNAUDITED" + EXCLUDED."FINDINGS_UNAUDITED"
+    , "SUPPRESSED" = "R"."SUPPRESSED" + EXCLUDED."SUPPRESSED"
+    , "POLICYVIOLATIONS_TOTAL" = "R"."POLICYVIOLATIONS_TOTAL" + EXCLUDED."POLICYVIOLATIONS_TOTAL"
+    , "POLICYVIOLATIONS_FAIL" = "R"."POLICYVIOLATIONS_FAIL" + EXCLUDED."POLICYVIOLATIONS_FAIL"
+    , "POLICYVIOLATIONS_WARN" = "R"."POLICYVIOLATIONS_WARN" + EXCLUDED."POLICYVIOLATIONS_WARN"
+    , "POLICYVIOLATIONS_INFO" = "R"."POLICYVIOLATIONS_INFO" + EXCLUDED."POLICYVIOLATIONS_INFO"
+    , "POLICYVIOLATIONS_AUDITED" = "R"."POLICYVIOLATIONS_AUDITED" + EXCLUDED."POLICYVIOLATIONS_AUDITED"
+    , "POLICYVIOLATIONS_UNAUDITED" = "R"."POLICYVIOLATIONS_UNAUDITED" + EXCLUDED."POLICYVIOLATIONS_UNAUDITED"
+    , "POLICYVIOLATIONS_LICENSE_TOTAL" = "R"."POLICYVIOLATIONS_LICENSE_TOTAL" + EXCLUDED."POLICYVIOLATIONS_LICENSE_TOTAL"
+    , "POLICYVIOLATIONS_LICENSE_AUDITED" = "R"."POLICYVIOLATIONS_LICENSE_AUDITED" + EXCLUDED."POLICYVIOLATIONS_LICENSE_AUDITED"
+    , "POLICYVIOLATIONS_LICENSE_UNAUDITED" = "R"."POLICYVIOLATIONS_LICENSE_UNAUDITED" + EXCLUDED."POLICYVIOLATIONS_LICENSE_UNAUDITED"
+    , "POLICYVIOLATIONS_OPERATIONAL_TOTAL" = "R"."POLICYVIOLATIONS_OPERATIONAL_TOTAL" + EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+    , "POLICYVIOLATIONS_OPERATIONAL_AUDITED" = "R"."POLICYVIOLATIONS_OPERATIONAL_AUDITED" + EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+    , "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED" = "R"."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED" + EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+    , "POLICYVIOLATIONS_SECURITY_TOTAL" = "R"."POLICYVIOLATIONS_SECURITY_TOTAL" + EXCLUDED."POLICYVIOLATIONS_SECURITY_TOTAL"
+    , "POLICYVIOLATIONS_SECURITY_AUDITED" = "R"."POLICYVIOLATIONS_SECURITY_AUDITED" + EXCLUDED."POLICYVIOLATIONS_SECURITY_AUDITED"
+    , "POLICYVIOLATIONS_SECURITY_UNAUDITED" = "R"."POLICYVIOLATIONS_SECURITY_UNAUDITED" + EXCLUDED."POLICYVIOLATIONS_SECURITY_UNAUDITED";
+
+  RETURN NULL;
+END;
+$$;
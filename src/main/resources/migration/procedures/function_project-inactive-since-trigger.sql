@@ -0,0 +1,81 @@
+-- Keeps PORTFOLIO_METRICS_CONTRIBUTION in sync with the activity status of projects.
+-- Inactive projects, and projects pending deletion, must not contribute to the portfolio metrics.
+CREATE OR REPLACE FUNCTION "PROJECT_INACTIVE_SINCE_TRIGGER"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_old_contributes" BOOLEAN := OLD."INACTIVE_SINCE" IS NULL AND OLD."DELETED_AT" IS NULL;
+  "v_new_contributes" BOOLEAN := NEW."INACTIVE_SINCE" IS NULL AND NEW."DELETED_AT" IS NULL;
+BEGIN
+  IF "v_old_contributes" AND NOT "v_new_contributes" THEN
+    DELETE
+      FROM "PORTFOLIO_METRICS_CONTRIBUTION"
+     WHERE "PROJECT_ID" = NEW."ID";
+  ELSIF NOT "v_old_contributes" AND "v_new_contributes" THEN
+    INSERT INTO "PORTFOLIO_METRICS_CONTRIBUTION" ("PROJECT_ID",
+                                                 "VULNERABLEPROJECTS",
+                                                 "COMPONENTS",
+                                                 "VULNERABLECOMPONENTS",
+                                                 "VULNERABILITIES",
+                                                 "CRITICAL",
+                                                 "HIGH",
+                                                 "MEDIUM",
+                                                 "LOW",
+                                                 "UNASSIGNED_SEVERITY",
+                                                 "FINDINGS_TOTAL",
+                                                 "FINDINGS_AUDITED",
+                                                 "FINDINGS_UNAUDITED",
+                                                 "SUPPRESSED",
+                                                 "POLICYVIOLATIONS_TOTAL",
+                                                 "POLICYVIOLATIONS_FAIL",
+                                                 "POLICYVIOLATIONS_WARN",
+                                                 "POLICYVIOLATIONS_INFO",
+                                                 "POLICYVIOLATIONS_AUDITED",
+                                                 "POLICYVIOLATIONS_UNAUDITED",
+                                                 "POLICYVIOLATIONS_LICENSE_TOTAL",
+                                                 "POLICYVIOLATIONS_LICENSE_AUDITED",
+                                                 "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+                                                 "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+                                                 "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+                                                 "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+                                                 "POLICYVIOLATIONS_SECURITY_TOTAL",
+                                                 "POLICYVIOLATIONS_SECURITY_AUDITED",
+                                                 "POLICYVIOLATIONS_SECURITY_UNAUDITED")
+    SELECT "PROJECT_ID",
+           CASE WHEN "VULNERABILITIES" > 0 THEN 1 ELSE 0 END,
+           COALESCE("COMPONENTS", 0),
+           COALESCE("VULNERABLECOMPONENTS", 0),
+           COALESCE("VULNERABILITIES", 0),
+           COALESCE("CRITICAL", 0),
+           COALESCE("HIGH", 0),
+           COALESCE("MEDIUM", 0),
+           COALESCE("LOW", 0),
+           COALESCE("UNASSIGNED_SEVERITY", 0),
+           COALESCE("FINDINGS_TOTAL", 0),
+           COALESCE("FINDINGS_AUDITED", 0),
+           COALESCE("FINDINGS_UNAUDITED", 0),
+           COALESCE("SUPPRESSED", 0),
+           COALESCE("POLICYVIOLATIONS_TOTAL", 0),
+           COALESCE("POLICYVIOLATIONS_FAIL", 0),
+           COALESCE("POLICYVIOLATIONS_WARN", 0),
+           COALESCE("POLICYVIOLATIONS_INFO", 0),
+           COALESCE("POLICYVIOLATIONS_AUDITED", 0),
+           COALESCE("POLICYVIOLATIONS_UNAUDITED", 0),
+           COALESCE("POLICYVIOLATIONS_LICENSE_TOTAL", 0),
+           COALESCE("POLICYVIOLATIONS_LICENSE_AUDITED", 0),
+           COALESCE("POLICYVIOLATIONS_LICENSE_UNAUDITED", 0),
+           COALESCE("POLICYVIOLATIONS_OPERATIONAL_TOTAL", 0),
+           COALESCE("POLICYVIOLATIONS_OPERATIONAL_AUDITED", 0),
+           COALESCE("POLICYVIOLATIONS_OPERATIONAL_UNAUDITED", 0),
+           COALESCE("POLICYVIOLATIONS_SECURITY_TOTAL", 0),
+           COALESCE("POLICYVIOLATIONS_SECURITY_AUDITED", 0),
+           COALESCE("POLICYVIOLATIONS_SECURITY_UNAUDITED", 0)
+      FROM "PROJECT_METRICS_LATEST"
+     WHERE "PROJECT_ID" = NEW."ID"
+    ON CONFLICT ("PROJECT_ID") DO NOTHING;
+  END IF;
+
+  RETURN NULL;
+END;
+$$;
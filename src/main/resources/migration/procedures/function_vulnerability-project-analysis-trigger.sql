@@ -0,0 +1,46 @@
+-- Applies changes to the suppression state of a finding to VULNERABILITY_PROJECT.
+-- Analyses without a corresponding finding do not contribute. Analyses that are deleted because
+-- their component is being deleted are skipped, since they are already accounted for
+-- by VULNERABILITY_PROJECT_COMPONENT_TRIGGER.
+CREATE OR REPLACE FUNCTION "VULNERABILITY_PROJECT_ANALYSIS_TRIGGER"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_component_id" BIGINT;
+  "v_vulnerability_id" BIGINT;
+  "v_suppressed_delta" INT = 0;
+BEGIN
+  IF TG_OP IN ('INSERT', 'UPDATE') THEN
+    "v_component_id" = NEW."COMPONENT_ID";
+    "v_vulnerability_id" = NEW."VULNERABILITY_ID";
+    IF NEW."SUPPRESSED" THEN
+      "v_suppressed_delta" = "v_suppressed_delta" + 1;
+    END IF;
+  END IF;
+  IF TG_OP IN ('UPDATE', 'DELETE') THEN
+    "v_component_id" = OLD."COMPONENT_ID";
+    "v_vulnerability_id" = OLD."VULNERABILITY_ID";
+    IF OLD."SUPPRESSED" THEN
+      "v_suppressed_delta" = "v_suppressed_delta" - 1;
+    END IF;
+  END IF;
+
+  IF "v_suppressed_delta" = 0 THEN
+    RETURN NULL;
+  END IF;
+
+  UPDATE "VULNERABILITY_PROJECT" AS "VP"
+     SET "SUPPRESSED" = "VP"."SUPPRESSED" + "v_suppressed_delta"
+    FROM "COMPONENT"
+   WHERE "COMPONENT"."ID" = "v_component_id"
+     AND "VP"."PROJECT_ID" = "COMPONENT"."PROJECT_ID"
+     AND "VP"."VULNERABILITY_ID" = "v_vulnerability_id"
+     AND EXISTS(SELECT 1
+                  FROM "COMPONENTS_VULNERABILITIES"
+                 WHERE "COMPONENT_ID" = "v_component_id"
+                   AND "VULNERABILITY_ID" = "v_vulnerability_id");
+
+  RETURN NULL;
+END;
+$$;
@@ -0,0 +1,30 @@
+-- Removes the findings of a component that is about to be deleted from VULNERABILITY_PROJECT.
+-- This must happen before the deletion, because the component's findings and analyses
+-- are removed via ON DELETE CASCADE, at which point its project can no longer be determined.
+CREATE OR REPLACE FUNCTION "VULNERABILITY_PROJECT_COMPONENT_TRIGGER"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+BEGIN
+  DELETE
+    FROM "VULNERABILITY_PROJECT"
+   WHERE "PROJECT_ID" = OLD."PROJECT_ID"
+     AND "COMPONENTS" <= 1
+     AND "VULNERABILITY_ID" IN (SELECT "VULNERABILITY_ID"
+                                  FROM "COMPONENTS_VULNERABILITIES"
+                                 WHERE "COMPONENT_ID" = OLD."ID");
+
+  UPDATE "VULNERABILITY_PROJECT" AS "VP"
+     SET "COMPONENTS" = "VP"."COMPONENTS" - 1
+       , "SUPPRESSED" = "VP"."SUPPRESSED" - CASE WHEN "ANALYSIS"."SUPPRESSED" THEN 1 ELSE 0 END
+    FROM "COMPONENTS_VULNERABILITIES" AS "CV"
+    LEFT JOIN "ANALYSIS"
+      ON "ANALYSIS"."COMPONENT_ID" = "CV"."COMPONENT_ID"
+     AND "ANALYSIS"."VULNERABILITY_ID" = "CV"."VULNERABILITY_ID"
+   WHERE "CV"."COMPONENT_ID" = OLD."ID"
+     AND "VP"."VULNERABILITY_ID" = "CV"."VULNERABILITY_ID"
+     AND "VP"."PROJECT_ID" = OLD."PROJECT_ID";
+
+  RETURN OLD;
+END;
+$$;
@@ -0,0 +1,59 @@
+-- Applies the creation or deletion of a finding to VULNERABILITY_PROJECT.
+-- Findings that are deleted because their component is being deleted are skipped,
+-- since they are already accounted for by VULNERABILITY_PROJECT_COMPONENT_TRIGGER.
+CREATE OR REPLACE FUNCTION "VULNERABILITY_PROJECT_FINDING_TRIGGER"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_component_id" BIGINT;
+  "v_vulnerability_id" BIGINT;
+  "v_project_id" BIGINT;
+  "v_suppressed" INT;
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    "v_component_id" = NEW."COMPONENT_ID";
+    "v_vulnerability_id" = NEW."VULNERABILITY_ID";
+  ELSE
+    "v_component_id" = OLD."COMPONENT_ID";
+    "v_vulnerability_id" = OLD."VULNERABILITY_ID";
+  END IF;
+
+  SELECT "PROJECT_ID"
+    FROM "COMPONENT"
+   WHERE "ID" = "v_component_id"
+    INTO "v_project_id";
+  IF "v_project_id" IS NULL THEN
+    RETURN NULL;
+  END IF;
+
+  SELECT CASE WHEN EXISTS(SELECT 1
+                            FROM "ANALYSIS"
+                           WHERE "COMPONENT_ID" = "v_component_id"
+                             AND "VULNERABILITY_ID" = "v_vulnerability_id"
+                             AND "SUPPRESSED") THEN 1 ELSE 0 END
+    INTO "v_suppressed";
+
+  IF TG_OP = 'INSERT' THEN
+    INSERT INTO "VULNERABILITY_PROJECT" AS "VP" ("VULNERABILITY_ID", "PROJECT_ID", "COMPONENTS", "SUPPRESSED")
+    VALUES ("v_vulnerability_id", "v_project_id", 1, "v_suppressed")
+    ON CONFLICT ("VULNERABILITY_ID", "PROJECT_ID") DO UPDATE
+    SET "COMPONENTS" = "VP"."COMPONENTS" + 1
+      , "SUPPRESSED" = "VP"."SUPPRESSED" + EXCLUDED."SUPPRESSED";
+  ELSE
+    DELETE
+      FROM "VULNERABILITY_PROJECT"
+     WHERE "VULNERABILITY_ID" = "v_vulnerability_id"
+       AND "PROJECT_ID" = "v_project_id"
+       AND "COMPONENTS" <= 1;
+
+    UPDATE "VULNERABILITY_PROJECT"
+       SET "COMPONENTS" = "COMPONENTS" - 1
+         , "SUPPRESSED" = "SUPPRESSED" - "v_suppressed"
+     WHERE "VULNERABILITY_ID" = "v_vulnerability_id"
+       AND "PROJECT_ID" = "v_project_id";
+  END IF;
+
+  RETURN NULL;
+END;
+$$;
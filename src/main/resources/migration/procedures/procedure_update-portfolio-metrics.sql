@@ -35,11 +35,13 @@ DECLARE
   "v_policy_violations_security_unaudited"    INT; -- Number of unaudited policy violations of type security
   "v_existing_id"                             BIGINT; -- ID of the existing row that matches the data point calculated in this procedure
 BEGIN
-  -- Aggregate over all most recent DEPENDENCYMETRICS.
-  -- NOTE: SUM returns NULL when no rows match the query, but COUNT returns 0.
-  -- For nullable result columns, use COALESCE(..., 0) to have a default value.
-  SELECT COUNT(*)::INT,
-    COALESCE(SUM(CASE WHEN "VULNERABILITIES" > 0 THEN 1 ELSE 0 END)::INT, 0),
+  -- Aggregate over the shards of the portfolio metrics rollup.
+  -- The rollup is maintained incrementally whenever project metrics change,
+  -- so this doesn't need to touch the metrics history of any project.
+  -- NOTE: SUM returns NULL when no rows match the query.
+  -- Use COALESCE(..., 0) to have a default value.
+  SELECT COALESCE(SUM("PROJECTS")::INT, 0),
+    COALESCE(SUM("VULNERABLEPROJECTS")::INT, 0),
     COALESCE(SUM("COMPONENTS")::INT, 0),
     COALESCE(SUM("VULNERABLECOMPONENTS")::INT, 0),
     COALESCE(SUM("VULNERABILITIES")::INT, 0),
@@ -67,11 +69,7 @@ BEGIN
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_TOTAL")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_AUDITED")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_UNAUDITED")::INT, 0)
-  FROM (SELECT DISTINCT ON ("PM"."PROJECT_ID") *
-        FROM "PROJECTMETRICS" AS "PM"
-               INNER JOIN "PROJECT" AS "P" ON "P"."ID" = "PM"."PROJECT_ID"
-        WHERE "P"."INACTIVE_SINCE" IS NULL  -- Only consider active projects
-        ORDER BY "PM"."PROJECT_ID", "PM"."LAST_OCCURRENCE" DESC) AS "LATEST_PROJECT_METRICS"
+  FROM "PORTFOLIO_METRICS_ROLLUP"
   INTO
     "v_projects",
     "v_vulnerable_projects",
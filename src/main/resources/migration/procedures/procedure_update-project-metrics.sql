@@ -36,6 +36,7 @@ DECLARE
   "v_policy_violations_security_audited"      INT; -- Number of audited policy violations of type security
   "v_policy_violations_security_unaudited"    INT; -- Number of unaudited policy violations of type security
   "v_existing_id"                             BIGINT; -- ID of the existing row that matches the data point calculated in this procedure
+  "v_existing_last_occurrence"                TIMESTAMPTZ; -- LAST_OCCURRENCE of the existing row, used to locate its partition
 BEGIN
   SELECT "ID" FROM "PROJECT" WHERE "UUID" = "project_uuid" INTO "v_project_id";
   IF "v_project_id" IS NULL THEN
@@ -47,7 +48,7 @@ BEGIN
     CALL "UPDATE_COMPONENT_METRICS"("v_component_uuid");
   END LOOP;
 
-  -- Aggregate over all most recent DEPENDENCYMETRICS.
+  -- Aggregate over the most recent metrics of all components, as maintained in COMPONENT_METRICS_LATEST.
   -- NOTE: SUM returns NULL when no rows match the query, but COUNT returns 0.
   -- For nullable result columns, use COALESCE(..., 0) to have a default value.
   SELECT COUNT(*)::INT,
@@ -77,10 +78,8 @@ BEGIN
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_TOTAL")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_AUDITED")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_UNAUDITED")::INT, 0)
-  FROM (SELECT DISTINCT ON ("DM"."COMPONENT_ID") *
-        FROM "DEPENDENCYMETRICS" AS "DM"
-        WHERE "PROJECT_ID" = "v_project_id"
-        ORDER BY "DM"."COMPONENT_ID", "DM"."LAST_OCCURRENCE" DESC) AS "LATEST_COMPONENT_METRICS"
+  FROM "COMPONENT_METRICS_LATEST"
+  WHERE "PROJECT_ID" = "v_project_id"
   INTO
     "v_components",
     "v_vulnerable_components",
@@ -112,15 +111,10 @@ BEGIN
 
   "v_risk_score" = "CALC_RISK_SCORE"("v_critical", "v_high", "v_medium", "v_low", "v_unassigned");
 
-  WITH "CTE_LATEST_METRICS" AS (
-    SELECT *
-      FROM "PROJECTMETRICS"
-     WHERE "PROJECT_ID" = "v_project_id"
-     ORDER BY "LAST_OCCURRENCE" DESC
-     LIMIT 1)
-  SELECT "ID"
-  FROM "CTE_LATEST_METRICS"
-  WHERE "COMPONENTS" = "v_components"
+  SELECT "ID", "LAST_OCCURRENCE"
+  FROM "PROJECT_METRICS_LATEST"
+  WHERE "PROJECT_ID" = "v_project_id"
+    AND "COMPONENTS" = "v_components"
     AND "VULNERABLECOMPONENTS" = "v_vulnerable_components"
     AND "VULNERABILITIES" = "v_vulnerabilities"
     AND "CRITICAL" = "v_critical"
@@ -149,11 +143,22 @@ BEGIN
     AND "POLICYVIOLATIONS_SECURITY_AUDITED" = "v_policy_violations_security_audited"
     AND "POLICYVIOLATIONS_SECURITY_UNAUDITED" = "v_policy_violations_security_unaudited"
   LIMIT 1
-  INTO "v_existing_id";
+  INTO "v_existing_id", "v_existing_last_occurrence";
 
   IF "v_existing_id" IS NOT NULL THEN
-    UPDATE "PROJECTMETRICS" SET "LAST_OCCURRENCE" = NOW() WHERE "ID" = "v_existing_id";
-  ELSE
+    UPDATE "PROJECTMETRICS"
+       SET "LAST_OCCURRENCE" = NOW()
+     WHERE "ID" = "v_existing_id"
+       AND "LAST_OCCURRENCE" = "v_existing_last_occurrence";
+
+    -- The data point may have been modified or removed in the meantime,
+    -- e.g. by retention enforcement. Record a new data point in that case.
+    IF NOT FOUND THEN
+      "v_existing_id" := NULL;
+    END IF;
+  END IF;
+
+  IF "v_existing_id" IS NULL THEN
     INSERT INTO "PROJECTMETRICS" ("PROJECT_ID",
                                   "COMPONENTS",
                                   "VULNERABLECOMPONENTS",
@@ -219,5 +224,98 @@ BEGIN
 
     UPDATE "PROJECT" SET "LAST_RISKSCORE" = "v_risk_score" WHERE "ID" = "v_project_id";
   END IF;
+
+  -- Maintain the project's contribution to the portfolio metrics, but only for active projects.
+  -- Changes are propagated to PORTFOLIO_METRICS_ROLLUP via trigger, which is why no-op updates are avoided.
+  IF EXISTS(SELECT 1 FROM "PROJECT" WHERE "ID" = "v_project_id" AND "INACTIVE_SINCE" IS NULL AND "DELETED_AT" IS NULL) THEN
+    INSERT INTO "PORTFOLIO_METRICS_CONTRIBUTION" AS "C" ("PROJECT_ID",
+                                                         "VULNERABLEPROJECTS",
+                                                         "COMPONENTS",
+                                                         "VULNERABLECOMPONENTS",
+                                                         "VULNERABILITIES",
+                                                         "CRITICAL",
+                                                         "HIGH",
+                                                         "MEDIUM",
+                                                         "LOW",
+                                                         "UNASSIGNED_SEVERITY",
+                                                         "FINDINGS_TOTAL",
+                                                         "FINDINGS_AUDITED",
+                                                         "FINDINGS_UNAUDITED",
+                                                         "SUPPRESSED",
+                                                         "POLICYVIOLATIONS_TOTAL",
+                                                         "POLICYVIOLATIONS_FAIL",
+                                                         "POLICYVIOLATIONS_WARN",
+                                                         "POLICYVIOLATIONS_INFO",
+                                                         "POLICYVIOLATIONS_AUDITED",
+                                                         "POLICYVIOLATIONS_UNAUDITED",
+                                                         "POLICYVIOLATIONS_LICENSE_TOTAL",
+                                                         "POLICYVIOLATIONS_LICENSE_AUDITED",
+                                                         "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+                                                         "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+                                                         "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+                                                         "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+                                                         "POLICYVIOLATIONS_SECURITY_TOTAL",
+                                                         "POLICYVIOLATIONS_SECURITY_AUDITED",
+                                                         "POLICYVIOLATIONS_SECURITY_UNAUDITED")
+    VALUES ("v_project_id",
+            CASE WHEN "v_vulnerabilities" > 0 THEN 1 ELSE 0 END,
+            "v_components",
+            "v_vulnerable_components",
+            "v_vulnerabilities",
+            "v_critical",
+            "v_high",
+            "v_medium",
+            "v_low",
+            "v_unassigned",
+            "v_findings_total",
+            "v_findings_audited",
+            "v_findings_unaudited",
+            "v_findings_suppressed",
+            "v_policy_violations_total",
+            "v_policy_violations_fail",
+            "v_policy_violations_warn",
+            "v_policy_violations_info",
+            "v_policy_violations_audited",
+            "v_policy_violations_unaudited",
+            "v_policy_violations_license_total",
+            "v_policy_violations_license_audited",
+            "v_policy_violations_license_unaudited",
+            "v_policy_violations_operational_total",
+            "v_policy_violations_operational_audited",
+            "v_policy_violations_operational_unaudited",
+            "v_policy_violations_security_total",
+            "v_policy_violations_security_audited",
+            "v_policy_violations_security_unaudited")
+    ON CONFLICT ("PROJECT_ID") DO UPDATE
+    SET "VULNERABLEPROJECTS" = EXCLUDED."VULNERABLEPROJECTS"
+      , "COMPONENTS" = EXCLUDED."COMPONENTS"
+      , "VULNERABLECOMPONENTS" = EXCLUDED."VULNERABLECOMPONENTS"
+      , "VULNERABILITIES" = EXCLUDED."VULNERABILITIES"
+      , "CRITICAL" = EXCLUDED."CRITICAL"
+      , "HIGH" = EXCLUDED."HIGH"
+      , "MEDIUM" = EXCLUDED."MEDIUM"
+      , "LOW" = EXCLUDED."LOW"
+      , "UNASSIGNED_SEVERITY" = EXCLUDED."UNASSIGNED_SEVERITY"
+      , "FINDINGS_TOTAL" = EXCLUDED."FINDINGS_TOTAL"
+      , "FINDINGS_AUDITED" = EXCLUDED."FINDINGS_AUDITED"
+      , "FINDINGS_UNAUDITED" = EXCLUDED."FINDINGS_UNAUDITED"
+      , "SUPPRESSED" = EXCLUDED."SUPPRESSED"
+      , "POLICYVIOLATIONS_TOTAL" = EXCLUDED."POLICYVIOLATIONS_TOTAL"
+      , "POLICYVIOLATIONS_FAIL" = EXCLUDED."POLICYVIOLATIONS_FAIL"
+      , "POLICYVIOLATIONS_WARN" = EXCLUDED."POLICYVIOLATIONS_WARN"
+      , "POLICYVIOLATIONS_INFO" = EXCLUDED."POLICYVIOLATIONS_INFO"
+      , "POLICYVIOLATIONS_AUDITED" = EXCLUDED."POLICYVIOLATIONS_AUDITED"
+      , "POLICYVIOLATIONS_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_UNAUDITED"
+      , "POLICYVIOLATIONS_LICENSE_TOTAL" = EXCLUDED."POLICYVIOLATIONS_LICENSE_TOTAL"
+      , "POLICYVIOLATIONS_LICENSE_AUDITED" = EXCLUDED."POLICYVIOLATIONS_LICENSE_AUDITED"
+      , "POLICYVIOLATIONS_LICENSE_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_LICENSE_UNAUDITED"
+      , "POLICYVIOLATIONS_OPERATIONAL_TOTAL" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+      , "POLICYVIOLATIONS_OPERATIONAL_AUDITED" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+      , "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+      , "POLICYVIOLATIONS_SECURITY_TOTAL" = EXCLUDED."POLICYVIOLATIONS_SECURITY_TOTAL"
+      , "POLICYVIOLATIONS_SECURITY_AUDITED" = EXCLUDED."POLICYVIOLATIONS_SECURITY_AUDITED"
+      , "POLICYVIOLATIONS_SECURITY_UNAUDITED" = EXCLUDED."POLICYVIOLATIONS_SECURITY_UNAUDITED"
+    WHERE ("C".*) IS DISTINCT FROM (EXCLUDED.*);
+  END IF;
 end;
-$$;
\ No newline at end of file
+$$;
@@ -23,7 +23,9 @@ import alpine.server.persistence.PersistenceManagerFactory;
 import org.apache.kafka.clients.producer.MockProducer;
 import org.datanucleus.PropertyNames;
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
+import org.dependencytrack.auth.PrincipalContextCache;
 import org.dependencytrack.event.kafka.KafkaProducerInitializer;
+import org.dependencytrack.persistence.AffectedProjectsCache;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.plugin.PluginManagerTestUtil;
 import org.junit.After;
@@ -55,6 +57,8 @@ public abstract class PersistenceCapableTest {
     public void before() throws Exception {
         truncateTables(postgresContainer);
         configurePmf(postgresContainer);
+        PrincipalContextCache.getInstance().invalidateAll();
+        AffectedProjectsCache.getInstance().invalidateAll();
 
         qm = new QueryManager();
 
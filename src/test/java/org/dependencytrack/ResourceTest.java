@@ -25,8 +25,10 @@ import alpine.server.auth.PasswordService;
 import alpine.server.persistence.PersistenceManagerFactory;
 import org.apache.kafka.clients.producer.MockProducer;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalContextCache;
 import org.dependencytrack.event.kafka.KafkaProducerInitializer;
 import org.dependencytrack.model.ConfigPropertyConstants;
+import org.dependencytrack.persistence.AffectedProjectsCache;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.plugin.PluginManagerTestUtil;
 import org.junit.After;
@@ -116,6 +118,8 @@ public abstract class ResourceTest {
     public void before() throws Exception {
         truncateTables(postgresContainer);
         configurePmf(postgresContainer);
+        PrincipalContextCache.getInstance().invalidateAll();
+        AffectedProjectsCache.getInstance().invalidateAll();
 
         // Add a test user and team with API key. Optional if this is used, but its available to all tests.
         this.qm = new QueryManager();
@@ -156,6 +160,7 @@ public abstract class ResourceTest {
         }
         team.setPermissions(permissionList);
         qm.persist(team);
+        PrincipalContextCache.getInstance().invalidateAll();
     }
 
     protected void enablePortfolioAccessControl() {
@@ -0,0 +1,121 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.auth;
+
+import alpine.model.ApiKey;
+import alpine.model.ManagedUser;
+import org.dependencytrack.auth.PrincipalContextCache.PrincipalContext;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrincipalContextCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final PrincipalContextCache cache = new PrincipalContextCache(Duration.ofSeconds(10), nanoTime::get);
+
+    @Test
+    public void testGetCachesContext() {
+        final var apiKey = new ApiKey();
+        apiKey.setId(1);
+
+        final var loadCount = new AtomicInteger();
+        final PrincipalContext context = cache.get(apiKey, () -> {
+            loadCount.incrementAndGet();
+            return new PrincipalContext(Set.of(1L, 2L), false);
+        });
+        assertThat(context.teamIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(context.hasAccessManagementPermission()).isFalse();
+
+        assertThat(cache.get(apiKey, () -> {
+            loadCount.incrementAndGet();
+            return new PrincipalContext(Set.of(), true);
+        })).isEqualTo(context);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    public void testGetAfterExpiry() {
+        final var apiKey = new ApiKey();
+        apiKey.setId(1);
+
+        cache.get(apiKey, () -> new PrincipalContext(Set.of(1L), false));
+
+        nanoTime.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertThat(cache.get(apiKey, () -> new PrincipalContext(Set.of(2L), true)).teamIds()).containsOnly(2L);
+    }
+
+    @Test
+    public void testGetDistinguishesPrincipalTypes() {
+        final var apiKey = new ApiKey();
+        apiKey.setId(1);
+        final var user = new ManagedUser();
+        user.setId(1);
+
+        cache.get(apiKey, () -> new PrincipalContext(Set.of(1L), false));
+        assertThat(cache.get(user, () -> new PrincipalContext(Set.of(2L), true)).teamIds()).containsOnly(2L);
+    }
+
+    @Test
+    public void testInvalidate() {
+        final var apiKey = new ApiKey();
+        apiKey.setId(1);
+        final var otherApiKey = new ApiKey();
+        otherApiKey.setId(2);
+
+        cache.get(apiKey, () -> new PrincipalContext(Set.of(1L), false));
+        cache.get(otherApiKey, () -> new PrincipalContext(Set.of(1L), false));
+
+        cache.invalidate(apiKey);
+        assertThat(cache.get(apiKey, () -> new PrincipalContext(Set.of(2L), false)).teamIds()).containsOnly(2L);
+        assertThat(cache.get(otherApiKey, () -> new PrincipalContext(Set.of(2L), false)).teamIds()).containsOnly(1L);
+
+        cache.invalidateAll();
+        assertThat(cache.get(otherApiKey, () -> new PrincipalContext(Set.of(2L), false)).teamIds()).containsOnly(2L);
+    }
+
+    @Test
+    public void testGetDoesNotCacheContextLoadedDuringInvalidation() {
+        final var apiKey = new ApiKey();
+        apiKey.setId(1);
+
+        cache.get(apiKey, () -> {
+            cache.invalidateAll();
+            return new PrincipalContext(Set.of(1L), false);
+        });
+        assertThat(cache.get(apiKey, () -> new PrincipalContext(Set.of(2L), false)).teamIds()).containsOnly(2L);
+    }
+
+    @Test
+    public void testGetWithZeroTtl() {
+        final var uncachedCache = new PrincipalContextCache(Duration.ZERO, nanoTime::get);
+
+        final var apiKey = new ApiKey();
+        apiKey.setId(1);
+
+        uncachedCache.get(apiKey, () -> new PrincipalContext(Set.of(1L), false));
+        assertThat(uncachedCache.get(apiKey, () -> new PrincipalContext(Set.of(2L), false)).teamIds()).containsOnly(2L);
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import alpine.common.metrics.Metrics;
+import alpine.event.framework.ChainableEvent;
+import alpine.event.framework.Event;
+import alpine.event.framework.IEventService;
+import alpine.event.framework.Subscriber;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+public class EventLanesTest {
+
+    private static final Queue<Event> EVENTS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Event> CHAINED_EVENTS = new ConcurrentLinkedQueue<>();
+    private static volatile CountDownLatch releaseLatch = new CountDownLatch(0);
+
+    public static class TestSubscriber implements Subscriber {
+
+        @Override
+        public void inform(final Event event) {
+            EVENTS.add(event);
+
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    public static class FailingSubscriber implements Subscriber {
+
+        @Override
+        public void inform(final Event event) {
+            throw new IllegalStateException("Boom");
+        }
+
+    }
+
+    public static class TestEventService implements IEventService {
+
+        private static final TestEventService INSTANCE = new TestEventService();
+
+        public static TestEventService getInstance() {
+            return INSTANCE;
+        }
+
+        @Override
+        public void publish(final Event event) {
+            CHAINED_EVENTS.add(event);
+        }
+
+        @Override
+        public void subscribe(final Class<? extends Event> eventType, final Class<? extends Subscriber> subscriberType) {
+        }
+
+        @Override
+        public void unsubscribe(final Class<? extends Subscriber> subscriberType) {
+        }
+
+        @Override
+        public boolean hasSubscriptions(final Event event) {
+            return false;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public boolean shutdown(final Duration timeout) {
+            return true;
+        }
+
+        @Override
+        public boolean isEventBeingProcessed(final ChainableEvent event) {
+            return false;
+        }
+
+        @Override
+        public boolean isEventBeingProcessed(final UUID chainIdentifier) {
+            return false;
+        }
+
+    }
+
+    private final EventLanes eventLanes = new EventLanes(1, 1);
+
+    @After
+    public void after() {
+        releaseLatch.countDown();
+        eventLanes.shutdown(Duration.ofSeconds(5));
+        EVENTS.clear();
+        CHAINED_EVENTS.clear();
+    }
+
+    @Test
+    public void testSubmit() {
+        eventLanes.route(PortfolioMetricsUpdateEvent.class, TestSubscriber.class, EventLane.BULK);
+
+        assertThat(eventLanes.submit(new PortfolioMetricsUpdateEvent())).isTrue();
+        await("Event Execution")
+                .atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThat(EVENTS).hasSize(1));
+
+        assertThat(Metrics.getRegistry().find("event_lane_run_time")
+                .tag("lane", "bulk")
+                .tag("event", "PortfolioMetricsUpdateEvent")
+                .timer()).isNotNull();
+    }
+
+    @Test
+    public void testSubmitWithoutRoute() {
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> eventLanes.submit(new PortfolioMetricsUpdateEvent()));
+    }
+
+    @Test
+    public void testSubmitDoesNotWaitForCompletion() {
+        releaseLatch = new CountDownLatch(1);
+        eventLanes.route(ProjectMetricsUpdateEvent.class, TestSubscriber.class, EventLane.BULK);
+
+        final var event = new ProjectMetricsUpdateEvent(UUID.randomUUID());
+        assertThat(eventLanes.submit(event)).isTrue();
+        await("Event Execution")
+                .atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThat(EVENTS).hasSize(1));
+        assertThat(eventLanes.isEventBeingProcessed(event.getChainIdentifier())).isTrue();
+
+        releaseLatch.countDown();
+        await("Event Completion")
+                .atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThat(eventLanes.isEventBeingProcessed(event.getChainIdentifier())).isFalse());
+    }
+
+    @Test
+    public void testSubmitWithChainedEvents() {
+        releaseLatch = new CountDownLatch(1);
+        eventLanes.route(ProjectMetricsUpdateEvent.class, TestSubscriber.class, EventLane.BULK);
+
+        final var chainedEvent = new PortfolioMetricsUpdateEvent();
+        final var event = new ProjectMetricsUpdateEvent(UUID.randomUUID());
+        event.onSuccess(chainedEvent, TestEventService.class);
+        event.onFailure(new VulnerabilityMetricsUpdateEvent(), TestEventService.class);
+        assertThat(eventLanes.submit(event)).isTrue();
+
+        // The chain must be taken over by the lane, such that the EventService does not dispatch it prematurely.
+        assertThat(event.onSuccess()).isEmpty();
+        assertThat(event.onFailure()).isEmpty();
+
+        await("Event Execution")
+                .atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThat(EVENTS).hasSize(1));
+        assertThat(CHAINED_EVENTS).isEmpty();
+
+        releaseLatch.countDown();
+        await("Chained Event Dispatch")
+                .atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThat(CHAINED_EVENTS).containsExactly(chainedEvent));
+    }
+
+    @Test
+    public void testSubmitWithFailingSubscriber() {
+        eventLanes.route(ProjectMetricsUpdateEvent.class, FailingSubscriber.class, EventLane.BULK);
+
+        final var chainedEvent = new VulnerabilityMetricsUpdateEvent();
+        final var event = new ProjectMetricsUpdateEvent(UUID.randomUUID());
+        event.onSuccess(new PortfolioMetricsUpdateEvent(), TestEventService.class);
+        event.onFailure(chainedEvent, TestEventService.class);
+        assertThat(eventLanes.submit(event)).isTrue();
+
+        await("Chained Event Dispatch")
+                .atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThat(CHAINED_EVENTS).containsExactly(chainedEvent));
+        assertThat(eventLanes.isEventBeingProcessed(event.getChainIdentifier())).isFalse();
+    }
+
+    @Test
+    public void testSubmitWhenLaneAtCapacity() {
+        releaseLatch = new CountDownLatch(1);
+        eventLanes.route(ProjectMetricsUpdateEvent.class, TestSubscriber.class, EventLane.BULK);
+
+        // Occupy the only worker of the lane.
+        assertThat(eventLanes.submit(new ProjectMetricsUpdateEvent(UUID.randomUUID()))).isTrue();
+        await("Event Execution")
+                .atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThat(EVENTS).hasSize(1));
+
+        // Fill the queue of the lane.
+        assertThat(eventLanes.submit(new ProjectMetricsUpdateEvent(UUID.randomUUID()))).isTrue();
+
+        // Exceeding the capacity must reject the event instead of blocking the caller.
+        final var chainedEvent = new VulnerabilityMetricsUpdateEvent();
+        final var rejectedEvent = new ProjectMetricsUpdateEvent(UUID.randomUUID());
+        rejectedEvent.onFailure(chainedEvent, TestEventService.class);
+        assertThat(eventLanes.submit(rejectedEvent)).isFalse();
+        assertThat(CHAINED_EVENTS).containsExactly(chainedEvent);
+        assertThat(eventLanes.isEventBeingProcessed(rejectedEvent.getChainIdentifier())).isFalse();
+        assertThat(Metrics.getRegistry().find("event_lane_rejected")
+                .tag("lane", "bulk")
+                .tag("event", "ProjectMetricsUpdateEvent")
+                .counter().count()).isEqualTo(1);
+
+        releaseLatch.countDown();
+        await("Queued Event Execution")
+                .atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThat(EVENTS).hasSize(2));
+    }
+
+    @Test
+    public void testSubmitSingletonWhileBeingProcessed() {
+        releaseLatch = new CountDownLatch(1);
+        eventLanes.route(PortfolioMetricsUpdateEvent.class, TestSubscriber.class, EventLane.BULK);
+
+        assertThat(eventLanes.submit(new PortfolioMetricsUpdateEvent())).isTrue();
+        assertThat(eventLanes.submit(new PortfolioMetricsUpdateEvent())).isFalse();
+
+        releaseLatch.countDown();
+        await("Event Completion")
+                .atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThat(eventLanes.isEventBeingProcessed(PortfolioMetricsUpdateEvent.CHAIN_IDENTIFIER)).isFalse());
+        assertThat(EVENTS).hasSize(1);
+    }
+
+    @Test
+    public void testRouteConflict() {
+        eventLanes.route(PortfolioMetricsUpdateEvent.class, TestSubscriber.class, EventLane.BULK);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> eventLanes.route(PortfolioMetricsUpdateEvent.class, TestSubscriber.class, EventLane.INTERACTIVE));
+    }
+
+}
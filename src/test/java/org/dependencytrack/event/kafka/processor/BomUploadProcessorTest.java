@@ -0,0 +1,119 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor;
+
+import org.dependencytrack.model.ConfigPropertyConstants;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.WorkflowStatus;
+import org.dependencytrack.model.WorkflowStep;
+import org.dependencytrack.persistence.DefaultObjectGenerator;
+import org.dependencytrack.plugin.PluginManager;
+import org.dependencytrack.proto.bomupload.v1.ProcessBomCommand;
+import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
+import org.dependencytrack.storage.FileStorage;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.EnvironmentVariables;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import static org.apache.commons.io.IOUtils.resourceToURL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class BomUploadProcessorTest extends AbstractProcessorTest {
+
+    @Rule
+    public final EnvironmentVariables environmentVariables = new EnvironmentVariables()
+            .set("FILE_STORAGE_EXTENSION_MEMORY_ENABLED", "true")
+            .set("FILE_STORAGE_DEFAULT_EXTENSION", "memory");
+
+    @Before
+    @Override
+    public void before() throws Exception {
+        super.before();
+
+        qm.createConfigProperty(ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX.getGroupName(),
+                ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX.getPropertyName(), "true",
+                ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX.getPropertyType(),
+                ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX.getDescription());
+    }
+
+    @Test
+    public void testProcess() throws Exception {
+        DefaultObjectGenerator.loadDefaultLicenses();
+
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+
+        final var token = UUID.randomUUID();
+        qm.createWorkflowSteps(token);
+
+        final var command = ProcessBomCommand.newBuilder()
+                .setProjectUuid(project.getUuid().toString())
+                .setToken(token.toString())
+                .setFileMetadata(storeBomFile("bom-1.xml"))
+                .build();
+
+        final var processor = new BomUploadProcessor();
+        processor.process(aConsumerRecord(command.getProjectUuid(), command).build());
+
+        qm.getPersistenceManager().refreshAll();
+        assertThat(qm.getAllComponents(project)).isNotEmpty();
+        assertThat(qm.getWorkflowStateByTokenAndStep(token, WorkflowStep.BOM_PROCESSING).getStatus())
+                .isEqualTo(WorkflowStatus.COMPLETED);
+        assertBomFileDeleted(command.getFileMetadata());
+    }
+
+    @Test
+    public void testProcessWithNonExistentProject() throws Exception {
+        final var command = ProcessBomCommand.newBuilder()
+                .setProjectUuid(UUID.randomUUID().toString())
+                .setToken(UUID.randomUUID().toString())
+                .setFileMetadata(storeBomFile("bom-1.xml"))
+                .build();
+
+        final var processor = new BomUploadProcessor();
+        processor.process(aConsumerRecord(command.getProjectUuid(), command).build());
+
+        assertBomFileDeleted(command.getFileMetadata());
+    }
+
+    private static FileMetadata storeBomFile(final String testFileName) throws Exception {
+        final Path bomFilePath = Paths.get(resourceToURL("/unit/" + testFileName).toURI());
+        final byte[] bomBytes = Files.readAllBytes(bomFilePath);
+
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            return fileStorage.store(
+                    "test/%s-%s".formatted(BomUploadProcessorTest.class.getSimpleName(), UUID.randomUUID()), bomBytes);
+        }
+    }
+
+    private static void assertBomFileDeleted(final FileMetadata fileMetadata) {
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            assertThatExceptionOfType(NoSuchFileException.class)
+                    .isThrownBy(() -> fileStorage.get(fileMetadata));
+        }
+    }
+
+}
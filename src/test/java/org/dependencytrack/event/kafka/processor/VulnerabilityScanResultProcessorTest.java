@@ -75,11 +75,14 @@ import java.sql.Date;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.cyclonedx.proto.v1_6.ScoreMethod.SCORE_METHOD_CVSSV2;
 import static org.cyclonedx.proto.v1_6.ScoreMethod.SCORE_METHOD_CVSSV3;
 import static org.cyclonedx.proto.v1_6.ScoreMethod.SCORE_METHOD_OWASP;
@@ -356,6 +359,98 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
         );
     }
 
+    @Test
+    public void processScanResultsWithFailingRecordTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.1.0");
+        componentA.setProject(project);
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("2.2.0");
+        componentB.setProject(project);
+        qm.persist(componentB);
+
+        final var componentC = new Component();
+        componentC.setName("acme-lib-c");
+        componentC.setVersion("3.3.0");
+        componentC.setProject(project);
+        qm.persist(componentC);
+
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("INT-001");
+        vuln.setSource(Vulnerability.Source.INTERNAL);
+        qm.persist(vuln);
+
+        // Fail processing of the result for componentB only.
+        final var processor = new VulnerabilityScanResultProcessor((vulns, component, policyProject) -> {
+            if (componentB.getUuid().toString().equals(component.getUuid())) {
+                throw new IllegalStateException("Boom");
+            }
+
+            return Collections.emptyMap();
+        });
+
+        final var scanToken = UUID.randomUUID().toString();
+        final var records = Stream.of(componentA, componentB, componentC)
+                .map(component -> {
+                    final var scanKey = ScanKey.newBuilder()
+                            .setScanToken(scanToken)
+                            .setComponentUuid(component.getUuid().toString())
+                            .build();
+                    final var scanResult = ScanResult.newBuilder()
+                            .setKey(scanKey)
+                            .addScannerResults(ScannerResult.newBuilder()
+                                    .setScanner(SCANNER_INTERNAL)
+                                    .setStatus(SCAN_STATUS_SUCCESSFUL)
+                                    .setBom(Bom.newBuilder().addVulnerabilities(createVuln(vuln.getVulnId(), "INTERNAL"))))
+                            .build();
+                    final Headers headers = new RecordHeaders();
+                    headers.add(KafkaEventHeaders.VULN_ANALYSIS_LEVEL, VulnerabilityAnalysisLevel.BOM_UPLOAD_ANALYSIS.name().getBytes());
+                    return aConsumerRecord(scanKey, scanResult).withHeaders(headers).build();
+                })
+                .toList();
+
+        processor.process(records.get(0));
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> processor.process(records.get(1)));
+        processor.process(records.get(2));
+
+        // The failure of one record must not prevent results of other records
+        // from being reported as processed, nor their notifications from being sent.
+        assertThat(kafkaMockProducer.history()).satisfiesExactly(
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED.name());
+                    final ScanResult recordValue = deserializeValue(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED, record);
+                    assertThat(recordValue.getKey().getComponentUuid()).isEqualTo(componentA.getUuid().toString());
+                },
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_NEW_VULNERABILITY.name());
+                    final Notification notification = deserializeValue(KafkaTopics.NOTIFICATION_NEW_VULNERABILITY, record);
+                    final var subject = notification.getSubject().unpack(NewVulnerabilitySubject.class);
+                    assertThat(subject.getComponent().getName()).isEqualTo("acme-lib-a");
+                },
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED.name());
+                    final ScanResult recordValue = deserializeValue(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED, record);
+                    assertThat(recordValue.getKey().getComponentUuid()).isEqualTo(componentC.getUuid().toString());
+                },
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_NEW_VULNERABILITY.name());
+                    final Notification notification = deserializeValue(KafkaTopics.NOTIFICATION_NEW_VULNERABILITY, record);
+                    final var subject = notification.getSubject().unpack(NewVulnerabilitySubject.class);
+                    assertThat(subject.getComponent().getName()).isEqualTo("acme-lib-c");
+                }
+        );
+    }
+
     @Test
     public void processSuccessfulScanResultWithExistingFindingTest() {
         final var project = new Project();
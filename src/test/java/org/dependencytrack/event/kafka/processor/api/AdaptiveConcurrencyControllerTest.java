@@ -0,0 +1,144 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveConcurrencyControllerTest {
+
+    private static final AdaptiveConcurrencyController.Settings SETTINGS =
+            new AdaptiveConcurrencyController.Settings(0.95, Duration.ofMillis(500), 100);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicReference<Double> dbPoolSaturation;
+    private AtomicReference<Double> consumerLag;
+    private AdaptiveConcurrencyController controller;
+    private AdaptiveLimit limit;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dbPoolSaturation = new AtomicReference<>(0.0);
+        consumerLag = new AtomicReference<>(0.0);
+        controller = new AdaptiveConcurrencyController(dbPoolSaturation::get, meterRegistry);
+        limit = new AdaptiveLimit(1, 8, 10, 100);
+        controller.register("foo", limit, consumerLag::get, SETTINGS);
+    }
+
+    @Test
+    public void testDecreaseOnDbPoolSaturation() {
+        dbPoolSaturation.set(1.0);
+
+        controller.adjustAll();
+        assertThat(limit.concurrency()).isEqualTo(4);
+        assertThat(limit.batchSize()).isEqualTo(50);
+
+        controller.adjustAll();
+        controller.adjustAll();
+        controller.adjustAll();
+        assertThat(limit.concurrency()).isEqualTo(1);
+        assertThat(limit.batchSize()).isEqualTo(10);
+
+        assertThat(getAdjustments("concurrency", "decrease", "db_pool_saturation")).isEqualTo(3);
+        assertThat(getAdjustments("batch_size", "decrease", "db_pool_saturation")).isEqualTo(4);
+        assertThat(meterRegistry.get("kafka_processor_concurrency_limit").tag("processor", "foo").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDecreaseOnLatency() throws Exception {
+        limit.acquire();
+        limit.release(Duration.ofSeconds(1));
+
+        controller.adjustAll();
+        assertThat(limit.concurrency()).isEqualTo(4);
+        assertThat(limit.batchSize()).isEqualTo(50);
+        assertThat(getAdjustments("concurrency", "decrease", "latency")).isEqualTo(1);
+
+        // Latencies are only considered for a single adjustment.
+        controller.adjustAll();
+        assertThat(limit.concurrency()).isEqualTo(4);
+    }
+
+    @Test
+    public void testIncreaseOnConsumerLag() throws Exception {
+        limit.setConcurrency(1);
+        limit.setBatchSize(10);
+        consumerLag.set(500.0);
+
+        // Limit was not utilized, so it must not be increased.
+        controller.adjustAll();
+        assertThat(limit.concurrency()).isEqualTo(1);
+
+        limit.acquire();
+        limit.release(Duration.ofMillis(100));
+
+        controller.adjustAll();
+        assertThat(limit.concurrency()).isEqualTo(2);
+        assertThat(limit.batchSize()).isEqualTo(20);
+        assertThat(getAdjustments("concurrency", "increase", "consumer_lag")).isEqualTo(1);
+        assertThat(getAdjustments("batch_size", "increase", "consumer_lag")).isEqualTo(1);
+    }
+
+    @Test
+    public void testNoIncreaseWhenLimitNotUtilized() throws Exception {
+        consumerLag.set(500.0);
+
+        limit.acquire();
+        limit.release(Duration.ofMillis(100));
+
+        controller.adjustAll();
+        assertThat(limit.concurrency()).isEqualTo(8);
+        assertThat(limit.batchSize()).isEqualTo(100);
+        assertThat(meterRegistry.find("kafka_processor_limit_adjustments").counters()).isEmpty();
+    }
+
+    @Test
+    public void testGetDbPoolSaturation() {
+        assertThat(AdaptiveConcurrencyController.getDbPoolSaturation(meterRegistry)).isZero();
+
+        final var pending = new AtomicReference<>(0.0);
+        meterRegistry.gauge("hikaricp.connections.pending", Tags.of("pool", "tx"), pending, AtomicReference::get);
+        meterRegistry.gauge("hikaricp.connections.active", Tags.of("pool", "tx"), 5);
+        meterRegistry.gauge("hikaricp.connections.max", Tags.of("pool", "tx"), 20);
+        assertThat(AdaptiveConcurrencyController.getDbPoolSaturation(meterRegistry)).isEqualTo(0.25);
+
+        pending.set(3.0);
+        assertThat(AdaptiveConcurrencyController.getDbPoolSaturation(meterRegistry)).isEqualTo(1.0);
+    }
+
+    private double getAdjustments(final String limitName, final String direction, final String reason) {
+        final Counter counter = meterRegistry.find("kafka_processor_limit_adjustments")
+                .tag("processor", "foo")
+                .tag("limit", limitName)
+                .tag("direction", direction)
+                .tag("reason", reason)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+}
@@ -23,6 +23,7 @@ import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.dependencytrack.event.kafka.KafkaTopics.Topic;
@@ -38,6 +39,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -155,6 +157,76 @@ public class ProcessorManagerTest {
         }
     }
 
+    @Test
+    public void testSingleRecordProcessorWithRetryTopics() throws Exception {
+        final var inputTopic = new Topic<>("input", Serdes.String(), Serdes.String());
+        adminClient.createTopics(List.of(
+                new NewTopic(inputTopic.name(), 3, (short) 1),
+                new NewTopic("dtrack.processor.foo.retry.1", 3, (short) 1),
+                new NewTopic("dtrack.processor.foo.dlq", 1, (short) 1))).all().get();
+
+        final var attemptsByValue = new ConcurrentHashMap<String, AtomicInteger>();
+        final Processor<String, String> processor = record -> {
+            final int attempt = attemptsByValue.computeIfAbsent(record.value(), ignored -> new AtomicInteger()).incrementAndGet();
+            if ("poison".equals(record.value())) {
+                throw new IllegalArgumentException("poisoned");
+            }
+            if ("flaky".equals(record.value()) && attempt == 1) {
+                throw new RuntimeException(new TimeoutException());
+            }
+        };
+
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_PROCESSING_ORDER", "key");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_TOPICS_ENABLED", "true");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_TOPICS_DELAYS", "PT1S");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_CONSUMER_AUTO_OFFSET_RESET", "earliest");
+
+        try (final var byteProducer = new KafkaProducer<byte[], byte[]>(Map.ofEntries(
+                Map.entry(BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers()),
+                Map.entry(KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class),
+                Map.entry(VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class)));
+             final var processorManager = new ProcessorManager(() -> byteProducer)) {
+            processorManager.registerProcessor("foo", inputTopic, processor);
+
+            producer.send(new ProducerRecord<>("input", "foo", "poison"));
+            producer.send(new ProducerRecord<>("input", "foo", "flaky"));
+            producer.send(new ProducerRecord<>("input", "foo", "healthy"));
+
+            processorManager.startAll();
+
+            // Neither the poisoned, nor the flaky record must block the healthy one.
+            await("Record Processing")
+                    .atMost(Duration.ofSeconds(15))
+                    .untilAsserted(() -> {
+                        assertThat(attemptsByValue.get("healthy")).hasValue(1);
+                        assertThat(attemptsByValue.get("flaky")).hasValue(2);
+                        assertThat(attemptsByValue.get("poison")).hasValue(1);
+                    });
+
+            final DeadLetterQueue deadLetterQueue = processorManager.getDeadLetterQueue("foo").orElseThrow();
+            await("Dead Letter")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(deadLetterQueue.peek(10)).satisfiesExactly(deadLetter -> {
+                        assertThat(deadLetter.originalTopic()).isEqualTo("input");
+                        assertThat(deadLetter.attempts()).isEqualTo(1);
+                        assertThat(deadLetter.exceptionClass()).isEqualTo(IllegalArgumentException.class.getName());
+                        assertThat(deadLetter.exceptionMessage()).isEqualTo("poisoned");
+                    }));
+
+            assertThat(deadLetterQueue.replay()).isEqualTo(1);
+
+            await("Replayed Record Processing")
+                    .atMost(Duration.ofSeconds(15))
+                    .untilAsserted(() -> assertThat(attemptsByValue.get("poison")).hasValue(2));
+
+            // Only the dead letter produced by the replay must be pending.
+            await("Dead Letter")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(deadLetterQueue.peek(10)).satisfiesExactly(
+                            deadLetter -> assertThat(deadLetter.offset()).isEqualTo(1)));
+        }
+    }
+
     @Test
     public void testBatchProcessor() throws Exception {
         final var inputTopic = new Topic<>("input", Serdes.String(), Serdes.String());
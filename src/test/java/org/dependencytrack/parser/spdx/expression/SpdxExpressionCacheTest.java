@@ -0,0 +1,58 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.spdx.expression;
+
+import org.dependencytrack.parser.spdx.expression.model.SpdxExpression;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpdxExpressionCacheTest {
+
+    @Test
+    public void testParseIsCachedByNormalizedExpression() {
+        final var cache = new SpdxExpressionCache(10);
+
+        final SpdxExpression expression = cache.parse("MIT OR Apache-2.0");
+        assertThat(expression.toString()).isEqualTo("OR(MIT, Apache-2.0)");
+        assertThat(cache.parse(" MIT  OR Apache-2.0 ")).isSameAs(expression);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testParseInvalid() {
+        final var cache = new SpdxExpressionCache(10);
+
+        assertThat(cache.parse("(MIT OR Apache-2.0")).isSameAs(SpdxExpression.INVALID);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        final var cache = new SpdxExpressionCache(2);
+
+        final SpdxExpression mit = cache.parse("MIT");
+        cache.parse("Apache-2.0");
+        cache.parse("MIT");
+        cache.parse("BSD-3-Clause");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.parse("MIT")).isSameAs(mit);
+    }
+
+}
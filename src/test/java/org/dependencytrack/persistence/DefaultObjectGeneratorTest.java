@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.persistence;
 
+import alpine.model.ConfigProperty;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.common.ConfigKey;
@@ -81,6 +82,33 @@ public class DefaultObjectGeneratorTest extends PersistenceCapableTest {
         assertThat(licenses).isEmpty();
     }
 
+    @Test
+    public void testWithUnchangedContentHashes() {
+        new DefaultObjectGenerator().contextInitialized(null);
+
+        final ConfigProperty hashesProperty = qm.getConfigProperty(
+                ConfigPropertyConstants.INTERNAL_DEFAULT_OBJECTS_HASHES.getGroupName(),
+                ConfigPropertyConstants.INTERNAL_DEFAULT_OBJECTS_HASHES.getPropertyName());
+        assertThat(hashesProperty.getPropertyValue()).contains("licenses", "permissions", "repositories");
+
+        qm.delete(qm.getAllRepositories());
+
+        // Simulate a new application build.
+        final ConfigProperty versionProperty = qm.getConfigProperty(
+                ConfigPropertyConstants.INTERNAL_DEFAULT_OBJECTS_VERSION.getGroupName(),
+                ConfigPropertyConstants.INTERNAL_DEFAULT_OBJECTS_VERSION.getPropertyName());
+        qm.runInTransaction(() -> versionProperty.setPropertyValue("foo"));
+
+        new DefaultObjectGenerator().contextInitialized(null);
+
+        // Repositories must not have been populated again, since their
+        // definitions did not change since they were last loaded.
+        assertThat(qm.getAllRepositories()).isEmpty();
+
+        qm.getPersistenceManager().refresh(versionProperty);
+        assertThat(versionProperty.getPropertyValue()).isNotEqualTo("foo");
+    }
+
     @Test
     public void testLoadDefaultLicenses() throws Exception {
         DefaultObjectGenerator generator = new DefaultObjectGenerator();
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.License;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+
+public class LicenseIndexTest extends PersistenceCapableTest {
+
+    @Test
+    public void testResolution() {
+        final var license = new License();
+        license.setLicenseId("Apache-2.0");
+        license.setName("Apache License 2.0");
+        license.setUuid(UUID.randomUUID());
+        qm.persist(license);
+
+        final var customLicense = new License();
+        customLicense.setName("Acme License");
+        customLicense.setCustomLicense(true);
+        customLicense.setUuid(UUID.randomUUID());
+        qm.persist(customLicense);
+
+        final LicenseIndex.Snapshot snapshot = LicenseIndex.getInstance().current();
+        assertThat(snapshot.getLicenseIdByIdOrName("Apache-2.0")).isEqualTo(license.getId());
+        assertThat(snapshot.getLicenseIdByIdOrName("Apache License 2.0")).isEqualTo(license.getId());
+        assertThat(snapshot.getLicenseIdByIdOrName("apache-2.0")).isEqualTo(license.getId());
+        assertThat(snapshot.getLicenseIdByIdOrName("MIT")).isNull();
+        assertThat(snapshot.getCustomLicenseIdByName("Acme License")).isEqualTo(customLicense.getId());
+        assertThat(snapshot.getCustomLicenseIdByName("Apache License 2.0")).isNull();
+
+        // The snapshot is re-used as long as licenses are not modified.
+        assertThat(LicenseIndex.getInstance().current()).isSameAs(snapshot);
+    }
+
+    @Test
+    public void testRebuildOnModification() {
+        final LicenseIndex.Snapshot snapshot = LicenseIndex.getInstance().current();
+        assertThat(snapshot.getLicenseIdByIdOrName("MIT")).isNull();
+
+        final var license = new License();
+        license.setLicenseId("MIT");
+        license.setName("MIT License");
+        license.setUuid(UUID.randomUUID());
+        qm.persist(license);
+
+        final LicenseIndex.Snapshot newSnapshot = LicenseIndex.getInstance().current();
+        assertThat(newSnapshot).isNotSameAs(snapshot);
+        assertThat(newSnapshot.getLicenseIdByIdOrName("MIT")).isEqualTo(license.getId());
+    }
+
+    @Test
+    public void testSnapshotIsReusedWithoutCacheVersion() {
+        useJdbiHandle(handle -> handle.execute("""
+                DELETE FROM "CACHE_VERSION" WHERE "NAME" = 'license'
+                """));
+
+        final LicenseIndex.Snapshot snapshot = LicenseIndex.getInstance().current();
+        assertThat(LicenseIndex.getInstance().current()).isSameAs(snapshot);
+    }
+
+}
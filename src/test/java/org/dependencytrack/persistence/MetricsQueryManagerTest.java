@@ -0,0 +1,94 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetrics;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsQueryManagerTest extends PersistenceCapableTest {
+
+    @Test
+    public void testGetMostRecentProjectMetrics() {
+        final var projectA = new Project();
+        projectA.setName("acme-app-a");
+        qm.persist(projectA);
+
+        final var projectB = new Project();
+        projectB.setName("acme-app-b");
+        qm.persist(projectB);
+
+        final var projectC = new Project();
+        projectC.setName("acme-app-c");
+        qm.persist(projectC);
+
+        final Instant now = Instant.now();
+        createProjectMetrics(projectA, now.minus(2, ChronoUnit.DAYS), 1);
+        createProjectMetrics(projectA, now.minus(1, ChronoUnit.DAYS), 2);
+        createProjectMetrics(projectB, now.minus(1, ChronoUnit.DAYS), 3);
+
+        // Data points that arrive out of order must not replace more recent ones.
+        createProjectMetrics(projectB, now.minus(3, ChronoUnit.DAYS), 4);
+
+        assertThat(qm.getMostRecentProjectMetrics(projectA).getVulnerabilities()).isEqualTo(2);
+        assertThat(qm.getMostRecentProjectMetrics(projectB).getVulnerabilities()).isEqualTo(3);
+        assertThat(qm.getMostRecentProjectMetrics(projectC)).isNull();
+
+        final Map<Long, ProjectMetrics> metricsByProjectId =
+                qm.getMostRecentProjectMetrics(List.of(projectA, projectB, projectC));
+        assertThat(metricsByProjectId).hasSize(2);
+        assertThat(metricsByProjectId.get(projectA.getId()).getVulnerabilities()).isEqualTo(2);
+        assertThat(metricsByProjectId.get(projectB.getId()).getVulnerabilities()).isEqualTo(3);
+    }
+
+    @Test
+    public void testGetMostRecentProjectMetricsAfterDelete() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final Instant now = Instant.now();
+        createProjectMetrics(project, now.minus(2, ChronoUnit.DAYS), 1);
+        final ProjectMetrics latestMetrics = createProjectMetrics(project, now.minus(1, ChronoUnit.DAYS), 2);
+        assertThat(qm.getMostRecentProjectMetrics(project).getVulnerabilities()).isEqualTo(2);
+
+        // Deleting the most recent data point must fall back to the next most recent one.
+        qm.delete(latestMetrics);
+        assertThat(qm.getMostRecentProjectMetrics(project).getVulnerabilities()).isEqualTo(1);
+    }
+
+    private ProjectMetrics createProjectMetrics(final Project project, final Instant lastOccurrence, final int vulns) {
+        final var metrics = new ProjectMetrics();
+        metrics.setProject(project);
+        metrics.setVulnerabilities(vulns);
+        metrics.setFirstOccurrence(Date.from(lastOccurrence));
+        metrics.setLastOccurrence(Date.from(lastOccurrence));
+        return qm.persist(metrics);
+    }
+
+}
@@ -57,4 +57,46 @@ public class ProjectQueryManagerTest extends PersistenceCapableTest {
         assertThat(finding).isNotNull();
         assertThat(finding.getAttribution().isEmpty()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCloneProjectRemapsDirectDependencies() {
+        final Project project = qm.createProject("acme-app", null, "1.0.0", null, null, null, null, false);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.0.0");
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("1.0.0");
+        qm.persist(componentB);
+
+        project.setDirectDependencies("""
+                [{"uuid": "%s"}, {"uuid": "2ba5d6f9-9d5e-4a45-9a28-0a1f2b8e1f6a"}]""".formatted(componentA.getUuid()));
+        componentA.setDirectDependencies("""
+                [{"uuid": "%s"}]""".formatted(componentB.getUuid()));
+        componentB.setDirectDependencies("[]");
+
+        final Project clonedProject = qm.clone(project.getUuid(), "1.1.0", false, false, true, true, false, false, false, false);
+        final Component clonedComponentA = qm.getAllComponents(clonedProject).stream()
+                .filter(component -> "acme-lib-a".equals(component.getName()))
+                .findFirst()
+                .orElseThrow();
+        final Component clonedComponentB = qm.getAllComponents(clonedProject).stream()
+                .filter(component -> "acme-lib-b".equals(component.getName()))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(clonedComponentA.getUuid()).isNotEqualTo(componentA.getUuid());
+        assertThat(clonedComponentB.getUuid()).isNotEqualTo(componentB.getUuid());
+        assertThat(clonedProject.getDirectDependencies()).isEqualTo("""
+                [{"uuid": "%s"}, {"uuid": "2ba5d6f9-9d5e-4a45-9a28-0a1f2b8e1f6a"}]""".formatted(clonedComponentA.getUuid()));
+        assertThat(clonedComponentA.getDirectDependencies()).isEqualTo("""
+                [{"uuid": "%s"}]""".formatted(clonedComponentB.getUuid()));
+        assertThat(clonedComponentB.getDirectDependencies()).isEqualTo("[]");
+    }
+
+}
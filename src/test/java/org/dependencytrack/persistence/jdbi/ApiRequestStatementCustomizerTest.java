@@ -52,6 +52,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
             <#-- @ftlvariable name="apiFilterParameter" type="String" -->
             <#-- @ftlvariable name="apiOrderByClause" type="String" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
+            <#-- @ftlvariable name="apiKeysetCondition" type="String" -->
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
             SELECT 1 AS "valueA"
                  , 2 AS "valueB"
@@ -60,6 +61,9 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
             <#if apiFilterParameter??>
                AND 'foo' = ${apiFilterParameter}
             </#if>
+            <#if apiKeysetCondition??>
+               AND ${apiKeysetCondition}
+            </#if>
             ${apiOrderByClause!}
             ${apiOffsetLimitClause!}
             """;
@@ -69,7 +73,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
         useJdbiHandle(handle -> handle
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -92,7 +96,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
         useJdbiHandle(request, handle -> handle
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE AND 'foo' = :apiFilter
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL) AND 'foo' = :apiFilter
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{named:{apiFilter:foo}}");
@@ -115,7 +119,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
         useJdbiHandle(request, handle -> handle
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
                             OFFSET :paginationOffset FETCH NEXT :paginationLimit ROWS ONLY
                             """);
 
@@ -126,6 +130,64 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
                 .findOne());
     }
 
+    @Test
+    public void testWithKeysetCursor() {
+        final var request = new AlpineRequest(
+                /* principal */ null,
+                /* pagination */ new Pagination(Pagination.Strategy.PAGES, 3, 50),
+                /* filter */ null,
+                /* orderBy */ null,
+                /* orderDirection */ null
+        );
+
+        useJdbiHandle(request, handle -> handle
+                .configure(ApiRequestConfig.class, config -> config.setKeysetColumn("\"PROJECT\".\"ID\""))
+                .define(JdbiAttributes.ATTRIBUTE_API_KEYSET_CURSOR, KeysetCursor.decode(KeysetCursor.encode(666)))
+                .addCustomizer(inspectStatement(ctx -> {
+                    assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
+                            AND "PROJECT"."ID" > :keysetAfterKey
+                            ORDER BY "PROJECT"."ID" ASC
+                            FETCH NEXT :paginationLimit ROWS ONLY
+                            """);
+
+                    assertThat(ctx.getBinding()).hasToString("{named:{paginationLimit:50,keysetAfterKey:666}}");
+                }))
+                .createQuery(TEST_QUERY_TEMPLATE)
+                .mapTo(Integer.class)
+                .findOne());
+    }
+
+    @Test
+    public void testWithKeysetCursorForFirstPage() {
+        useJdbiHandle(/* apiRequest */ null, handle -> handle
+                .configure(ApiRequestConfig.class, config -> config.setKeysetColumn("\"PROJECT\".\"ID\""))
+                .define(JdbiAttributes.ATTRIBUTE_API_KEYSET_CURSOR, KeysetCursor.decode(""))
+                .addCustomizer(inspectStatement(ctx -> {
+                    assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
+                            ORDER BY "PROJECT"."ID" ASC
+                            FETCH NEXT :paginationLimit ROWS ONLY
+                            """);
+
+                    assertThat(ctx.getBinding()).hasToString("{named:{paginationLimit:100}}");
+                }))
+                .createQuery(TEST_QUERY_TEMPLATE)
+                .mapTo(Integer.class)
+                .findOne());
+    }
+
+    @Test
+    public void testWithKeysetCursorNotAllowed() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> useJdbiHandle(/* apiRequest */ null, handle -> handle
+                        .define(JdbiAttributes.ATTRIBUTE_API_KEYSET_CURSOR, KeysetCursor.decode(""))
+                        .createQuery(TEST_QUERY_TEMPLATE)
+                        .mapTo(Integer.class)
+                        .findOne()))
+                .withMessage("Keyset pagination is not allowed");
+    }
+
     @Test
     public void testWithAlpineRequestOrderingWithoutAllowedColumns() {
         final var request = new AlpineRequest(
@@ -139,7 +201,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
         useJdbiHandle(request, handle -> handle
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -204,7 +266,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
                         config.setOrderingAllowedColumns(Set.of(new OrderingColumn("valueA"))))
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE ORDER BY "valueA" DESC
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL) ORDER BY "valueA" DESC
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -275,7 +337,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
                 })
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE ORDER BY "valueA" DESC
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL) ORDER BY "valueA" DESC
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -302,7 +364,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
                 })
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE ORDER BY "valueA" DESC, "valueB"
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL) ORDER BY "valueA" DESC, "valueB"
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -329,7 +391,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
                 })
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE ORDER BY "valueA" DESC, "valueB" asc
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL) ORDER BY "valueA" DESC, "valueB" asc
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -362,7 +424,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
         useJdbiHandle(request, handle -> handle
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -434,7 +496,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
         useJdbiHandle(request, handle -> handle
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -473,7 +535,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
         useJdbiHandle(request, handle -> handle
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -512,7 +574,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
         useJdbiHandle(request, handle -> handle
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -551,7 +613,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
         useJdbiHandle(request, handle -> handle
                 .addCustomizer(inspectStatement(ctx -> {
                     assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
-                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL)
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{}");
@@ -588,7 +650,8 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
                             SELECT 1 AS "valueA"
                                  , 2 AS "valueB"
                               FROM "PROJECT"
-                             WHERE HAS_PROJECT_ACCESS("PROJECT"."ID", :projectAclTeamIds)
+                             WHERE (HAS_PROJECT_ACCESS("PROJECT"."ID", :projectAclTeamIds)
+                                    AND "PROJECT"."ID" NOT IN (SELECT "ID" FROM "PROJECT" WHERE "DELETED_AT" IS NOT NULL))
                             """);
 
                     assertThat(ctx.getBinding()).hasToString("{named:{projectAclTeamIds:[%s]}}".formatted(team.getId()));
@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import alpine.common.logging.Logger;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalysisJustification;
@@ -32,16 +33,21 @@ import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.PolicyCondition;
 import org.dependencytrack.model.PolicyViolation;
 import org.dependencytrack.model.Project;
+import org.dependencytrack.model.RepositoryMetaComponent;
+import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.model.ViolationAnalysis;
 import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
 import org.jdbi.v3.core.Handle;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 
 import javax.jdo.JDOObjectNotFoundException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -50,6 +56,8 @@ import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
 
 public class ComponentDaoTest extends PersistenceCapableTest {
 
+    private static final Logger LOGGER = Logger.getLogger(ComponentDaoTest.class);
+
     private Handle jdbiHandle;
     private ComponentDao componentDao;
 
@@ -159,4 +167,163 @@ public class ComponentDaoTest extends PersistenceCapableTest {
         assertThatNoException().isThrownBy(() -> qm.getObjectById(PolicyCondition.class, policyCondition.getId()));
         assertThatNoException().isThrownBy(() -> qm.getObjectById(Policy.class, policy.getId()));
     }
+
+    @Test
+    public void testGetProjectComponentsPageConcise() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setGroup("org.acme");
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.0.0");
+        componentA.setPurl("pkg:maven/org.acme/acme-lib-a@1.0.0");
+        componentA.setInternal(true);
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setGroup("org.acme");
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("2.0.0");
+        componentB.setPurl("pkg:maven/org.acme/acme-lib-b@2.0.0");
+        qm.persist(componentB);
+
+        final var repoMetaA = new RepositoryMetaComponent();
+        repoMetaA.setRepositoryType(RepositoryType.MAVEN);
+        repoMetaA.setNamespace("org.acme");
+        repoMetaA.setName("acme-lib-a");
+        repoMetaA.setLatestVersion("1.1.0");
+        repoMetaA.setLastCheck(new Date());
+        qm.persist(repoMetaA);
+
+        final var repoMetaB = new RepositoryMetaComponent();
+        repoMetaB.setRepositoryType(RepositoryType.MAVEN);
+        repoMetaB.setNamespace("org.acme");
+        repoMetaB.setName("acme-lib-b");
+        repoMetaB.setLatestVersion("2.0.0");
+        repoMetaB.setLastCheck(new Date());
+        qm.persist(repoMetaB);
+
+        final var integrityAnalysis = new IntegrityAnalysis();
+        integrityAnalysis.setComponent(componentA);
+        integrityAnalysis.setMd5HashMatchStatus(IntegrityMatchStatus.HASH_MATCH_PASSED);
+        integrityAnalysis.setSha1HashMatchStatus(IntegrityMatchStatus.HASH_MATCH_PASSED);
+        integrityAnalysis.setSha256HashMatchStatus(IntegrityMatchStatus.HASH_MATCH_PASSED);
+        integrityAnalysis.setSha512HashMatchStatus(IntegrityMatchStatus.HASH_MATCH_PASSED);
+        integrityAnalysis.setIntegrityCheckStatus(IntegrityMatchStatus.HASH_MATCH_PASSED);
+        integrityAnalysis.setUpdatedAt(new Date());
+        qm.persist(integrityAnalysis);
+
+        final var metrics = new DependencyMetrics();
+        metrics.setProject(project);
+        metrics.setComponent(componentA);
+        metrics.setCritical(2);
+        metrics.setVulnerabilities(3);
+        metrics.setFirstOccurrence(new Date());
+        metrics.setLastOccurrence(new Date());
+        qm.persist(metrics);
+
+        final List<ComponentDao.ConciseComponentListRow> rows = componentDao.getProjectComponentsPageConcise(
+                project.getId(), false, false, false, null);
+        assertThat(rows).satisfiesExactly(
+                row -> {
+                    assertThat(row.name()).isEqualTo("acme-lib-a");
+                    assertThat(row.internal()).isTrue();
+                    assertThat(row.latestVersion()).isEqualTo("1.1.0");
+                    assertThat(row.integrityCheckStatus()).isEqualTo("HASH_MATCH_PASSED");
+                    assertThat(row.metrics()).isNotNull();
+                    assertThat(row.metrics().critical()).isEqualTo(2);
+                    assertThat(row.metrics().vulnerabilities()).isEqualTo(3);
+                    assertThat(row.totalCount()).isEqualTo(2L);
+                },
+                row -> {
+                    assertThat(row.name()).isEqualTo("acme-lib-b");
+                    assertThat(row.internal()).isFalse();
+                    assertThat(row.latestVersion()).isEqualTo("2.0.0");
+                    assertThat(row.integrityCheckStatus()).isNull();
+                    assertThat(row.metrics()).isNull();
+                    assertThat(row.totalCount()).isEqualTo(2L);
+                });
+
+        assertThat(componentDao.getProjectComponentsPageConcise(project.getId(), true, false, false, null))
+                .extracting(ComponentDao.ConciseComponentListRow::name)
+                .containsExactly("acme-lib-a");
+        assertThat(componentDao.getProjectComponentsPageConcise(project.getId(), false, false, true, null))
+                .extracting(ComponentDao.ConciseComponentListRow::name)
+                .containsExactly("acme-lib-a");
+        assertThat(componentDao.getProjectComponentsPageConcise(project.getId(), false, true, false, null)).isEmpty();
+    }
+
+    @Test
+    public void testGetProjectComponentsPageConciseWithKeysetCursor() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        for (int i = 0; i < 5; i++) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib-" + i);
+            qm.persist(component);
+        }
+
+        final List<ComponentDao.ConciseComponentListRow> firstPage = componentDao
+                .getProjectComponentsPageConcise(project.getId(), false, false, false, KeysetCursor.decode(""));
+        assertThat(firstPage).hasSize(5);
+        assertThat(firstPage).extracting(ComponentDao.ConciseComponentListRow::totalCount).containsOnlyNulls();
+
+        final List<ComponentDao.ConciseComponentListRow> secondPage = componentDao
+                .getProjectComponentsPageConcise(project.getId(), false, false, false,
+                        KeysetCursor.decode(KeysetCursor.encode(firstPage.get(2).id())));
+        assertThat(secondPage)
+                .extracting(ComponentDao.ConciseComponentListRow::name)
+                .containsExactly("acme-lib-3", "acme-lib-4");
+    }
+
+    @Test
+    @Ignore  // Un-ignore for manual profiling purposes.
+    public void testGetProjectComponentsPageConciseBenchmark() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        // Metrics are omitted, since both implementations retrieve them in a single query.
+        // The difference lies in entity mapping, and the retrieval of repository metadata.
+        jdbiHandle.createUpdate("""
+                        INSERT INTO "COMPONENT" ("UUID", "PROJECT_ID", "GROUP", "NAME", "VERSION", "PURL")
+                        SELECT GEN_RANDOM_UUID()
+                             , :projectId
+                             , 'org.acme'
+                             , 'acme-lib-' || i
+                             , '1.0.0'
+                             , 'pkg:maven/org.acme/acme-lib-' || i || '@1.0.0'
+                          FROM GENERATE_SERIES(1, :componentCount) AS i
+                        """)
+                .bind("projectId", project.getId())
+                .bind("componentCount", 10_000)
+                .execute();
+        jdbiHandle.createUpdate("""
+                        INSERT INTO "REPOSITORY_META_COMPONENT" ("REPOSITORY_TYPE", "NAMESPACE", "NAME", "LATEST_VERSION", "LAST_CHECK")
+                        SELECT 'MAVEN', 'org.acme', 'acme-lib-' || i, '1.1.0', NOW()
+                          FROM GENERATE_SERIES(1, :componentCount) AS i
+                        """)
+                .bind("componentCount", 10_000)
+                .execute();
+
+        for (int i = 0; i < 5; i++) {
+            final long qmStartNs = System.nanoTime();
+            qm.getComponents(project, true, false, false);
+            final Duration qmDuration = Duration.ofNanos(System.nanoTime() - qmStartNs);
+
+            final long daoStartNs = System.nanoTime();
+            componentDao.getProjectComponentsPageConcise(project.getId(), false, false, false, null);
+            final Duration daoDuration = Duration.ofNanos(System.nanoTime() - daoStartNs);
+
+            LOGGER.info("Iteration %d: QueryManager=%s, ComponentDao=%s".formatted(i, qmDuration, daoDuration));
+        }
+    }
+
 }
\ No newline at end of file
@@ -36,10 +36,12 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.hamcrest.Matchers.equalTo;
 
@@ -191,6 +193,67 @@ public class NotificationSubjectDaoTest extends PersistenceCapableTest {
                                 """));
     }
 
+    @Test
+    public void testGetForNewVulnerabilitiesForMultipleComponents() {
+        final var projectA = new Project();
+        projectA.setName("projectA");
+        qm.persist(projectA);
+
+        final var projectB = new Project();
+        projectB.setName("projectB");
+        qm.persist(projectB);
+
+        final var componentA = new Component();
+        componentA.setProject(projectA);
+        componentA.setName("componentA");
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(projectB);
+        componentB.setName("componentB");
+        qm.persist(componentB);
+
+        final var vulnA = new Vulnerability();
+        vulnA.setVulnId("CVE-100");
+        vulnA.setSource(Vulnerability.Source.NVD);
+        qm.persist(vulnA);
+
+        final var vulnB = new Vulnerability();
+        vulnB.setVulnId("CVE-200");
+        vulnB.setSource(Vulnerability.Source.NVD);
+        qm.persist(vulnB);
+
+        qm.addVulnerability(vulnA, componentA, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnA, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnB, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+        // componentA is not affected by vulnB, so the pair should be omitted.
+        final List<NewVulnerabilitySubject> subjects = withJdbiHandle(handle -> handle.attach(NotificationSubjectDao.class)
+                .getForNewVulnerabilities(Map.of(
+                        componentA.getUuid(), List.of(vulnA.getUuid(), vulnB.getUuid()),
+                        componentB.getUuid(), List.of(vulnA.getUuid(), vulnB.getUuid())
+                ), VulnerabilityAnalysisLevel.PERIODIC_ANALYSIS));
+
+        assertThat(subjects)
+                .extracting(
+                        subject -> subject.getProject().getName(),
+                        subject -> subject.getComponent().getName(),
+                        subject -> subject.getVulnerability().getVulnId(),
+                        NewVulnerabilitySubject::getVulnerabilityAnalysisLevel)
+                .containsExactlyInAnyOrder(
+                        tuple("projectA", "componentA", "CVE-100", "PERIODIC_ANALYSIS"),
+                        tuple("projectB", "componentB", "CVE-100", "PERIODIC_ANALYSIS"),
+                        tuple("projectB", "componentB", "CVE-200", "PERIODIC_ANALYSIS"));
+    }
+
+    @Test
+    public void testGetForNewVulnerabilitiesWithoutPairs() {
+        final List<NewVulnerabilitySubject> subjects = withJdbiHandle(handle -> handle.attach(NotificationSubjectDao.class)
+                .getForNewVulnerabilities(Map.of(), VulnerabilityAnalysisLevel.PERIODIC_ANALYSIS));
+
+        assertThat(subjects).isEmpty();
+    }
+
     @Test
     public void testGetForNewVulnerabilityWithAnalysisRatingOverwrite() throws Exception {
         final var project = new Project();
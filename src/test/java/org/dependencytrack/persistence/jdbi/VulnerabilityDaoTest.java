@@ -0,0 +1,172 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.AnalysisJustification;
+import org.dependencytrack.model.AnalysisResponse;
+import org.dependencytrack.model.AnalysisState;
+import org.dependencytrack.model.AnalyzerIdentity;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.persistence.jdbi.VulnerabilityDao.AffectedProjectCountRow;
+import org.jdbi.v3.core.Handle;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+
+public class VulnerabilityDaoTest extends PersistenceCapableTest {
+
+    private Handle jdbiHandle;
+    private VulnerabilityDao vulnerabilityDao;
+
+    @Before
+    public void before() throws Exception {
+        super.before();
+        jdbiHandle = openJdbiHandle();
+        vulnerabilityDao = jdbiHandle.attach(VulnerabilityDao.class);
+    }
+
+    @After
+    public void after() {
+        if (jdbiHandle != null) {
+            jdbiHandle.close();
+        }
+        super.after();
+    }
+
+    @Test
+    public void testVulnerabilityProjectIsMaintained() {
+        final var projectA = new Project();
+        projectA.setName("acme-app-a");
+        qm.persist(projectA);
+
+        final var projectB = new Project();
+        projectB.setName("acme-app-b");
+        qm.persist(projectB);
+
+        final Component componentA1 = createComponent(projectA, "acme-lib-a1");
+        final Component componentA2 = createComponent(projectA, "acme-lib-a2");
+        final Component componentB = createComponent(projectB, "acme-lib-b");
+
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("INT-123");
+        vuln.setSource(Vulnerability.Source.INTERNAL);
+        qm.persist(vuln);
+
+        qm.addVulnerability(vuln, componentA1, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vuln, componentA2, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vuln, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+        assertThat(getVulnerabilityProjectRows()).containsExactlyInAnyOrder(
+                List.of(vuln.getId(), projectA.getId(), 2, 0),
+                List.of(vuln.getId(), projectB.getId(), 1, 0));
+        assertAffectedProjectCount(vuln, /* includeSuppressed */ false, 2);
+
+        // Suppressing one of two findings in project A must not exclude it.
+        qm.makeAnalysis(componentA1, vuln, AnalysisState.NOT_AFFECTED,
+                AnalysisJustification.CODE_NOT_REACHABLE, AnalysisResponse.WILL_NOT_FIX, null, true);
+        assertThat(getVulnerabilityProjectRows()).contains(List.of(vuln.getId(), projectA.getId(), 2, 1));
+        assertAffectedProjectCount(vuln, /* includeSuppressed */ false, 2);
+
+        // Suppressing all findings in project A must exclude it, unless suppressed findings are included.
+        qm.makeAnalysis(componentA2, vuln, AnalysisState.NOT_AFFECTED,
+                AnalysisJustification.CODE_NOT_REACHABLE, AnalysisResponse.WILL_NOT_FIX, null, true);
+        assertThat(getVulnerabilityProjectRows()).contains(List.of(vuln.getId(), projectA.getId(), 2, 2));
+        assertAffectedProjectCount(vuln, /* includeSuppressed */ false, 1);
+        assertAffectedProjectCount(vuln, /* includeSuppressed */ true, 2);
+
+        // Un-suppressing a finding must be reflected.
+        qm.makeAnalysis(componentA2, vuln, AnalysisState.EXPLOITABLE, null, null, null, false);
+        assertThat(getVulnerabilityProjectRows()).contains(List.of(vuln.getId(), projectA.getId(), 2, 1));
+
+        // Deleting a component must remove its finding, along with its suppression.
+        jdbiHandle.attach(ComponentDao.class).deleteComponent(componentA1.getUuid());
+        assertThat(getVulnerabilityProjectRows()).containsExactlyInAnyOrder(
+                List.of(vuln.getId(), projectA.getId(), 1, 0),
+                List.of(vuln.getId(), projectB.getId(), 1, 0));
+
+        // Removing the last finding of a project must remove the project.
+        qm.removeVulnerability(vuln, componentB);
+        assertThat(getVulnerabilityProjectRows()).containsExactly(
+                List.of(vuln.getId(), projectA.getId(), 1, 0));
+        assertAffectedProjectCount(vuln, /* includeSuppressed */ true, 1);
+    }
+
+    @Test
+    public void testAffectedProjectsExcludeTombstonedProjects() {
+        final var projectA = new Project();
+        projectA.setName("acme-app-a");
+        qm.persist(projectA);
+
+        final var projectB = new Project();
+        projectB.setName("acme-app-b");
+        qm.persist(projectB);
+
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("INT-123");
+        vuln.setSource(Vulnerability.Source.INTERNAL);
+        qm.persist(vuln);
+
+        final Component componentA = createComponent(projectA, "acme-lib-a");
+        qm.addVulnerability(vuln, componentA, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vuln, createComponent(projectB, "acme-lib-b"), AnalyzerIdentity.INTERNAL_ANALYZER);
+        assertAffectedProjectCount(vuln, /* includeSuppressed */ false, 2);
+
+        jdbiHandle.attach(ProjectDao.class).tombstoneProject(projectB.getId());
+
+        assertAffectedProjectCount(vuln, /* includeSuppressed */ false, 1);
+        assertThat(vulnerabilityDao.getAffectedProjects("INTERNAL", "INT-123", /* activeFilter */ false))
+                .satisfiesExactly(row -> {
+                    assertThat(row.name()).isEqualTo("acme-app-a");
+                    assertThat(row.affectedComponentUuids()).containsOnly(componentA.getUuid());
+                });
+    }
+
+    private Component createComponent(final Project project, final String name) {
+        final var component = new Component();
+        component.setProject(project);
+        component.setName(name);
+        return qm.persist(component);
+    }
+
+    private List<List<Object>> getVulnerabilityProjectRows() {
+        return jdbiHandle.createQuery("""
+                        SELECT "VULNERABILITY_ID", "PROJECT_ID", "COMPONENTS", "SUPPRESSED"
+                          FROM "VULNERABILITY_PROJECT"
+                        """)
+                .map((rs, ctx) -> List.<Object>of(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getInt(4)))
+                .list();
+    }
+
+    private void assertAffectedProjectCount(final Vulnerability vuln, final boolean includeSuppressed, final int expectedCount) {
+        final List<AffectedProjectCountRow> rows =
+                vulnerabilityDao.getAffectedProjectCount(List.of(vuln.getId()), includeSuppressed);
+        assertThat(rows).satisfiesExactly(row -> {
+            assertThat(row.id()).isEqualTo(vuln.getId());
+            assertThat(row.totalProjectCount()).isEqualTo(expectedCount);
+        });
+    }
+
+}
@@ -27,6 +27,7 @@ import org.projectnessie.cel.tools.ScriptCreateException;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -136,4 +137,35 @@ public class CelPolicyScriptHostTest {
                 project.matches_range("vers:generic/<1")
                 """, CacheMode.NO_CACHE));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testVersionDistanceWithEvaluationContext() throws Exception {
+        final CelPolicyScript compiledScript = CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT).compile("""
+                component.version_distance(">=", v1.VersionDistance{ major: "0", minor: "1", patch: "?" })
+                """, CacheMode.NO_CACHE);
+
+        final var component = org.dependencytrack.proto.policy.v1.Component.newBuilder()
+                .setUuid("5e3e8e9c-7a5b-4f5e-a2a4-6f3a3c7c2b51")
+                .setPurl("pkg:maven/foo/bar@1.2.3")
+                .setVersion("1.2.3")
+                .setLatestVersion("1.3.1")
+                .build();
+
+        // Direct dependency status is resolved from the context, without touching the database.
+        try (var ignored = new CelPolicyEvaluationContext(Set.of(component.getUuid())).enter()) {
+            assertThat(compiledScript.execute(Map.of(CelPolicyVariable.COMPONENT.variableName(), component))).isTrue();
+        }
+        try (var ignored = new CelPolicyEvaluationContext(Set.of()).enter()) {
+            assertThat(compiledScript.execute(Map.of(CelPolicyVariable.COMPONENT.variableName(), component))).isFalse();
+        }
+
+        assertThat(CelPolicyEvaluationContext.current()).isNull();
+    }
+
+    @Test
+    public void testParseVersIsCached() {
+        assertThat(CelCommonPolicyLibrary.parseVers("vers:maven/>=1.0.0|<2.0.0"))
+                .isSameAs(CelCommonPolicyLibrary.parseVers("vers:maven/>=1.0.0|<2.0.0"));
+    }
+
+}
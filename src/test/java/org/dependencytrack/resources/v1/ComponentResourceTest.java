@@ -140,6 +140,51 @@ public class ComponentResourceTest extends ResourceTest {
         assertThat(response.getStatus()).isEqualTo(200);
     }
 
+    @Test
+    public void getProjectComponentsConciseTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setGroup("org.acme");
+        component.setName("acme-lib");
+        component.setVersion("1.0.0");
+        component.setPurl("pkg:maven/org.acme/acme-lib@1.0.0");
+        qm.persist(component);
+
+        final var repoMeta = new RepositoryMetaComponent();
+        repoMeta.setRepositoryType(RepositoryType.MAVEN);
+        repoMeta.setNamespace("org.acme");
+        repoMeta.setName("acme-lib");
+        repoMeta.setLatestVersion("1.1.0");
+        repoMeta.setLastCheck(new Date());
+        qm.persist(repoMeta);
+
+        final Response response = jersey.target(V1_COMPONENT + "/project/" + project.getUuid() + "/concise")
+                .queryParam("onlyOutdated", true)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+        assertThatJson(getPlainTextBody(response)).isEqualTo(/* language=JSON */ """
+                [
+                  {
+                    "uuid": "${json-unit.any-string}",
+                    "group": "org.acme",
+                    "name": "acme-lib",
+                    "version": "1.0.0",
+                    "purl": "pkg:maven/org.acme/acme-lib@1.0.0",
+                    "internal": false,
+                    "occurrenceCount": 0,
+                    "latestVersion": "1.1.0"
+                  }
+                ]
+                """);
+    }
+
     @Test
     public void getComponentByUuidWithRepositoryMetaDataTest() {
         Project project = qm.createProject("Acme Application", null, null, null, null, null, null, false);
@@ -647,6 +692,73 @@ public class ComponentResourceTest extends ResourceTest {
         assertThat(jsonComponent.getString("uuid")).isEqualTo(componentB.getUuid().toString());
     }
 
+    @Test
+    public void getComponentByIdentityWithPartialPurlTest() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+
+        var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("log4j-core");
+        componentA.setVersion("2.14.1");
+        componentA.setPurl("pkg:maven/org.apache.logging.log4j/log4j-core@2.14.1");
+        componentA = qm.createComponent(componentA, false);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("log4j_api");
+        componentB.setVersion("2.14.1");
+        componentB.setPurl("pkg:maven/org.apache.logging.log4j/log4j_api@2.14.1");
+        qm.createComponent(componentB, false);
+
+        final var metaComponent = new RepositoryMetaComponent();
+        metaComponent.setRepositoryType(RepositoryType.MAVEN);
+        metaComponent.setNamespace("org.apache.logging.log4j");
+        metaComponent.setName("log4j-core");
+        metaComponent.setLatestVersion("2.24.3");
+        metaComponent.setLastCheck(new Date());
+        qm.persist(metaComponent);
+
+        final Response response = jersey.target(V1_COMPONENT + "/identity")
+                .queryParam("purl", "pkg:maven/org.apache.logging.log4j/log4j-core")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+
+        final JsonArray json = parseJsonArray(response);
+        assertThat(json).hasSize(1);
+        assertThat(json.getJsonObject(0).getString("uuid")).isEqualTo(componentA.getUuid().toString());
+        assertThat(json.getJsonObject(0).getJsonObject("repositoryMeta").getString("latestVersion")).isEqualTo("2.24.3");
+    }
+
+    @Test
+    public void getComponentByIdentityEscapesWildcardsTest() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("log4j-core");
+        qm.createComponent(componentA, false);
+
+        var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("log4j_core");
+        componentB = qm.createComponent(componentB, false);
+
+        final Response response = jersey.target(V1_COMPONENT + "/identity")
+                .queryParam("name", "4j_c")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+
+        final JsonArray json = parseJsonArray(response);
+        assertThat(json).hasSize(1);
+        assertThat(json.getJsonObject(0).getString("uuid")).isEqualTo(componentB.getUuid().toString());
+    }
+
     @Test
     public void getComponentByIdentityWithProjectWhenProjectDoesNotExistTest() {
         final Response response = jersey.target(V1_COMPONENT + "/identity")
@@ -685,6 +797,72 @@ public class ComponentResourceTest extends ResourceTest {
         Assert.assertEquals(response.getHeaderString(TOTAL_COUNT_HEADER), "0");
     }
 
+    @Test
+    public void lookupComponentsByHashesTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        componentA.setSha1("da39a3ee5e6b4b0d3255bfef95601890afd80709");
+        componentA.setSha256("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        componentB.setBlake2b_256("0E5751C026E543B2E8AB2EB06099DAA1D1E5DF47778F7787FAAB45CDF12FE3A8");
+        componentB.setMd5("d41d8cd98f00b204e9800998ecf8427e");
+        qm.persist(componentB);
+
+        // Hash changes must be reflected in lookups.
+        componentB.setMd5("9e107d9d372bb6826bd81d3542a419d6");
+        qm.persist(componentB);
+
+        final Response response = jersey.target(V1_COMPONENT + "/hash")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .post(Entity.json(List.of(
+                        "E3B0C44298FC1C149AFBF4C8996FB92427AE41E4649B934CA495991B7852B855",
+                        "0e5751c026e543b2e8ab2eb06099daa1d1e5df47778f7787faab45cdf12fe3a8",
+                        "d41d8cd98f00b204e9800998ecf8427e")));
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response)).isEqualTo(/* language=JSON */ """
+                [
+                  {
+                    "hash": "0e5751c026e543b2e8ab2eb06099daa1d1e5df47778f7787faab45cdf12fe3a8",
+                    "algorithm": "BLAKE2b-256",
+                    "uuid": "${json-unit.any-string}",
+                    "name": "acme-lib-b",
+                    "projectUuid": "${json-unit.any-string}",
+                    "projectName": "acme-app",
+                    "projectVersion": "1.0"
+                  },
+                  {
+                    "hash": "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+                    "algorithm": "SHA-256",
+                    "uuid": "${json-unit.any-string}",
+                    "name": "acme-lib-a",
+                    "projectUuid": "${json-unit.any-string}",
+                    "projectName": "acme-app",
+                    "projectVersion": "1.0"
+                  }
+                ]
+                """);
+    }
+
+    @Test
+    public void lookupComponentsByHashesWithInvalidHashTest() {
+        final Response response = jersey.target(V1_COMPONENT + "/hash")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .post(Entity.json(List.of("not-a-hash")));
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
     @Test
     public void createComponentTest() {
         Project project = qm.createProject("Acme Application", null, null, null, null, null, null, false);
@@ -465,6 +465,74 @@ public class ProjectResourceTest extends ResourceTest {
                 """);
     }
 
+    @Test
+    public void getProjectsConciseCursorPaginationTest() {
+        for (int i = 0; i < 3; i++) {
+            final var project = new Project();
+            project.setName("acme-app-" + (i+1));
+            qm.persist(project);
+        }
+
+        Response response = jersey.target(V1_PROJECT + "/concise")
+                .queryParam("cursor", "")
+                .queryParam("pageSize", "2")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+        assertThat(response.getHeaderString(AbstractApiResource.NEXT_CURSOR_HEADER)).isNotBlank();
+        assertThatJson(getPlainTextBody(response)).isEqualTo("""
+                [
+                  {
+                    "uuid": "${json-unit.any-string}",
+                    "name": "acme-app-1",
+                    "active": true,
+                    "isLatest": false,
+                    "hasChildren": false
+                  },
+                  {
+                    "uuid": "${json-unit.any-string}",
+                    "name": "acme-app-2",
+                    "active": true,
+                    "isLatest": false,
+                    "hasChildren": false
+                  }
+                ]
+                """);
+
+        response = jersey.target(V1_PROJECT + "/concise")
+                .queryParam("cursor", response.getHeaderString(AbstractApiResource.NEXT_CURSOR_HEADER))
+                .queryParam("pageSize", "2")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(AbstractApiResource.NEXT_CURSOR_HEADER)).isNull();
+        assertThatJson(getPlainTextBody(response)).isEqualTo("""
+                [
+                  {
+                    "uuid": "${json-unit.any-string}",
+                    "name": "acme-app-3",
+                    "active": true,
+                    "isLatest": false,
+                    "hasChildren": false
+                  }
+                ]
+                """);
+    }
+
+    @Test
+    public void getProjectsConciseInvalidCursorTest() {
+        final Response response = jersey.target(V1_PROJECT + "/concise")
+                .queryParam("cursor", "foo")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(getPlainTextBody(response)).isEqualTo("The provided cursor is invalid");
+    }
+
     @Test
     public void getProjectsConciseFilterByNameTest() {
         final var projectA = new Project();
@@ -1906,6 +1974,32 @@ public class ProjectResourceTest extends ResourceTest {
         Assert.assertEquals(204, response.getStatus(), 0);
     }
 
+    @Test
+    public void deleteProjectAsyncTest() {
+        final Project project = qm.createProject("ABC", null, "1.0", null, null, null, null, false);
+        Response response = jersey.target(V1_PROJECT + "/" + project.getUuid())
+                .queryParam("async", true)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .delete();
+        assertThat(response.getStatus()).isEqualTo(202);
+        assertThatJson(getPlainTextBody(response)).isEqualTo(/* language=JSON */ """
+                {
+                  "token": "${json-unit.any-string}"
+                }
+                """);
+
+        response = jersey.target(V1_PROJECT + "/" + project.getUuid())
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(404);
+
+        // The name and version of a tombstoned project must be available for re-use.
+        assertThat(qm.getProject("ABC", "1.0")).isNull();
+        assertThat(qm.createProject("ABC", null, "1.0", null, null, null, null, false)).isNotNull();
+    }
+
     @Test
     public void deleteProjectInvalidUuidTest() {
         qm.createProject("ABC", null, "1.0", null, null, null, null, false);
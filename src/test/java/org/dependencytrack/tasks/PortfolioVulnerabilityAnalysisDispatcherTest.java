@@ -0,0 +1,122 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import alpine.Config;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.event.kafka.KafkaProducerInitializer;
+import org.dependencytrack.event.kafka.KafkaTopics;
+import org.dependencytrack.tasks.VulnerabilityAnalysisTask.ComponentProjection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class PortfolioVulnerabilityAnalysisDispatcherTest {
+
+    private MockProducer<byte[], byte[]> kafkaMockProducer;
+
+    @BeforeClass
+    public static void beforeClass() {
+        Config.enableUnitTests();
+    }
+
+    @Before
+    public void before() {
+        kafkaMockProducer = (MockProducer<byte[], byte[]>) KafkaProducerInitializer.getProducer();
+    }
+
+    @After
+    public void after() {
+        KafkaProducerInitializer.tearDown();
+    }
+
+    @Test
+    public void testDispatch() throws Exception {
+        final List<ComponentProjection> components = createComponents(250);
+        final var heartbeats = new AtomicInteger();
+
+        final var dispatcher = new PortfolioVulnerabilityAnalysisDispatcher(
+                new KafkaEventDispatcher(), UUID.randomUUID(), 3, 2);
+        final long dispatched = dispatcher.dispatch(lastId -> fetchPage(components, lastId, 10), heartbeats::incrementAndGet);
+
+        assertThat(dispatched).isEqualTo(250);
+        assertThat(dispatcher.getComponentsFetched()).isEqualTo(250);
+        assertThat(heartbeats.get()).isEqualTo(25);
+        assertThat(kafkaMockProducer.history()).hasSize(250);
+        assertThat(kafkaMockProducer.history()).allSatisfy(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_COMMAND.name()));
+    }
+
+    @Test
+    public void testDispatchWithNoComponents() throws Exception {
+        final var dispatcher = new PortfolioVulnerabilityAnalysisDispatcher(
+                new KafkaEventDispatcher(), UUID.randomUUID(), 2, 1);
+        final long dispatched = dispatcher.dispatch(lastId -> List.of(), () -> {
+        });
+
+        assertThat(dispatched).isZero();
+        assertThat(kafkaMockProducer.history()).isEmpty();
+    }
+
+    @Test
+    public void testDispatchWithFetchFailure() {
+        final List<ComponentProjection> components = createComponents(50);
+
+        final var dispatcher = new PortfolioVulnerabilityAnalysisDispatcher(
+                new KafkaEventDispatcher(), UUID.randomUUID(), 2, 1);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> dispatcher.dispatch(lastId -> {
+                    if (lastId != null && lastId < 30) {
+                        throw new IllegalStateException("Boom");
+                    }
+
+                    return fetchPage(components, lastId, 10);
+                }, () -> {
+                }))
+                .withMessage("Boom");
+    }
+
+    private static List<ComponentProjection> createComponents(final int count) {
+        final var components = new ArrayList<ComponentProjection>(count);
+        for (int i = count; i > 0; i--) {
+            components.add(new ComponentProjection(i, UUID.randomUUID(),
+                    "pkg:maven/acme/acme-lib-%d@1.0.0".formatted(i), null, null, false));
+        }
+
+        return components;
+    }
+
+    private static List<ComponentProjection> fetchPage(final List<ComponentProjection> components, final Long lastId, final int limit) {
+        return components.stream()
+                .filter(component -> lastId == null || component.id() < lastId)
+                .limit(limit)
+                .toList();
+    }
+
+}
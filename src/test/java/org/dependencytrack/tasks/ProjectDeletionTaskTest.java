@@ -0,0 +1,121 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.ProjectDeletionEvent;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.WorkflowState;
+import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.jdbi.v3.core.Handle;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.model.WorkflowStatus.COMPLETED;
+import static org.dependencytrack.model.WorkflowStatus.PENDING;
+import static org.dependencytrack.model.WorkflowStep.PROJECT_DELETION;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class ProjectDeletionTaskTest extends PersistenceCapableTest {
+
+    @Test
+    public void testDeleteTombstonedProjectTree() {
+        final var parent = qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+        final var child = qm.createProject("acme-lib", null, "1.0", null, parent, null, null, false);
+        final var otherProject = qm.createProject("acme-other", null, "1.0", null, null, null, null, false);
+
+        for (final Project project : new Project[]{parent, child, otherProject}) {
+            for (int i = 0; i < 5; i++) {
+                final var component = new Component();
+                component.setProject(project);
+                component.setName("acme-lib-" + i);
+                qm.persist(component);
+            }
+        }
+
+        useJdbiHandle(handle -> handle.attach(ProjectDao.class).tombstoneProject(parent.getId()));
+
+        final var event = new ProjectDeletionEvent(parent.getUuid());
+        final var workflowState = new WorkflowState();
+        workflowState.setStep(PROJECT_DELETION);
+        workflowState.setStatus(PENDING);
+        workflowState.setToken(event.getChainIdentifier());
+        workflowState.setUpdatedAt(new Date());
+        qm.persist(workflowState);
+
+        // Use a batch size smaller than the number of components
+        // to ensure that deletion spans multiple batches.
+        new ProjectDeletionTask(2).inform(event);
+
+        assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                SELECT "NAME" FROM "PROJECT"
+                """).mapTo(String.class).list())).containsOnly("acme-other");
+        assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                SELECT COUNT(*) FROM "COMPONENT"
+                """).mapTo(Integer.class).one())).isEqualTo(5);
+
+        assertThat(qm.getAllWorkflowStatesForAToken(event.getChainIdentifier())).satisfiesExactly(state -> {
+            assertThat(state.getStep()).isEqualTo(PROJECT_DELETION);
+            assertThat(state.getStatus()).isEqualTo(COMPLETED);
+            assertThat(state.getStartedAt()).isNotNull();
+            assertThat(state.getProgress()).isEqualTo("Deleted 2 of 2 projects (10 records)");
+        });
+    }
+
+    @Test
+    public void testDeleteTombstonedProjectTreeWithLiveProject() {
+        final var project = qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+
+        assertThat(new ProjectDeletionTask(2).deleteTombstonedProjectTree(project.getId(), progress -> {
+        })).isZero();
+
+        assertThat(qm.getProject(project.getUuid().toString())).isNotNull();
+    }
+
+    @Test
+    public void testDeleteTombstonedProjectTreeWhenAlreadyClaimed() {
+        final var parent = qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+        final var child = qm.createProject("acme-lib", null, "1.0", null, parent, null, null, false);
+
+        useJdbiHandle(handle -> handle.attach(ProjectDao.class).tombstoneProject(parent.getId()));
+
+        // Simulate another task deleting the child project.
+        try (final Handle claimHandle = openJdbiHandle()) {
+            final var claimDao = claimHandle.attach(ProjectDao.class);
+            assertThat(claimDao.tryClaimProjectDeletion(child.getId())).isTrue();
+
+            assertThat(new ProjectDeletionTask(2).deleteTombstonedProjectTree(parent.getId(), progress -> {
+            })).isZero();
+            assertThat(withJdbiHandle(handle -> handle.createQuery("""
+                    SELECT COUNT(*) FROM "PROJECT"
+                    """).mapTo(Integer.class).one())).isEqualTo(2);
+
+            assertThat(claimDao.releaseProjectDeletion(child.getId())).isTrue();
+        }
+
+        assertThat(new ProjectDeletionTask(2).deleteTombstonedProjectTree(parent.getId(), progress -> {
+        })).isEqualTo(2);
+    }
+
+}
@@ -18,31 +18,24 @@
  */
 package org.dependencytrack.tasks;
 
-import alpine.Config;
+import alpine.common.metrics.Metrics;
 import alpine.event.framework.Event;
-import alpine.event.framework.EventService;
 import alpine.event.framework.Subscriber;
-import org.dependencytrack.PersistenceCapableTest;
+import com.asahaf.javacron.Schedule;
+import io.micrometer.core.instrument.Counter;
 import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
 import org.junit.After;
-import org.junit.AfterClass;
-import org.junit.Before;
-import org.junit.BeforeClass;
-import org.junit.Rule;
 import org.junit.Test;
-import org.junit.contrib.java.lang.system.EnvironmentVariables;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 
-public class TaskSchedulerTest extends PersistenceCapableTest {
-
-    @Rule
-    public EnvironmentVariables environmentVariables = new EnvironmentVariables();
+public class TaskSchedulerTest {
 
     private static final Queue<Event> EVENTS = new ConcurrentLinkedQueue<>();
 
@@ -55,43 +48,63 @@ public class TaskSchedulerTest extends PersistenceCapableTest {
 
     }
 
-    @BeforeClass
-    public static void setUpClass() {
-        Config.enableUnitTests();
-
-        EventService.getInstance().subscribe(PortfolioMetricsUpdateEvent.class, TestSubscriber.class);
-    }
+    public static class SlowTestSubscriber implements Subscriber {
 
-    @AfterClass
-    public static void tearDownClass() {
-        EventService.getInstance().unsubscribe(TestSubscriber.class);
-    }
+        @Override
+        public void inform(final Event event) {
+            EVENTS.add(event);
 
-    @Before
-    public void before() throws Exception {
-        environmentVariables.set("TASK_PORTFOLIO_METRICS_UPDATE_CRON", "* * * * * *");
-        environmentVariables.set("TASK_SCHEDULER_INITIAL_DELAY", "5");
-        environmentVariables.set("TASK_SCHEDULER_POLLING_INTERVAL", "1000");
+            try {
+                Thread.sleep(Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
 
-        super.before();
+    }
 
-        // Force initialization of TaskScheduler.
-        final var ignored = TaskScheduler.getInstance();
+    private static class TestTaskScheduler extends BaseTaskScheduler {
     }
 
+    private final TestTaskScheduler taskScheduler = new TestTaskScheduler();
+
     @After
     public void after() {
-        TaskScheduler.getInstance().shutdown();
+        taskScheduler.shutdown();
         EVENTS.clear();
-
-        super.after();
     }
 
     @Test
     public void test() throws Exception {
+        taskScheduler.scheduleTasks(List.of(new BaseTaskScheduler.ScheduledTask(
+                "test", new PortfolioMetricsUpdateEvent(), Schedule.create("* * * * * *"),
+                TestSubscriber.class, 1, 1)), 5);
+
         await("Event Dispatch")
                 .atMost(Duration.ofSeconds(3))
-                .untilAsserted(() -> assertThat(EVENTS).hasSize(1));
+                .untilAsserted(() -> assertThat(EVENTS).isNotEmpty());
+
+        assertThat(EVENTS).allSatisfy(event -> assertThat(event).isInstanceOf(PortfolioMetricsUpdateEvent.class));
+        assertThat(Metrics.getRegistry().find("task_scheduler_fire_lag").tag("task", "test").timer())
+                .satisfies(timer -> assertThat(timer.count()).isPositive());
+    }
+
+    @Test
+    public void testMissedFires() throws Exception {
+        taskScheduler.scheduleTasks(List.of(new BaseTaskScheduler.ScheduledTask(
+                "test-slow", new PortfolioMetricsUpdateEvent(), Schedule.create("* * * * * *"),
+                SlowTestSubscriber.class, 1, 0)), 5);
+
+        await("Missed Fires")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    final Counter counter = Metrics.getRegistry().find("task_scheduler_fires_missed").tag("task", "test-slow").counter();
+                    assertThat(counter).isNotNull();
+                    assertThat(counter.count()).isGreaterThanOrEqualTo(1);
+                });
+
+        // The first execution is still in progress, so no other execution must have started.
+        assertThat(EVENTS).hasSize(1);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.VexUploadEvent;
+import org.dependencytrack.event.kafka.KafkaTopics;
+import org.dependencytrack.model.ConfigPropertyConstants;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.plugin.PluginManager;
+import org.dependencytrack.proto.notification.v1.Notification;
+import org.dependencytrack.proto.notification.v1.VexConsumedOrProcessedSubject;
+import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
+import org.dependencytrack.storage.FileStorage;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.EnvironmentVariables;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import static org.apache.commons.io.IOUtils.resourceToURL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.dependencytrack.proto.notification.v1.Group.GROUP_VEX_CONSUMED;
+import static org.dependencytrack.proto.notification.v1.Group.GROUP_VEX_PROCESSED;
+import static org.dependencytrack.proto.notification.v1.Level.LEVEL_INFORMATIONAL;
+import static org.dependencytrack.proto.notification.v1.Scope.SCOPE_PORTFOLIO;
+import static org.dependencytrack.util.KafkaTestUtil.deserializeValue;
+
+public class VexUploadProcessingTaskTest extends PersistenceCapableTest {
+
+    @Rule
+    public final EnvironmentVariables environmentVariables = new EnvironmentVariables()
+            .set("FILE_STORAGE_EXTENSION_MEMORY_ENABLED", "true")
+            .set("FILE_STORAGE_DEFAULT_EXTENSION", "memory");
+
+    @Before
+    @Override
+    public void before() throws Exception {
+        super.before();
+        // Enable processing of CycloneDX VEX
+        qm.createConfigProperty(ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX.getGroupName(),
+                ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX.getPropertyName(), "true",
+                ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX.getPropertyType(),
+                ConfigPropertyConstants.ACCEPT_ARTIFACT_CYCLONEDX.getDescription());
+    }
+
+    @Test
+    public void informTest() throws Exception {
+        final var project = new Project();
+        project.setName("Acme Example");
+        project.setVersion("1.0");
+        qm.persist(project);
+
+        final byte[] vexBytes = Files.readAllBytes(Paths.get(resourceToURL("/unit/vex-issue2549.json").toURI()));
+        final FileMetadata vexFileMetadata = storeVexFile(vexBytes);
+
+        new VexUploadProcessingTask().inform(new VexUploadEvent(project.getUuid(), vexFileMetadata));
+
+        assertThat(kafkaMockProducer.history()).satisfiesExactly(
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_VEX.name());
+                    final Notification notification = deserializeValue(KafkaTopics.NOTIFICATION_VEX, record);
+                    assertThat(notification.getScope()).isEqualTo(SCOPE_PORTFOLIO);
+                    assertThat(notification.getGroup()).isEqualTo(GROUP_VEX_CONSUMED);
+                    assertThat(notification.getLevel()).isEqualTo(LEVEL_INFORMATIONAL);
+                    assertVexSubject(notification, project);
+                },
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_VEX.name());
+                    final Notification notification = deserializeValue(KafkaTopics.NOTIFICATION_VEX, record);
+                    assertThat(notification.getScope()).isEqualTo(SCOPE_PORTFOLIO);
+                    assertThat(notification.getGroup()).isEqualTo(GROUP_VEX_PROCESSED);
+                    assertThat(notification.getLevel()).isEqualTo(LEVEL_INFORMATIONAL);
+                    assertVexSubject(notification, project);
+                }
+        );
+
+        assertVexFileDeleted(vexFileMetadata);
+    }
+
+    @Test
+    public void informWithUnsupportedFormatTest() throws Exception {
+        final var project = new Project();
+        project.setName("Acme Example");
+        project.setVersion("1.0");
+        qm.persist(project);
+
+        final FileMetadata vexFileMetadata = storeVexFile("not a VEX".getBytes(StandardCharsets.UTF_8));
+
+        new VexUploadProcessingTask().inform(new VexUploadEvent(project.getUuid(), vexFileMetadata));
+
+        assertThat(kafkaMockProducer.history()).isEmpty();
+        assertVexFileDeleted(vexFileMetadata);
+    }
+
+    private static void assertVexSubject(final Notification notification, final Project project) throws Exception {
+        assertThat(notification.getSubject().is(VexConsumedOrProcessedSubject.class)).isTrue();
+        final var subject = notification.getSubject().unpack(VexConsumedOrProcessedSubject.class);
+        assertThat(subject.getProject().getUuid()).isEqualTo(project.getUuid().toString());
+        assertThat(subject.getProject().getName()).isEqualTo("Acme Example");
+        assertThat(subject.getProject().getVersion()).isEqualTo("1.0");
+        assertThat(subject.getFormat()).isEqualTo("CycloneDX");
+        assertThat(subject.getSpecVersion()).isEqualTo("1.4");
+        assertThat(subject.getVex().toStringUtf8()).isEqualTo("(Omitted)");
+    }
+
+    private static void assertVexFileDeleted(final FileMetadata vexFileMetadata) throws Exception {
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            assertThatExceptionOfType(NoSuchFileException.class)
+                    .isThrownBy(() -> fileStorage.get(vexFileMetadata));
+        }
+    }
+
+    private static FileMetadata storeVexFile(final byte[] vexBytes) throws Exception {
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            final FileMetadata fileMetadata = fileStorage.store(
+                    "test/%s-%s".formatted(VexUploadProcessingTaskTest.class.getSimpleName(), UUID.randomUUID()), vexBytes);
+
+            // Ensure that the file can be read back before handing it to the task.
+            assertThat(fileStorage.get(fileMetadata)).isEqualTo(vexBytes);
+            return fileMetadata;
+        }
+    }
+
+}
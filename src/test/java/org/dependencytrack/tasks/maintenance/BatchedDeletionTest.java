@@ -0,0 +1,108 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.maintenance;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.persistence.jdbi.TaskCheckpointDao;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class BatchedDeletionTest extends PersistenceCapableTest {
+
+    @Test
+    public void testResumeFromCheckpoint() {
+        final var remainingIds = new TreeSet<Long>();
+        LongStream.rangeClosed(1, 5).forEach(remainingIds::add);
+
+        final BatchedDeletion.BatchDeleter deleter = (afterId, batchSize) -> {
+            final var deletedIds = new ArrayList<Long>();
+            for (final Long id : remainingIds.tailSet(afterId, false)) {
+                if (deletedIds.size() == batchSize) {
+                    break;
+                }
+                deletedIds.add(id);
+            }
+            deletedIds.forEach(remainingIds::remove);
+            return deletedIds;
+        };
+
+        // With a zero time budget, every run executes exactly one batch.
+        useJdbiHandle(handle -> {
+            final var deletion = new BatchedDeletion(handle, "test", 2, BatchedDeletion.TimeBudget.start(Duration.ZERO));
+
+            assertThat(deletion.execute(deleter)).isEqualTo(new BatchedDeletion.Result(2, 1, false));
+            assertThat(remainingIds).containsExactly(3L, 4L, 5L);
+
+            assertThat(deletion.execute(deleter)).isEqualTo(new BatchedDeletion.Result(2, 1, false));
+            assertThat(remainingIds).containsExactly(5L);
+
+            assertThat(deletion.execute(deleter)).isEqualTo(new BatchedDeletion.Result(1, 1, true));
+            assertThat(remainingIds).isEmpty();
+        });
+
+        final List<Long> checkpoint = withJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class)
+                .getPosition("maintenance-deletion-test", Duration.ofDays(1)).stream().toList());
+        assertThat(checkpoint).isEmpty();
+    }
+
+    @Test
+    public void testCompletesWithinTimeBudget() {
+        final var remainingIds = new TreeSet<Long>();
+        LongStream.rangeClosed(1, 5).forEach(remainingIds::add);
+
+        final BatchedDeletion.Result result = withJdbiHandle(handle -> new BatchedDeletion(handle, "test", 2, BatchedDeletion.TimeBudget.start(Duration.ofMinutes(1)))
+                .execute((afterId, batchSize) -> {
+                    final List<Long> deletedIds = remainingIds.stream().limit(batchSize).toList();
+                    deletedIds.forEach(remainingIds::remove);
+                    return deletedIds;
+                }));
+
+        assertThat(result).isEqualTo(new BatchedDeletion.Result(5, 3, true));
+        assertThat(remainingIds).isEmpty();
+    }
+
+    @Test
+    public void testSharesTimeBudgetOfTaskRun() {
+        final var remainingIds = new TreeSet<Long>();
+        LongStream.rangeClosed(1, 5).forEach(remainingIds::add);
+
+        // Simulate a budget that was already used up by previous deletions of the same run.
+        final var timeBudget = new BatchedDeletion.TimeBudget(Duration.ofMinutes(1), System.nanoTime());
+
+        final BatchedDeletion.Result result = withJdbiHandle(handle -> new BatchedDeletion(handle, "test", 2, timeBudget)
+                .execute((afterId, batchSize) -> {
+                    final List<Long> deletedIds = remainingIds.stream().limit(batchSize).toList();
+                    deletedIds.forEach(remainingIds::remove);
+                    return deletedIds;
+                }));
+
+        assertThat(result).isEqualTo(new BatchedDeletion.Result(2, 1, false));
+        assertThat(remainingIds).containsExactly(3L, 4L, 5L);
+    }
+
+}
@@ -27,8 +27,11 @@ import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetrics;
 import org.junit.Test;
 
+import java.time.DayOfWeek;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.Date;
 import java.util.function.BiConsumer;
 
@@ -189,4 +192,55 @@ public class MetricsMaintenanceTaskTest extends PersistenceCapableTest {
                 metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(89));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testDownsampling() {
+        qm.createConfigProperty(
+                MAINTENANCE_METRICS_RETENTION_DAYS.getGroupName(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getPropertyName(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getDefaultPropertyValue(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getPropertyType(),
+                MAINTENANCE_METRICS_RETENTION_DAYS.getDescription()
+        );
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final BiConsumer<Instant, Integer> createProjectMetricsForLastOccurrence = (lastOccurrence, vulns) -> {
+            final var metrics = new ProjectMetrics();
+            metrics.setProject(project);
+            metrics.setVulnerabilities(vulns);
+            metrics.setFirstOccurrence(Date.from(lastOccurrence));
+            metrics.setLastOccurrence(Date.from(lastOccurrence));
+            qm.persist(metrics);
+        };
+
+        final Instant now = Instant.now();
+        final Instant oldWeekStart = now.minus(60, ChronoUnit.DAYS)
+                .atOffset(ZoneOffset.UTC)
+                .truncatedTo(ChronoUnit.DAYS)
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .toInstant();
+
+        createProjectMetricsForLastOccurrence.accept(oldWeekStart.plus(1, ChronoUnit.DAYS), 1);
+        createProjectMetricsForLastOccurrence.accept(oldWeekStart.plus(2, ChronoUnit.DAYS), 2);
+        createProjectMetricsForLastOccurrence.accept(oldWeekStart.plus(3, ChronoUnit.DAYS), 3);
+        createProjectMetricsForLastOccurrence.accept(now.minus(2, ChronoUnit.DAYS), 4);
+        createProjectMetricsForLastOccurrence.accept(now.minus(1, ChronoUnit.DAYS), 5);
+
+        final var task = new MetricsMaintenanceTask();
+        assertThatNoException().isThrownBy(() -> task.inform(new MetricsMaintenanceEvent()));
+
+        qm.getPersistenceManager().evictAll();
+        assertThat(qm.getProjectMetrics(project).getList(ProjectMetrics.class)).satisfiesExactlyInAnyOrder(
+                metrics -> {
+                    // Data points of the old week are collapsed into the most recent one.
+                    assertThat(metrics.getVulnerabilities()).isEqualTo(3);
+                    assertThat(metrics.getFirstOccurrence().toInstant()).isEqualTo(oldWeekStart.plus(1, ChronoUnit.DAYS));
+                    assertThat(metrics.getLastOccurrence().toInstant()).isEqualTo(oldWeekStart.plus(3, ChronoUnit.DAYS));
+                },
+                metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(4),
+                metrics -> assertThat(metrics.getVulnerabilities()).isEqualTo(5));
+    }
+
+}
@@ -23,6 +23,7 @@ import net.jcip.annotations.NotThreadSafe;
 import org.dependencytrack.event.CallbackEvent;
 import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
@@ -34,18 +35,21 @@ import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.dependencytrack.persistence.jdbi.TaskCheckpointDao;
 import org.dependencytrack.tasks.CallbackTask;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.dependencytrack.tasks.metrics.PortfolioMetricsUpdateTask.partition;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 @NotThreadSafe
 public class PortfolioMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest {
@@ -366,35 +370,126 @@ public class PortfolioMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTes
     }
 
     @Test
-    public void testPartitionWithNull() {
-        final List<Integer> list = null;
-        final List<List<Integer>> partitions = partition(list, 4);
-        assertThat(partitions).isEmpty();
-    }
+    public void testUpdateMetricsExcludesDeactivatedProject() {
+        createTestConfigProperties();
 
-    @Test
-    public void testPartitionWithEmptyList() {
-        final List<Integer> list = Collections.emptyList();
-        final List<List<Integer>> partitions = partition(list, 4);
-        assertThat(partitions).isEmpty();
+        var projectA = new Project();
+        projectA.setName("acme-app-a");
+        projectA = qm.createProject(projectA, List.of(), false);
+
+        var componentA = new Component();
+        componentA.setProject(projectA);
+        componentA.setName("acme-lib-a");
+        qm.createComponent(componentA, false);
+
+        var projectB = new Project();
+        projectB.setName("acme-app-b");
+        projectB = qm.createProject(projectB, List.of(), false);
+
+        var componentB = new Component();
+        componentB.setProject(projectB);
+        componentB.setName("acme-lib-b");
+        qm.createComponent(componentB, false);
+
+        new PortfolioMetricsUpdateTask().inform(new PortfolioMetricsUpdateEvent());
+
+        PortfolioMetrics metrics = qm.getMostRecentPortfolioMetrics();
+        assertThat(metrics.getProjects()).isEqualTo(2);
+        assertThat(metrics.getComponents()).isEqualTo(2);
+
+        // Deactivating a project must remove its contribution from the
+        // portfolio metrics, without project metrics having to be refreshed.
+        projectB.setInactiveSince(new Date());
+        qm.persist(projectB);
+
+        Metrics.updatePortfolioMetrics();
+
+        metrics = qm.getMostRecentPortfolioMetrics();
+        assertThat(metrics.getProjects()).isEqualTo(1);
+        assertThat(metrics.getComponents()).isEqualTo(1);
+
+        // Re-activating it must restore its contribution.
+        projectB.setInactiveSince(null);
+        qm.persist(projectB);
+
+        Metrics.updatePortfolioMetrics();
+
+        metrics = qm.getMostRecentPortfolioMetrics();
+        assertThat(metrics.getProjects()).isEqualTo(2);
+        assertThat(metrics.getComponents()).isEqualTo(2);
     }
 
     @Test
-    public void testPartitionWithSmallList() {
-        final List<Integer> list = List.of(1, 2);
-        final List<List<Integer>> partitions = partition(list, 4);
-        assertThat(partitions).hasSize(2);
+    public void testUpdateMetricsExcludesTombstonedProject() {
+        createTestConfigProperties();
+
+        var projectA = new Project();
+        projectA.setName("acme-app-a");
+        projectA = qm.createProject(projectA, List.of(), false);
+
+        var componentA = new Component();
+        componentA.setProject(projectA);
+        componentA.setName("acme-lib-a");
+        qm.createComponent(componentA, false);
+
+        var projectB = new Project();
+        projectB.setName("acme-app-b");
+        projectB = qm.createProject(projectB, List.of(), false);
+
+        var componentB = new Component();
+        componentB.setProject(projectB);
+        componentB.setName("acme-lib-b");
+        qm.createComponent(componentB, false);
+
+        new PortfolioMetricsUpdateTask().inform(new PortfolioMetricsUpdateEvent());
+
+        PortfolioMetrics metrics = qm.getMostRecentPortfolioMetrics();
+        assertThat(metrics.getProjects()).isEqualTo(2);
+        assertThat(metrics.getComponents()).isEqualTo(2);
+
+        // Projects pending deletion must no longer contribute to the portfolio metrics.
+        final long projectBId = projectB.getId();
+        useJdbiHandle(handle -> handle.attach(ProjectDao.class).tombstoneProject(projectBId));
+
+        Metrics.updatePortfolioMetrics();
+
+        metrics = qm.getMostRecentPortfolioMetrics();
+        assertThat(metrics.getProjects()).isEqualTo(1);
+        assertThat(metrics.getComponents()).isEqualTo(1);
+
+        // Refreshing the metrics of the tombstoned project must not restore its contribution.
+        new PortfolioMetricsUpdateTask().inform(new PortfolioMetricsUpdateEvent());
+
+        metrics = qm.getMostRecentPortfolioMetrics();
+        assertThat(metrics.getProjects()).isEqualTo(1);
+        assertThat(metrics.getComponents()).isEqualTo(1);
     }
 
     @Test
-    public void testPartitionWithUnevenSizeList() {
-        final List<Integer> list = List.of(1, 2, 3, 4, 5);
-        final List<List<Integer>> partitions = partition(list, 4);
-        assertThat(partitions).satisfiesExactlyInAnyOrder(
-                partition -> assertThat(partition).hasSize(2),
-                partition -> assertThat(partition).hasSize(1),
-                partition -> assertThat(partition).hasSize(1),
-                partition -> assertThat(partition).hasSize(1));
+    public void testUpdateMetricsResumesFromCheckpoint() {
+        createTestConfigProperties();
+
+        var projectA = new Project();
+        projectA.setName("acme-app-a");
+        projectA = qm.createProject(projectA, List.of(), false);
+
+        var projectB = new Project();
+        projectB.setName("acme-app-b");
+        projectB = qm.createProject(projectB, List.of(), false);
+
+        // Simulate a previous refresh having been interrupted after it processed project B.
+        final long checkpoint = projectB.getId();
+        useJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class)
+                .setPosition("portfolio-metrics-update", checkpoint));
+
+        new PortfolioMetricsUpdateTask().inform(new PortfolioMetricsUpdateEvent());
+
+        assertThat(qm.getMostRecentProjectMetrics(projectA)).isNotNull();
+        assertThat(qm.getMostRecentProjectMetrics(projectB)).isNull();
+
+        // Checkpoint must have been removed upon successful completion.
+        assertThat(withJdbiHandle(handle -> handle.attach(TaskCheckpointDao.class)
+                .getPosition("portfolio-metrics-update", Duration.ofDays(1)))).isEmpty();
     }
 
 }
\ No newline at end of file